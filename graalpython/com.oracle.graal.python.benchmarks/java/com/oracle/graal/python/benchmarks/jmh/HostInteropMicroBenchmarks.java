@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -41,7 +41,9 @@
 package com.oracle.graal.python.benchmarks.jmh;
 
 import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.HostAccess;
@@ -71,6 +73,9 @@ public class HostInteropMicroBenchmarks {
     private Value object;
     private MyType objectAsIface;
     private Value sumFun;
+    private Value builtinSumFun;
+    private Value listFun;
+    private Value sliceFun;
 
     public interface MyType {
         int foo(int a, int b);
@@ -97,6 +102,9 @@ public class HostInteropMicroBenchmarks {
 
                         my_sum
                         """);
+        this.builtinSumFun = context.eval("python", "sum");
+        this.listFun = context.eval("python", "list");
+        this.sliceFun = context.eval("python", "lambda args: args[1:-1]");
     }
 
     @TearDown
@@ -117,6 +125,17 @@ public class HostInteropMicroBenchmarks {
         public int[] data = IntStream.range(0, 1000).toArray();
     }
 
+    /**
+     * Large arrays for the bulk conversion paths, which copy primitive Java arrays in one step
+     * instead of reading them element by element.
+     */
+    @State(Scope.Thread)
+    public static class LargeArrayArgument {
+        public int[] ints = IntStream.range(0, 1_000_000).toArray();
+        public long[] longs = LongStream.range(0, 1_000_000).toArray();
+        public double[] doubles = DoubleStream.iterate(0.5, d -> d + 1).limit(1_000_000).toArray();
+    }
+
     @Benchmark
     public Value callPythonPositionalArgs(Arguments args) {
         return positionalArgsFun.execute(args.num1, args.num2);
@@ -136,4 +155,34 @@ public class HostInteropMicroBenchmarks {
     public Object sumJavaArrayInPython(IntArrayArgument arg) {
         return sumFun.execute((Object) arg.data);
     }
+
+    @Benchmark
+    public Object sumLargeJavaIntArrayInPython(LargeArrayArgument arg) {
+        return sumFun.execute((Object) arg.ints);
+    }
+
+    @Benchmark
+    public Object builtinSumLargeJavaIntArray(LargeArrayArgument arg) {
+        return builtinSumFun.execute((Object) arg.ints);
+    }
+
+    @Benchmark
+    public Object builtinSumLargeJavaLongArray(LargeArrayArgument arg) {
+        return builtinSumFun.execute((Object) arg.longs);
+    }
+
+    @Benchmark
+    public Object builtinSumLargeJavaDoubleArray(LargeArrayArgument arg) {
+        return builtinSumFun.execute((Object) arg.doubles);
+    }
+
+    @Benchmark
+    public Object listFromLargeJavaIntArray(LargeArrayArgument arg) {
+        return listFun.execute((Object) arg.ints);
+    }
+
+    @Benchmark
+    public Object sliceLargeJavaDoubleArray(LargeArrayArgument arg) {
+        return sliceFun.execute((Object) arg.doubles);
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round-trips a 100 MB array through pickle protocol 5, once with the data written in-band into
+ * the pickle and once handed over as out-of-band buffers through {@code buffer_callback}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class PickleOutOfBandBenchmark {
+    private static final int PAYLOAD_SIZE = 100 * 1024 * 1024;
+
+    @Param({"bytearray", "array"}) public String kind;
+
+    private Context context;
+    private Value inBand;
+    private Value outOfBand;
+
+    @Setup
+    public void setup() {
+        this.context = Context.newBuilder("python").build();
+        context.eval("python", String.format("""
+                        import array, pickle
+                        if '%s' == 'bytearray':
+                            payload = bytearray(%d)
+                        else:
+                            payload = array.array('d', bytes(%d))
+
+                        def in_band():
+                            data = pickle.dumps(pickle.PickleBuffer(payload), protocol=5)
+                            return memoryview(pickle.loads(data)).nbytes
+
+                        def out_of_band():
+                            buffers = []
+                            data = pickle.dumps(pickle.PickleBuffer(payload), protocol=5, buffer_callback=buffers.append)
+                            return memoryview(pickle.loads(data, buffers=buffers)).nbytes
+                        """, kind, PAYLOAD_SIZE, PAYLOAD_SIZE));
+        Value bindings = context.getBindings("python");
+        this.inBand = bindings.getMember("in_band");
+        this.outOfBand = bindings.getMember("out_of_band");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close(true);
+        context = null;
+    }
+
+    @Benchmark
+    public long inBand() {
+        return inBand.execute().asLong();
+    }
+
+    @Benchmark
+    public long outOfBand() {
+        return outOfBand.execute().asLong();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.io.IOAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures context initialization followed by importing a set of stdlib modules:
+ * <ul>
+ * <li>{@code cold}: every context uses a fresh engine and parses and compiles all modules.</li>
+ * <li>{@code warm-disk}: every context uses a fresh engine, but loads the modules from a
+ * pre-populated persistent bytecode cache ({@code python.BytecodeCacheDir}).</li>
+ * <li>{@code warm-memory}: all contexts share one engine, so the code is cached in memory.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Thread)
+public class StartupImportBenchmark {
+    private static final String IMPORTS = "import argparse, json, email.parser, dataclasses, typing, decimal, logging";
+
+    @Param({"cold", "warm-disk", "warm-memory"}) public String mode;
+
+    private Path cacheDir;
+    private Engine engine;
+    private Context context;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        switch (mode) {
+            case "warm-disk":
+                cacheDir = Files.createTempDirectory("graalpy-bytecode-cache");
+                try (Context c = newContextBuilder().build()) {
+                    c.eval("python", IMPORTS);
+                }
+                break;
+            case "warm-memory":
+                engine = Engine.newBuilder().option("engine.WarnInterpreterOnly", "false").build();
+                try (Context c = newContextBuilder().build()) {
+                    c.eval("python", IMPORTS);
+                }
+                break;
+            default:
+                // cold: nothing is cached
+                break;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        if (engine != null) {
+            engine.close();
+            engine = null;
+        }
+        if (cacheDir != null) {
+            try (Stream<Path> files = Files.walk(cacheDir)) {
+                for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(p);
+                }
+            }
+            cacheDir = null;
+        }
+    }
+
+    private Context.Builder newContextBuilder() {
+        Context.Builder builder = Context.newBuilder("python").allowIO(IOAccess.ALL);
+        if (engine != null) {
+            builder.engine(engine);
+        } else {
+            builder.option("engine.WarnInterpreterOnly", "false");
+        }
+        if (cacheDir != null) {
+            builder.allowExperimentalOptions(true).option("python.BytecodeCacheDir", cacheDir.toString());
+        }
+        return builder;
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        context = newContextBuilder().build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        context.close(true);
+        context = null;
+    }
+
+    @Benchmark
+    public void importModules() {
+        context.eval("python", IMPORTS);
+    }
+}
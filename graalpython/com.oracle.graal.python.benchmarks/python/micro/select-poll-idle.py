@@ -0,0 +1,84 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import select
+import socket
+
+# Many idle connections and a few active ones, which is what the event loop of a server sees most
+# of the time. Each iteration waits for the active ones only, so the cost of a wait should not
+# depend on the number of idle connections.
+IDLE = 1000
+ACTIVE = 4
+
+
+def setup(n):
+    pairs = [socket.socketpair() for _ in range(n)]
+    for a, b in pairs:
+        a.setblocking(False)
+        b.setblocking(False)
+    return pairs
+
+
+def measure(num):
+    idle = setup(IDLE)
+    active = setup(ACTIVE)
+    p = select.poll()
+    for a, _ in idle:
+        p.register(a, select.POLLIN)
+    for a, _ in active:
+        p.register(a, select.POLLIN)
+    received = 0
+    try:
+        for i in range(num):
+            for _, b in active:
+                b.send(b'x')
+            ready = 0
+            while ready < ACTIVE:
+                ready = len(p.poll(1000))
+            for a, _ in active:
+                received += len(a.recv(16))
+    finally:
+        for a, b in idle + active:
+            a.close()
+            b.close()
+    return received
+
+
+def __benchmark__(num=1000):
+    return measure(num)
@@ -130,6 +130,24 @@ _GraalPyMem_RecordSample(char operation, void *ptr, size_t size)
     _GraalPyMem_CaptureSampleStack(sample);
 }
 
+/* Report blocks of the GraalPy allocator to tracemalloc when native memory
+   tracing is enabled. */
+static inline void
+_GraalPyMem_TraceAlloc(void *ptr, size_t size)
+{
+    if (UNLIKELY(GraalPyPrivate_Trace_Memory()) && ptr != NULL) {
+        GraalPyPrivate_TraceMalloc_Track(0, (uintptr_t)ptr, size);
+    }
+}
+
+static inline void
+_GraalPyMem_TraceFree(void *ptr)
+{
+    if (UNLIKELY(GraalPyPrivate_Trace_Memory()) && ptr != NULL) {
+        GraalPyPrivate_TraceMalloc_Untrack(0, (uintptr_t)ptr);
+    }
+}
+
 static void
 _GraalPyMem_LogRecentSamples(const char *func, void *ptr)
 {
@@ -567,6 +585,7 @@ _GraalPyMem_RawMalloc(void *ctx, size_t size)
         return NULL;
     }
     _GraalPyMem_InitHeader(ptr_with_head, size);
+    _GraalPyMem_TraceAlloc(FROM_MEM_HEAD(ptr_with_head), size);
     return FROM_MEM_HEAD(ptr_with_head);
 }
 
@@ -600,6 +619,7 @@ _GraalPyMem_RawCalloc(void *ctx, size_t nelem, size_t elsize)
     }
     memset(ptr_with_head, 0, total);
     _GraalPyMem_InitHeader(ptr_with_head, nbytes);
+    _GraalPyMem_TraceAlloc(FROM_MEM_HEAD(ptr_with_head), nbytes);
     return FROM_MEM_HEAD(ptr_with_head);
 }
 
@@ -641,7 +661,9 @@ _GraalPyMem_RawRealloc(void *ctx, void *ptr, size_t size)
         state->allocated_memory -= old_size - size;
     }
 
+    _GraalPyMem_TraceFree(ptr);
     _GraalPyMem_InitHeader(ptr_with_head, size);
+    _GraalPyMem_TraceAlloc(FROM_MEM_HEAD(ptr_with_head), size);
     return FROM_MEM_HEAD(ptr_with_head);
 }
 
@@ -664,6 +686,7 @@ _GraalPyMem_RawFree(void *ctx, void *ptr)
         state->allocated_memory = size;
     }
     state->allocated_memory -= size;
+    _GraalPyMem_TraceFree(ptr);
     _GraalPyMem_PoisonBlock(ptr_with_head, size);
     free(ptr_with_head);
 }
@@ -0,0 +1,138 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import array
+import sys
+import unittest
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy specific")
+class ArrowCDataTest(unittest.TestCase):
+
+    def roundtrip(self, obj):
+        import polyglot.arrow
+        return polyglot.arrow.from_arrow(polyglot.arrow.to_arrow(obj))
+
+    def test_list_roundtrip(self):
+        for values in ([1, 2, 3, -4], [1 << 40, -(1 << 50), 0], [1.5, -0.0, float("inf")], [True, False] * 9, []):
+            self.assertEqual(self.roundtrip(values), values)
+
+    def test_list_roundtrip_large(self):
+        values = list(range(10000))
+        exported = __graalpython__.export_arrow_array(values)
+        result = __graalpython__.import_arrow_array(*exported)
+        self.assertEqual(result, values)
+        # the imported list is an ordinary, mutable list with its own copy of the data
+        result[5] = -1
+        self.assertEqual(values[5], 5)
+        result.append(10000)
+        result.insert(0, 7)
+        self.assertEqual(result[:3], [7, 0, 1])
+        self.assertEqual(result[6], -1)
+        self.assertEqual(len(result), 10002)
+
+    def test_schema(self):
+        import polyglot.arrow
+        schema = polyglot.arrow.to_arrow([1.0]).__arrow_c_schema__()
+        self.assertEqual(type(schema).__name__, "PyCapsule")
+
+    def test_array_roundtrip(self):
+        for typecode, values in (("b", [-1, 2]), ("B", [255, 0]), ("h", [-300, 7]), ("H", [65535]), ("i", [1, -2]), ("I", [4294967295]),
+                                 ("l", [-(1 << 40)]), ("q", [1 << 60]), ("Q", [(1 << 64) - 1, 3]), ("f", [0.5, -2.0]), ("d", [3.25])):
+            with self.subTest(typecode=typecode):
+                self.assertEqual(self.roundtrip(array.array(typecode, values)), values)
+
+    def test_memoryview_roundtrip(self):
+        self.assertEqual(self.roundtrip(memoryview(b"\x01\x02\xff")), [1, 2, 255])
+        self.assertEqual(self.roundtrip(memoryview(array.array("d", [1.0, 2.0, 3.0]))[1:]), [2.0, 3.0])
+        self.assertEqual(self.roundtrip(memoryview(bytes([1, 0, 1])).cast("?")), [True, False, True])
+
+    def test_unsupported(self):
+        import polyglot.arrow
+        with self.assertRaises(TypeError):
+            polyglot.arrow.to_arrow([1, "a"]).__arrow_c_array__()
+        with self.assertRaises(TypeError):
+            polyglot.arrow.to_arrow(object()).__arrow_c_schema__()
+        with self.assertRaises(ValueError):
+            polyglot.arrow.to_arrow(memoryview(b"abcd")[::2]).__arrow_c_array__()
+        with self.assertRaises(ValueError):
+            polyglot.arrow.to_arrow(array.array("u", "ab")).__arrow_c_array__()
+
+    def test_view_roundtrip(self):
+        import polyglot.arrow
+        for typecode, fmt, values in (("b", "b", [-1, 2]), ("H", "H", [65535, 1]), ("i", "i", [1, -2]), ("q", "q", [1 << 60, -3]),
+                                      ("Q", "Q", [(1 << 64) - 1]), ("f", "f", [0.5, -2.0]), ("d", "d", [3.25, 1.0])):
+            with self.subTest(typecode=typecode):
+                view = polyglot.arrow.view_from_arrow(polyglot.arrow.to_arrow(array.array(typecode, values)))
+                self.assertTrue(view.readonly)
+                self.assertEqual(view.format, fmt)
+                self.assertEqual(view.tolist(), values)
+                with self.assertRaises(TypeError):
+                    view[0] = 0
+                view.release()
+        self.assertEqual(polyglot.arrow.view_from_arrow(polyglot.arrow.to_arrow(array.array("i"))).tolist(), [])
+
+    def test_view_exported_without_copy(self):
+        import polyglot.arrow
+        view = polyglot.arrow.view_from_arrow(polyglot.arrow.to_arrow(list(range(100))))
+        # the re-exported array borrows the memory of the view, which cannot be released meanwhile
+        second = polyglot.arrow.view_from_arrow(polyglot.arrow.to_arrow(view))
+        with self.assertRaises(BufferError):
+            view.release()
+        self.assertEqual(second.tolist(), list(range(100)))
+        second.release()
+        # a borrowed slice keeps the imported memory alive after the view itself is released
+        capsules = polyglot.arrow.to_arrow(view[10:]).__arrow_c_array__()
+        view.release()
+        with self.assertRaises(ValueError):
+            view.tolist()
+        self.assertEqual(polyglot.arrow.from_arrow(capsules), list(range(10, 100)))
+
+    def test_view_unsupported(self):
+        import polyglot.arrow
+        with self.assertRaises(ValueError):
+            polyglot.arrow.view_from_arrow(polyglot.arrow.to_arrow([True, False]))
+        with self.assertRaises(ValueError):
+            polyglot.arrow.view_from_arrow(polyglot.arrow.to_arrow([]))
+
+    def test_capsules_consumed_once(self):
+        import polyglot.arrow
+        schema, arr = polyglot.arrow.to_arrow([1, 2, 3]).__arrow_c_array__()
+        self.assertEqual(polyglot.arrow.from_arrow((schema, arr)), [1, 2, 3])
+        with self.assertRaises(ValueError):
+            polyglot.arrow.from_arrow((schema, arr))
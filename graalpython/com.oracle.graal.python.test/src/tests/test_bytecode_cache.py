@@ -0,0 +1,108 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import os
+import subprocess
+import sys
+import tempfile
+import unittest
+from pathlib import Path
+
+MODULE = '''
+def foo(a):
+    return [x * 2 for x in range(a)]
+
+print(foo(3), __file__.endswith("cached_mod.py"), foo.__code__.co_filename.endswith("cached_mod.py"))
+'''
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy specific")
+class BytecodeCacheTests(unittest.TestCase):
+
+    def setUp(self):
+        self.tempdir = tempfile.TemporaryDirectory()
+        self.addCleanup(self.tempdir.cleanup)
+        root = Path(self.tempdir.name)
+        self.src = root / "src"
+        self.src.mkdir()
+        (self.src / "cached_mod.py").write_text(MODULE)
+        self.cache = root / "cache"
+
+    def run_import(self):
+        env = os.environ.copy()
+        env['PYTHONPATH'] = str(self.src)
+        result = subprocess.run(
+            [sys.executable, "--experimental-options", f"--python.BytecodeCacheDir={self.cache}", "-B", "-v", "-c", "import cached_mod"],
+            env=env,
+            stdout=subprocess.PIPE,
+            stderr=subprocess.PIPE,
+            text=True,
+            timeout=120,
+        )
+        self.assertEqual(result.returncode, 0, result.stderr)
+        self.assertEqual(result.stdout.strip(), "[0, 2, 4] True True")
+        return result.stderr
+
+    def entries(self):
+        return list(self.cache.glob("*/*.pyc"))
+
+    def test_cache_is_written_and_used(self):
+        out = self.run_import()
+        self.assertNotIn("bytecode cache for", out)
+        self.assertTrue(self.entries())
+        self.assertFalse(list(self.src.glob("__pycache__/*")))
+        out = self.run_import()
+        self.assertRegex(out, r"code object from bytecode cache for .*cached_mod\.py")
+
+    def test_source_change_invalidates(self):
+        self.run_import()
+        count = len(self.entries())
+        (self.src / "cached_mod.py").write_text(MODULE.replace("x * 2", "x + x"))
+        out = self.run_import()
+        self.assertNotRegex(out, r"bytecode cache for .*cached_mod\.py")
+        self.assertEqual(len(self.entries()), count + 1)
+
+    def test_corrupted_entry_is_ignored(self):
+        self.run_import()
+        for entry in self.entries():
+            data = bytearray(entry.read_bytes())
+            data[-1] ^= 0xff
+            entry.write_bytes(bytes(data))
+        out = self.run_import()
+        self.assertNotRegex(out, r"bytecode cache for .*cached_mod\.py")
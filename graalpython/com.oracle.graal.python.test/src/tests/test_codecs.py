@@ -941,5 +941,58 @@ class UTF32Test(unittest.TestCase):
             b'a\x00\x00\x00\x00\xd8\x00\x00z\x00\x00\x00'.decode('utf-32')
 
 
+class PartialFastPathTest(unittest.TestCase):
+    # errors after a long valid prefix, which is transcoded in bulk
+
+    def test_utf8_decode_error_positions(self):
+        prefix = "log line \u00e9\u20ac\U0001f600 " * 100
+        data = prefix.encode() + b"\xff\xc3" + b"tail"
+        with self.assertRaises(UnicodeDecodeError) as cm:
+            data.decode("utf-8")
+        self.assertEqual(len(prefix.encode()), cm.exception.start)
+        self.assertEqual(prefix + "\ufffd\ufffdtail", data.decode("utf-8", "replace"))
+        self.assertEqual(prefix + "\udcff\udcc3tail", data.decode("utf-8", "surrogateescape"))
+        self.assertEqual(prefix + "tail", data.decode("utf-8", "ignore"))
+
+    def test_utf8_decode_truncated_sequence(self):
+        data = ("x" * 50 + "\u20ac").encode()
+        self.assertEqual(("x" * 50, 50), codecs.utf_8_decode(data[:-1], "strict", False))
+        self.assertEqual(("x" * 50 + "\u20ac", 53), codecs.utf_8_decode(data, "strict", False))
+        decoder = codecs.getincrementaldecoder("utf-8")()
+        self.assertEqual("x" * 50, decoder.decode(data[:-2]))
+        self.assertEqual("\u20ac", decoder.decode(data[-2:], final=True))
+
+    def test_ascii_decode_error_positions(self):
+        data = b"a" * 1000 + b"\x80b"
+        with self.assertRaises(UnicodeDecodeError) as cm:
+            data.decode("ascii")
+        self.assertEqual(1000, cm.exception.start)
+        self.assertEqual("a" * 1000 + "\ufffdb", data.decode("ascii", "replace"))
+
+    def test_encode_error_positions(self):
+        prefix = "abc\u00e9" * 100
+        for encoding, bad in [("ascii", "\u20ac"), ("latin-1", "\u20ac"), ("utf-8", "\ud800"), ("utf-16-le", "\udfff")]:
+            s = ("abc" * 100 if encoding == "ascii" else prefix[:300]) + bad + "end"
+            with self.assertRaises(UnicodeEncodeError) as cm:
+                s.encode(encoding)
+            self.assertEqual(300, cm.exception.start)
+            self.assertEqual(s[:300].encode(encoding) + "?".encode(encoding) + "end".encode(encoding), s.encode(encoding, "replace"))
+            self.assertEqual(s[:300].encode(encoding) + "end".encode(encoding), s.encode(encoding, "ignore"))
+
+    def test_encode_error_handler_rewinds(self):
+        rewound = []
+
+        def handler(e):
+            if rewound:
+                return ("<%d>" % e.start, e.end)
+            rewound.append(e.start)
+            # continue before the error, in the part that was transcoded in bulk
+            return ("<%d>" % e.start, e.start - 2)
+        codecs.register_error("test.partial_fast_path_rewind", handler)
+        s = "abcdef\u20acgh"
+        expected = "abcdef<6>ef<6>gh"
+        self.assertEqual(expected.encode("ascii"), s.encode("ascii", "test.partial_fast_path_rewind"))
+
+
 if __name__ == '__main__':
     unittest.main()
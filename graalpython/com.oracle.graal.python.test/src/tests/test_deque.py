@@ -673,3 +673,77 @@ class TestBasic(unittest.TestCase):
         klass = type(reversed(deque()))
         for s in ('abcd', range(2000)):
             self.assertEqual(list(klass(deque(s))), list(reversed(s)))
+
+    def test_ring_against_list(self):
+        rnd = random.Random(42)
+        for maxlen in (None, 1, 5, 8, 16):
+            d = deque(maxlen=maxlen)
+            ref = []
+            for i in range(2000):
+                op = rnd.randrange(7)
+                if op == 0:
+                    d.append(i)
+                    ref.append(i)
+                elif op == 1:
+                    d.appendleft(i)
+                    ref.insert(0, i)
+                elif op == 2 and ref:
+                    self.assertEqual(d.pop(), ref.pop())
+                elif op == 3 and ref:
+                    self.assertEqual(d.popleft(), ref.pop(0))
+                elif op == 4 and ref:
+                    idx = rnd.randrange(-len(ref), len(ref))
+                    del d[idx]
+                    del ref[idx]
+                elif op == 5 and (maxlen is None or len(ref) < maxlen):
+                    idx = rnd.randrange(-len(ref) - 2, len(ref) + 2)
+                    d.insert(idx, i)
+                    ref.insert(idx, i)
+                elif op == 6:
+                    n = rnd.randrange(-50, 50)
+                    d.rotate(n)
+                    if ref:
+                        n %= len(ref)
+                        ref[:] = ref[len(ref) - n:] + ref[:len(ref) - n]
+                if maxlen is not None and len(ref) > maxlen:
+                    if op == 1:
+                        del ref[maxlen:]
+                    else:
+                        del ref[:len(ref) - maxlen]
+                self.assertEqual(list(d), ref)
+                if ref:
+                    idx = rnd.randrange(len(ref))
+                    self.assertEqual(d[idx], ref[idx])
+                    self.assertEqual(d[-idx - 1], ref[-idx - 1])
+
+    def test_rotate_full_ring(self):
+        # a power-of-two number of elements fills the backing array completely
+        for n in (8, 16, 64):
+            d = deque(range(n))
+            for k in (1, -1, 3, -5, n - 1, n + 3, -3 * n - 1):
+                d.rotate(k)
+                k %= n
+                self.assertEqual(list(d), list(range(n - k, n)) + list(range(n - k)))
+                d.rotate(-k)
+                self.assertEqual(list(d), list(range(n)))
+            d.append(n)
+            self.assertEqual(list(d), list(range(n + 1)))
+
+    def test_sliding_window(self):
+        d = deque(maxlen=3)
+        for i in range(100):
+            d.append(i)
+        self.assertEqual(list(d), [97, 98, 99])
+        d.appendleft(-1)
+        self.assertEqual(list(d), [-1, 97, 98])
+        d.rotate(1)
+        self.assertEqual(list(d), [98, -1, 97])
+        self.assertEqual(d[1], -1)
+
+    def test_mutation_during_rotate_iteration(self):
+        d = deque(range(10))
+        it = iter(d)
+        next(it)
+        d.rotate(3)
+        with self.assertRaises(RuntimeError):
+            next(it)
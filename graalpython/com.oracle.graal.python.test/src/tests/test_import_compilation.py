@@ -0,0 +1,116 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import os
+import subprocess
+import sys
+import tempfile
+import unittest
+from pathlib import Path
+
+FILES = {
+    "pkg/__init__.py": "import time\ntime.sleep(1)\nfrom . import a\nfrom .sub import b\nimport helper\n",
+    "pkg/a.py": "def f():\n    return 'a'\n",
+    "pkg/sub/__init__.py": "",
+    "pkg/sub/b.py": "x = len('\\d')\n",
+    "helper.py": "try:\n    import broken\nexcept SyntaxError as e:\n    error = e.lineno\n",
+    "broken.py": "x = 1\ndef (:\n",
+    "codecpkg/__init__.py": "import time\ntime.sleep(1)\ntry:\n    import badcodec\nexcept SyntaxError as e:\n    error = str(e)\nfrom . import c\n",
+    "codecpkg/c.py": "y = 3\n",
+    "badcodec.py": "# coding: nosuchcodec\nx = 1\n",
+}
+
+SCRIPT = "import pkg, helper; print(pkg.a.f(), pkg.sub.b.x, helper.error, pkg.a.f.__code__.co_filename == pkg.a.__file__)"
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy specific")
+class ImportCompilationTests(unittest.TestCase):
+
+    def setUp(self):
+        self.tempdir = tempfile.TemporaryDirectory()
+        self.addCleanup(self.tempdir.cleanup)
+        self.src = Path(self.tempdir.name)
+        for name, content in FILES.items():
+            path = self.src / name
+            path.parent.mkdir(parents=True, exist_ok=True)
+            path.write_text(content)
+
+    def run_import(self, *args, threads=2, script=SCRIPT, expected="a 2 2 True"):
+        env = os.environ.copy()
+        env['PYTHONPATH'] = str(self.src)
+        result = subprocess.run(
+            [sys.executable, "--experimental-options", f"--python.ImportCompilationThreads={threads}",
+             "--log.python.com.oracle.graal.python.builtins.modules.ImportPrecompiler.level=FINE", *args, "-c", script],
+            env=env,
+            stdout=subprocess.PIPE,
+            stderr=subprocess.PIPE,
+            text=True,
+            timeout=120,
+        )
+        self.assertEqual(result.returncode, 0, result.stderr)
+        self.assertEqual(result.stdout.strip(), expected)
+        return result.stderr
+
+    def test_background_compilation(self):
+        err = self.run_import("-B")
+        self.assertRegex(err, r"compiled in the background")
+        self.assertIn("SyntaxWarning", err)
+        self.assertFalse(list(self.src.glob("**/__pycache__")))
+
+    def test_pyc_files_are_written_and_used(self):
+        self.run_import()
+        self.assertTrue(list(self.src.glob("pkg/__pycache__/a.*.pyc")))
+        err = self.run_import()
+        self.assertNotRegex(err, r"a\.py compiled in the background")
+
+    def test_unknown_encoding(self):
+        # the single worker compiles badcodec first and must survive it to compile codecpkg.c
+        err = self.run_import("-B", threads=1, script="import codecpkg; print(codecpkg.c.y, 'nosuchcodec' in codecpkg.error)", expected="3 True")
+        self.assertRegex(err, r"c\.py compiled in the background")
+
+    def test_unclaimed_results_are_dropped(self):
+        (self.src / "mispredicted.py").write_text("x = 1\n")
+        (self.src / "many").mkdir()
+        for i in range(400):
+            (self.src / "many" / f"m{i}.py").write_text("")
+        # mispredicted.py is compiled in the background but never imported
+        (self.src / "main.py").write_text("if False:\n    import mispredicted\n")
+        script = "import importlib, time, main; time.sleep(1); [importlib.import_module(f'many.m{i}') for i in range(400)]; print('ok')"
+        err = self.run_import("-B", script=script, expected="ok")
+        self.assertRegex(err, r"Dropped the unclaimed compilation of .*mispredicted\.py")
@@ -965,6 +965,58 @@ class InteropTests(unittest.TestCase):
 
         assert il == [1, 2, 3] # unchanged
 
+    def test_java_primitive_array_bulk_copy(self):
+        import java
+        ints = java.type("int[]")(5)
+        ints[0:5] = [1, 2, 3, 4, 2**31 - 1]
+        self.assertEqual([1, 2, 3, 4, 2**31 - 1], list(ints))
+        self.assertEqual((1, 2, 3, 4, 2**31 - 1), tuple(ints))
+        self.assertEqual([2, 3, 4], ints[1:4])
+        self.assertEqual([1, 3, 2**31 - 1], ints[::2])
+        self.assertEqual(2**31 + 9, sum(ints))
+        self.assertEqual(2**31 + 19, sum(ints, 10))
+
+        # the copy is a snapshot of the array
+        l = list(ints)
+        ints[0] = 42
+        self.assertEqual(1, l[0])
+
+        longs = java.type("long[]")(3)
+        longs[0:3] = [2**62, 2**62, -1]
+        self.assertEqual([2**62, 2**62, -1], list(longs))
+        self.assertEqual(2**63 - 1, sum(longs))
+
+        doubles = java.type("double[]")(3)
+        doubles[0:3] = [0.5, 1.5, 2.0]
+        self.assertEqual([0.5, 1.5, 2.0], list(doubles))
+        self.assertEqual(4.0, sum(doubles))
+        self.assertIs(float, type(sum(java.type("double[]")(0), 0.0)))
+
+        bytes_ = java.type("byte[]")(3)
+        bytes_[0] = -1
+        bytes_[2] = 1
+        self.assertEqual([-1, 0, 1], list(bytes_))
+        self.assertEqual([0, 1], bytes_[1:])
+
+        floats = java.type("float[]")(2)
+        floats[0:2] = [0.25, 0.5]
+        self.assertEqual([0.25, 0.5], list(floats))
+        self.assertEqual(0.75, sum(floats))
+
+        booleans = java.type("boolean[]")(2)
+        booleans[1] = True
+        self.assertEqual([False, True], list(booleans))
+        self.assertEqual(1, sum(booleans))
+
+        # a partially consumed iterator continues where it stopped and is exhausted afterwards
+        it = iter(ints)
+        next(it)
+        self.assertEqual(2**31 + 8, sum(it))
+        self.assertEqual([], list(it))
+        it = iter(ints)
+        self.assertEqual(2**31 + 50, sum(it))
+        self.assertEqual([], list(it))
+
     def test_dir(self):
         from java.util import ArrayList
 
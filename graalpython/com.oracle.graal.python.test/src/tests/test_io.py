@@ -380,6 +380,53 @@ sys.stdout = StdoutAtShutdown()
         t = _io.TextIOWrapper(MockRawIO(), newline="\r\n")
         self.assertEqual(["ab\r\n", "cd"], t.readlines())
 
+    def test_fileio_readall(self):
+        data = bytes(range(256)) * 1000
+        with tempfile.TemporaryDirectory() as d:
+            path = os.path.join(d, "tmp")
+            with open(path, 'wb') as f:
+                f.write(data)
+            with _io.FileIO(path, 'r') as f:
+                self.assertEqual(data, f.readall())
+                self.assertEqual(b"", f.readall())
+                f.seek(12345)
+                self.assertEqual(data[12345:], f.readall())
+
+    def test_fileio_readall_unknown_size(self):
+        import threading
+        data = b"x" * 100000 + b"y"
+        r, w = os.pipe()
+
+        def writer():
+            with _io.FileIO(w, 'w') as f:
+                f.write(data[:50000])
+                f.write(data[50000:])
+
+        t = threading.Thread(target=writer)
+        t.start()
+        try:
+            # a pipe has no size, so readall has to enlarge its buffer
+            with _io.FileIO(r, 'r') as f:
+                self.assertEqual(data, f.readall())
+        finally:
+            t.join()
+
+    def test_fileio_readinto(self):
+        with tempfile.TemporaryDirectory() as d:
+            path = os.path.join(d, "tmp")
+            with open(path, 'wb') as f:
+                f.write(b"0123456789")
+            with _io.FileIO(path, 'r') as f:
+                b = bytearray(4)
+                self.assertEqual(4, f.readinto(b))
+                self.assertEqual(b"0123", b)
+                b = bytearray(b"abcdef")
+                self.assertEqual(4, f.readinto(memoryview(b)[1:5]))
+                self.assertEqual(b"a4567f", b)
+                self.assertEqual(2, f.readinto(b))
+                self.assertEqual(b"89567f", b)
+                self.assertEqual(0, f.readinto(b))
+
     @unittest.skipIf(sys.platform != "win32", "Windows-only test")
     def test_crlf_default_on_win32(self):
         with tempfile.TemporaryDirectory() as d:
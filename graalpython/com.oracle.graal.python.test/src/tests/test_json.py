@@ -37,6 +37,7 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
+import io
 import json
 import os
 import sys
@@ -183,3 +184,85 @@ class JsonTest(unittest.TestCase):
         }
         assert json.loads(payload, object_hook=hook) == expected
         assert json.loads(payload, object_pairs_hook=dict) == expected
+
+    def test_iterload_ndjson(self):
+        lines = [{"id": i, "name": "é" * i, "tags": [1, 2.5, None]} for i in range(200)]
+        data = "".join(json.dumps(line) + "\n" for line in lines).encode("utf-8")
+        for chunk_size in (1, 3, 64, 1 << 16):
+            assert list(json.iterload(io.BytesIO(data), chunk_size=chunk_size)) == lines
+
+    def test_iterload_shares_keys(self):
+        first, second = json.iterload(io.BytesIO(b'{"some_key": 1}\n{"some_key": 2}\n'))
+        assert next(iter(first)) is next(iter(second))
+
+    def test_iterload_multiline_documents(self):
+        docs = [[{"a": [1, 2, {"b": "x"}]}] * 20, {"c": 1}, "end"]
+        text = "\n".join(json.dumps(doc, indent=2) for doc in docs)
+        for chunk_size in (1, 5, 64, 1 << 16):
+            assert list(json.iterload(io.StringIO(text), chunk_size=chunk_size)) == docs
+
+    def test_iterload_errors(self):
+        for data in ('{"a": 1}\n{"a": }\n', '{"a": 1}\n[1, 2', '1 2 x'):
+            with self.assertRaises(json.JSONDecodeError):
+                list(json.iterload(io.StringIO(data), chunk_size=4))
+
+        def hook(obj):
+            raise KeyError(obj)
+
+        with self.assertRaises(KeyError):
+            list(json.iterload(io.StringIO('{"a": 1}\n'), object_hook=hook))
+
+    def test_iterdecode_chunks(self):
+        chunks = [b'{"a": "\xc3', b'\xa9"}\n[1,', b' 2]\n', "3\n", b'']
+        assert list(json.JSONDecoder().iterdecode(chunks)) == [{"a": "é"}, [1, 2], 3]
+
+    def test_iterdecode_reports_errors_early(self):
+        def chunks():
+            yield '{"a": 1}\n{"a": }\n'
+            raise AssertionError("read past a malformed document")
+
+        documents = json.JSONDecoder().iterdecode(chunks())
+        assert next(documents) == {"a": 1}
+        with self.assertRaises(json.JSONDecodeError) as cm:
+            next(documents)
+        assert (cm.exception.lineno, cm.exception.colno, cm.exception.pos) == (2, 7, 15)
+
+    def test_iterdecode_error_positions(self):
+        data = '{"a": 1}\n[1, 2]\n  [3, x]\n'
+        with self.assertRaises(json.JSONDecodeError) as cm:
+            list(json.iterload(io.StringIO(data), chunk_size=4))
+        assert data[cm.exception.pos] == "x"
+        assert (cm.exception.lineno, cm.exception.colno) == (3, 7)
+        assert "line 3 column 7 (char 22)" in str(cm.exception)
+
+    def test_iterdecode_str_after_incomplete_utf8(self):
+        with self.assertRaises(UnicodeDecodeError):
+            list(json.JSONDecoder().iterdecode([b'"\xc3', '"\n']))
+
+    def test_iterdecode_non_strict_multiline_string(self):
+        assert list(json.JSONDecoder(strict=False).iterdecode(['"a\n', 'b"\n', '1\n'])) == ["a\nb", 1]
+
+    def test_dump_primitive_sequences(self):
+        assert json.dumps([1, 2, 3]) == '[1, 2, 3]'
+        assert json.dumps([2 ** 40, -1]) == '[1099511627776, -1]'
+        assert json.dumps([1.5, -0.0, 1e100]) == '[1.5, -0.0, 1e+100]'
+        assert json.dumps([True, False]) == '[true, false]'
+        assert json.dumps((1, 2)) == '[1, 2]'
+        assert json.dumps([[1, 2], [], (3.0,)]) == '[[1, 2], [], [3.0]]'
+        assert json.dumps({"a": [1, 2]}, separators=(',', ':')) == '{"a":[1,2]}'
+        assert json.dumps({"a": [1, 2], "b": []}, indent=2) == '{\n  "a": [\n    1,\n    2\n  ],\n  "b": []\n}'
+        assert json.dumps([float("inf"), float("nan")]) == '[Infinity, NaN]'
+        with self.assertRaises(ValueError):
+            json.dumps([1.0, float("inf")], allow_nan=False)
+
+        class MyList(list):
+            def __iter__(self):
+                return iter([42])
+
+        assert json.dumps(MyList([1, 2])) == '[42]'
+
+    def test_dump_str_keys(self):
+        d = {"plain": 1, "quo\"te": 2, "é": 3}
+        assert json.dumps(d) == '{"plain": 1, "quo\\"te": 2, "\\u00e9": 3}'
+        assert json.dumps(d, ensure_ascii=False) == '{"plain": 1, "quo\\"te": 2, "é": 3}'
+        assert json.dumps({1: 2, None: 3, "a": 4}) == '{"1": 2, "null": 3, "a": 4}'
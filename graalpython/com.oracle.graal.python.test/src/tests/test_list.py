@@ -1070,5 +1070,72 @@ def test_list_create():
     test_list_ctor((True, False, True), (True, o, True))
 
 
+class ListSortTest(unittest.TestCase):
+
+    def test_stable_with_key(self):
+        data = [(i % 7, i) for i in range(500)]
+        expected = [(k, i) for k in range(7) for i in range(500) if i % 7 == k]
+        self.assertEqual(sorted(data, key=lambda x: x[0]), expected)
+        expected = [(k, i) for k in reversed(range(7)) for i in range(500) if i % 7 == k]
+        self.assertEqual(sorted(data, key=lambda x: x[0], reverse=True), expected)
+
+    def test_tuple_keys(self):
+        data = [(i % 5, str(i % 3), -i) for i in range(300)]
+        expected = [d for k in range(5) for s in "012" for d in data if d[0] == k and d[1] == s]
+        self.assertEqual(sorted(data, key=lambda x: (x[0], x[1])), expected)
+        self.assertEqual(sorted(data), sorted(data, key=lambda x: [x[0], x[1], x[2]]))
+        self.assertEqual(sorted([(1, "a"), (1,), (0, "b", 1)]), [(0, "b", 1), (1,), (1, "a")])
+        nan = float("nan")
+        # the same NaN object is equal to itself in tuple comparisons
+        self.assertEqual(sorted([(nan, 2), (nan, 1)]), [(nan, 1), (nan, 2)])
+
+    def test_float_keys(self):
+        data = [3.5, -0.0, 0.0, -1.5, float("inf"), -float("inf"), 2, -7, 1e300, -1e-300]
+        result = sorted(range(len(data)), key=lambda i: float(data[i]))
+        self.assertEqual([data[i] for i in result], [-float("inf"), -7, -1.5, -1e-300, -0.0, 0.0, 2, 3.5, 1e300, float("inf")])
+        # -0.0 and 0.0 are equal, so their order is preserved
+        self.assertEqual(result[4:6], [1, 2])
+        self.assertEqual(sorted([0.0, -0.0], key=float), [0.0, -0.0])
+
+    def test_int_and_bool_keys(self):
+        import random
+        data = list(range(1000))
+        random.Random(42).shuffle(data)
+        self.assertEqual(sorted(data, key=lambda x: -x), list(reversed(range(1000))))
+        self.assertEqual(sorted(data, key=lambda x: x * 2 ** 40), list(range(1000)))
+        self.assertEqual(sorted(data, key=lambda x: x % 2 == 0), [x for x in data if x % 2] + [x for x in data if x % 2 == 0])
+
+    def test_exception_keeps_permutation(self):
+        class Cmp:
+            count = 0
+
+            def __init__(self, v):
+                self.v = v
+
+            def __lt__(self, other):
+                Cmp.count += 1
+                if Cmp.count > 300:
+                    raise ValueError
+                return self.v < other.v
+
+        data = [Cmp(i * 37 % 101) for i in range(101)]
+        lst = list(data)
+        self.assertRaises(ValueError, lst.sort)
+        self.assertEqual(sorted(map(id, lst)), sorted(map(id, data)))
+
+    def test_inconsistent_lt(self):
+        class Inconsistent:
+            def __init__(self, v):
+                self.v = v
+
+            def __lt__(self, other):
+                return (self.v * 31 + other.v * 17) % 3 == 0
+
+        data = [Inconsistent(i) for i in range(200)]
+        lst = list(data)
+        lst.sort()
+        self.assertEqual(sorted(map(id, lst)), sorted(map(id, data)))
+
+
 if __name__ == '__main__':
     unittest.main()
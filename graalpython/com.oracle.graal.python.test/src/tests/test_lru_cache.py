@@ -0,0 +1,122 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import subprocess
+import sys
+import unittest
+from functools import lru_cache
+
+SCRIPT = '''
+import threading
+from functools import lru_cache
+
+@lru_cache(maxsize=256)
+def square(x):
+    return x * x
+
+def work():
+    for i in range(2000):
+        assert square(i % 300) == (i % 300) ** 2
+
+threads = [threading.Thread(target=work) for _ in range(4)]
+for t in threads:
+    t.start()
+for t in threads:
+    t.join()
+
+stats = square.cache_stats()
+info = square.cache_info()
+assert stats["segments"] > 1, stats
+assert stats["currsize"] == info.currsize <= 256, stats
+assert stats["hits"] + stats["misses"] == 8000, stats
+# threads missing the same key concurrently only insert it once
+assert stats["evictions"] <= stats["misses"] - stats["currsize"], stats
+
+@lru_cache(maxsize=32)
+def ident(x):
+    return x
+
+for i in range(32):
+    ident(i)
+# keep touching the first half, the second half gets evicted first
+for i in range(100, 116):
+    for j in range(16):
+        ident(j)
+    ident(i)
+before = ident.cache_info().hits
+for j in range(16):
+    ident(j)
+assert ident.cache_info().hits - before == 16, ident.cache_info()
+
+square.cache_clear()
+assert square.cache_stats() == {"hits": 0, "misses": 0, "evictions": 0, "currsize": 0, "maxsize": 256, "segments": stats["segments"]}
+print("ok")
+'''
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy specific")
+class LruCacheStatsTests(unittest.TestCase):
+
+    def test_cache_stats(self):
+        @lru_cache(maxsize=2)
+        def f(x):
+            return x
+
+        for i in [1, 2, 1, 3, 4, 1]:
+            f(i)
+        self.assertEqual(f.cache_stats(), {"hits": 1, "misses": 5, "evictions": 3, "currsize": 2, "maxsize": 2, "segments": 0})
+
+        @lru_cache(maxsize=None)
+        def g(x):
+            return x
+
+        g(1)
+        g(1)
+        self.assertEqual(g.cache_stats(), {"hits": 1, "misses": 1, "evictions": 0, "currsize": 1, "maxsize": None, "segments": 0})
+
+    def test_concurrent_lru_cache(self):
+        result = subprocess.run(
+            [sys.executable, "--experimental-options", "--python.ConcurrentLruCache", "-c", SCRIPT],
+            stdout=subprocess.PIPE,
+            stderr=subprocess.PIPE,
+            text=True,
+            timeout=120,
+        )
+        self.assertEqual(result.returncode, 0, result.stderr)
+        self.assertEqual(result.stdout.strip(), "ok")
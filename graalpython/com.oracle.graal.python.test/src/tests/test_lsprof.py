@@ -0,0 +1,139 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+
+import _lsprof
+import sys
+import unittest
+
+
+def fib(n):
+    if n < 2:
+        return n
+    return fib(n - 1) + fib(n - 2)
+
+
+def outer():
+    return [len(str(i)) for i in range(10)]
+
+
+def stats_by_name(profiler):
+    result = {}
+    for entry in profiler.getstats():
+        code = entry.code
+        name = code if isinstance(code, str) else code.co_name
+        result[name] = entry
+    return result
+
+
+class LsprofTests(unittest.TestCase):
+
+    def test_exact_recursive_counts(self):
+        profiler = _lsprof.Profiler()
+        profiler.enable()
+        fib(10)
+        profiler.disable()
+        entry = stats_by_name(profiler)["fib"]
+        self.assertEqual(entry.callcount, 177)
+        self.assertEqual(entry.reccallcount, 176)
+        self.assertGreaterEqual(entry.totaltime, 0)
+        self.assertGreaterEqual(entry.totaltime, entry.inlinetime * 0.99)
+        recursive_calls = [call for call in entry.calls if call.code.co_name == "fib"]
+        self.assertEqual(len(recursive_calls), 1)
+        self.assertEqual(recursive_calls[0].callcount, 176)
+
+    def test_builtins_and_subcalls(self):
+        profiler = _lsprof.Profiler()
+        profiler.enable()
+        outer()
+        profiler.disable()
+        stats = stats_by_name(profiler)
+        self.assertIn("<built-in method builtins.len>", stats)
+        self.assertEqual(stats["<built-in method builtins.len>"].callcount, 10)
+        self.assertEqual(stats["<built-in method builtins.len>"].calls, None)
+        self.assertEqual(stats["outer"].callcount, 1)
+        self.assertIsNone(sys.getprofile())
+
+        profiler = _lsprof.Profiler(builtins=False, subcalls=False)
+        profiler.enable()
+        outer()
+        profiler.disable()
+        stats = stats_by_name(profiler)
+        self.assertNotIn("<built-in method builtins.len>", stats)
+        self.assertIsNone(stats["outer"].calls)
+
+    def test_external_timer(self):
+        ticks = iter(range(1000))
+        profiler = _lsprof.Profiler(lambda: next(ticks), 0.5)
+        profiler.enable()
+        fib(2)
+        profiler.disable()
+        entry = stats_by_name(profiler)["fib"]
+        self.assertEqual(entry.callcount, 3)
+        # each tick is half a second, the timer is only called by the profiler
+        self.assertEqual(entry.totaltime % 0.5, 0)
+        self.assertGreater(entry.totaltime, 0)
+        # all time is spent in fib itself, the recursive calls are not counted twice
+        self.assertEqual(entry.totaltime, entry.inlinetime)
+
+    def test_clear(self):
+        profiler = _lsprof.Profiler()
+        profiler.enable()
+        fib(3)
+        profiler.disable()
+        self.assertTrue(profiler.getstats())
+        profiler.clear()
+        self.assertEqual(profiler.getstats(), [])
+
+    def test_pstats(self):
+        import cProfile
+        import io
+        import pstats
+        profiler = cProfile.Profile()
+        profiler.runcall(fib, 6)
+        stream = io.StringIO()
+        stats = pstats.Stats(profiler, stream=stream)
+        key = next(k for k in stats.stats if k[2] == "fib")
+        primitive_calls, total_calls = stats.stats[key][:2]
+        self.assertEqual(primitive_calls, 1)
+        self.assertEqual(total_calls, 25)
+        stats.print_callers("fib")
+        self.assertIn("fib", stream.getvalue())
+
+
+if __name__ == "__main__":
+    unittest.main()
@@ -253,3 +253,126 @@ def test_iter():
         l.append(i)
 
     assert l == [b'\x02', b'\x03', b'\x04']
+
+
+def test_file_mapping_shares_memory():
+    with tempfile.NamedTemporaryFile() as f:
+        f.write(b"a" * PAGESIZE + b"needle" + b"b" * PAGESIZE)
+        f.flush()
+        with open(f.name, "r+b") as f2:
+            with mmap.mmap(f2.fileno(), 0) as m:
+                mv = memoryview(m)
+                try:
+                    m[0:3] = b"xyz"
+                    assert mv[0:3] == b"xyz"
+                    mv[3] = ord("w")
+                    assert m[3] == ord("w")
+                    assert m.find(b"needle") == PAGESIZE
+                    import re
+                    assert re.search(rb"ne+dle", m).start() == PAGESIZE
+                    m.flush()
+                finally:
+                    mv.release()
+        with open(f.name, "rb") as f3:
+            assert f3.read(4) == b"xyzw"
+
+
+def test_file_mapping_with_offset():
+    with tempfile.NamedTemporaryFile() as f:
+        f.write(b"0" * PAGESIZE + b"hello world")
+        f.flush()
+        with open(f.name, "rb") as f2:
+            with mmap.mmap(f2.fileno(), 0, offset=PAGESIZE, access=mmap.ACCESS_READ) as m:
+                assert len(m) == 11
+                assert m[:] == b"hello world"
+                with memoryview(m) as mv:
+                    assert bytes(mv[6:]) == b"world"
+
+
+def test_file_io_with_mmap_buffer():
+    with tempfile.NamedTemporaryFile() as f:
+        data = bytes(range(256)) * 64
+        f.write(data)
+        f.flush()
+        with mmap.mmap(-1, len(data) + 16) as m, memoryview(m) as mv:
+            with open(f.name, "rb", buffering=0) as f2:
+                assert f2.readinto(mv[16:]) == len(data)
+            assert m[:16] == b"\0" * 16
+            assert m[16:] == data
+            m[:16] = b"x" * 16
+            with open(f.name, "wb", buffering=0) as f3:
+                assert f3.write(mv[8:24]) == 16
+                assert os.write(f3.fileno(), m) == len(m)
+        with open(f.name, "rb") as f4:
+            assert f4.read() == b"x" * 8 + data[:8] + b"x" * 16 + data
+
+
+def test_socket_with_mmap_buffer():
+    import socket
+    a, b = socket.socketpair()
+    with a, b, mmap.mmap(-1, 64) as m, memoryview(m) as mv:
+        m[:] = bytes(range(64))
+        a.sendall(mv[32:])
+        assert a.send(mv[:4]) == 4
+        with mmap.mmap(-1, 64) as m2, memoryview(m2) as mv2:
+            received = 0
+            while received < 36:
+                received += b.recv_into(mv2[received:])
+            assert m2[:36] == bytes(range(32, 64)) + bytes(range(4))
+            assert m2[36:] == b"\0" * 28
+
+
+def test_close_with_exports():
+    m = mmap.mmap(-1, 16)
+    mv = memoryview(m)
+    sliced = mv[4:]
+    try:
+        m.close()
+    except BufferError:
+        pass
+    else:
+        assert False, "expected BufferError"
+    assert not m.closed
+    mv.release()
+    # the slice is a separate export
+    try:
+        m.close()
+    except BufferError:
+        pass
+    else:
+        assert False, "expected BufferError"
+    sliced.release()
+    m.close()
+    assert m.closed
+    try:
+        memoryview(m)
+    except ValueError:
+        pass
+    else:
+        assert False, "expected ValueError"
+
+
+def test_close_mmap_during_socket_io():
+    import socket
+    import threading
+    a, b = socket.socketpair()
+    with a, b:
+        m = mmap.mmap(-1, 16)
+        received = []
+        thread = threading.Thread(target=lambda: received.append(b.recv_into(m)))
+        thread.start()
+        try:
+            # give the receiver time to block in recv without the GIL
+            time.sleep(0.2)
+            try:
+                m.close()
+            except BufferError:
+                pass
+            else:
+                assert not thread.is_alive(), "closed the map while recv_into was using it"
+        finally:
+            a.send(b"abcd")
+            thread.join()
+        assert received == [4]
+        assert m[:4] == b"abcd"
+        m.close()
@@ -383,3 +383,56 @@ def test_no_value_and_mro_shape():
 
     c = C()
     assert c.foo() == 42
+
+
+def test_megamorphic_lookup_sees_updates():
+    class Base:
+        def kind(self):
+            return "base"
+
+    classes = [type("Model%d" % i, (Base,), {"index": i}) for i in range(64)]
+
+    def dispatch():
+        return [(getattr(c, "index"), getattr(c(), "kind")()) for c in classes]
+
+    for _ in range(3):
+        assert dispatch() == [(i, "base") for i in range(64)]
+
+    Base.kind = lambda self: "updated"
+    classes[3].kind = lambda self: "own"
+    assert dispatch() == [(i, "own" if i == 3 else "updated") for i in range(64)]
+
+    del classes[3].kind
+    classes[5].__bases__ = (type("Other", (), {"kind": lambda self: "other", "index": -1}),)
+    assert dispatch() == [(i, "other" if i == 5 else "updated") for i in range(64)]
+
+    del classes[7].index
+    assert getattr(classes[7], "index", None) is None
+
+
+def test_type_attribute_cache_statistics():
+    import sys
+    if sys.implementation.name != "graalpy":
+        return
+    classes = [type("Cached%d" % i, (), {"value": i}) for i in range(64)]
+    names = ["value", "__init__", "__repr__"]
+    before = __graalpython__.get_type_attribute_cache_statistics()
+    for _ in range(5):
+        for c in classes:
+            for name in names:
+                getattr(c, name)
+    after = __graalpython__.get_type_attribute_cache_statistics()
+    assert after["size"] > 0
+    assert after["hits"] > before["hits"]
+    assert after["misses"] >= before["misses"]
+
+    # names become cacheable again right after a write
+    for c in classes:
+        c.value = -1
+    before = after
+    for _ in range(5):
+        for c in classes:
+            assert getattr(c, "value") == -1
+    after = __graalpython__.get_type_attribute_cache_statistics()
+    assert after["hits"] > before["hits"]
+    assert after["uncacheable"] == before["uncacheable"]
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -71,6 +71,45 @@ class TestPickle(unittest.TestCase):
         import _pickle
         assert pickle.Pickler is _pickle.Pickler
 
+    def test_out_of_band_buffer_references_original(self):
+        ba = bytearray(b"abc" * 100000)
+        buffers = []
+        data = pickle.dumps(pickle.PickleBuffer(ba), protocol=5, buffer_callback=buffers.append)
+        self.assertLess(len(data), 100)
+        self.assertEqual(1, len(buffers))
+        result = pickle.loads(data, buffers=buffers)
+        view = memoryview(result)
+        self.assertFalse(view.readonly)
+        view[0] = ord("x")
+        self.assertEqual(ord("x"), ba[0])
+
+    def test_out_of_band_readonly_buffer(self):
+        b = b"xyz" * 100000
+        buffers = []
+        data = pickle.dumps(pickle.PickleBuffer(b), protocol=5, buffer_callback=buffers.append)
+        result = pickle.loads(data, buffers=buffers)
+        view = memoryview(result)
+        self.assertTrue(view.readonly)
+        self.assertEqual(b, view.tobytes())
+
+    def test_large_payloads_in_band(self):
+        import array
+        import io
+        payloads = [
+            b"a" * 200000,
+            bytearray(b"b" * 200000),
+            pickle.PickleBuffer(bytearray(b"c" * 200000)),
+            pickle.PickleBuffer(memoryview(b"d" * 200000)[1000:]),
+            pickle.PickleBuffer(array.array('d', range(30000))),
+        ]
+        for obj in payloads:
+            expected = bytes(obj.raw()) if isinstance(obj, pickle.PickleBuffer) else obj
+            self.assertEqual(expected, bytes(pickle.loads(pickle.dumps(obj, protocol=5))))
+            f = io.BytesIO()
+            pickle.dump(obj, f, protocol=5)
+            f.seek(0)
+            self.assertEqual(expected, bytes(pickle.load(f)))
+
 
 if __name__ == '__main__':
     unittest.main()
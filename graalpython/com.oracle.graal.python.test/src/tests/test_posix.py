@@ -1185,6 +1185,7 @@ class SysconfTests(unittest.TestCase):
         self.assertGreaterEqual(sysconf_max('SC_SEM_NSEMS_MAX'), 32)
         self.assertGreaterEqual(os.sysconf('SC_PHYS_PAGES'), 1)
         self.assertGreaterEqual(os.sysconf('SC_NPROCESSORS_CONF'), 1)
+        self.assertGreaterEqual(sysconf_max('SC_IOV_MAX'), 16)
 
     def test_sysconf_valid_minus_one(self):
         for name in os.sysconf_names:
@@ -2402,3 +2402,36 @@ class SREScannerTest(unittest.TestCase):
         match = scanner.search()
         self.assertIsInstance(match, re.Match)
         self.assertEqual(match.group(0), b"dog")
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy specific")
+class TRegexEngineCacheTest(unittest.TestCase):
+
+    def test_compiled_regex_is_reused(self):
+        stats = __graalpython__.get_regex_cache_statistics
+        pattern = "engine-cache-test-[a-z]+-%d" % id(self)
+        re.purge()
+        before = stats()
+        self.assertTrue(re.compile(pattern).search("x engine-cache-test-abc-%d" % id(self)))
+        after_first = stats()
+        self.assertGreater(after_first["misses"], before["misses"])
+        self.assertGreaterEqual(after_first["compile_ns"], before["compile_ns"])
+
+        # a new pattern object with the same source does not compile the regex again
+        re.purge()
+        self.assertTrue(re.compile(pattern).search("x engine-cache-test-abc-%d" % id(self)))
+        after_second = stats()
+        self.assertGreater(after_second["hits"], after_first["hits"])
+        self.assertEqual(after_second["misses"], after_first["misses"])
+        self.assertEqual(after_second["compile_ns"], after_first["compile_ns"])
+
+        # different flags are a different regex
+        re.purge()
+        self.assertTrue(re.compile(pattern, re.IGNORECASE).search("x ENGINE-cache-test-ABC-%d" % id(self)))
+        self.assertGreater(stats()["misses"], after_second["misses"])
+
+    def test_errors_are_not_cached(self):
+        for _ in range(2):
+            re.purge()
+            with self.assertRaises(re.error):
+                re.compile("(unbalanced-engine-cache-test")
@@ -212,3 +212,43 @@ def test_reparse_co_code():
 def test_reparse_co_code_deleted():
     with pyc_reparse(CO_CODE_TEST, expect_success=False) as (example_file, pyc_file):
         pyc_file.unlink()
+
+
+LAZY_BYTECODE_TEST = '''
+import gc
+
+def make():
+    def inner(x):
+        return [x * i for i in range(3)]
+    return inner
+
+class C:
+    def method(self):
+        return "method"
+
+# functions that run only after the import are loaded from the contents read by the importer,
+# which are only softly retained and so survive a regular collection
+gc.collect()
+assert make()(2) == [0, 2, 4]
+assert C().method() == "method"
+'''
+
+
+def test_lazy_bytecode():
+    with pyc_reparse(LAZY_BYTECODE_TEST):
+        pass
+
+
+def test_lazy_bytecode_deleted():
+    with pyc_reparse(LAZY_BYTECODE_TEST) as (example_file, pyc_file):
+        pyc_file.unlink()
+
+
+def test_lazy_bytecode_modified():
+    with pyc_reparse(LAZY_BYTECODE_TEST) as (example_file, pyc_file):
+        pyc_file.unlink()
+        with open(example_file, 'w') as f:
+            f.write(SYNC_PREAMBLE)
+            f.write(LAZY_BYTECODE_TEST.replace('"method"', '"changed"'))
+        compileall.compile_file(example_file, force=True, quiet=True)
+        assert pyc_file.exists()
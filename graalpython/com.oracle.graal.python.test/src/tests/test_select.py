@@ -104,3 +104,123 @@ class SelectTests(unittest.TestCase):
             finally:
                 os.close(r_pipe)
                 os.close(w_pipe)
+
+
+class PollTests(unittest.TestCase):
+    def test_poll_sockets(self):
+        import socket
+        a, b = socket.socketpair()
+        try:
+            p = select.poll()
+            p.register(a, select.POLLIN)
+            p.register(b.fileno(), select.POLLOUT)
+            assert p.poll(0) == [(b.fileno(), select.POLLOUT)]
+            b.send(b'x')
+            res = dict(p.poll(1000))
+            assert res[a.fileno()] & select.POLLIN
+            a.recv(1)
+            p.modify(b, select.POLLIN)
+            assert p.poll(0) == []
+            p.unregister(a)
+            self.assertRaises(KeyError, p.unregister, a)
+            self.assertRaises(FileNotFoundError, p.modify, a, select.POLLIN)
+        finally:
+            a.close()
+            b.close()
+
+    def test_poll_many_idle(self):
+        import socket
+        pairs = [socket.socketpair() for _ in range(50)]
+        try:
+            p = select.poll()
+            for a, _ in pairs:
+                a.setblocking(False)
+                p.register(a, select.POLLIN)
+            for _ in range(3):
+                assert p.poll(0) == []
+            pairs[17][1].send(b'x')
+            assert p.poll(1000) == [(pairs[17][0].fileno(), select.POLLIN)]
+        finally:
+            for a, b in pairs:
+                a.close()
+                b.close()
+
+    def test_setblocking_after_select(self):
+        import socket
+        a, b = socket.socketpair()
+        try:
+            a.setblocking(False)
+            assert select.select([a], [], [], 0) == ([], [], [])
+            a.setblocking(True)
+            b.send(b'x')
+            assert a.recv(1) == b'x'
+        finally:
+            a.close()
+            b.close()
+
+    def test_settimeout_after_poll_unregister(self):
+        import socket
+        a, b = socket.socketpair()
+        try:
+            a.setblocking(False)
+            p = select.poll()
+            p.register(a, select.POLLIN)
+            assert p.poll(0) == []
+            p.unregister(a)
+            a.settimeout(None)
+            b.send(b'x')
+            assert a.recv(1) == b'x'
+            # a socket timeout waits for the socket with select as well
+            a.settimeout(0.01)
+            self.assertRaises(socket.timeout, a.recv, 1)
+            a.settimeout(None)
+            b.send(b'y')
+            assert a.recv(1) == b'y'
+        finally:
+            a.close()
+            b.close()
+
+    @unittest.skipUnless(sys.platform.startswith('linux'), 'epoll is only available on Linux')
+    def test_epoll(self):
+        import socket
+        a, b = socket.socketpair()
+        try:
+            with select.epoll() as ep:
+                ep.register(a, select.EPOLLIN | select.EPOLLONESHOT)
+                self.assertRaises(FileExistsError, ep.register, a)
+                assert ep.poll(0) == []
+                b.send(b'x')
+                assert ep.poll(1, 1) == [(a.fileno(), select.EPOLLIN)]
+                # disabled after the first event because of EPOLLONESHOT
+                assert ep.poll(0) == []
+                ep.modify(a, select.EPOLLIN)
+                assert ep.poll(0) == [(a.fileno(), select.EPOLLIN)]
+                ep.unregister(a)
+                self.assertRaises(FileNotFoundError, ep.unregister, a)
+                self.assertRaises(ValueError, ep.poll, 0, 0)
+            assert ep.closed
+            self.assertRaises(ValueError, ep.poll)
+        finally:
+            a.close()
+            b.close()
+
+    def test_selectors(self):
+        import selectors
+        import socket
+        classes = [selectors.PollSelector]
+        if sys.platform.startswith('linux'):
+            classes.append(selectors.EpollSelector)
+        else:
+            assert not hasattr(select, 'epoll')
+        for cls in classes:
+            a, b = socket.socketpair()
+            try:
+                with cls() as sel:
+                    sel.register(a, selectors.EVENT_READ, 'a')
+                    assert sel.select(0) == []
+                    b.send(b'x')
+                    [(key, events)] = sel.select(1)
+                    assert key.data == 'a' and events == selectors.EVENT_READ
+            finally:
+                a.close()
+                b.close()
@@ -0,0 +1,98 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import sys
+import threading
+import unittest
+from queue import Empty, SimpleQueue
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy specific")
+class SimpleQueueBatchTests(unittest.TestCase):
+
+    def test_put_many_get_many(self):
+        q = SimpleQueue()
+        q.put_many(range(10))
+        q.put_many(x for x in "ab")
+        self.assertEqual(q.qsize(), 12)
+        self.assertEqual(q.get_many(4), [0, 1, 2, 3])
+        self.assertEqual(q.get_many(100), [4, 5, 6, 7, 8, 9, "a", "b"])
+        self.assertTrue(q.empty())
+        self.assertRaises(Empty, q.get_many, 3, block=False)
+        self.assertRaises(Empty, q.get_many, 3, timeout=0.01)
+        self.assertRaises(ValueError, q.get_many, 0)
+        self.assertRaises(TypeError, q.put_many, 42)
+
+    def test_get_many_waits_for_first_item(self):
+        q = SimpleQueue()
+        t = threading.Timer(0.05, q.put_many, args=([1, 2, 3],))
+        t.start()
+        try:
+            result = q.get_many(10, timeout=10)
+        finally:
+            t.join()
+        while len(result) < 3:
+            result += q.get_many(10, block=False)
+        self.assertEqual(result, [1, 2, 3])
+
+    def test_producers_and_consumers(self):
+        q = SimpleQueue()
+        n = 2000
+        results = []
+        lock = threading.Lock()
+
+        def produce(start):
+            for i in range(start, start + n, 10):
+                q.put_many(range(i, i + 10))
+
+        def consume():
+            received = []
+            while len(received) < n:
+                received.extend(q.get_many(min(64, n - len(received)), timeout=30))
+            with lock:
+                results.extend(received)
+
+        threads = [threading.Thread(target=produce, args=(k * n,)) for k in range(4)]
+        threads += [threading.Thread(target=consume) for _ in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        self.assertEqual(sorted(results), list(range(4 * n)))
+        self.assertTrue(q.empty())
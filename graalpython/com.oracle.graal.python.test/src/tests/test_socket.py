@@ -140,3 +140,97 @@ def test_sendto_recvfrom_roundtrip():
             data, addr = client.recvfrom(64)
             assert data == b"reply"
             assert addr == server_addr
+
+
+def test_sendmsg_recvmsg_roundtrip():
+    with socket.socket(socket.AF_INET, socket.SOCK_DGRAM) as server:
+        server.bind(("127.0.0.1", 0))
+        server_addr = server.getsockname()
+
+        with socket.socket(socket.AF_INET, socket.SOCK_DGRAM) as client:
+            client.bind(("127.0.0.1", 0))
+            client_addr = client.getsockname()
+
+            sent = client.sendmsg([b"scat", bytearray(b"ter"), memoryview(b"-gather")], [], 0, server_addr)
+            assert sent == 14
+
+            data, ancdata, flags, addr = server.recvmsg(64)
+            assert data == b"scatter-gather"
+            assert ancdata == []
+            assert addr == client_addr
+
+            client.sendto(b"0123456789", server_addr)
+            first = bytearray(4)
+            second = bytearray(8)
+            nbytes, ancdata, flags, addr = server.recvmsg_into([first, memoryview(second)[2:]])
+            assert nbytes == 10
+            assert first == b"0123"
+            assert second == b"\x00\x00456789"
+            assert ancdata == []
+            assert addr == client_addr
+
+
+def test_asyncio_selector_event_loop():
+    # asyncio queries SC_IOV_MAX at import time when sockets have sendmsg
+    import asyncio
+    import asyncio.selector_events
+
+    if hasattr(asyncio.selector_events, "_HAS_SENDMSG"):
+        assert asyncio.selector_events._HAS_SENDMSG == hasattr(socket.socket, "sendmsg")
+
+    async def answer():
+        await asyncio.sleep(0)
+        return 42
+
+    loop = asyncio.SelectorEventLoop()
+    try:
+        assert loop.run_until_complete(answer()) == 42
+    finally:
+        loop.close()
+
+
+def test_recvmsg_negative_bufsize():
+    with socket.socket(socket.AF_INET, socket.SOCK_DGRAM) as sock:
+        for args in [(-1,), (16, -1)]:
+            try:
+                sock.recvmsg(*args)
+            except ValueError:
+                pass
+            else:
+                assert False, "expected ValueError"
+
+
+def test_sendfile():
+    import os
+    import tempfile
+    try:
+        if __graalpython__.posix_module_backend() == "java":
+            return  # no socketpair in the emulated backend
+    except NameError:
+        pass
+
+    payload = bytes(range(256)) * 64
+    with tempfile.TemporaryFile() as f:
+        f.write(payload)
+        f.flush()
+        a, b = socket.socketpair()
+        with a, b:
+            # explicit offset leaves the file position untouched
+            f.seek(7)
+            sent = os.sendfile(a.fileno(), f.fileno(), 100, 1000)
+            assert sent == 1000
+            assert f.tell() == 7
+            received = b""
+            while len(received) < sent:
+                received += b.recv(sent - len(received))
+            assert received == payload[100:1100]
+
+            # offset None sends from, and advances, the current position
+            f.seek(50)
+            sent = os.sendfile(a.fileno(), f.fileno(), None, 200)
+            assert sent == 200
+            assert f.tell() == 250
+            received = b""
+            while len(received) < sent:
+                received += b.recv(sent - len(received))
+            assert received == payload[50:250]
@@ -297,3 +297,33 @@ def test_pack_varargs():
         struct.Struct("iii").pack()
     except struct.error as e:
         assert "expected 3" in str(e), f"expected 3 not in {str(e)}"
+
+
+def test_unpack_records():
+    # exercise both the per-format cached and the generic record unpacking
+    for fmt in ["<hIq?d", ">2h3sBf", "=20i", "<Qe"]:
+        s = struct.Struct(fmt)
+        data = bytes(range(s.size))
+        values = s.unpack(data)
+        data *= 3
+        assert list(s.iter_unpack(data)) == [values] * 3
+        assert s.unpack_from(data, s.size) == values
+
+
+def test_unpack_into_columns():
+    if sys.implementation.name != "graalpy":
+        return
+    s = struct.Struct("<bHi2IqQ?dc3s")
+    records = [
+        (-1, 65535, -7, 4000000000, 1, -2 ** 63, 2 ** 64 - 1, True, 1.5, b"a", b"xyz"),
+        (2, 3, 2 ** 31 - 1, 0, 2 ** 32 - 1, 2 ** 63 - 1, 5, False, -0.25, b"b", b"uvw"),
+    ]
+    data = b"".join(s.pack(*r) for r in records)
+    columns = s.unpack_into_columns(data)
+    assert isinstance(columns, tuple)
+    assert columns == tuple(list(c) for c in zip(*records))
+    assert all(type(c) is list for c in columns)
+    assert s.unpack_into_columns(b"") == ([],) * 11
+    assert_raises(struct.error, s.unpack_into_columns, data[:-1])
+    assert_raises(struct.error, struct.Struct("").unpack_into_columns, b"")
+    assert struct.Struct(">Q").unpack_into_columns(memoryview(struct.pack(">2Q", 1, 2 ** 64 - 1))) == ([1, 2 ** 64 - 1],)
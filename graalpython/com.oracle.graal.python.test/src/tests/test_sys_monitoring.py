@@ -0,0 +1,265 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+
+import sys
+import unittest
+
+monitoring = getattr(sys, "monitoring", None)
+E = monitoring.events if monitoring else None
+TOOL = 4
+
+
+def callee(x):
+    y = x + 1
+    return y
+
+
+def caller(n):
+    total = 0
+    for i in range(n):
+        total += callee(i)
+    return total
+
+
+def gen():
+    yield 1
+    yield 2
+
+
+def raising():
+    raise KeyError("x")
+
+
+@unittest.skipIf(monitoring is None, "sys.monitoring is not available")
+class MonitoringTests(unittest.TestCase):
+
+    def setUp(self):
+        monitoring.use_tool_id(TOOL, "test")
+
+    def tearDown(self):
+        monitoring.set_events(TOOL, 0)
+        for event in range(17):
+            monitoring.register_callback(TOOL, 1 << event, None)
+        monitoring.set_local_events(TOOL, callee.__code__, 0)
+        monitoring.restart_events()
+        monitoring.free_tool_id(TOOL)
+
+    def test_tool_ids(self):
+        self.assertEqual(monitoring.get_tool(TOOL), "test")
+        self.assertRaises(ValueError, monitoring.use_tool_id, TOOL, "other")
+        self.assertRaises(ValueError, monitoring.use_tool_id, 6, "other")
+        self.assertRaises(ValueError, monitoring.use_tool_id, 3, 42)
+        self.assertIsNone(monitoring.get_tool(3))
+        self.assertRaises(ValueError, monitoring.set_events, 3, E.PY_START)
+
+    def test_set_events(self):
+        self.assertEqual(monitoring.get_events(TOOL), E.NO_EVENTS)
+        monitoring.set_events(TOOL, E.PY_START | E.PY_RETURN)
+        self.assertEqual(monitoring.get_events(TOOL), E.PY_START | E.PY_RETURN)
+        self.assertRaises(ValueError, monitoring.set_events, TOOL, E.C_RETURN)
+        self.assertRaises(ValueError, monitoring.set_events, TOOL, 1 << 30)
+        monitoring.set_events(TOOL, E.CALL | E.C_RETURN | E.C_RAISE)
+        self.assertEqual(monitoring.get_events(TOOL), E.CALL)
+
+    def test_register_callback(self):
+        def cb(*args):
+            pass
+        self.assertIsNone(monitoring.register_callback(TOOL, E.PY_START, cb))
+        self.assertIs(monitoring.register_callback(TOOL, E.PY_START, None), cb)
+        self.assertRaises(ValueError, monitoring.register_callback, TOOL, E.PY_START | E.PY_RETURN, cb)
+
+    def test_py_start_and_return(self):
+        events = []
+        monitoring.register_callback(TOOL, E.PY_START, lambda code, offset: events.append(("start", code.co_name)))
+        monitoring.register_callback(TOOL, E.PY_RETURN, lambda code, offset, value: events.append(("return", code.co_name, value)))
+        monitoring.set_events(TOOL, E.PY_START | E.PY_RETURN)
+        caller(2)
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(events, [
+            ("start", "caller"),
+            ("start", "callee"), ("return", "callee", 1),
+            ("start", "callee"), ("return", "callee", 2),
+            ("return", "caller", 3),
+        ])
+
+    def test_generator(self):
+        events = []
+        monitoring.register_callback(TOOL, E.PY_YIELD, lambda code, offset, value: events.append(("yield", value)))
+        monitoring.register_callback(TOOL, E.PY_RESUME, lambda code, offset: events.append("resume"))
+        monitoring.set_events(TOOL, E.PY_YIELD | E.PY_RESUME)
+        list(gen())
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(events, [("yield", 1), "resume", ("yield", 2), "resume"])
+
+    def test_line_and_disable(self):
+        lines = []
+
+        def on_line(code, line):
+            if code is callee.__code__:
+                lines.append(line - callee.__code__.co_firstlineno)
+                return monitoring.DISABLE
+
+        monitoring.register_callback(TOOL, E.LINE, on_line)
+        monitoring.set_events(TOOL, E.LINE)
+        caller(3)
+        self.assertEqual(lines, [1, 2])
+        caller(3)
+        self.assertEqual(lines, [1, 2])
+        monitoring.restart_events()
+        caller(1)
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(lines, [1, 2, 1, 2])
+
+    def test_local_events(self):
+        started = []
+        monitoring.register_callback(TOOL, E.PY_START, lambda code, offset: started.append(code.co_name))
+        monitoring.set_local_events(TOOL, callee.__code__, E.PY_START)
+        self.assertEqual(monitoring.get_local_events(TOOL, callee.__code__), E.PY_START)
+        self.assertEqual(monitoring.get_events(TOOL), 0)
+        caller(3)
+        monitoring.set_local_events(TOOL, callee.__code__, 0)
+        caller(3)
+        self.assertEqual(started, ["callee"] * 3)
+        self.assertRaises(TypeError, monitoring.set_local_events, TOOL, 42, E.PY_START)
+        self.assertRaises(ValueError, monitoring.set_local_events, TOOL, callee.__code__, E.RAISE)
+
+    def test_calls(self):
+        events = []
+
+        def on_call(code, offset, callable, arg0):
+            if code is test_calls_code:
+                events.append(("call", callable))
+
+        def on_c_return(code, offset, callable, arg0):
+            if code is test_calls_code:
+                events.append(("c_return", callable))
+
+        def on_c_raise(code, offset, callable, arg0):
+            if code is test_calls_code:
+                events.append(("c_raise", callable))
+
+        test_calls_code = sys._getframe().f_code
+        monitoring.register_callback(TOOL, E.CALL, on_call)
+        monitoring.register_callback(TOOL, E.C_RETURN, on_c_return)
+        monitoring.register_callback(TOOL, E.C_RAISE, on_c_raise)
+        monitoring.set_events(TOOL, E.CALL)
+        callee(1)
+        len("abc")
+        try:
+            int("x")
+        except ValueError:
+            pass
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(events, [
+            ("call", callee),
+            ("call", len), ("c_return", len),
+            ("call", int), ("c_raise", int),
+            ("call", monitoring.set_events),
+        ])
+
+    def test_raise_and_unwind(self):
+        events = []
+        monitoring.register_callback(TOOL, E.RAISE, lambda code, offset, exc: events.append(("raise", code.co_name, type(exc))))
+        monitoring.register_callback(TOOL, E.PY_UNWIND, lambda code, offset, exc: events.append(("unwind", code.co_name, type(exc))))
+        monitoring.set_events(TOOL, E.RAISE | E.PY_UNWIND)
+        try:
+            raising()
+        except KeyError:
+            pass
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(events[:2], [("raise", "raising", KeyError), ("unwind", "raising", KeyError)])
+        self.assertIn(("raise", "test_raise_and_unwind", KeyError), events)
+
+    def test_cannot_disable_global_events(self):
+        on_raise = lambda code, offset, exc: monitoring.DISABLE
+        monitoring.register_callback(TOOL, E.RAISE, on_raise)
+        monitoring.set_events(TOOL, E.RAISE)
+        try:
+            with self.assertRaises(ValueError):
+                try:
+                    raising()
+                except KeyError:
+                    pass
+        finally:
+            monitoring.set_events(TOOL, 0)
+        if sys.implementation.name == "graalpy":
+            # unlike CPython, we keep the callback, other code may still get its events
+            self.assertIs(monitoring.register_callback(TOOL, E.RAISE, None), on_raise)
+
+    def test_disable_start(self):
+        started = []
+
+        def on_start(code, offset):
+            if code is callee.__code__:
+                started.append(offset)
+                return monitoring.DISABLE
+
+        monitoring.register_callback(TOOL, E.PY_START, on_start)
+        monitoring.set_events(TOOL, E.PY_START)
+        caller(3)
+        self.assertEqual(len(started), 1)
+        monitoring.restart_events()
+        caller(3)
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(len(started), 2)
+
+    def test_events_added_later(self):
+        events = []
+        monitoring.register_callback(TOOL, E.PY_START, lambda code, offset: events.append("start") if code is callee.__code__ else None)
+        monitoring.register_callback(TOOL, E.LINE, lambda code, line: events.append("line") if code is callee.__code__ else None)
+        # only the instrumentation for PY_START is added at first
+        monitoring.set_events(TOOL, E.PY_START)
+        callee(1)
+        monitoring.set_events(TOOL, E.PY_START | E.LINE)
+        callee(1)
+        monitoring.set_events(TOOL, 0)
+        self.assertEqual(events, ["start", "start", "line", "line"])
+
+    def test_free_tool_id_clears_local_events(self):
+        monitoring.register_callback(TOOL, E.LINE, lambda code, line: monitoring.DISABLE)
+        monitoring.set_local_events(TOOL, callee.__code__, E.LINE)
+        callee(1)
+        monitoring.free_tool_id(TOOL)
+        monitoring.use_tool_id(TOOL, "test")
+        if sys.implementation.name == "graalpy":
+            # unlike CPython, freeing the id forgets the local events of the tool
+            self.assertEqual(monitoring.get_local_events(TOOL, callee.__code__), 0)
+
+
+if __name__ == "__main__":
+    unittest.main()
@@ -142,6 +142,44 @@ def test_thread_handle_join_and_reuse():
     handle.join(5)
 
 
+def test_switchinterval():
+    old = sys.getswitchinterval()
+    assert abs(old - 0.005) < 1e-9, old
+    try:
+        sys.setswitchinterval(0.001)
+        assert abs(sys.getswitchinterval() - 0.001) < 1e-9
+    finally:
+        sys.setswitchinterval(old)
+
+
+@unittest.skipUnless(sys.implementation.name == "graalpy", "GraalPy specific")
+def test_gil_statistics():
+    import threading
+    import time
+
+    def spin(seconds):
+        end = time.time() + seconds
+        while time.time() < end:
+            pass
+
+    threads = [threading.Thread(target=spin, args=(0.3,)) for _ in range(2)]
+    for t in threads:
+        t.start()
+    idents = [t.ident for t in threads]
+    spin(0.3)
+    stats = __graalpython__.get_gil_statistics()
+    for t in threads:
+        t.join()
+
+    main = stats[threading.get_ident()]
+    assert main["acquisitions"] >= 1
+    assert main["hold_ns"] > 0
+    for key in ("name", "contended_acquisitions", "wait_ns", "max_wait_ns", "handoffs"):
+        assert key in main, key
+    handoffs = sum(stats[i]["handoffs"] for i in idents if i in stats) + main["handoffs"]
+    assert handoffs > 0, stats
+
+
 @unittest.skipIf(sys.implementation.name == "graalpy", "Blocked on Truffle API support for blocking native reads during thread-local handshakes")
 # see GR-75767 for details
 def test_blocking_os_read_thread_does_not_deadlock_import_re():
@@ -0,0 +1,135 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+
+import subprocess
+import sys
+import textwrap
+import tracemalloc
+import unittest
+
+
+class Allocated:
+    pass
+
+
+def allocate(n):
+    return [Allocated() for _ in range(n)]
+
+
+ALLOCATION_LINE = allocate.__code__.co_firstlineno + 1
+
+
+class TracemallocTests(unittest.TestCase):
+
+    def tearDown(self):
+        tracemalloc.stop()
+
+    def test_start_stop(self):
+        self.assertFalse(tracemalloc.is_tracing())
+        self.assertRaises(ValueError, tracemalloc.start, 0)
+        tracemalloc.start(3)
+        self.assertTrue(tracemalloc.is_tracing())
+        self.assertEqual(tracemalloc.get_traceback_limit(), 3)
+        tracemalloc.stop()
+        self.assertFalse(tracemalloc.is_tracing())
+        self.assertEqual(tracemalloc.get_traced_memory(), (0, 0))
+        self.assertRaises(RuntimeError, tracemalloc.take_snapshot)
+
+    def test_compare_snapshots(self):
+        tracemalloc.start(5)
+        before = tracemalloc.take_snapshot()
+        objects = allocate(20000)
+        after = tracemalloc.take_snapshot()
+        stats = after.compare_to(before, 'lineno')
+        growth = [s for s in stats if s.traceback[0].filename == __file__ and s.traceback[0].lineno == ALLOCATION_LINE]
+        self.assertTrue(growth, stats[:10])
+        self.assertGreater(growth[0].size_diff, 0)
+        current, peak = tracemalloc.get_traced_memory()
+        self.assertGreater(current, 0)
+        self.assertGreaterEqual(peak, current)
+        tracemalloc.reset_peak()
+        self.assertGreaterEqual(tracemalloc.get_traced_memory()[1], current // 2)
+        del objects
+
+    def test_no_user_sizeof(self):
+        calls = []
+
+        class Sized:
+            def __sizeof__(self):
+                calls.append(self)
+                return 100
+
+        tracemalloc.start()
+        objects = [Sized() for _ in range(5000)]
+        tracemalloc.get_traced_memory()
+        tracemalloc.take_snapshot()
+        tracemalloc.reset_peak()
+        self.assertEqual(calls, [])
+        del objects
+
+    def test_restart(self):
+        for _ in range(3):
+            tracemalloc.start()
+            objects = allocate(5000)
+            self.assertGreater(tracemalloc.get_traced_memory()[0], 0)
+            tracemalloc.stop()
+            del objects
+            self.assertEqual(tracemalloc.get_traced_memory(), (0, 0))
+
+    def test_object_traceback(self):
+        args = [sys.executable]
+        if sys.implementation.name == "graalpy":
+            args += ["--experimental-options", "--python.TracemallocSamplingInterval=1"]
+        script = textwrap.dedent("""
+            import tracemalloc
+            tracemalloc.start(2)
+            class A:
+                __slots__ = ()
+            def make():
+                return A()
+            obj = make()
+            tb = tracemalloc.get_object_traceback(obj)
+            print([frame.lineno for frame in tb])
+        """)
+        result = subprocess.run(args + ["-c", script], stdout=subprocess.PIPE, stderr=subprocess.PIPE, text=True, timeout=120)
+        self.assertEqual(result.returncode, 0, result.stderr)
+        self.assertEqual(result.stdout.strip(), "[8, 7]")
+
+
+if __name__ == '__main__':
+    unittest.main()
@@ -63,6 +63,7 @@ import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.ImpModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.SignalModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.cext.PythonCextBuiltinRegistry;
+import com.oracle.graal.python.builtins.modules.re.TRegexEngineCache;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PNotImplemented;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
@@ -994,6 +995,12 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         return cachedTRegexLineBreakRegex;
     }
 
+    private final TRegexEngineCache tRegexEngineCache = new TRegexEngineCache();
+
+    public TRegexEngineCache getTRegexEngineCache() {
+        return tRegexEngineCache;
+    }
+
     @CompilationFinal private CaseMap.Title cachedICUTitleCaser;
 
     public CaseMap.Title getCachedICUTitleCaser() {
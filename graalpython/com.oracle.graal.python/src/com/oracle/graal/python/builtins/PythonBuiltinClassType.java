@@ -256,6 +256,7 @@ import com.oracle.graal.python.builtins.objects.random.RandomBuiltins;
 import com.oracle.graal.python.builtins.objects.range.RangeBuiltins;
 import com.oracle.graal.python.builtins.objects.referencetype.ReferenceTypeBuiltins;
 import com.oracle.graal.python.builtins.objects.reversed.ReversedBuiltins;
+import com.oracle.graal.python.builtins.objects.select.EpollBuiltins;
 import com.oracle.graal.python.builtins.objects.set.BaseSetBuiltins;
 import com.oracle.graal.python.builtins.objects.set.FrozenSetBuiltins;
 import com.oracle.graal.python.builtins.objects.set.SetBuiltins;
@@ -701,6 +702,15 @@ public enum PythonBuiltinClassType implements TruffleObject {
                     Bind a function to a class.""")),
     PScandirIterator("ScandirIterator", PythonObject, newBuilder().moduleName(J_POSIX).disallowInstantiation().slots(ScandirIteratorBuiltins.SLOTS)),
     PDirEntry("DirEntry", PythonObject, newBuilder().publishInModule(J_POSIX).disallowInstantiation().slots(DirEntryBuiltins.SLOTS)),
+    PPoll("poll", PythonObject, newBuilder().moduleName("select").disallowInstantiation()),
+    PEpoll("epoll", PythonObject, newBuilder().moduleName("select").basetype().slots(EpollBuiltins.SLOTS).doc("""
+                    select.epoll(sizehint=-1, flags=0)
+
+                    Returns an epolling object
+
+                    sizehint must be a positive integer or -1 for the default size. The
+                    sizehint is used to optimize internal data structures. It doesn't limit
+                    the maximum number of monitored events.""")),
     LsprofProfiler("Profiler", PythonObject, newBuilder().publishInModule("_lsprof").basetype().slots(ProfilerBuiltins.SLOTS)),
     PStruct("Struct", PythonObject, newBuilder().publishInModule(J__STRUCT).basetype().slots(StructBuiltins.SLOTS)),
     PStructUnpackIterator("unpack_iterator", PythonObject, newBuilder().publishInModule(J__STRUCT).basetype().slots(StructUnpackIteratorBuiltins.SLOTS)),
@@ -156,6 +156,7 @@ import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.iterator.PDoubleSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PIntegerSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PLongSequenceIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PSequenceIterator;
 import com.oracle.graal.python.builtins.objects.list.ListBuiltins;
 import com.oracle.graal.python.builtins.objects.list.ListBuiltins.ListSortNode;
 import com.oracle.graal.python.builtins.objects.list.PList;
@@ -251,6 +252,7 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.object.GetOrCreateDictNode;
+import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
 import com.oracle.graal.python.nodes.truffle.PythonIntegerTypes;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToJavaLongExactNode;
@@ -275,7 +277,10 @@ import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ForeignSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.CharsetMapping;
 import com.oracle.graal.python.util.OverflowException;
@@ -1890,6 +1895,8 @@ public final class BuiltinFunctions extends PythonBuiltins {
                         @Cached InlinedConditionProfile defaultStart,
                         @Cached PRaiseNode raiseNode,
                         @Cached PyObjectGetIter getIter,
+                        @Cached InlinedConditionProfile foreignArrayProfile,
+                        @Cached IsForeignObjectNode isForeignObjectNode,
                         @Cached SumIteratorNode sumIteratorNode) {
             if (defaultStart.profile(inliningTarget, start == NO_VALUE)) {
                 start = 0;
@@ -1901,9 +1908,41 @@ public final class BuiltinFunctions extends PythonBuiltins {
                 throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.CANT_SUM_BYTEARRAY);
             }
             Object iterator = getIter.execute(frame, inliningTarget, iterable);
+            if (foreignArrayProfile.profile(inliningTarget, iterator instanceof PSequenceIterator it && !it.isPSequence() && isForeignObjectNode.execute(inliningTarget, it.getObject()))) {
+                iterator = copyHostArray(inliningTarget, (PSequenceIterator) iterator);
+            }
             return sumIteratorNode.execute(frame, inliningTarget, iterator, start);
         }
 
+        /*
+         * Adding up numbers does not call back into Python code, so instead of reading the elements
+         * of a primitive Java array one interop message at a time, we can copy them in one step and
+         * sum them up with the primitive iterators.
+         */
+        private static Object copyHostArray(Node inliningTarget, PSequenceIterator iterator) {
+            if (iterator.getIndex() != 0 || iterator.isExhausted()) {
+                return iterator;
+            }
+            ForeignSequenceStorage storage = ForeignSequenceStorage.forHostArray(PythonContext.get(inliningTarget).getEnv(), iterator.getObject());
+            if (storage == null) {
+                return iterator;
+            }
+            SequenceStorage copy = storage.copyHostArray(inliningTarget, 0, storage.length());
+            PythonLanguage language = PythonLanguage.get(inliningTarget);
+            Object result;
+            if (copy instanceof IntSequenceStorage ints) {
+                result = PFactory.createIntegerSequenceIterator(language, ints, iterator.getObject());
+            } else if (copy instanceof LongSequenceStorage longs) {
+                result = PFactory.createLongSequenceIterator(language, longs, iterator.getObject());
+            } else if (copy instanceof DoubleSequenceStorage doubles) {
+                result = PFactory.createDoubleSequenceIterator(language, doubles, iterator.getObject());
+            } else {
+                return iterator;
+            }
+            iterator.setExhausted();
+            return result;
+        }
+
         @GenerateInline
         @GenerateCached(false)
         @ImportStatic(PGuards.class)
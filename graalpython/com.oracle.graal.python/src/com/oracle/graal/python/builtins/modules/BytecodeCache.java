@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.PythonLanguage.MAGIC_NUMBER;
+import static com.oracle.graal.python.PythonLanguage.MAGIC_NUMBER_BYTES;
+import static com.oracle.graal.python.util.PythonUtils.ARRAY_ACCESSOR_LE;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.graalvm.options.OptionKey;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins.Marshal;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLogger;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * A persistent cache of compiled modules, enabled by the {@link PythonOptions#BytecodeCacheDir}
+ * option. Unlike {@code __pycache__} directories, the cache is content-addressed: the entries live
+ * in a subdirectory specific to the bytecode version and the engine options and are named after
+ * the hash of the module source. This allows sharing the cache between processes, engines and
+ * copies of the same source tree (e.g. in container images).
+ * <p>
+ * The file format follows hash-based {@code .pyc} files, with the source length and a checksum of
+ * the payload appended to the header:
+ *
+ * <pre>
+ * magic(4) flags(4) source_hash(8) source_length(4) crc32(4) marshal_data(...)
+ * </pre>
+ *
+ * Since the source hash is stored at the same position as in regular {@code .pyc} files, the lazy
+ * reparsing of bytecode done by {@link MarshalModuleBuiltins.BytecodeSupplier} works for cache
+ * entries as well. Entries are written to a temporary file and atomically moved into place, so
+ * concurrent writers and readers never observe partial entries.
+ */
+public final class BytecodeCache {
+    private static final TruffleLogger LOGGER = PythonLanguage.getLogger(BytecodeCache.class);
+
+    // hash-based, don't check the source again (the name of the entry is the hash)
+    private static final int FLAGS = 0b01;
+    private static final int HEADER_SIZE = 24;
+
+    private BytecodeCache() {
+        // no instances
+    }
+
+    /**
+     * Returns the code object cached for the given source or {@code null} if there is none or the
+     * cache is disabled.
+     */
+    @TruffleBoundary
+    public static Object load(PythonContext context, TruffleString sourcePath, byte[] source, int sourceLength) {
+        TruffleFile directory = getCacheDirectory(context);
+        if (directory == null) {
+            return null;
+        }
+        long sourceHash = hashSource(source, sourceLength);
+        TruffleFile entry = directory.resolve(getEntryName(sourceHash));
+        try {
+            if (!entry.isRegularFile()) {
+                return null;
+            }
+            byte[] bytes = entry.readAllBytes();
+            if (bytes.length < HEADER_SIZE || !Arrays.equals(bytes, 0, 4, MAGIC_NUMBER_BYTES, 0, 4) || ARRAY_ACCESSOR_LE.getInt(bytes, 4) != FLAGS ||
+                            ARRAY_ACCESSOR_LE.getLong(bytes, 8) != sourceHash || ARRAY_ACCESSOR_LE.getInt(bytes, 16) != sourceLength ||
+                            ARRAY_ACCESSOR_LE.getInt(bytes, 20) != checksum(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE)) {
+                LOGGER.fine(() -> PythonUtils.formatJString("Ignoring invalid bytecode cache entry %s", entry));
+                return null;
+            }
+            TruffleFile sourceFile = null;
+            try {
+                sourceFile = context.getPublicTruffleFileRelaxed(sourcePath).getAbsoluteFile().normalize();
+            } catch (SecurityException | UnsupportedOperationException | IllegalArgumentException ignored) {
+                // Fall back to Marshal's empty source.
+            }
+            return MarshalModuleBuiltins.fromBytecodeFile(context.getLanguage(), entry, sourceFile, bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, sourceHash);
+        } catch (Marshal.MarshalError | MarshalModuleBuiltins.ReparseError e) {
+            LOGGER.fine(() -> PythonUtils.formatJString("Failed to load bytecode cache entry %s: %s", entry, e));
+            return null;
+        } catch (IOException | SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+            LOGGER.fine(() -> PythonUtils.formatJString("Failed to read bytecode cache entry %s: %s", entry, e));
+            return null;
+        }
+    }
+
+    /**
+     * Stores the code object compiled from the given source in the cache, unless the cache is
+     * disabled or already has an entry for it. Failures are ignored, the cache is best-effort.
+     */
+    @TruffleBoundary
+    public static void store(PythonContext context, byte[] source, int sourceLength, Object code) {
+        TruffleFile directory = getCacheDirectory(context);
+        if (directory == null) {
+            return;
+        }
+        long sourceHash = hashSource(source, sourceLength);
+        String name = getEntryName(sourceHash);
+        TruffleFile entry = directory.resolve(name);
+        TruffleFile tmp = null;
+        try {
+            if (entry.exists()) {
+                return;
+            }
+            byte[] data = Marshal.dump(context.getLanguage(), code, MarshalModuleBuiltins.CURRENT_VERSION, true);
+            byte[] header = new byte[HEADER_SIZE];
+            PythonUtils.arraycopy(MAGIC_NUMBER_BYTES, 0, header, 0, 4);
+            ARRAY_ACCESSOR_LE.putInt(header, 4, FLAGS);
+            ARRAY_ACCESSOR_LE.putLong(header, 8, sourceHash);
+            ARRAY_ACCESSOR_LE.putInt(header, 16, sourceLength);
+            ARRAY_ACCESSOR_LE.putInt(header, 20, checksum(data, 0, data.length));
+            directory.createDirectories();
+            tmp = context.getEnv().createTempFile(directory, name, ".tmp");
+            try (OutputStream out = tmp.newOutputStream()) {
+                out.write(header);
+                out.write(data);
+            }
+            tmp.move(entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            tmp = null;
+        } catch (Marshal.MarshalError e) {
+            LOGGER.fine(() -> PythonUtils.formatJString("Cannot cache code for %s: %s", entry, e));
+        } catch (IOException | SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+            LOGGER.fine(() -> PythonUtils.formatJString("Failed to write bytecode cache entry %s: %s", entry, e));
+        } finally {
+            if (tmp != null) {
+                try {
+                    tmp.delete();
+                } catch (IOException | SecurityException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private static TruffleFile getCacheDirectory(PythonContext context) {
+        TruffleString path = context.getOption(PythonOptions.BytecodeCacheDir);
+        if (path.isEmpty()) {
+            return null;
+        }
+        try {
+            return context.getEnv().getPublicTruffleFile(path.toJavaStringUncached()).resolve(getCacheTag(context));
+        } catch (SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The name of the subdirectory for the current bytecode version and the options that may
+     * influence the compiled code.
+     */
+    private static String getCacheTag(PythonContext context) {
+        CRC32 crc = new CRC32();
+        PythonLanguage language = context.getLanguage();
+        for (OptionKey<?> key : PythonOptions.getEngineOptionKeys()) {
+            crc.update(String.valueOf(language.getEngineOption(key)).getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+        }
+        crc.update(context.getOption(PythonOptions.PythonOptimizeFlag) ? 1 : 0);
+        return PythonUtils.formatJString("graalpy-%d-%08x", MAGIC_NUMBER, crc.getValue());
+    }
+
+    private static String getEntryName(long sourceHash) {
+        return PythonUtils.formatJString("%016x.pyc", sourceHash);
+    }
+
+    private static long hashSource(byte[] source, int length) {
+        return ARRAY_ACCESSOR_LE.getLong(ImpModuleBuiltins.SourceHashNode.hashSource(MAGIC_NUMBER, source, length), 0);
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
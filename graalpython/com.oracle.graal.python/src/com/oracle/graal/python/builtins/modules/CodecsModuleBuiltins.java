@@ -67,6 +67,7 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.LookupEr
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.MemoryError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+import static com.oracle.graal.python.util.PythonUtils.SURROGATE_CODE_POINT_SET;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
@@ -105,6 +106,7 @@ import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GetInternalByteArrayNode;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
+import com.oracle.graal.python.builtins.objects.str.StringUtils;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.PyCallableCheckNode;
 import com.oracle.graal.python.lib.PyObjectSizeNode;
@@ -168,6 +170,9 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
     public static final TruffleString T_UNICODE_ESCAPE = tsLiteral("unicode_escape");
     public static final TruffleString T_LATIN_1 = tsLiteral("latin_1");
 
+    private static final TruffleString.CodePointSet NON_ASCII_CODE_POINT_SET = TruffleString.CodePointSet.fromRanges(new int[]{0x80, Character.MAX_CODE_POINT}, TS_ENCODING);
+    private static final TruffleString.CodePointSet NON_LATIN_1_CODE_POINT_SET = TruffleString.CodePointSet.fromRanges(new int[]{0x100, Character.MAX_CODE_POINT}, TS_ENCODING);
+
     public static CodingErrorAction convertCodingErrorAction(TruffleString errors, TruffleString.EqualNode equalNode) {
         // TODO: see [GR-10256] to implement the correct handling mechanics
         // TODO: replace CodingErrorAction with TruffleString api [GR-38105]
@@ -180,6 +185,74 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
         return CodingErrorAction.REPORT;
     }
 
+    /**
+     * Returns the length of the longest prefix of {@code bytes[0:len]} that consists of complete
+     * and well-formed UTF-8 sequences only.
+     */
+    static int utf8ValidPrefixLength(byte[] bytes, int len) {
+        int i = asciiPrefixLength(bytes, 0, len);
+        while (i < len) {
+            int b0 = bytes[i] & 0xff;
+            if (b0 < 0x80) {
+                i = asciiPrefixLength(bytes, i + 1, len);
+                continue;
+            }
+            int continuationBytes;
+            // the allowed range of the second byte excludes overlong forms, surrogates and code
+            // points above U+10FFFF
+            int min2 = 0x80;
+            int max2 = 0xbf;
+            if (b0 >= 0xc2 && b0 <= 0xdf) {
+                continuationBytes = 1;
+            } else if (b0 >= 0xe0 && b0 <= 0xef) {
+                continuationBytes = 2;
+                if (b0 == 0xe0) {
+                    min2 = 0xa0;
+                } else if (b0 == 0xed) {
+                    max2 = 0x9f;
+                }
+            } else if (b0 >= 0xf0 && b0 <= 0xf4) {
+                continuationBytes = 3;
+                if (b0 == 0xf0) {
+                    min2 = 0x90;
+                } else if (b0 == 0xf4) {
+                    max2 = 0x8f;
+                }
+            } else {
+                return i;
+            }
+            if (i + continuationBytes >= len) {
+                return i;
+            }
+            int b1 = bytes[i + 1] & 0xff;
+            if (b1 < min2 || b1 > max2) {
+                return i;
+            }
+            for (int k = 2; k <= continuationBytes; k++) {
+                if ((bytes[i + k] & 0xc0) != 0x80) {
+                    return i;
+                }
+            }
+            i += continuationBytes + 1;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index of the first byte in {@code bytes[from:len]} that is not ASCII, or
+     * {@code len}. Checks eight bytes at a time.
+     */
+    static int asciiPrefixLength(byte[] bytes, int from, int len) {
+        int i = from;
+        while (i + Long.BYTES <= len && (PythonUtils.ARRAY_ACCESSOR.getLong(bytes, i) & 0x8080808080808080L) == 0) {
+            i += Long.BYTES;
+        }
+        while (i < len && bytes[i] >= 0) {
+            i++;
+        }
+        return i;
+    }
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return CodecsModuleBuiltinsFactory.getFactories();
@@ -235,8 +308,11 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
                         @Cached TruffleString.IsValidNode isValidNode,
                         @Cached TruffleString.GetCodeRangeNode getCodeRangeNode,
                         @Cached InlinedConditionProfile fastPathProfile,
+                        @Cached InlinedConditionProfile partialFastPathProfile,
                         @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
                         @Cached TruffleString.CopyToByteArrayNode copyToByteArrayNode,
+                        @Cached TruffleString.ByteIndexOfCodePointSetNode indexOfCodePointSetNode,
+                        @Cached TruffleString.SubstringByteIndexNode substringNode,
                         @Cached TruffleString.ToJavaStringNode toJavaStringNode,
                         @Cached TruffleString.EqualNode equalNode,
                         @Cached ErrorHandlers.CallEncodingErrorHandlerNode errorHandler,
@@ -257,7 +333,34 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
                     return ret;
                 }
             }
-            return slowPath(frame, encoding, errors, inliningTarget, toJavaStringNode, equalNode, errorHandler, acquireLib, bufferLib, castToJavaStringNode, raiseNode, input, charsetWrapper);
+            byte[] prefix = null;
+            int prefixCodePoints = 0;
+            if (partialFastPathProfile.profile(inliningTarget, targetTStringEncoding != null && charsetWrapper.bom() == null)) {
+                /*
+                 * Only some characters cannot be encoded. Transcode everything up to the first of
+                 * them in bulk and leave just the rest to the error handling slow path.
+                 */
+                int inputByteLength = input.byteLength(TS_ENCODING);
+                int errorByteIndex = indexOfCodePointSetNode.execute(input, 0, inputByteLength, getUnencodableCodePoints(targetTStringEncoding));
+                if (errorByteIndex > 0) {
+                    TruffleString head = substringNode.execute(input, 0, errorByteIndex, TS_ENCODING, true);
+                    prefix = fastPath(head, getCodeRangeNode, switchEncodingNode, copyToByteArrayNode, targetTStringEncoding, charsetWrapper);
+                    prefixCodePoints = StringUtils.byteIndexToCodepointIndex(errorByteIndex);
+                }
+            }
+            return slowPath(frame, encoding, errors, inliningTarget, toJavaStringNode, equalNode, errorHandler, acquireLib, bufferLib, castToJavaStringNode, raiseNode, input, prefix,
+                            prefixCodePoints, charsetWrapper);
+        }
+
+        private static TruffleString.CodePointSet getUnencodableCodePoints(TruffleString.Encoding targetTStringEncoding) {
+            if (targetTStringEncoding == TruffleString.Encoding.US_ASCII) {
+                return NON_ASCII_CODE_POINT_SET;
+            } else if (targetTStringEncoding == TruffleString.Encoding.ISO_8859_1) {
+                return NON_LATIN_1_CODE_POINT_SET;
+            } else {
+                // the UTFs can encode anything except lone surrogates
+                return SURROGATE_CODE_POINT_SET;
+            }
         }
 
         private static byte[] fastPath(TruffleString input,
@@ -299,6 +402,8 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
                         CastToJavaStringNode castToJavaStringNode,
                         PRaiseNode raiseNode,
                         TruffleString input,
+                        byte[] prefix,
+                        int prefixCodePoints,
                         CharsetMapping.CharsetWrapper charsetWrapper) {
             String inputStr = toJavaStringNode.execute(input);
             CodingErrorAction errorAction = convertCodingErrorAction(errors, equalNode);
@@ -306,7 +411,7 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
             ErrorHandlers.ErrorHandlerCache errorHandlerCache = new ErrorHandlers.ErrorHandlerCache();
             Charset charset = charsetWrapper.charset();
             try {
-                encoder = new TruffleEncoder(charset, inputStr, errorAction);
+                encoder = new TruffleEncoder(charset, inputStr, errorAction, prefix, prefixCodePoints);
                 while (!encoder.encodingStep()) {
                     int pos = encoder.getInputPosition();
                     ErrorHandlers.EncodingErrorHandlerResult result = errorHandler.execute(frame, inliningTarget, errorHandlerCache, errors, encoding, input,
@@ -390,6 +495,7 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
                         @Cached TruffleString.IsValidNode isValidNode,
                         @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
                         @Cached InlinedConditionProfile fastPathProfile,
+                        @Cached InlinedConditionProfile partialFastPathProfile,
                         @Cached(inline = true) CharsetLookupNode charsetLookupNode,
                         @Cached("createFor($node)") BoundaryCallData boundaryCallData,
                         @Cached PRaiseNode raiseNode) {
@@ -442,9 +548,22 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
                         return PFactory.createTuple(language, new Object[]{switchEncodingNode.execute(direct, TS_ENCODING), len});
                     }
                 }
+                TruffleString prefix = null;
+                int prefixLength = 0;
+                if (partialFastPathProfile.profile(inliningTarget, tStringEncoding == TruffleString.Encoding.UTF_8 || tStringEncoding == TruffleString.Encoding.US_ASCII)) {
+                    /*
+                     * Decode everything up to the first malformed or, if this is not the final
+                     * chunk, truncated sequence in bulk and leave just the rest to the error
+                     * handling slow path.
+                     */
+                    prefixLength = tStringEncoding == TruffleString.Encoding.UTF_8 ? utf8ValidPrefixLength(bytes, len) : asciiPrefixLength(bytes, 0, len);
+                    if (prefixLength > 0) {
+                        prefix = switchEncodingNode.execute(fromByteArrayNode.execute(bytes, 0, prefixLength, tStringEncoding, true), TS_ENCODING);
+                    }
+                }
                 Object savedState = BoundaryCallContext.enter(frame, boundaryCallData);
                 try {
-                    Object[] items = decodeSlowPath(input, encoding, errors, finalData, charset, buffer);
+                    Object[] items = decodeSlowPath(input, encoding, errors, finalData, charset, buffer, prefix, prefixLength);
                     return PFactory.createTuple(language, items);
                 } finally {
                     BoundaryCallContext.exit(frame, boundaryCallData, savedState);
@@ -454,8 +573,17 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
             }
         }
 
-        @TruffleBoundary
         public static Object[] decodeSlowPath(Object input, TruffleString encoding, TruffleString errors, boolean finalData, CharsetMapping.CharsetWrapper charset, Object buffer) {
+            return decodeSlowPath(input, encoding, errors, finalData, charset, buffer, null, 0);
+        }
+
+        /**
+         * Decodes {@code buffer} starting at byte {@code start}, the bytes before it have already
+         * been decoded to {@code prefix}.
+         */
+        @TruffleBoundary
+        private static Object[] decodeSlowPath(Object input, TruffleString encoding, TruffleString errors, boolean finalData, CharsetMapping.CharsetWrapper charset, Object buffer,
+                        TruffleString prefix, int start) {
             boolean releaseBuffer = false;
             PythonBufferAccessLibrary bufferLib = PythonBufferAccessLibrary.getFactory().getUncached(buffer);
             try {
@@ -465,7 +593,7 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
                 ErrorHandlers.ErrorHandlerCache handlerCache = new ErrorHandlers.ErrorHandlerCache();
                 TruffleDecoder decoder;
                 try {
-                    decoder = new TruffleDecoder(charset.charset(), bytes, len, errorAction);
+                    decoder = new TruffleDecoder(charset.charset(), bytes, start, len, errorAction);
                     while (!decoder.decodingStep(finalData)) {
                         int pos = decoder.getInputPosition();
                         ErrorHandlers.DecodingErrorHandlerResult result = CallDecodingErrorHandlerNodeGen.getUncached().execute(null, null, handlerCache, errors, encoding, input,
@@ -483,7 +611,11 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
                 } catch (OutOfMemoryError e) {
                     throw PRaiseNode.raiseStatic(null, MemoryError);
                 }
-                return new Object[]{decoder.getString(), decoder.getInputPosition()};
+                TruffleString decoded = decoder.getString();
+                if (prefix != null) {
+                    decoded = TruffleString.ConcatNode.getUncached().execute(prefix, decoded, TS_ENCODING, true);
+                }
+                return new Object[]{decoded, decoder.getInputPosition()};
             } finally {
                 if (releaseBuffer) {
                     bufferLib.release(buffer);
@@ -1438,12 +1570,26 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
         private ByteBuffer outputBuffer;
         private CoderResult coderResult;
 
-        @TruffleBoundary
         public TruffleEncoder(Charset charset, String input, CodingErrorAction errorAction) {
+            this(charset, input, errorAction, null, 0);
+        }
+
+        /**
+         * Creates an encoder that continues at code point {@code start} of {@code input}, the code
+         * points before it have already been encoded to {@code prefix}.
+         */
+        @TruffleBoundary
+        public TruffleEncoder(Charset charset, String input, CodingErrorAction errorAction, byte[] prefix, int start) {
             this.inputString = input;
             this.inputBuffer = CharBuffer.wrap(input);
             this.encoder = charset.newEncoder().onMalformedInput(errorAction).onUnmappableCharacter(errorAction);
-            this.outputBuffer = ByteBuffer.allocate((int) (input.length() * encoder.averageBytesPerChar()));
+            if (prefix == null) {
+                this.outputBuffer = ByteBuffer.allocate((int) (input.length() * encoder.averageBytesPerChar()));
+            } else {
+                setInputPosition(start);
+                this.outputBuffer = ByteBuffer.allocate(prefix.length + (int) (inputBuffer.remaining() * encoder.averageBytesPerChar()));
+                outputBuffer.put(prefix);
+            }
         }
 
         @TruffleBoundary
@@ -1534,11 +1680,16 @@ public final class CodecsModuleBuiltins extends PythonBuiltins {
         private CharBuffer outputBuffer;
         private CoderResult coderResult;
 
-        @TruffleBoundary
         public TruffleDecoder(Charset charset, byte[] input, int inputLen, CodingErrorAction errorAction) {
+            this(charset, input, 0, inputLen, errorAction);
+        }
+
+        @TruffleBoundary
+        public TruffleDecoder(Charset charset, byte[] input, int start, int inputLen, CodingErrorAction errorAction) {
             this.inputBuffer = ByteBuffer.wrap(input, 0, inputLen);
+            inputBuffer.position(start);
             this.decoder = charset.newDecoder().onMalformedInput(errorAction).onUnmappableCharacter(errorAction);
-            this.outputBuffer = CharBuffer.allocate((int) (inputLen * decoder.averageCharsPerByte()));
+            this.outputBuffer = CharBuffer.allocate((int) ((inputLen - start) * decoder.averageCharsPerByte()));
         }
 
         @TruffleBoundary
@@ -82,6 +82,7 @@ import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -100,6 +101,7 @@ import com.oracle.graal.python.builtins.modules.cext.PythonCextCapsuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
 import com.oracle.graal.python.builtins.objects.array.PArray;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
 import com.oracle.graal.python.builtins.objects.capsule.PyCapsule;
@@ -131,6 +133,7 @@ import com.oracle.graal.python.builtins.objects.function.PFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.generator.PGenerator;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
 import com.oracle.graal.python.builtins.objects.method.PMethod;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
@@ -148,6 +151,8 @@ import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.arrow.ArrowArray;
+import com.oracle.graal.python.nodes.arrow.ArrowCDataExport;
+import com.oracle.graal.python.nodes.arrow.ArrowCDataImport;
 import com.oracle.graal.python.nodes.arrow.ArrowSchema;
 import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
 import com.oracle.graal.python.nodes.call.CallNode;
@@ -171,6 +176,7 @@ import com.oracle.graal.python.pegparser.InputType;
 import com.oracle.graal.python.runtime.ExecutionContext;
 import com.oracle.graal.python.runtime.ExecutionContext.BoundaryCallContext;
 import com.oracle.graal.python.runtime.ExecutionContext.InteropCallContext;
+import com.oracle.graal.python.runtime.GilStatistics;
 import com.oracle.graal.python.runtime.IndirectCallData.BoundaryCallData;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
@@ -587,6 +593,85 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "load_cached_bytecode", minNumOfPositionalArgs = 2, parameterNames = {"source_path", "source"}, doc = "Returns the code object for the given module source from the persistent bytecode cache or None.")
+    @ArgumentClinic(name = "source_path", conversion = ArgumentClinic.ClinicConversion.TString)
+    @ArgumentClinic(name = "source", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
+    @GenerateNodeFactory
+    abstract static class LoadCachedBytecodeNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization(limit = "2")
+        static Object doit(VirtualFrame frame, TruffleString sourcePath, Object source,
+                        @Bind PythonContext context,
+                        @CachedLibrary("source") PythonBufferAccessLibrary bufferLib,
+                        @Cached("createFor($node)") BoundaryCallData boundaryCallData) {
+            Object savedState = BoundaryCallContext.enter(frame, boundaryCallData);
+            try {
+                Object code = BytecodeCache.load(context, sourcePath, bufferLib.getInternalOrCopiedByteArray(source), bufferLib.getBufferLength(source));
+                return code != null ? code : PNone.NONE;
+            } finally {
+                BoundaryCallContext.exit(frame, boundaryCallData, savedState);
+                bufferLib.release(source);
+            }
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return GraalPythonModuleBuiltinsClinicProviders.LoadCachedBytecodeNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    @Builtin(name = "compile_import", minNumOfPositionalArgs = 2, parameterNames = {"source_path", "source"}, doc = "Compiles the given module source, reusing the code compiled ahead of the import in the background. " +
+                    "Returns None if that is disabled or if the source cannot be compiled.")
+    @ArgumentClinic(name = "source_path", conversion = ArgumentClinic.ClinicConversion.TString)
+    @ArgumentClinic(name = "source", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
+    @GenerateNodeFactory
+    abstract static class CompileImportNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization(limit = "2")
+        static Object doit(VirtualFrame frame, TruffleString sourcePath, Object source,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("source") PythonBufferAccessLibrary bufferLib,
+                        @Cached("createFor($node)") BoundaryCallData boundaryCallData) {
+            Object savedState = BoundaryCallContext.enter(frame, boundaryCallData);
+            try {
+                Object code = ImportPrecompiler.compile(context, inliningTarget, sourcePath, bufferLib.getInternalOrCopiedByteArray(source), bufferLib.getBufferLength(source));
+                return code != null ? code : PNone.NONE;
+            } finally {
+                BoundaryCallContext.exit(frame, boundaryCallData, savedState);
+                bufferLib.release(source);
+            }
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return GraalPythonModuleBuiltinsClinicProviders.CompileImportNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    @Builtin(name = "cache_bytecode", minNumOfPositionalArgs = 2, parameterNames = {"source", "code"}, doc = "Stores the code object compiled from the given module source in the persistent bytecode cache.")
+    @ArgumentClinic(name = "source", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
+    @GenerateNodeFactory
+    abstract static class CacheBytecodeNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization(limit = "2")
+        static Object doit(VirtualFrame frame, Object source, PCode code,
+                        @Bind PythonContext context,
+                        @CachedLibrary("source") PythonBufferAccessLibrary bufferLib,
+                        @Cached("createFor($node)") BoundaryCallData boundaryCallData) {
+            Object savedState = BoundaryCallContext.enter(frame, boundaryCallData);
+            try {
+                BytecodeCache.store(context, bufferLib.getInternalOrCopiedByteArray(source), bufferLib.getBufferLength(source), code);
+                return PNone.NONE;
+            } finally {
+                BoundaryCallContext.exit(frame, boundaryCallData, savedState);
+                bufferLib.release(source);
+            }
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return GraalPythonModuleBuiltinsClinicProviders.CacheBytecodeNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
     @Builtin(name = "read_file", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     public abstract static class ReadFileNode extends PythonUnaryBuiltinNode {
@@ -1388,6 +1473,49 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "get_gil_statistics", maxNumOfPositionalArgs = 0, doc = "Returns a dict mapping thread ids to the GIL acquisition, wait, hold and handoff counters of that thread.")
+    @GenerateNodeFactory
+    public abstract static class GetGilStatistics extends PythonBuiltinNode {
+
+        @Specialization
+        @TruffleBoundary
+        Object get(@Bind PythonLanguage language) {
+            LinkedHashMap<Object, Object> result = new LinkedHashMap<>();
+            for (GilStatistics.ThreadStatistics stats : getContext().getGilStatistics().snapshot()) {
+                LinkedHashMap<String, Object> entry = new LinkedHashMap<>();
+                entry.put("name", toTruffleStringUncached(stats.getThreadName()));
+                entry.put("acquisitions", stats.getAcquisitions());
+                entry.put("contended_acquisitions", stats.getContendedAcquisitions());
+                entry.put("wait_ns", stats.getWaitNanos());
+                entry.put("max_wait_ns", stats.getMaxWaitNanos());
+                entry.put("hold_ns", stats.getHoldNanos());
+                entry.put("handoffs", stats.getHandoffs());
+                result.put(stats.getThreadId(), PFactory.createDictFromMap(language, entry));
+            }
+            return PFactory.createDictFromMapGeneric(language, result);
+        }
+    }
+
+    @Builtin(name = "get_regex_cache_statistics", maxNumOfPositionalArgs = 0, doc = "Returns the size, hits, misses, evictions and total compilation time of the compiled regex cache shared by all contexts of the engine.")
+    @GenerateNodeFactory
+    public abstract static class GetRegexCacheStatistics extends PythonBuiltinNode {
+
+        @Specialization
+        static Object get(@Bind PythonLanguage language) {
+            return PFactory.createDictFromMap(language, language.getTRegexEngineCache().getStatistics());
+        }
+    }
+
+    @Builtin(name = "get_type_attribute_cache_statistics", maxNumOfPositionalArgs = 0, doc = "Returns the size, hits, misses, evictions and uncacheable lookups of the type attribute cache used by megamorphic attribute lookups in the MRO.")
+    @GenerateNodeFactory
+    public abstract static class GetTypeAttributeCacheStatistics extends PythonBuiltinNode {
+
+        @Specialization
+        Object get(@Bind PythonLanguage language) {
+            return PFactory.createDictFromMap(language, getContext().getTypeAttributeCache().getStatistics());
+        }
+    }
+
     @Builtin(name = "replicate_extensions_in_venv", minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
     public abstract static class ReplicateExtNode extends PythonBuiltinNode {
@@ -1541,17 +1669,83 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached PythonCextCapsuleBuiltins.PyCapsuleNewNode pyCapsuleNewNode) {
             PythonContext ctx = getContext(inliningTarget);
+            PyCapsule arrowArrayCapsule = createArrayCapsule(inliningTarget, ctx, arrowArrayAddr, pyCapsuleNewNode);
+            PyCapsule arrowSchemaCapsule = createSchemaCapsule(inliningTarget, ctx, arrowSchemaAddr, pyCapsuleNewNode);
+            return PFactory.createTuple(ctx.getLanguage(inliningTarget), new Object[]{arrowSchemaCapsule, arrowArrayCapsule});
+        }
+
+        static PyCapsule createArrayCapsule(Node inliningTarget, PythonContext ctx, long arrowArrayAddr, PythonCextCapsuleBuiltins.PyCapsuleNewNode pyCapsuleNewNode) {
             long arrayDestructor = ctx.arrowSupport.getArrowArrayDestructor();
             long arrayCapsuleNamePointer = ctx.stringToNativeUtf8Bytes(ArrowArray.CAPSULE_NAME, true);
-            PyCapsule arrowArrayCapsule = pyCapsuleNewNode.execute(inliningTarget, arrowArrayAddr, arrayCapsuleNamePointer, arrayDestructor);
+            return pyCapsuleNewNode.execute(inliningTarget, arrowArrayAddr, arrayCapsuleNamePointer, arrayDestructor);
+        }
 
+        static PyCapsule createSchemaCapsule(Node inliningTarget, PythonContext ctx, long arrowSchemaAddr, PythonCextCapsuleBuiltins.PyCapsuleNewNode pyCapsuleNewNode) {
             long schemaDestructor = ctx.arrowSupport.getArrowSchemaDestructor();
             long schemaCapsuleNamePointer = ctx.stringToNativeUtf8Bytes(ArrowSchema.CAPSULE_NAME, true);
-            PyCapsule arrowSchemaCapsule = pyCapsuleNewNode.execute(inliningTarget, arrowSchemaAddr, schemaCapsuleNamePointer, schemaDestructor);
+            return pyCapsuleNewNode.execute(inliningTarget, arrowSchemaAddr, schemaCapsuleNamePointer, schemaDestructor);
+        }
+    }
+
+    @Builtin(name = "export_arrow_schema", minNumOfPositionalArgs = 1, doc = "Returns an 'arrow_schema' PyCapsule describing the values of a primitive list, array.array or memoryview.")
+    @GenerateNodeFactory
+    public abstract static class ExportArrowSchema extends PythonUnaryBuiltinNode {
+
+        @Specialization
+        static PyCapsule doExport(Object object,
+                        @Bind Node inliningTarget,
+                        @Cached PythonCextCapsuleBuiltins.PyCapsuleNewNode pyCapsuleNewNode) {
+            PythonContext ctx = getContext(inliningTarget);
+            ArrowSchema schema = ArrowCDataExport.exportSchema(inliningTarget, ctx, object);
+            return CreateArrowPyCapsule.createSchemaCapsule(inliningTarget, ctx, schema.memoryAddress(), pyCapsuleNewNode);
+        }
+    }
+
+    @Builtin(name = "export_arrow_array", minNumOfPositionalArgs = 1, doc = "Exports a primitive list, array.array or memoryview as a tuple of 'arrow_schema' and 'arrow_array' PyCapsules.")
+    @GenerateNodeFactory
+    public abstract static class ExportArrowArray extends PythonUnaryBuiltinNode {
+
+        @Specialization
+        static PTuple doExport(Object object,
+                        @Bind Node inliningTarget,
+                        @Cached PythonCextCapsuleBuiltins.PyCapsuleNewNode pyCapsuleNewNode) {
+            PythonContext ctx = getContext(inliningTarget);
+            ArrowSchema schema = ArrowCDataExport.exportSchema(inliningTarget, ctx, object);
+            ArrowArray array;
+            try {
+                array = ArrowCDataExport.exportArray(inliningTarget, ctx, object);
+            } catch (PException e) {
+                ArrowCDataExport.releaseSchema(schema);
+                throw e;
+            }
+            PyCapsule arrowSchemaCapsule = CreateArrowPyCapsule.createSchemaCapsule(inliningTarget, ctx, schema.memoryAddress(), pyCapsuleNewNode);
+            PyCapsule arrowArrayCapsule = CreateArrowPyCapsule.createArrayCapsule(inliningTarget, ctx, array.memoryAddress(), pyCapsuleNewNode);
             return PFactory.createTuple(ctx.getLanguage(inliningTarget), new Object[]{arrowSchemaCapsule, arrowArrayCapsule});
         }
     }
 
+    @Builtin(name = "import_arrow_array", minNumOfPositionalArgs = 2, doc = "Creates a list from a pair of 'arrow_schema' and 'arrow_array' PyCapsules of a primitive Arrow array.")
+    @GenerateNodeFactory
+    public abstract static class ImportArrowArray extends PythonBinaryBuiltinNode {
+
+        @Specialization
+        static PList doImport(Object schemaCapsule, Object arrayCapsule,
+                        @Bind Node inliningTarget) {
+            return ArrowCDataImport.importArray(inliningTarget, getContext(inliningTarget), schemaCapsule, arrayCapsule);
+        }
+    }
+
+    @Builtin(name = "import_arrow_buffer", minNumOfPositionalArgs = 2, doc = "Creates a read-only memoryview of the data of a primitive Arrow array without nulls from a pair of 'arrow_schema' and 'arrow_array' PyCapsules without copying.")
+    @GenerateNodeFactory
+    public abstract static class ImportArrowBuffer extends PythonBinaryBuiltinNode {
+
+        @Specialization
+        static PMemoryView doImport(Object schemaCapsule, Object arrayCapsule,
+                        @Bind Node inliningTarget) {
+            return ArrowCDataImport.importBuffer(inliningTarget, getContext(inliningTarget), schemaCapsule, arrayCapsule);
+        }
+    }
+
     @Builtin(name = "load_file", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     public abstract static class LoadFile extends PythonUnaryBuiltinNode {
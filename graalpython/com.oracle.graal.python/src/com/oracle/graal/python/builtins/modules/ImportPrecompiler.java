@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.nodes.BuiltinNames.T_SYS;
+import static com.oracle.graal.python.nodes.StringLiterals.T_PATH;
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import com.oracle.graal.python.PythonFileDetector;
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.compiler.ParserCallbacksImpl;
+import com.oracle.graal.python.compiler.bytecode_dsl.BytecodeDSLCompiler;
+import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
+import com.oracle.graal.python.nodes.util.CannotCastException;
+import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.pegparser.FutureFeature;
+import com.oracle.graal.python.pegparser.InputType;
+import com.oracle.graal.python.pegparser.sst.AliasTy;
+import com.oracle.graal.python.pegparser.sst.ExceptHandlerTy;
+import com.oracle.graal.python.pegparser.sst.MatchCaseTy;
+import com.oracle.graal.python.pegparser.sst.ModTy;
+import com.oracle.graal.python.pegparser.sst.StmtTy;
+import com.oracle.graal.python.pegparser.tokenizer.SourceRange;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.exception.PythonThreadKillException;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.PythonSystemThreadTask;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.TruffleLogger;
+import com.oracle.truffle.api.TruffleSafepoint;
+import com.oracle.truffle.api.nodes.ControlFlowException;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Compiles imported modules ahead of their import statements on background threads, enabled by
+ * the {@link PythonOptions#ImportCompilationThreads} option.
+ * <p>
+ * When the import system compiles a module from source (i.e., there is no valid {@code .pyc} file
+ * for it), it does so through {@link #compile}. Besides compiling the module, this collects the
+ * names imported by {@code import} statements outside of function bodies and hands them to the
+ * worker threads. The workers resolve the names against a snapshot of {@code sys.path} (or the
+ * package directory for relative imports), and parse and compile the resolved files that have no
+ * valid {@code .pyc} file, recursively scheduling their imports in turn. When the import system
+ * later compiles one of these modules, it picks up the finished result, waits for a compilation
+ * that is in progress, or compiles the module itself if no worker has started on it yet.
+ * <p>
+ * The resolution is speculative: it does not consult {@code sys.meta_path}, path hooks or namespace
+ * packages. A result is only used if the source passed by the import system is identical to the one
+ * it was compiled from, so mispredictions only waste background work. Results that no import picks
+ * up within a while are dropped. Background compilation never runs Python code; syntax errors
+ * abandon the compilation and are reported when the module is compiled on the importing thread.
+ * Deprecation and syntax warnings are deferred to the code object as usual and so are issued by the
+ * importing thread.
+ */
+public final class ImportPrecompiler {
+    private static final TruffleLogger LOGGER = PythonLanguage.getLogger(ImportPrecompiler.class);
+
+    // upper bound on the number of finished or pending compilations not yet picked up by an import
+    private static final int MAX_TASKS = 512;
+    /*
+     * Finished compilations that are not picked up within this many imports were most likely
+     * mispredicted (platform-specific imports, ImportError fallbacks, names imported from a module
+     * that are not submodules) and are dropped, together with the code and source they retain.
+     */
+    private static final long MAX_UNCLAIMED_IMPORTS = 256;
+    private static final long EVICTION_INTERVAL = 32;
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int CLAIMED = 2;
+
+    private final PythonContext context;
+    private final String pycSuffix;
+    private final LinkedBlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+    private final ConcurrentHashMap<String, Task> tasks = new ConcurrentHashMap<>();
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+    // the number of modules compiled through the import system, used to age the finished tasks
+    private final AtomicLong imports = new AtomicLong();
+
+    // snapshot of sys.path, only accessed with the GIL held
+    private Object[] lastPathItems;
+    private TruffleFile[] lastSearchPath;
+
+    public ImportPrecompiler(PythonContext context, int threads) {
+        this.context = context;
+        this.pycSuffix = "." + PythonLanguage.GRAALPY_ABI_VERSION + (context.getOption(PythonOptions.PythonOptimizeFlag) ? ".opt-1.pyc" : ".pyc");
+        for (int i = 0; i < threads; i++) {
+            context.createSystemThread(new Worker(queue, i)).start();
+        }
+    }
+
+    /**
+     * Compiles the given module source like {@code compile(source, source_path, 'exec',
+     * dont_inherit=True)}, reusing the result of a background compilation if there is one, and
+     * schedules the background compilation of the modules it imports. Returns {@code null} if the
+     * background compilation is disabled or if the source cannot be compiled, in which case the
+     * caller should compile it the regular way to get the appropriate error.
+     */
+    @TruffleBoundary
+    public static Object compile(PythonContext context, Node location, TruffleString sourcePath, byte[] source, int sourceLength) {
+        ImportPrecompiler precompiler = context.getImportPrecompiler();
+        if (precompiler == null) {
+            return null;
+        }
+        return precompiler.compileImport(location, sourcePath, source, sourceLength);
+    }
+
+    private Object compileImport(Node location, TruffleString sourcePath, byte[] source, int sourceLength) {
+        TruffleFile file;
+        try {
+            file = context.getPublicTruffleFileRelaxed(sourcePath).getAbsoluteFile().normalize();
+        } catch (SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+        String key = file.getPath();
+        scheduled.add(key);
+        if (imports.incrementAndGet() % EVICTION_INTERVAL == 0) {
+            evictUnclaimed();
+        }
+        RootCallTarget callTarget = null;
+        Task task = tasks.remove(key);
+        if (task != null && !task.claim()) {
+            callTarget = task.await(location, sourcePath, source, sourceLength);
+        }
+        if (callTarget != null) {
+            LOGGER.fine(() -> PythonUtils.formatJString("Using code of %s compiled in the background", key));
+        } else {
+            callTarget = compileSource(sourcePath, file, source, sourceLength, getSearchPath());
+            if (callTarget == null) {
+                return null;
+            }
+        }
+        if (callTarget.getRootNode() instanceof PBytecodeDSLRootNode rootNode) {
+            rootNode.triggerDeferredDeprecationWarnings();
+        }
+        return PFactory.createCode(context.getLanguage(), callTarget, sourcePath);
+    }
+
+    /**
+     * Parses and compiles the module source and schedules the compilation of its imports. Can be
+     * called on any thread entered in the context.
+     */
+    private RootCallTarget compileSource(TruffleString sourcePath, TruffleFile file, byte[] source, int sourceLength, TruffleFile[] searchPath) {
+        for (int i = 0; i < sourceLength; i++) {
+            if (source[i] == 0) {
+                // rejected by compile()
+                return null;
+            }
+        }
+        try {
+            Charset charset = PythonFileDetector.findEncodingStrict(source, sourceLength);
+            CodecsModuleBuiltins.TruffleDecoder decoder = new CodecsModuleBuiltins.TruffleDecoder(charset, source, sourceLength, CodingErrorAction.REPORT);
+            if (!decoder.decodingStep(true)) {
+                return null;
+            }
+            Source src = PythonLanguage.newSource(context, decoder.getString(), sourcePath, true, InputType.FILE, -1, 0);
+            ParserCallbacksImpl parserCallbacks = new SpeculativeParserCallbacks(src);
+            ModTy mod = (ModTy) BytecodeDSLCompiler.createParser(src.getCharacters().toString(), parserCallbacks, InputType.FILE, false, false).parse();
+            if (mod instanceof ModTy.Module module) {
+                List<ImportedName> imports = new ArrayList<>();
+                collectImports(module.body, imports);
+                if (!imports.isEmpty()) {
+                    queue.add(new ImportScan(file, imports, searchPath));
+                }
+            }
+            return context.getLanguage().compileModule(context, mod, src, false, -1, null, parserCallbacks, EnumSet.noneOf(FutureFeature.class));
+        } catch (CompilationAbandoned | PException | PythonFileDetector.InvalidEncodingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A dotted module name imported by an {@code import} statement with the given relative level.
+     */
+    private record ImportedName(int level, String name) {
+    }
+
+    /**
+     * Collects the imported module names. For {@code from} imports, the imported names are included
+     * as potential submodules.
+     */
+    private static void collectImports(StmtTy[] body, List<ImportedName> imports) {
+        if (body == null) {
+            return;
+        }
+        for (StmtTy stmt : body) {
+            if (stmt instanceof StmtTy.Import importStmt) {
+                for (AliasTy alias : importStmt.names) {
+                    imports.add(new ImportedName(0, alias.name));
+                }
+            } else if (stmt instanceof StmtTy.ImportFrom importFrom) {
+                if (importFrom.module != null) {
+                    imports.add(new ImportedName(importFrom.level, importFrom.module));
+                }
+                for (AliasTy alias : importFrom.names) {
+                    if (!"*".equals(alias.name)) {
+                        imports.add(new ImportedName(importFrom.level, importFrom.module != null ? importFrom.module + "." + alias.name : alias.name));
+                    }
+                }
+            } else if (stmt instanceof StmtTy.If ifStmt) {
+                collectImports(ifStmt.body, imports);
+                collectImports(ifStmt.orElse, imports);
+            } else if (stmt instanceof StmtTy.Try tryStmt) {
+                collectImports(tryStmt.body, imports);
+                collectImports(tryStmt.handlers, imports);
+                collectImports(tryStmt.orElse, imports);
+                collectImports(tryStmt.finalBody, imports);
+            } else if (stmt instanceof StmtTy.TryStar tryStmt) {
+                collectImports(tryStmt.body, imports);
+                collectImports(tryStmt.handlers, imports);
+                collectImports(tryStmt.orElse, imports);
+                collectImports(tryStmt.finalBody, imports);
+            } else if (stmt instanceof StmtTy.With withStmt) {
+                collectImports(withStmt.body, imports);
+            } else if (stmt instanceof StmtTy.For forStmt) {
+                collectImports(forStmt.body, imports);
+                collectImports(forStmt.orElse, imports);
+            } else if (stmt instanceof StmtTy.While whileStmt) {
+                collectImports(whileStmt.body, imports);
+                collectImports(whileStmt.orElse, imports);
+            } else if (stmt instanceof StmtTy.Match matchStmt) {
+                for (MatchCaseTy matchCase : matchStmt.cases) {
+                    collectImports(matchCase.body, imports);
+                }
+            } else if (stmt instanceof StmtTy.ClassDef classDef) {
+                collectImports(classDef.body, imports);
+            }
+        }
+    }
+
+    private static void collectImports(ExceptHandlerTy[] handlers, List<ImportedName> imports) {
+        if (handlers != null) {
+            for (ExceptHandlerTy handler : handlers) {
+                collectImports(((ExceptHandlerTy.ExceptHandler) handler).body, imports);
+            }
+        }
+    }
+
+    private TruffleFile[] getSearchPath() {
+        Object path = context.lookupBuiltinModule(T_SYS).getAttribute(T_PATH);
+        if (!(path instanceof PList list)) {
+            return new TruffleFile[0];
+        }
+        SequenceStorage storage = list.getSequenceStorage();
+        Object[] items = new Object[storage.length()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = SequenceStorageNodes.GetItemScalarNode.executeUncached(storage, i);
+        }
+        if (lastPathItems != null && Arrays.equals(items, lastPathItems)) {
+            return lastSearchPath;
+        }
+        List<TruffleFile> searchPath = new ArrayList<>(items.length);
+        for (Object item : items) {
+            try {
+                TruffleString entry = CastToTruffleStringNode.executeUncached(item);
+                TruffleFile dir = context.getPublicTruffleFileRelaxed(entry.isEmpty() ? toTruffleStringUncached(".") : entry);
+                searchPath.add(dir.getAbsoluteFile().normalize());
+            } catch (CannotCastException | SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+                // not a directory entry we can resolve
+            }
+        }
+        lastPathItems = items;
+        lastSearchPath = searchPath.toArray(new TruffleFile[0]);
+        return lastSearchPath;
+    }
+
+    /**
+     * Schedules the modules along the dotted name relative to the given directory. Returns whether
+     * the top-level package or module was found there.
+     */
+    private boolean scheduleIn(TruffleFile directory, String[] parts, TruffleFile[] searchPath) {
+        TruffleFile current = directory;
+        for (int i = 0; i < parts.length; i++) {
+            TruffleFile pkg = current.resolve(parts[i]);
+            TruffleFile init = pkg.resolve("__init__.py");
+            if (init.isRegularFile()) {
+                schedule(init, searchPath);
+                current = pkg;
+            } else {
+                TruffleFile module = current.resolve(parts[i] + ".py");
+                if (i == parts.length - 1 && module.isRegularFile()) {
+                    schedule(module, searchPath);
+                    return true;
+                }
+                return i > 0;
+            }
+        }
+        return true;
+    }
+
+    private void schedule(TruffleFile file, TruffleFile[] searchPath) {
+        String key = file.getPath();
+        if (scheduled.contains(key) || (tasks.size() >= MAX_TASKS && !evictOldestUnclaimed()) || hasValidPyc(file) || !scheduled.add(key)) {
+            return;
+        }
+        Task task = new Task(file, toTruffleStringUncached(key), searchPath);
+        tasks.put(key, task);
+        queue.add(task);
+    }
+
+    /**
+     * Drops the finished tasks that have not been picked up by an import for a while.
+     */
+    private void evictUnclaimed() {
+        long now = imports.get();
+        for (Task task : tasks.values()) {
+            long finishedAt = task.finishedAt;
+            if (finishedAt >= 0 && now - finishedAt > MAX_UNCLAIMED_IMPORTS && tasks.remove(task.key, task)) {
+                LOGGER.fine(() -> PythonUtils.formatJString("Dropped the unclaimed compilation of %s", task.key));
+            }
+        }
+    }
+
+    /**
+     * Drops the finished task that has been waiting for an import the longest. Returns
+     * {@code false} if all tasks are still queued or running.
+     */
+    private boolean evictOldestUnclaimed() {
+        Task oldest = null;
+        for (Task task : tasks.values()) {
+            long finishedAt = task.finishedAt;
+            if (finishedAt >= 0 && (oldest == null || finishedAt < oldest.finishedAt)) {
+                oldest = task;
+            }
+        }
+        if (oldest == null || !tasks.remove(oldest.key, oldest)) {
+            return false;
+        }
+        String key = oldest.key;
+        LOGGER.fine(() -> PythonUtils.formatJString("Dropped the unclaimed compilation of %s", key));
+        return true;
+    }
+
+    /**
+     * Approximates the check done by the import system: if there is a {@code .pyc} file newer than
+     * the source, it will most likely be used instead of compiling the source.
+     */
+    private boolean hasValidPyc(TruffleFile file) {
+        String name = file.getName();
+        TruffleFile parent = file.getParent();
+        if (name == null || parent == null) {
+            return false;
+        }
+        TruffleFile pyc = parent.resolve("__pycache__").resolve(name.substring(0, name.length() - 3) + pycSuffix);
+        try {
+            return pyc.isRegularFile() && pyc.getLastModifiedTime().compareTo(file.getLastModifiedTime()) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Resolves the names imported by a module to files and schedules their compilation.
+     */
+    private final class ImportScan implements Runnable {
+        private final TruffleFile file;
+        private final List<ImportedName> imports;
+        private final TruffleFile[] searchPath;
+
+        ImportScan(TruffleFile file, List<ImportedName> imports, TruffleFile[] searchPath) {
+            this.file = file;
+            this.imports = imports;
+            this.searchPath = searchPath;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (ImportedName imported : imports) {
+                    String[] parts = imported.name().split("\\.");
+                    if (imported.level() == 0) {
+                        for (TruffleFile directory : searchPath) {
+                            if (scheduleIn(directory, parts, searchPath)) {
+                                break;
+                            }
+                        }
+                    } else {
+                        TruffleFile directory = file.getParent();
+                        for (int i = 1; i < imported.level() && directory != null; i++) {
+                            directory = directory.getParent();
+                        }
+                        if (directory != null) {
+                            scheduleIn(directory, parts, searchPath);
+                        }
+                    }
+                }
+            } catch (SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+                LOGGER.fine(() -> PythonUtils.formatJString("Failed to resolve the imports of %s: %s", file, e));
+            }
+        }
+    }
+
+    /**
+     * The background compilation of a single module. The importing thread either claims a task
+     * that was not started yet, or waits for its result.
+     */
+    private final class Task implements Runnable {
+        private final TruffleFile file;
+        private final String key;
+        private final TruffleString sourcePath;
+        private final TruffleFile[] searchPath;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        // published by counting down the latch
+        private byte[] source;
+        private RootCallTarget callTarget;
+        // the value of imports when the compilation finished, or -1 while it is queued or running
+        private volatile long finishedAt = -1;
+
+        Task(TruffleFile file, TruffleString sourcePath, TruffleFile[] searchPath) {
+            this.file = file;
+            this.key = file.getPath();
+            this.sourcePath = sourcePath;
+            this.searchPath = searchPath;
+        }
+
+        boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return;
+            }
+            try {
+                byte[] bytes = file.readAllBytes();
+                callTarget = compileSource(sourcePath, file, bytes, bytes.length, searchPath);
+                source = bytes;
+            } catch (IOException | SecurityException | UnsupportedOperationException | IllegalArgumentException e) {
+                LOGGER.fine(() -> PythonUtils.formatJString("Failed to compile %s in the background: %s", file, e));
+            } finally {
+                finishedAt = imports.get();
+                done.countDown();
+            }
+        }
+
+        RootCallTarget await(Node location, TruffleString expectedPath, byte[] expectedSource, int expectedLength) {
+            if (done.getCount() > 0) {
+                try (var gil = GilNode.uncachedRelease()) {
+                    TruffleSafepoint.setBlockedThreadInterruptible(location, CountDownLatch::await, done);
+                }
+            }
+            if (callTarget == null || !sourcePath.equalsUncached(expectedPath, TS_ENCODING) || !Arrays.equals(source, 0, source.length, expectedSource, 0, expectedLength)) {
+                return null;
+            }
+            return callTarget;
+        }
+    }
+
+    private static final class Worker extends PythonSystemThreadTask {
+        private final LinkedBlockingQueue<Runnable> queue;
+
+        Worker(LinkedBlockingQueue<Runnable> queue, int index) {
+            super("Python import compiler " + index, LOGGER);
+            this.queue = queue;
+        }
+
+        @Override
+        protected void doRun() {
+            PythonContext pythonContext = PythonContext.get(null);
+            PythonLanguage language = pythonContext.getLanguage();
+            RootNode location = language.unavailableSafepointLocation;
+            while (!pythonContext.getThreadState(language).isShuttingDown()) {
+                Runnable job = TruffleSafepoint.setBlockedThreadInterruptibleFunction(location, LinkedBlockingQueue::take, queue);
+                try {
+                    job.run();
+                } catch (PythonThreadKillException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    // a failed speculation must not take the worker down with it
+                    LOGGER.log(Level.FINE, "Background import compilation failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Abandons the compilation on syntax errors instead of raising them. They are reported by the
+     * regular compilation on the importing thread.
+     */
+    private static final class SpeculativeParserCallbacks extends ParserCallbacksImpl {
+        SpeculativeParserCallbacks(Source source) {
+            super(source, false);
+        }
+
+        @Override
+        public RuntimeException onError(ErrorType errorType, SourceRange sourceRange, String message) {
+            throw CompilationAbandoned.INSTANCE;
+        }
+    }
+
+    private static final class CompilationAbandoned extends ControlFlowException {
+        private static final long serialVersionUID = 1L;
+        private static final CompilationAbandoned INSTANCE = new CompilationAbandoned();
+    }
+}
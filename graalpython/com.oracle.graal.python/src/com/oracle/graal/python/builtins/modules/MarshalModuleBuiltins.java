@@ -51,6 +51,7 @@ import java.io.DataOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -489,6 +490,8 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         SourceReference sourceReference;
         // Offset of the buffer in parent buffer in nested deserializations
         int baseOffset;
+        // Contents of bytecodeFile as read by the importer, indexed by file offset
+        SoftReference<byte[]> fileContents;
 
         /*
          * A DSL node needs access to its Source during deserialization, but we do not wish to
@@ -638,6 +641,16 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             return output;
         }
 
+        private void skipNBytes(int sz) {
+            try {
+                if (in.skipBytes(sz) != sz) {
+                    throw new MarshalError(PythonBuiltinClassType.EOFError, ErrorMessages.BAD_MARSHAL_DATA_EOF);
+                }
+            } catch (IOException e) {
+                throw CompilerDirectives.shouldNotReachHere();
+            }
+        }
+
         private byte[] readBytes() {
             int sz = readSize();
             return readNBytes(sz, new byte[sz]);
@@ -1407,7 +1420,18 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             if (in instanceof ByteBufferDataInput bufferIn) {
                 bytecodeOffset = baseOffset + bufferIn.position();
             }
-            byte[] serialized = readNBytes(bytecodeSize, new byte[bytecodeSize]);
+            byte[] serialized;
+            if (fileContents != null && bytecodeOffset >= 0) {
+                /*
+                 * The code unit can get its bytecode from the file contents or from the file, so we
+                 * do not copy it until it is first executed. Most functions of a large application
+                 * never are.
+                 */
+                skipNBytes(bytecodeSize);
+                serialized = null;
+            } else {
+                serialized = readNBytes(bytecodeSize, new byte[bytecodeSize]);
+            }
             TruffleString name = readString(true);
             TruffleString qualname = readString(true);
             int argCount = readInt();
@@ -1429,7 +1453,7 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             int instrumentationDataIndex = readInt();
             int maxProfileCEventStackSize = readInt();
 
-            BytecodeSupplier provider = new BytecodeSupplier(serialized, bytecodeFile, sourceReference, bytecodeOffset, bytecodeSize, cacheKey);
+            BytecodeSupplier provider = new BytecodeSupplier(serialized, bytecodeFile, fileContents, sourceReference, bytecodeOffset, bytecodeSize, cacheKey);
             return new BytecodeDSLCodeUnit(name, qualname, argCount, kwOnlyArgCount, positionalOnlyArgCount, flags, names, varnames, cellvars, freevars, constants,
                             startLine, startColumn, endLine, endColumn, classcellIndex, selfIndex, yieldFromGeneratorIndex, instrumentationDataIndex, maxProfileCEventStackSize, provider);
         }
@@ -1551,15 +1575,23 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         private byte[] serialized;
         // Original file for reparsing
         private final TruffleFile bytecodeFile;
+        /*
+         * Contents of the original file shared by all its code units until they are first
+         * executed. Softly reachable, so that functions that are never called do not keep the
+         * whole file in memory; once the contents are gone, the bytecode is read from the file.
+         */
+        private SoftReference<byte[]> fileContents;
         private final SourceReference sourceReference;
         // Offset within the bytecode file, points directly at the start of serialized bytecode
         private final int bytecodeOffset;
         private final int bytecodeSize;
         private final long cacheKey;
 
-        public BytecodeSupplier(byte[] serialized, TruffleFile bytecodeFile, SourceReference sourceReference, int bytecodeOffset, int bytecodeSize, long cacheKey) {
+        public BytecodeSupplier(byte[] serialized, TruffleFile bytecodeFile, SoftReference<byte[]> fileContents, SourceReference sourceReference, int bytecodeOffset, int bytecodeSize,
+                        long cacheKey) {
             this.serialized = serialized;
             this.bytecodeFile = bytecodeFile;
+            this.fileContents = fileContents;
             this.sourceReference = sourceReference;
             this.bytecodeOffset = bytecodeOffset;
             this.bytecodeSize = bytecodeSize;
@@ -1581,15 +1613,20 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                                     Marshal marshal = new Marshal(language, buffer, bytecodeFile, bytecodeOffset);
                                     marshal.sourceReference = sourceReference;
                                     marshal.cacheKey = cacheKey;
+                                    marshal.fileContents = fileContents;
                                     return marshal.readObject();
                                 });
             } catch (IOException e) {
                 throw CompilerDirectives.shouldNotReachHere("Deserialization error.");
+            } catch (ReparseError e) {
+                throw PRaiseNode.raiseStatic(null, SystemError, ErrorMessages.FAILED_TO_REPARSE_BYTECODE_FILE);
             }
             if (bytecodeFile != null && bytecodeOffset >= 0 && cacheKey != 0 && !language.getEngineOption(PythonOptions.KeepBytecodeInMemory)) {
                 // Free the serialized bytecode, we will fetch it from the file if needed again
                 serialized = null;
             }
+            // nested code units got their own reference during the deserialization
+            fileContents = null;
             assert deserialized.count() == 1;
             return deserialized.getNode(0);
         }
@@ -1624,6 +1661,10 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             if (serialized != null) {
                 return serialized;
             }
+            byte[] contents = fileContents != null ? fileContents.get() : null;
+            if (contents != null) {
+                return Arrays.copyOfRange(contents, bytecodeOffset, bytecodeOffset + bytecodeSize);
+            }
             return getBytecodeFromFile();
         }
 
@@ -1663,6 +1704,9 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
     public static Object fromBytecodeFile(PythonLanguage language, TruffleFile bytecodeFile, TruffleFile sourceFile, byte[] bytes, int offset, int length, long cacheKey) throws IOException {
         MarshalModuleBuiltins.Marshal marshal = new MarshalModuleBuiltins.Marshal(language, bytes, length + offset, cacheKey, bytecodeFile, 0);
         marshal.sourceReference = sourceFile == null ? null : new SourceReference(sourceFile);
+        if (bytecodeFile != null && cacheKey != 0 && !language.getEngineOption(PythonOptions.KeepBytecodeInMemory)) {
+            marshal.fileContents = new SoftReference<>(bytes);
+        }
         marshal.in.skipBytes(offset);
         return marshal.readObject();
     }
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.annotations.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.Python3Core;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.builtins.objects.namespace.PSimpleNamespace;
+import com.oracle.graal.python.lib.PyUnicodeCheckNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.bytecode_dsl.BytecodeDSLCodeUnit;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.MonitoringState;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * {@code sys.monitoring} (PEP 669), see {@link MonitoringState} for how events are reported.
+ * <p>
+ * The {@code INSTRUCTION}, {@code JUMP}, {@code BRANCH}, {@code STOP_ITERATION},
+ * {@code EXCEPTION_HANDLED}, {@code PY_THROW} and {@code RERAISE} events can be set, but are not
+ * reported yet. Instruction offsets are bytecode indices of the Bytecode DSL interpreter and the
+ * {@code arg0} of {@code CALL} events is always {@code MISSING}.
+ */
+@CoreFunctions(defineModule = MonitoringModuleBuiltins.J_SYS_MONITORING)
+public final class MonitoringModuleBuiltins extends PythonBuiltins {
+
+    static final String J_SYS_MONITORING = "sys.monitoring";
+    public static final TruffleString T_SYS_MONITORING = tsLiteral(J_SYS_MONITORING);
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return MonitoringModuleBuiltinsFactory.getFactories();
+    }
+
+    @Override
+    public void initialize(Python3Core core) {
+        super.initialize(core);
+        PythonLanguage language = core.getLanguage();
+        PSimpleNamespace events = PFactory.createSimpleNamespace(language);
+        for (int event = 0; event < MonitoringState.EVENT_COUNT; event++) {
+            events.setAttribute(toTruffleStringUncached(MonitoringState.EVENT_NAMES[event]), MonitoringState.bit(event));
+        }
+        events.setAttribute(tsLiteral("NO_EVENTS"), 0);
+        addBuiltinConstant("events", events);
+        Object disable = PFactory.createPythonObject(PythonBuiltinClassType.PythonObject, PythonBuiltinClassType.PythonObject.getInstanceShape(language));
+        Object missing = PFactory.createPythonObject(PythonBuiltinClassType.PythonObject, PythonBuiltinClassType.PythonObject.getInstanceShape(language));
+        addBuiltinConstant("DISABLE", disable);
+        addBuiltinConstant("MISSING", missing);
+        addBuiltinConstant("DEBUGGER_ID", 0);
+        addBuiltinConstant("COVERAGE_ID", 1);
+        addBuiltinConstant("PROFILER_ID", 2);
+        addBuiltinConstant("OPTIMIZER_ID", 5);
+        core.getContext().getMonitoringState().setSentinels(disable, missing);
+    }
+
+    static MonitoringState getState(Node node) {
+        return PythonContext.get(node).getMonitoringState();
+    }
+
+    static void checkValidTool(Node inliningTarget, int tool) {
+        if (tool < 0 || tool >= MonitoringState.TOOL_COUNT) {
+            throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.INVALID_TOOL_D, tool);
+        }
+    }
+
+    static void checkToolInUse(Node inliningTarget, MonitoringState state, int tool) {
+        checkValidTool(inliningTarget, tool);
+        if (!state.isToolInUse(tool)) {
+            throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.TOOL_D_IS_NOT_IN_USE, tool);
+        }
+    }
+
+    /**
+     * Validates an event set and removes the {@code C_RETURN} and {@code C_RAISE} events, which are
+     * implied by {@code CALL}.
+     */
+    static int checkEventSet(Node inliningTarget, int events, int eventCount, TruffleString message) {
+        int result = events;
+        if ((result & MonitoringState.C_RETURN_EVENTS) != 0) {
+            if ((result & MonitoringState.bit(MonitoringState.CALL)) == 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.CANNOT_SET_C_RETURN_OR_C_RAISE_INDEPENDENTLY);
+            }
+            result &= ~MonitoringState.C_RETURN_EVENTS;
+        }
+        if (result < 0 || result >= (1 << eventCount)) {
+            throw PRaiseNode.raiseStatic(inliningTarget, ValueError, message, events);
+        }
+        return result;
+    }
+
+    static BytecodeDSLCodeUnit getCodeUnit(Node inliningTarget, String function, Object code) {
+        if (!(code instanceof PCode pcode)) {
+            throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.ARG_D_MUST_BE_S_NOT_P, function, 2, "code", code);
+        }
+        return pcode.getCodeUnit();
+    }
+
+    @Builtin(name = "use_tool_id", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "name"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class UseToolIdNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MonitoringModuleBuiltinsClinicProviders.UseToolIdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone useToolId(int tool, Object name,
+                        @Bind Node inliningTarget,
+                        @Cached PyUnicodeCheckNode unicodeCheckNode) {
+            checkValidTool(inliningTarget, tool);
+            if (!unicodeCheckNode.execute(inliningTarget, name)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.TOOL_NAME_MUST_BE_A_STR);
+            }
+            if (!getState(inliningTarget).useToolId(tool, name)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.TOOL_D_IS_ALREADY_IN_USE, tool);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "free_tool_id", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class FreeToolIdNode extends PythonUnaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MonitoringModuleBuiltinsClinicProviders.FreeToolIdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone freeToolId(int tool,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            getState(inliningTarget).freeToolId(tool);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_tool", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetToolNode extends PythonUnaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MonitoringModuleBuiltinsClinicProviders.GetToolNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static Object getTool(int tool,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            Object name = getState(inliningTarget).getTool(tool);
+            return name != null ? name : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_events", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetEventsNode extends PythonUnaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MonitoringModuleBuiltinsClinicProviders.GetEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static int getEvents(int tool,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            return getState(inliningTarget).getEvents(tool);
+        }
+    }
+
+    @Builtin(name = "set_events", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "event_set"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "event_set", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class SetEventsNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MonitoringModuleBuiltinsClinicProviders.SetEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone setEvents(int tool, int eventSet,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            MonitoringState state = getState(inliningTarget);
+            checkToolInUse(inliningTarget, state, tool);
+            int events = checkEventSet(inliningTarget, eventSet, MonitoringState.EVENT_COUNT, ErrorMessages.INVALID_EVENT_SET_X);
+            if (events != 0) {
+                PythonThreadState.enableMonitoring(inliningTarget, language, events);
+            }
+            state.setEvents(tool, events);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_local_events", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "code"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetLocalEventsNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MonitoringModuleBuiltinsClinicProviders.GetLocalEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static int getLocalEvents(int tool, Object code,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            BytecodeDSLCodeUnit codeUnit = getCodeUnit(inliningTarget, "get_local_events()", code);
+            return codeUnit != null ? getState(inliningTarget).getLocalEvents(tool, codeUnit) : 0;
+        }
+    }
+
+    @Builtin(name = "set_local_events", minNumOfPositionalArgs = 3, parameterNames = {"tool_id", "code", "event_set"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "event_set", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class SetLocalEventsNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MonitoringModuleBuiltinsClinicProviders.SetLocalEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone setLocalEvents(int tool, Object code, int eventSet,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            MonitoringState state = getState(inliningTarget);
+            BytecodeDSLCodeUnit codeUnit = getCodeUnit(inliningTarget, "set_local_events()", code);
+            checkToolInUse(inliningTarget, state, tool);
+            int events = checkEventSet(inliningTarget, eventSet, MonitoringState.LOCAL_EVENT_COUNT, ErrorMessages.INVALID_LOCAL_EVENT_SET_X);
+            if (codeUnit != null) {
+                if (events != 0) {
+                    PythonThreadState.enableMonitoring(inliningTarget, language, events);
+                }
+                state.setLocalEvents(tool, codeUnit, events);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "register_callback", minNumOfPositionalArgs = 3, parameterNames = {"tool_id", "event", "func"})
+    @ArgumentClinic(name = "tool_id", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "event", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class RegisterCallbackNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return MonitoringModuleBuiltinsClinicProviders.RegisterCallbackNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static Object registerCallback(int tool, int event, Object func,
+                        @Bind Node inliningTarget) {
+            checkValidTool(inliningTarget, tool);
+            if (Integer.bitCount(event) != 1) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.CALLBACK_ONLY_FOR_ONE_EVENT);
+            }
+            int eventNumber = Integer.numberOfTrailingZeros(event);
+            if (eventNumber >= MonitoringState.EVENT_COUNT) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.INVALID_EVENT_D, event);
+            }
+            Object previous = getState(inliningTarget).registerCallback(tool, eventNumber, func == PNone.NONE ? null : func);
+            return previous != null ? previous : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "restart_events")
+    @GenerateNodeFactory
+    abstract static class RestartEventsNode extends PythonBuiltinNode {
+        @Specialization
+        PNone restartEvents() {
+            getState(this).restartEvents();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_all_events")
+    @GenerateNodeFactory
+    abstract static class AllEventsNode extends PythonBuiltinNode {
+        @Specialization
+        Object allEvents(
+                        @Bind PythonLanguage language) {
+            return PFactory.createDictFromMap(language, getState(this).getAllEvents());
+        }
+    }
+}
@@ -39,6 +39,7 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.Overflow
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.RuntimeWarning;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import static com.oracle.graal.python.util.PythonUtils.tsInternedLiteral;
@@ -80,6 +81,7 @@ import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
 import com.oracle.graal.python.builtins.objects.floats.PFloat;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.mmap.PMMap;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.posix.PScandirIterator;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
@@ -111,6 +113,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
@@ -1005,6 +1008,54 @@ public final class PosixModuleBuiltins extends PythonBuiltins {
                 gil.acquire();
             }
         }
+
+        public static int readInto(int fd, byte[] dest, int offset, int length,
+                        Node inliningTarget,
+                        PosixSupportLibrary posixLib,
+                        PosixSupport posixSupport,
+                        InlinedBranchProfile errorProfile, GilNode gil) throws PosixException {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.readInto(posixSupport, fd, dest, offset, length);
+                    } catch (PosixErrnoException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            throw e;
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+
+        public static long readIntoAddress(int fd, long address, long length,
+                        Node inliningTarget,
+                        PosixSupportLibrary posixLib,
+                        PosixSupport posixSupport,
+                        InlinedBranchProfile errorProfile, GilNode gil) throws PosixException {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.readIntoAddress(posixSupport, fd, address, length);
+                    } catch (PosixErrnoException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            throw e;
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
     }
 
     @Builtin(name = "write", minNumOfPositionalArgs = 2, parameterNames = {"fd", "data"})
@@ -1029,6 +1080,17 @@ public final class PosixModuleBuiltins extends PythonBuiltins {
                         @Cached GilNode gil,
                         @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
             try {
+                PMMap mapped = PMMap.pinBackingMap(dataBuffer);
+                try {
+                    long address = bufferLib.getNativeAddress(dataBuffer);
+                    if (address != NULLPTR) {
+                        return writeFromAddress(fd, address, bufferLib.getBufferLength(dataBuffer), inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
+                    }
+                } finally {
+                    if (mapped != null) {
+                        mapped.unpin();
+                    }
+                }
                 return write(fd, bufferLib.getInternalOrCopiedByteArray(dataBuffer), bufferLib.getBufferLength(dataBuffer), inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
             } catch (PosixException e) {
                 throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
@@ -1058,6 +1120,89 @@ public final class PosixModuleBuiltins extends PythonBuiltins {
                 gil.acquire();
             }
         }
+
+        public static long writeFromAddress(int fd, long address,
+                        long dataLen, Node inliningTarget, PosixSupportLibrary posixLib, PosixSupport posixSupport,
+                        InlinedBranchProfile errorProfile, GilNode gil) throws PosixException {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.writeFromAddress(posixSupport, fd, address, dataLen);
+                    } catch (PosixErrnoException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            throw e;
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @Builtin(name = "sendfile", minNumOfPositionalArgs = 4, parameterNames = {"out_fd", "in_fd", "offset", "count"})
+    @ArgumentClinic(name = "out_fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "in_fd", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "count", conversion = ClinicConversion.LongIndex)
+    @GenerateNodeFactory
+    public abstract static class SendfileNode extends PythonQuaternaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PosixModuleBuiltinsClinicProviders.SendfileNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long doSendfile(VirtualFrame frame, int outFd, int inFd, Object offsetObj, long count,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached InlinedConditionProfile noOffsetProfile,
+                        @Cached PyLongAsLongNode asLongNode,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            PosixSupport posixSupport = context.getPosixSupport();
+            try {
+                if (noOffsetProfile.profile(inliningTarget, offsetObj == PNone.NONE)) {
+                    // send from the current position of in_fd and advance it past the sent data
+                    long pos = posixLib.lseek(posixSupport, inFd, 0, PosixConstants.SEEK_CUR.value);
+                    long n = sendfile(outFd, inFd, pos, count, inliningTarget, posixLib, posixSupport, errorProfile, gil);
+                    posixLib.lseek(posixSupport, inFd, pos + n, PosixConstants.SEEK_SET.value);
+                    return n;
+                }
+                long offset = asLongNode.execute(frame, inliningTarget, offsetObj);
+                return sendfile(outFd, inFd, offset, count, inliningTarget, posixLib, posixSupport, errorProfile, gil);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+
+        public static long sendfile(int outFd, int inFd, long offset, long count,
+                        Node inliningTarget, PosixSupportLibrary posixLib, PosixSupport posixSupport,
+                        InlinedBranchProfile errorProfile, GilNode gil) throws PosixException {
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.sendfile(posixSupport, outFd, inFd, offset, count);
+                    } catch (PosixErrnoException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.hasErrno(OSErrorEnum.EINTR)) {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } else {
+                            throw e;
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
     }
 
     @Builtin(name = "dup", minNumOfPositionalArgs = 1, parameterNames = {"fd"})
@@ -48,11 +48,14 @@ import java.util.List;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.annotations.Builtin;
+import com.oracle.graal.python.annotations.PythonOS;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.select.EpollBuiltins;
+import com.oracle.graal.python.builtins.objects.select.PPoll;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.PyObjectAsFileDescriptor;
 import com.oracle.graal.python.lib.PyObjectGetItem;
@@ -68,12 +71,14 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PosixConstants;
+import com.oracle.graal.python.runtime.PosixConstants.IntConstant;
 import com.oracle.graal.python.runtime.PosixSupport;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.ChannelNotSelectableException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.SelectResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Timeval;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.util.ArrayBuilder;
@@ -94,11 +99,6 @@ import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 @CoreFunctions(defineModule = "select")
 public final class SelectModuleBuiltins extends PythonBuiltins {
 
-    /*
-     * ATTENTION: if we ever add "poll" support, update the code in
-     * MultiprocessingModuleBuilins#SelectNode to use it if available
-     */
-
     public SelectModuleBuiltins() {
         addBuiltinConstant("error", PythonErrorType.OSError);
     }
@@ -114,6 +114,52 @@ public final class SelectModuleBuiltins extends PythonBuiltins {
         if (PosixConstants.PIPE_BUF.defined) {
             addBuiltinConstant("PIPE_BUF", PosixConstants.PIPE_BUF.getValueIfDefined());
         }
+        for (IntConstant c : PosixConstants.pollEvents) {
+            if (c.defined) {
+                addBuiltinConstant(c.name, c.getValueIfDefined());
+            }
+        }
+        if (PythonLanguage.getPythonOS() == PythonOS.PLATFORM_LINUX) {
+            addBuiltinConstant("epoll", PythonBuiltinClassType.PEpoll);
+            addBuiltinConstant("EPOLLIN", EpollBuiltins.EPOLLIN);
+            addBuiltinConstant("EPOLLPRI", EpollBuiltins.EPOLLPRI);
+            addBuiltinConstant("EPOLLOUT", EpollBuiltins.EPOLLOUT);
+            addBuiltinConstant("EPOLLERR", EpollBuiltins.EPOLLERR);
+            addBuiltinConstant("EPOLLHUP", EpollBuiltins.EPOLLHUP);
+            addBuiltinConstant("EPOLLRDNORM", EpollBuiltins.EPOLLRDNORM);
+            addBuiltinConstant("EPOLLRDBAND", EpollBuiltins.EPOLLRDBAND);
+            addBuiltinConstant("EPOLLWRNORM", EpollBuiltins.EPOLLWRNORM);
+            addBuiltinConstant("EPOLLWRBAND", EpollBuiltins.EPOLLWRBAND);
+            addBuiltinConstant("EPOLLMSG", EpollBuiltins.EPOLLMSG);
+            addBuiltinConstant("EPOLLRDHUP", EpollBuiltins.EPOLLRDHUP);
+            addBuiltinConstant("EPOLLEXCLUSIVE", EpollBuiltins.EPOLLEXCLUSIVE);
+            addBuiltinConstant("EPOLLONESHOT", EpollBuiltins.EPOLLONESHOT);
+            addBuiltinConstant("EPOLLET", EpollBuiltins.EPOLLET);
+            if (PosixConstants.O_CLOEXEC.defined) {
+                addBuiltinConstant("EPOLL_CLOEXEC", PosixConstants.O_CLOEXEC.getValueIfDefined());
+            }
+        }
+    }
+
+    @Builtin(name = "poll", doc = "Returns a polling object.\n\n" +
+                    "This object supports registering and unregistering file descriptors, and then\n" +
+                    "polling them for I/O events.")
+    @GenerateNodeFactory
+    abstract static class PollNode extends PythonBuiltinNode {
+        @Specialization
+        static PPoll poll(VirtualFrame frame,
+                        @Bind Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Bind PythonLanguage language) {
+            Object pollSet;
+            try {
+                pollSet = posixLib.pollCreate(PosixSupport.get(inliningTarget));
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+            return PFactory.createPoll(language, PythonContext.get(inliningTarget), pollSet);
+        }
     }
 
     @Builtin(name = "select", minNumOfPositionalArgs = 3, parameterNames = {"rlist", "wlist", "xlist", "timeout"})
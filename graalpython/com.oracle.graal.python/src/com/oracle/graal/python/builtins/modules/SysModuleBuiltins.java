@@ -754,6 +754,7 @@ public final class SysModuleBuiltins extends PythonBuiltins {
         postInitialize0(core);
         initStd(core);
         PythonModule sys = core.lookupBuiltinModule(T_SYS);
+        sys.setAttribute(tsLiteral("monitoring"), core.lookupBuiltinModule(MonitoringModuleBuiltins.T_SYS_MONITORING));
         core.getContext().registerCApiHook(() -> {
             sys.setAttribute(toTruffleStringUncached("_dllhandle_name"), toTruffleStringUncached(core.getContext().getCApiContext().getLibraryName()));
         });
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -41,26 +41,93 @@
 package com.oracle.graal.python.builtins.modules;
 
 import static com.oracle.graal.python.nodes.BuiltinNames.J__TRACEMALLOC;
+import static com.oracle.graal.python.nodes.BuiltinNames.T__TRACEMALLOC;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.T___SIZEOF__;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
 import com.oracle.graal.python.annotations.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.type.PythonBuiltinClass;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes.GetBasicSizeNode;
+import com.oracle.graal.python.lib.PyLongAsLongNode;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.bytecode_dsl.BytecodeDSLFrameInfo;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.exception.ExceptionUtils;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.frame.FrameInstance;
+import com.oracle.truffle.api.frame.FrameInstanceVisitor;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.utilities.CyclicAssumption;
 
+/**
+ * A sampling implementation of {@code _tracemalloc}.
+ * <p>
+ * GraalPy does not allocate Python objects through a malloc-like allocator, so instead of tracing
+ * memory blocks, we record the allocation site of every n-th {@link PythonObject} that is created
+ * while tracing (see {@link PythonOptions#TracemallocSamplingInterval}). Each sample stands for
+ * {@code n} objects of the same size as the sampled one, which is estimated without running
+ * user code when the traces are inspected. Objects that are not {@link PythonObject}s,
+ * like unboxed ints, floats or strings, are not traced. Native memory is traced exactly, but only
+ * when native memory tracing is enabled (see {@link PythonOptions#TraceNativeMemory}), because
+ * only then the C API allocator reports its allocations to us.
+ */
 @CoreFunctions(defineModule = J__TRACEMALLOC)
 public final class TracemallocModuleBuiltins extends PythonBuiltins {
 
+    private static final int MAX_NFRAME = 65535;
+    private static final int DEFAULT_DOMAIN = 0;
+
+    /*
+     * The number of contexts that are currently tracing. While it is zero, object allocation does
+     * not pay anything for tracing. This is not per context, because the allocation hook runs in
+     * code that is shared by all contexts of the engine.
+     */
+    private static int tracingContexts;
+    @CompilationFinal private static volatile boolean anyContextTracing;
+    private static final CyclicAssumption TRACING_CONTEXTS_UNCHANGED = new CyclicAssumption("tracemalloc tracing contexts unchanged");
+
+    private final TracemallocState state = new TracemallocState();
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return TracemallocModuleBuiltinsFactory.getFactories();
@@ -71,13 +138,456 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
         super.initialize(core);
     }
 
+    @Override
+    public void postInitialize(Python3Core core) {
+        super.postInitialize(core);
+        PythonModule tracemallocModule = core.lookupBuiltinModule(T__TRACEMALLOC);
+        state.samplingInterval = Math.max(1, core.getContext().getOption(PythonOptions.TracemallocSamplingInterval));
+        tracemallocModule.setModuleState(state);
+    }
+
+    /**
+     * Whether any context is tracing. In compiled code, this is a constant that is invalidated
+     * when the first context starts or the last context stops tracing.
+     */
+    public static boolean isTracingInAnyContext() {
+        if (!TRACING_CONTEXTS_UNCHANGED.getAssumption().isValid()) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+        }
+        return anyContextTracing;
+    }
+
+    private static synchronized void contextStartedTracing() {
+        if (tracingContexts++ == 0) {
+            anyContextTracing = true;
+            TRACING_CONTEXTS_UNCHANGED.invalidate();
+        }
+    }
+
+    private static synchronized void contextStoppedTracing() {
+        if (--tracingContexts == 0) {
+            anyContextTracing = false;
+            TRACING_CONTEXTS_UNCHANGED.invalidate();
+        }
+    }
+
+    /**
+     * Called for every new {@link PythonObject} while any context is tracing. Each thread counts
+     * down to its next sample on its own.
+     */
+    public static void onAllocation(PythonObject object) {
+        PythonThreadState threadState = PythonLanguage.get(null).getThreadStateLocal().get();
+        if (--threadState.tracemallocCountdown <= 0) {
+            sampleAllocation(threadState, object);
+        }
+    }
+
+    @TruffleBoundary
+    private static void sampleAllocation(PythonThreadState threadState, PythonObject object) {
+        TracemallocState state = getState(PythonContext.get(null));
+        if (state == null) {
+            threadState.tracemallocCountdown = Integer.MAX_VALUE;
+            return;
+        }
+        /*
+         * When another context is tracing, this one still counts down, so that it does not have
+         * to reset the countdowns of all its threads when it starts tracing itself.
+         */
+        int interval = state.samplingInterval;
+        threadState.tracemallocCountdown = nextCountdown(interval);
+        if (state.tracing) {
+            state.addSample(object, captureTraceback(state.tracebackLimit), interval);
+        }
+    }
+
+    /**
+     * Stops tracing when the context is finalized, so that it no longer counts as tracing.
+     */
+    public static void finalizeContext(PythonContext context) {
+        TracemallocState state = getState(context);
+        if (state != null) {
+            state.stop();
+        }
+    }
+
+    /**
+     * Draws the distance to the next sample from a geometric distribution, so that every object
+     * is sampled with the same probability and allocation patterns cannot hide behind a fixed
+     * stride.
+     */
+    private static int nextCountdown(int interval) {
+        if (interval <= 1) {
+            return 1;
+        }
+        double u = ThreadLocalRandom.current().nextDouble();
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, Math.round(-Math.log1p(-u) * interval)));
+    }
+
+    @TruffleBoundary
+    public static void trackNative(PythonContext context, int domain, long ptr, long size) {
+        TracemallocState state = getState(context);
+        if (state != null && state.tracing) {
+            state.trackNative(domain, ptr, size, captureTraceback(state.tracebackLimit));
+        }
+    }
+
+    @TruffleBoundary
+    public static void untrackNative(PythonContext context, int domain, long ptr) {
+        TracemallocState state = getState(context);
+        if (state != null) {
+            state.untrackNative(domain, ptr);
+        }
+    }
+
+    private static TracemallocState getState(PythonContext context) {
+        PythonModule module = context.lookupBuiltinModule(T__TRACEMALLOC);
+        return module != null ? module.getModuleState(TracemallocState.class) : null;
+    }
+
+    private static TracemallocState getState(Node node) {
+        return PythonContext.get(node).lookupBuiltinModule(T__TRACEMALLOC).getModuleState(TracemallocState.class);
+    }
+
+    private record TraceFrame(TruffleString filename, int lineno) {
+    }
+
+    private record Traceback(TraceFrame[] frames, int totalFrames) {
+    }
+
+    private static Traceback captureTraceback(int limit) {
+        ArrayList<TraceFrame> frames = new ArrayList<>(limit);
+        int[] totalFrames = new int[1];
+        Truffle.getRuntime().iterateFrames((FrameInstanceVisitor<Object>) frameInstance -> {
+            Frame frame = frameInstance.getFrame(FrameInstance.FrameAccess.READ_ONLY);
+            if (frame != null && frame.getFrameDescriptor().getInfo() instanceof BytecodeDSLFrameInfo info && info.includeInTraceback()) {
+                if (frames.size() < limit) {
+                    Node location = frameInstance.getCallNode();
+                    int lineno = ExceptionUtils.getLineno(frame, location != null ? location : info.getRootNode(), frameInstance);
+                    frames.add(new TraceFrame(PCode.extractFileName(info.getRootNode()), lineno > 0 ? lineno : info.getFirstLineNumber()));
+                }
+                totalFrames[0]++;
+            }
+            return null;
+        });
+        return new Traceback(frames.toArray(new TraceFrame[0]), totalFrames[0]);
+    }
+
+    private static final class Sample extends WeakReference<Object> {
+        final Traceback traceback;
+        final long weight;
+        /** The estimated size of all objects this sample stands for, -1 until computed. */
+        volatile long size = -1;
+
+        Sample(Object referent, ReferenceQueue<Object> queue, Traceback traceback, long weight) {
+            super(referent, queue);
+            this.traceback = traceback;
+            this.weight = weight;
+        }
+    }
+
+    private record NativeKey(int domain, long ptr) {
+    }
+
+    private record NativeTrace(long size, Traceback traceback) {
+    }
+
+    private record Trace(int domain, long size, Traceback traceback) {
+    }
+
+    /**
+     * The per-context tracing state. Samples of objects that died are dropped lazily.
+     */
+    static final class TracemallocState {
+        private volatile boolean tracing;
+        private volatile int samplingInterval = 1;
+        private int tracebackLimit = 1;
+        private final ReferenceQueue<Object> deadObjects = new ReferenceQueue<>();
+        private final LinkedHashSet<Sample> samples = new LinkedHashSet<>();
+        private final HashMap<NativeKey, NativeTrace> nativeTraces = new HashMap<>();
+        private long nativeMemory;
+        private long peakMemory;
+
+        synchronized void start(int nframe) {
+            tracebackLimit = nframe;
+            if (!tracing) {
+                tracing = true;
+                contextStartedTracing();
+            }
+        }
+
+        synchronized void stop() {
+            if (tracing) {
+                tracing = false;
+                contextStoppedTracing();
+            }
+            clear();
+        }
+
+        synchronized void clear() {
+            samples.clear();
+            nativeTraces.clear();
+            nativeMemory = 0;
+            peakMemory = 0;
+            while (deadObjects.poll() != null) {
+                // drop
+            }
+        }
+
+        synchronized void addSample(Object object, Traceback traceback, long weight) {
+            purgeDeadSamples();
+            samples.add(new Sample(object, deadObjects, traceback, weight));
+        }
+
+        synchronized void trackNative(int domain, long ptr, long size, Traceback traceback) {
+            NativeTrace previous = nativeTraces.put(new NativeKey(domain, ptr), new NativeTrace(size, traceback));
+            if (previous != null) {
+                nativeMemory -= previous.size;
+            }
+            nativeMemory += size;
+        }
+
+        synchronized void untrackNative(int domain, long ptr) {
+            NativeTrace previous = nativeTraces.remove(new NativeKey(domain, ptr));
+            if (previous != null) {
+                nativeMemory -= previous.size;
+            }
+        }
+
+        private void purgeDeadSamples() {
+            Object dead;
+            while ((dead = deadObjects.poll()) != null) {
+                samples.remove(dead);
+            }
+        }
+
+        private synchronized Sample[] liveSamples() {
+            purgeDeadSamples();
+            return samples.toArray(new Sample[0]);
+        }
+
+        /**
+         * Computes the sizes of the samples that do not have one yet. This may allocate and thus
+         * sample, so it must not run while holding the lock.
+         */
+        private static long computeSizes(Sample[] live) {
+            long total = 0;
+            for (Sample sample : live) {
+                long size = sample.size;
+                if (size < 0) {
+                    Object object = sample.get();
+                    if (object == null) {
+                        continue;
+                    }
+                    size = sizeOf(object) * sample.weight;
+                    sample.size = size;
+                }
+                total += size;
+            }
+            return total;
+        }
+
+        /**
+         * Estimates the size of an object without running user code. Builtin types cannot be
+         * patched, so their {@code __sizeof__} is trusted, for all other types this is the basic
+         * size of the type.
+         */
+        private static long sizeOf(Object object) {
+            Object cls = GetClassNode.executeUncached(object);
+            if (cls instanceof PythonBuiltinClassType || cls instanceof PythonBuiltinClass) {
+                try {
+                    return Math.max(0, PyLongAsLongNode.executeUncached(PyObjectCallMethodObjArgs.executeUncached(object, T___SIZEOF__)));
+                } catch (PException e) {
+                    return 0;
+                }
+            }
+            return Math.max(0, GetBasicSizeNode.executeUncached(cls));
+        }
+
+        long[] getTracedMemory() {
+            long current = computeSizes(liveSamples());
+            synchronized (this) {
+                current += nativeMemory;
+                peakMemory = Math.max(peakMemory, current);
+                return new long[]{current, peakMemory};
+            }
+        }
+
+        void resetPeak() {
+            long current = computeSizes(liveSamples());
+            synchronized (this) {
+                peakMemory = current + nativeMemory;
+            }
+        }
+
+        List<Trace> getTraces() {
+            Sample[] live = liveSamples();
+            long current = computeSizes(live);
+            ArrayList<Trace> traces = new ArrayList<>(live.length);
+            for (Sample sample : live) {
+                if (sample.size >= 0 && sample.get() != null) {
+                    traces.add(new Trace(DEFAULT_DOMAIN, sample.size, sample.traceback));
+                }
+            }
+            synchronized (this) {
+                for (var entry : nativeTraces.entrySet()) {
+                    traces.add(new Trace(entry.getKey().domain, entry.getValue().size, entry.getValue().traceback));
+                }
+                peakMemory = Math.max(peakMemory, current + nativeMemory);
+            }
+            return traces;
+        }
+
+        synchronized Traceback getObjectTraceback(Object object) {
+            for (Sample sample : samples) {
+                if (sample.get() == object) {
+                    return sample.traceback;
+                }
+            }
+            return null;
+        }
+
+        synchronized long getTracemallocMemory() {
+            // a rough estimate of the memory held by the samples and their tracebacks
+            long frames = 0;
+            for (Sample sample : samples) {
+                frames += sample.traceback.frames.length;
+            }
+            for (NativeTrace trace : nativeTraces.values()) {
+                frames += trace.traceback.frames.length;
+            }
+            return (samples.size() + nativeTraces.size()) * 64L + frames * 24L;
+        }
+    }
+
+    private static Object tracebackToTuple(PythonLanguage language, Traceback traceback) {
+        Object[] frames = new Object[traceback.frames.length];
+        for (int i = 0; i < frames.length; i++) {
+            TraceFrame frame = traceback.frames[i];
+            frames[i] = PFactory.createTuple(language, new Object[]{frame.filename, frame.lineno});
+        }
+        return PFactory.createTuple(language, frames);
+    }
+
+    @Builtin(name = "start", minNumOfPositionalArgs = 0, parameterNames = {"nframe"})
+    @ArgumentClinic(name = "nframe", conversion = ClinicConversion.Int, defaultValue = "1")
+    @GenerateNodeFactory
+    abstract static class StartNode extends PythonUnaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return TracemallocModuleBuiltinsClinicProviders.StartNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone start(int nframe,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context) {
+            if (nframe < 1 || nframe > MAX_NFRAME) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.NUMBER_OF_FRAMES_MUST_BE_IN_RANGE, MAX_NFRAME);
+            }
+            doStart(context, nframe);
+            return PNone.NONE;
+        }
+
+        @TruffleBoundary
+        private static void doStart(PythonContext context, int nframe) {
+            getState(context).start(nframe);
+        }
+    }
+
+    @Builtin(name = "stop")
+    @GenerateNodeFactory
+    abstract static class StopNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        PNone stop() {
+            getState(this).stop();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "is_tracing")
+    @GenerateNodeFactory
+    abstract static class IsTracingNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        boolean isTracing() {
+            return getState(this).tracing;
+        }
+    }
+
+    @Builtin(name = "clear_traces")
+    @GenerateNodeFactory
+    abstract static class ClearTracesNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        PNone clearTraces() {
+            getState(this).clear();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_traceback_limit")
+    @GenerateNodeFactory
+    abstract static class GetTracebackLimitNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        int getTracebackLimit() {
+            TracemallocState state = getState(this);
+            synchronized (state) {
+                return state.tracebackLimit;
+            }
+        }
+    }
+
+    @Builtin(name = "get_traced_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracedMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object getTracedMemory() {
+            TracemallocState state = getState(this);
+            if (!state.tracing) {
+                return PFactory.createTuple(PythonLanguage.get(this), new Object[]{0, 0});
+            }
+            long[] memory = state.getTracedMemory();
+            return PFactory.createTuple(PythonLanguage.get(this), new Object[]{memory[0], memory[1]});
+        }
+    }
+
+    @Builtin(name = "reset_peak")
+    @GenerateNodeFactory
+    abstract static class ResetPeakNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        PNone resetPeak() {
+            TracemallocState state = getState(this);
+            if (state.tracing) {
+                state.resetPeak();
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_tracemalloc_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracemallocMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        long getTracemallocMemory() {
+            return getState(this).getTracemallocMemory();
+        }
+    }
+
     @Builtin(name = "_get_object_traceback", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
-    abstract static class GetObjectTracebackNode extends PythonBuiltinNode {
+    abstract static class GetObjectTracebackNode extends PythonUnaryBuiltinNode {
         @Specialization
-        static Object getObjectTraceback(Object obj,
-                        @Bind Node inliningTarget) {
-            throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.NotImplementedError);
+        @TruffleBoundary
+        Object getObjectTraceback(Object obj) {
+            TracemallocState state = getState(this);
+            Traceback traceback = state.tracing ? state.getObjectTraceback(obj) : null;
+            return traceback != null ? tracebackToTuple(PythonLanguage.get(this), traceback) : PNone.NONE;
         }
     }
 
@@ -85,9 +595,20 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class GetTracesNode extends PythonBuiltinNode {
         @Specialization
-        static Object getTraces(
-                        @Bind Node inliningTarget) {
-            throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.NotImplementedError);
+        @TruffleBoundary
+        Object getTraces() {
+            PythonLanguage language = PythonLanguage.get(this);
+            TracemallocState state = getState(this);
+            if (!state.tracing) {
+                return PFactory.createList(language);
+            }
+            List<Trace> traces = state.getTraces();
+            Object[] result = new Object[traces.size()];
+            for (int i = 0; i < result.length; i++) {
+                Trace trace = traces.get(i);
+                result[i] = PFactory.createTuple(language, new Object[]{trace.domain, trace.size, tracebackToTuple(language, trace.traceback), trace.traceback.totalFrames});
+            }
+            return PFactory.createList(language, result);
         }
     }
 }
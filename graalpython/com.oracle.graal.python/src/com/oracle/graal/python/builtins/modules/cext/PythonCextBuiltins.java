@@ -104,6 +104,7 @@ import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.GraalPythonModuleBuiltins.DebugNode;
 import com.oracle.graal.python.builtins.modules.SysModuleBuiltins.GetFileSystemEncodingNode;
+import com.oracle.graal.python.builtins.modules.TracemallocModuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.cext.PythonAbstractNativeObject;
 import com.oracle.graal.python.builtins.objects.cext.PythonNativeClass;
@@ -1059,6 +1060,7 @@ public final class PythonCextBuiltins {
         // this will also be called if the allocation failed
         if (ptrVal != 0) {
             LOGGER.fine(() -> PythonUtils.formatJString("Tracking memory (domain: %d, size: %d): %s", domain, size, CApiContext.asHex(ptrVal)));
+            TracemallocModuleBuiltins.trackNative(PythonContext.get(null), domain, ptrVal, size);
         }
     }
 
@@ -1066,6 +1068,7 @@ public final class PythonCextBuiltins {
     @TruffleBoundary
     static void GraalPyPrivate_TraceMalloc_Untrack(int domain, long ptrVal) {
         LOGGER.fine(() -> PythonUtils.formatJString("Untracking memory (domain: %d): %s", domain, CApiContext.asHex(ptrVal)));
+        TracemallocModuleBuiltins.untrackNative(PythonContext.get(null), domain, ptrVal);
     }
 
     @CApiBuiltin(ret = Void, args = {Pointer}, call = Ignored)
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -56,10 +56,13 @@ public class LruCacheObject extends PythonBuiltinObject {
     WrapperType wrapper;
     int typed;
     final ObjectHashMap cache;
-    int hits;
+    long hits;
     Object func;
     int maxsize;
-    int misses;
+    long misses;
+    long evictions;
+    /* non-null if this is a bounded cache using LruCacheSegment instead of the LRU list */
+    LruCacheSegment[] segments;
     /* the kwd_mark is used delimit args and keywords in the cache keys */
     Object kwdMark;
     // Object lru_list_elem_type; PyTypeObject * /* not needed */
@@ -84,4 +87,23 @@ public class LruCacheObject extends PythonBuiltinObject {
     public boolean isBounded() {
         return wrapper == WrapperType.BOUNDED;
     }
+
+    public boolean isSegmented() {
+        return segments != null;
+    }
+
+    LruCacheSegment getSegment(long hash) {
+        return segments[LruCacheSegment.segmentIndex(hash, segments.length)];
+    }
+
+    int currentSize() {
+        if (segments == null) {
+            return cache.size();
+        }
+        int size = 0;
+        for (LruCacheSegment segment : segments) {
+            size += segment.map.size();
+        }
+        return size;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.functools;
+
+import java.util.Arrays;
+
+import com.oracle.graal.python.builtins.objects.common.ObjectHashMap;
+
+/**
+ * One segment of a concurrent {@link LruCacheObject}. Entries are kept in a ring of fixed
+ * capacity and evicted using the CLOCK algorithm: a cache hit only sets the
+ * {@link LruListElemObject#referenced} bit of the entry, and eviction sweeps the ring, clearing
+ * the bits, until it finds an entry that was not referenced since the last sweep.
+ */
+final class LruCacheSegment {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 8;
+
+    final ObjectHashMap map = new ObjectHashMap();
+    final LruListElemObject[] ring;
+    int size;
+    int hand;
+
+    LruCacheSegment(int capacity) {
+        assert capacity > 0;
+        this.ring = new LruListElemObject[capacity];
+    }
+
+    boolean isFull() {
+        return size == ring.length;
+    }
+
+    void add(LruListElemObject link) {
+        assert !isFull();
+        ring[size++] = link;
+    }
+
+    /**
+     * Selects the entry to evict. The returned link stays in the ring, the caller reuses it for the
+     * new entry.
+     */
+    LruListElemObject nextVictim() {
+        assert isFull();
+        while (true) {
+            LruListElemObject link = ring[hand];
+            hand = hand + 1 == ring.length ? 0 : hand + 1;
+            if (!link.referenced) {
+                return link;
+            }
+            link.referenced = false;
+        }
+    }
+
+    void clear() {
+        map.clear();
+        Arrays.fill(ring, null);
+        size = 0;
+        hand = 0;
+    }
+
+    static LruCacheSegment[] createSegments(int maxsize) {
+        // keep segments large enough that the eviction is still close to LRU
+        int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, maxsize / MIN_SEGMENT_CAPACITY)));
+        LruCacheSegment[] segments = new LruCacheSegment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new LruCacheSegment(maxsize / count + (i < maxsize % count ? 1 : 0));
+        }
+        return segments;
+    }
+
+    static int segmentIndex(long hash, int count) {
+        // small ints hash to themselves, so spread the hash before taking the high bits
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32) & (count - 1);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -52,6 +52,7 @@ import static com.oracle.graal.python.nodes.SpecialMethodNames.J___COPY__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.J___DEEPCOPY__;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.J___REDUCE__;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import com.oracle.graal.python.PythonLanguage;
@@ -94,7 +95,9 @@ import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.object.GetOrCreateDictNode;
 import com.oracle.graal.python.nodes.object.SetDictNode;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
@@ -175,6 +178,9 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
             obj.func = func;
             obj.misses = obj.hits = 0;
             obj.maxsize = maxsize;
+            if (wrapper == WrapperType.BOUNDED && context.getOption(PythonOptions.ConcurrentLruCache)) {
+                obj.segments = LruCacheSegment.createSegments(maxsize);
+            }
 
             obj.kwdMark = context.lookupBuiltinModule(T_FUNCTOOLS).getModuleState(Object.class);
 
@@ -192,7 +198,29 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
         static Object info(VirtualFrame frame, LruCacheObject self,
                         @Cached CallNode callNode) {
             Object maxsize = self.maxsize == -1 ? PNone.NONE : self.maxsize;
-            return callNode.execute(frame, self.cacheInfoType, self.hits, self.misses, maxsize, self.cache.size());
+            return callNode.execute(frame, self.cacheInfoType, self.hits, self.misses, maxsize, self.currentSize());
+        }
+    }
+
+    @Builtin(name = "cache_stats", minNumOfPositionalArgs = 1, doc = "Report hits, misses, evictions, the current and maximum size, and the number of segments of the cache.")
+    @GenerateNodeFactory
+    public abstract static class CacheStatsNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object stats(LruCacheObject self,
+                        @Bind PythonLanguage language) {
+            return PFactory.createDictFromMap(language, collectStats(self));
+        }
+
+        @TruffleBoundary
+        private static LinkedHashMap<String, Object> collectStats(LruCacheObject self) {
+            LinkedHashMap<String, Object> stats = new LinkedHashMap<>();
+            stats.put("hits", self.hits);
+            stats.put("misses", self.misses);
+            stats.put("evictions", self.evictions);
+            stats.put("currsize", self.currentSize());
+            stats.put("maxsize", self.maxsize == -1 ? PNone.NONE : self.maxsize);
+            stats.put("segments", self.isSegmented() ? self.segments.length : 0);
+            return stats;
         }
     }
 
@@ -210,8 +238,9 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
         @Specialization
         Object clear(LruCacheObject self) {
             LruListElemObject list = ClearNode.lruCacheUnlinkList(self);
-            self.hits = self.misses = 0;
+            self.hits = self.misses = self.evictions = 0;
             self.cache.clear();
+            ClearNode.lruCacheClearSegments(self);
             lruCacheClearList(list);
             return PNone.NONE;
         }
@@ -489,6 +518,7 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
             // lru_cache_prepend_link(self, link);
             // }
 
+            self.evictions++;
             link.hash = hash;
             link.key = key;
             link.result = result;
@@ -503,6 +533,51 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
             return result;
         }
 
+        /*
+         * The segmented variant of bounded_lru_cache_wrapper. Each segment has its own dict and
+         * evicts using the CLOCK algorithm, so a hit only sets the referenced bit of its entry
+         * rather than relinking the list shared by all callers. The same reentrancy considerations
+         * apply: the segment is not modified before the lookup, and the evicted entry is only
+         * reused after it was removed from the segment dict.
+         */
+        static Object segmentedLruCacheWrapper(VirtualFrame frame, Node inliningTarget, LruCacheObject self, Object[] args, PKeyword[] kwds,
+                        Object key,
+                        long hash,
+                        ObjectHashMap.GetNode getItem,
+                        ObjectHashMap.PutNode setItem,
+                        ObjectHashMap.RemoveNode popItem,
+                        CallNode callNode) {
+            LruCacheSegment segment = self.getSegment(hash);
+            Object cachedItem = getItem.execute(frame, inliningTarget, segment.map, key, hash);
+            if (cachedItem != null) {
+                LruListElemObject link = (LruListElemObject) cachedItem;
+                link.referenced = true;
+                self.hits++;
+                return link.result;
+            }
+            self.misses++;
+            Object result = callNode.execute(frame, self.func, args, kwds);
+            if (getItem.execute(frame, inliningTarget, segment.map, key, hash) != null) {
+                /* the same key was added to the cache during the call */
+                return result;
+            }
+            LruListElemObject link;
+            if (!segment.isFull()) {
+                link = new LruListElemObject();
+                segment.add(link);
+            } else {
+                link = segment.nextVictim();
+                popItem.execute(frame, inliningTarget, segment.map, link.key, link.hash);
+                self.evictions++;
+            }
+            link.hash = hash;
+            link.key = key;
+            link.result = result;
+            link.referenced = false;
+            setItem.put(frame, inliningTarget, segment.map, key, hash, link);
+            return result;
+        }
+
         @Specialization(guards = "!self.isUncached()")
         static Object cachedLruCacheWrapper(VirtualFrame frame, LruCacheObject self, Object[] args, PKeyword[] kwds,
                         @Bind Node inliningTarget,
@@ -514,10 +589,14 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
                         @Cached PyUnicodeCheckExactNode unicodeCheckExact,
                         @Cached PyLongCheckExactNode longCheckExact,
                         @Cached ObjectHashMap.RemoveNode popItem,
-                        @Cached InlinedConditionProfile profile) {
+                        @Cached InlinedConditionProfile profile,
+                        @Cached InlinedConditionProfile segmentedProfile) {
             Object key = lruCacheMakeKey(self.kwdMark, args, kwds, self.typed,
                             inliningTarget, getClassNode, unicodeCheckExact, longCheckExact);
             long hash = hashNode.execute(frame, inliningTarget, key);
+            if (segmentedProfile.profile(inliningTarget, self.isSegmented())) {
+                return segmentedLruCacheWrapper(frame, inliningTarget, self, args, kwds, key, hash, getItem, setItem, popItem, callNode);
+            }
             Object cached = getItem.execute(frame, inliningTarget, self.cache, key, hash);
             if (profile.profile(inliningTarget, self.isInfinite())) {
                 return infiniteLruCacheWrapper(frame, self, args, kwds, inliningTarget, key, hash, cached, setItem, callNode);
@@ -542,10 +621,19 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
             return link;
         }
 
+        static void lruCacheClearSegments(LruCacheObject self) {
+            if (self.segments != null) {
+                for (LruCacheSegment segment : self.segments) {
+                    segment.clear();
+                }
+            }
+        }
+
         @Specialization
         Object clear(LruCacheObject self) {
             LruListElemObject list = lruCacheUnlinkList(self);
             self.cache.clear();
+            lruCacheClearSegments(self);
             self.func = null;
             self.kwdMark = null;
             // self.lru_list_elem_type = null;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -45,5 +45,7 @@ final class LruListElemObject {
     LruListElemObject prev, next; /* borrowed links */
     long hash;
     Object key, result;
+    /* used only by concurrent caches, see LruCacheSegment */
+    boolean referenced;
 
 }
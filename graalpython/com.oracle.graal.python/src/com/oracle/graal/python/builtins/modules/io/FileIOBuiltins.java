@@ -70,9 +70,6 @@ import static com.oracle.graal.python.builtins.modules.io.IONodes.J__DEALLOC_WAR
 import static com.oracle.graal.python.builtins.modules.io.IONodes.J__FINALIZING;
 import static com.oracle.graal.python.builtins.modules.io.IONodes.T_CLOSE;
 import static com.oracle.graal.python.builtins.modules.io.IONodes.T_NAME;
-import static com.oracle.graal.python.builtins.objects.bytes.BytesUtils.append;
-import static com.oracle.graal.python.builtins.objects.bytes.BytesUtils.createOutputStream;
-import static com.oracle.graal.python.builtins.objects.bytes.BytesUtils.toByteArray;
 import static com.oracle.graal.python.builtins.objects.exception.OSErrorEnum.EAGAIN;
 import static com.oracle.graal.python.nodes.BuiltinNames.T_OPEN;
 import static com.oracle.graal.python.nodes.ErrorMessages.BAD_MODE;
@@ -98,10 +95,10 @@ import static com.oracle.graal.python.runtime.PosixConstants.O_TRUNC;
 import static com.oracle.graal.python.runtime.PosixConstants.O_WRONLY;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
-import java.io.ByteArrayOutputStream;
 import java.util.List;
 
 import com.oracle.graal.python.PythonLanguage;
@@ -122,8 +119,8 @@ import com.oracle.graal.python.builtins.modules.io.IONodes.IOMode;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
-import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
+import com.oracle.graal.python.builtins.objects.mmap.PMMap;
 import com.oracle.graal.python.builtins.objects.str.StringUtils.SimpleTruffleStringFormatNode;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes;
@@ -156,6 +153,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.ThreadLocalAction.Access;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
@@ -184,6 +182,7 @@ public final class FileIOBuiltins extends PythonBuiltins {
     public static final int READ_MAX = MAX_SIZE;
 
     private static final int SMALLCHUNK = BUFSIZ;
+    private static final int READALL_CHUNK = 8 * 1024 * 1024;
 
     public static final TpSlots SLOTS = FileIOBuiltinsSlotsGen.SLOTS;
 
@@ -573,15 +572,14 @@ public final class FileIOBuiltins extends PythonBuiltins {
         static Object readall(VirtualFrame frame, PFileIO self,
                         @Bind Node inliningTarget,
                         @Cached InlinedBranchProfile readErrorProfile,
-                        @Cached SequenceStorageNodes.GetInternalByteArrayNode getBytes,
                         @Bind PythonContext context,
                         @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
                         @Cached InlinedBranchProfile multipleReadsProfile,
+                        @Cached InlinedConditionProfile trimProfile,
                         @Cached GilNode gil,
                         @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
                         @Cached PRaiseNode raiseNode) {
             int bufsize = SMALLCHUNK;
-            boolean mayBeQuick = false;
             try {
                 PosixSupport posixSupport = PosixSupport.get(inliningTarget);
                 long pos = posixLib.lseek(posixSupport, self.getFD(), 0L, mapPythonSeekWhenceToPosix(SEEK_CUR));
@@ -595,52 +593,33 @@ public final class FileIOBuiltins extends PythonBuiltins {
                      */
                     bufsize = (int) (end - pos + 1); // cast guaranteed since we check against
                                                      // (MAX_SIZE: MAX_INT)
-                    mayBeQuick = true;
                 }
             } catch (PosixException e) {
                 // ignore
             }
 
+            /*
+             * The data is read straight into the array that backs the result. The individual reads
+             * are capped at READALL_CHUNK so that the native backend, which has to stage each read
+             * in native memory, does not need a second buffer the size of the whole file.
+             */
+            byte[] result = new byte[bufsize];
             int bytesRead = 0;
-            PBytes b;
-            try {
-                b = PosixModuleBuiltins.ReadNode.read(self.getFD(), bufsize, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
-                bytesRead = b.getSequenceStorage().length();
-                if (bytesRead == 0 || (mayBeQuick && bytesRead == bufsize - 1)) {
-                    return b;
-                }
-            } catch (PosixException e) {
-                if (e.hasErrno(EAGAIN)) {
-                    return PNone.NONE;
-                }
-                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
-            }
-
-            multipleReadsProfile.enter(inliningTarget);
-            byte[] buffer = getBytes.execute(inliningTarget, b.getSequenceStorage());
-            ByteArrayOutputStream result = createOutputStream();
-            append(result, buffer, bytesRead);
-
             while (true) {
-                if (bytesRead >= bufsize) {
+                if (bytesRead >= result.length) {
+                    multipleReadsProfile.enter(inliningTarget);
                     // see CPython's function 'fileio.c: new_buffersize'
-                    bufsize = bytesRead + Math.max(SMALLCHUNK, bytesRead + 256);
-                    if (bufsize <= 0) {
+                    int newSize = bytesRead + Math.max(SMALLCHUNK, bytesRead + 256);
+                    if (newSize <= 0) {
                         throw raiseNode.raise(inliningTarget, OverflowError, UNBOUNDED_READ_RETURNED_MORE_BYTES);
                     }
+                    result = PythonUtils.arrayCopyOfRange(result, 0, newSize);
                 }
 
                 int n;
                 try {
-                    b = PosixModuleBuiltins.ReadNode.read(self.getFD(), bufsize - bytesRead, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
-                    /*
-                     * PosixModuleBuiltins#ReadNode creates PBytes with exact size;
-                     */
-                    buffer = getBytes.execute(inliningTarget, b.getSequenceStorage());
-                    n = b.getSequenceStorage().length();
-                    if (n == 0) {
-                        break;
-                    }
+                    int length = Math.min(result.length - bytesRead, READALL_CHUNK);
+                    n = PosixModuleBuiltins.ReadNode.readInto(self.getFD(), result, bytesRead, length, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
                 } catch (PosixException e) {
                     if (e.hasErrno(EAGAIN)) {
                         if (bytesRead > 0) {
@@ -650,12 +629,17 @@ public final class FileIOBuiltins extends PythonBuiltins {
                     }
                     throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
                 }
-
-                append(result, buffer, n);
+                if (n == 0) {
+                    break;
+                }
                 bytesRead += n;
             }
 
-            return PFactory.createBytes(PythonLanguage.get(inliningTarget), toByteArray(result));
+            if (trimProfile.profile(inliningTarget, result.length - bytesRead > SMALLCHUNK)) {
+                // the size estimate was off or the buffer was enlarged, do not keep the slack alive
+                result = PythonUtils.arrayCopyOfRange(result, 0, bytesRead);
+            }
+            return PFactory.createBytes(PythonLanguage.get(inliningTarget), result, bytesRead);
         }
 
         @Specialization(guards = "self.isClosed()")
@@ -686,6 +670,21 @@ public final class FileIOBuiltins extends PythonBuiltins {
                     return 0;
                 }
                 try {
+                    PMMap mapped = PMMap.pinBackingMap(buffer);
+                    try {
+                        long address = bufferLib.getNativeAddress(buffer);
+                        if (address != NULLPTR) {
+                            return PosixModuleBuiltins.ReadNode.readIntoAddress(self.getFD(), address, size, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
+                        }
+                    } finally {
+                        if (mapped != null) {
+                            mapped.unpin();
+                        }
+                    }
+                    if (bufferLib.hasInternalByteArray(buffer)) {
+                        byte[] dest = bufferLib.getInternalByteArray(buffer);
+                        return PosixModuleBuiltins.ReadNode.readInto(self.getFD(), dest, 0, size, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
+                    }
                     PBytes data = PosixModuleBuiltins.ReadNode.read(self.getFD(), size, inliningTarget, posixLib, context.getPosixSupport(), readErrorProfile, gil);
                     int n = bufferLib.getBufferLength(data);
                     bufferLib.readIntoBuffer(data, 0, buffer, 0, n, bufferLib);
@@ -744,6 +743,18 @@ public final class FileIOBuiltins extends PythonBuiltins {
                     throw raiseNode.raise(inliningTarget, IOUnsupportedOperation, FILE_NOT_OPEN_FOR_S, "writing");
                 }
                 try {
+                    PMMap mapped = PMMap.pinBackingMap(buffer);
+                    try {
+                        long address = bufferLib.getNativeAddress(buffer);
+                        if (address != NULLPTR) {
+                            return PosixModuleBuiltins.WriteNode.writeFromAddress(self.getFD(), address, bufferLib.getBufferLength(buffer),
+                                            inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
+                        }
+                    } finally {
+                        if (mapped != null) {
+                            mapped.unpin();
+                        }
+                    }
                     return PosixModuleBuiltins.WriteNode.write(self.getFD(), bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer),
                                     inliningTarget, posixLib, context.getPosixSupport(), errorProfile, gil);
                 } catch (PosixException e) {
@@ -78,6 +78,10 @@ import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.runtime.formatting.FloatFormatter;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.ArrayBuilder;
 import com.oracle.graal.python.util.PythonUtils;
@@ -197,6 +201,8 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
                         @Cached InlinedBranchProfile genericListProfile,
                         @Cached InlinedBranchProfile genericDictProfile,
                         @Cached InlinedBranchProfile errorProfile,
+                        @Cached InlinedConditionProfile stringKeyProfile,
+                        @Cached InlinedBranchProfile primitiveListProfile,
                         @Cached GetClassNode getClassNode,
                         @Cached IsSubtypeNode isSubtypeNode,
                         @Cached PyTupleCheckNode pyTupleCheckNode,
@@ -213,8 +219,15 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
                         @Cached HashingStorageIteratorKey hashingStorageIteratorKey,
                         @Cached HashingStorageIteratorValue hashingStorageIteratorValue,
                         @Cached AppendSimpleObjectNode appendSimpleObjectNode,
+                        @Cached TruffleString.ByteIndexOfCodePointSetNode byteIndexOfCodePointSetNode1,
+                        @Cached TruffleString.ByteIndexOfCodePointSetNode byteIndexOfCodePointSetNode2,
+                        @Cached TruffleString.CodePointAtIndexUTF32Node codePointAtNode,
+                        @Cached TruffleString.FromByteArrayNode fromByteArrayNode,
                         @Cached TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
+                        @Cached TruffleStringBuilder.AppendIntNumberNode appendIntNumberNode,
+                        @Cached TruffleStringBuilder.AppendLongNumberNode appendLongNumberNode,
                         @Cached TruffleStringBuilder.AppendStringNode appendStringNode,
+                        @Cached TruffleStringBuilder.AppendSubstringByteIndexNode appendSubstringNode,
                         @Cached TruffleStringBuilder.ToStringNode toStringNode) {
             TruffleStringBuilderUTF32 builder = PythonUtils.createStringBuilder();
             ArrayBuilder<StackEntry> stack = new ArrayBuilder<>(8);
@@ -243,7 +256,23 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
                 }
                 if (state == STATE_BUILTIN_DICT || state == STATE_GENERIC_DICT) {
                     boolean isString = isString(key);
-                    if (isString || isSimpleObj(key, inliningTarget, getClassNode, isSubtypeNode)) {
+                    if (stringKeyProfile.profile(inliningTarget, key instanceof TruffleString && fastEncode != PJSONEncoder.FastEncode.None)) {
+                        // plain str keys are escaped directly, without the generic value dispatch
+                        if (!first) {
+                            appendStringNode.execute(builder, self.itemSeparator);
+                        }
+                        if (prettyPrint) {
+                            appendNewlineIndent(builder, self.indent, initialIndentLevel + stack.size(), appendStringNode);
+                        }
+                        JSONUtils.appendString((TruffleString) key, builder, fastEncode == PJSONEncoder.FastEncode.FastEncodeAscii,
+                                        byteIndexOfCodePointSetNode1,
+                                        byteIndexOfCodePointSetNode2,
+                                        codePointAtNode,
+                                        appendCodePointNode,
+                                        appendStringNode,
+                                        appendSubstringNode,
+                                        fromByteArrayNode);
+                    } else if (isString || isSimpleObj(key, inliningTarget, getClassNode, isSubtypeNode)) {
                         if (!first) {
                             appendStringNode.execute(builder, self.itemSeparator);
                         }
@@ -273,6 +302,9 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
                     if (appendSimpleObjectNode.execute(frame, self, fastEncode, builder, value)) {
                         first = false;
                         // done
+                    } else if (appendPrimitiveSequence(inliningTarget, self, builder, value, initialIndentLevel + stack.size(), primitiveListProfile, errorProfile,
+                                    pyListCheckExactNode, pyTupleCheckExactNode, getTupleStorage, appendCodePointNode, appendIntNumberNode, appendLongNumberNode, appendStringNode)) {
+                        first = false;
                     } else {
                         // startRecursion(self, value);
                         if (checkCircles) {
@@ -441,6 +473,59 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
             return PFactory.createTuple(language, new Object[]{toStringNode.execute(builder)});
         }
 
+        /**
+         * Encodes an exact list or tuple backed by a primitive storage in one loop over the
+         * underlying array. Such a sequence cannot contain containers, so it needs neither a stack
+         * entry nor a circular reference check.
+         */
+        private static boolean appendPrimitiveSequence(Node inliningTarget, PJSONEncoder self, TruffleStringBuilderUTF32 builder, Object value, int level,
+                        InlinedBranchProfile primitiveListProfile,
+                        InlinedBranchProfile errorProfile,
+                        PyListCheckExactNode pyListCheckExactNode,
+                        PyTupleCheckExactNode pyTupleCheckExactNode,
+                        TupleNodes.GetTupleStorage getTupleStorage,
+                        TruffleStringBuilder.AppendCodePointNode appendCodePointNode,
+                        TruffleStringBuilder.AppendIntNumberNode appendIntNumberNode,
+                        TruffleStringBuilder.AppendLongNumberNode appendLongNumberNode,
+                        TruffleStringBuilder.AppendStringNode appendStringNode) {
+            final SequenceStorage storage;
+            if (value instanceof PList list && pyListCheckExactNode.execute(inliningTarget, list)) {
+                storage = list.getSequenceStorage();
+            } else if (pyTupleCheckExactNode.execute(inliningTarget, value)) {
+                storage = getTupleStorage.execute(inliningTarget, value);
+            } else {
+                return false;
+            }
+            if (!(storage instanceof IntSequenceStorage || storage instanceof LongSequenceStorage || storage instanceof DoubleSequenceStorage || storage instanceof BoolSequenceStorage)) {
+                return false;
+            }
+            primitiveListProfile.enter(inliningTarget);
+            int length = storage.length();
+            appendCodePointNode.execute(builder, '[');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    appendStringNode.execute(builder, self.itemSeparator);
+                }
+                if (self.indent != null) {
+                    appendNewlineIndent(builder, self.indent, level + 1, appendStringNode);
+                }
+                if (storage instanceof IntSequenceStorage intStorage) {
+                    appendIntNumberNode.execute(builder, intStorage.getIntItemNormalized(i));
+                } else if (storage instanceof LongSequenceStorage longStorage) {
+                    appendLongNumberNode.execute(builder, longStorage.getLongItemNormalized(i));
+                } else if (storage instanceof DoubleSequenceStorage doubleStorage) {
+                    appendStringNode.execute(builder, AppendSimpleObjectNode.floatToString(inliningTarget, self, doubleStorage.getDoubleItemNormalized(i), errorProfile));
+                } else {
+                    appendStringNode.execute(builder, ((BoolSequenceStorage) storage).getBoolItemNormalized(i) ? T_TRUE : T_FALSE);
+                }
+            }
+            if (self.indent != null && length > 0) {
+                appendNewlineIndent(builder, self.indent, level, appendStringNode);
+            }
+            appendCodePointNode.execute(builder, ']');
+            return true;
+        }
+
         private static void appendNewlineIndent(TruffleStringBuilderUTF32 builder, TruffleString indent, int level, TruffleStringBuilder.AppendStringNode appendStringNode) {
             appendStringNode.execute(builder, T_NEWLINE);
             for (int i = 0; i < level; i++) {
@@ -23,6 +23,7 @@ import com.oracle.graal.python.annotations.ArgumentClinic;
 import com.oracle.graal.python.annotations.Slot;
 import com.oracle.graal.python.annotations.Slot.SlotKind;
 import com.oracle.graal.python.annotations.Slot.SlotSignature;
+import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
@@ -31,6 +32,7 @@ import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItem;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.exception.GetEscapedExceptionNode;
 import com.oracle.graal.python.builtins.objects.floats.FloatUtils;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.list.PList;
@@ -702,7 +704,15 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
 
         @TruffleBoundary
         private static TruffleString memoPutIfAbsent(HashMap<TruffleString, TruffleString> memo, TruffleString newKey) {
-            return memo.putIfAbsent(newKey, newKey);
+            TruffleString key = memo.get(newKey);
+            if (key == null) {
+                if (memo.size() >= PJSONScanner.MEMO_LIMIT) {
+                    // documents with unbounded key sets (e.g. ids used as keys) must not pin them
+                    memo.clear();
+                }
+                memo.put(newKey, newKey);
+            }
+            return key;
         }
 
         private static final TruffleString[] DOUBLE_CONSTANTS = {
@@ -827,6 +837,53 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "scan_all", minNumOfPositionalArgs = 2, parameterNames = {"$self", "string", "idx"}, //
+                    doc = "scan_all(string, idx=0) -> (values, end, error)\n" +
+                                    "\n" +
+                                    "Scan consecutive whitespace-separated JSON values in string, starting at idx.\n" +
+                                    "Returns the list of decoded values, the index after the last decoded value\n" +
+                                    "and its trailing whitespace, and the exception raised by the value starting\n" +
+                                    "at end, or None if the whole string was consumed.")
+    @ArgumentClinic(name = "string", conversion = ArgumentClinic.ClinicConversion.TString)
+    @ArgumentClinic(name = "idx", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "0", useDefaultForNone = true)
+    @GenerateNodeFactory
+    public abstract static class ScanAllNode extends PythonTernaryClinicBuiltinNode {
+
+        @Child private CallScannerNode scanOnceNode = JSONScannerBuiltinsFactory.CallScannerNodeFactory.create();
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return JSONScannerBuiltinsClinicProviders.ScanAllNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        PTuple scanAll(VirtualFrame frame, PJSONScanner self, TruffleString string, int idx,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GetEscapedExceptionNode getEscapedExceptionNode,
+                        @Cached TruffleString.CodePointAtIndexUTF32Node codePointAtIndexNode) {
+            int length = byteIndexToCodepointIndex(string.byteLength(TS_ENCODING));
+            ObjectSequenceStorage values = new ObjectSequenceStorage(4);
+            int end = CallScannerNode.skipWhitespace(string, Math.max(idx, 0), length, codePointAtIndexNode);
+            Object error = PNone.NONE;
+            while (end < length) {
+                PTuple result;
+                try {
+                    result = (PTuple) scanOnceNode.execute(frame, self, string, end);
+                } catch (PException e) {
+                    errorProfile.enter(inliningTarget);
+                    error = getEscapedExceptionNode.execute(inliningTarget, e);
+                    break;
+                }
+                ObjectSequenceStorage pair = (ObjectSequenceStorage) result.getSequenceStorage();
+                values.appendItem(pair.getObjectItemNormalized(0));
+                end = CallScannerNode.skipWhitespace(string, (int) pair.getObjectItemNormalized(1), length, codePointAtIndexNode);
+            }
+            return PFactory.createTuple(language, new Object[]{PFactory.createList(language, values), end, error});
+        }
+    }
+
     private static final TruffleString.CodePointSet CODE_POINT_SET_STRICT = TruffleString.CodePointSet.fromRanges(new int[]{
                     0, 0x1f,
                     '"', '"',
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -49,6 +49,13 @@ import com.oracle.truffle.api.strings.TruffleString;
 
 public final class PJSONScanner extends PythonBuiltinObject {
 
+    /**
+     * Upper bound on the number of interned object keys. The memo lives as long as the scanner, so
+     * documents decoded by the same {@code JSONDecoder} (e.g. the lines of an NDJSON stream) share
+     * one key table and repeated keys are the same string object.
+     */
+    static final int MEMO_LIMIT = 1 << 14;
+
     final HashMap<TruffleString, TruffleString> memo;
     final boolean strict;
     final Object objectHook;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,23 +40,228 @@
  */
 package com.oracle.graal.python.builtins.modules.lsprof;
 
+import java.util.LinkedHashMap;
+
+import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
+import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.lib.PyFloatAsDoubleNode;
+import com.oracle.graal.python.lib.PyLongAsLongNode;
+import com.oracle.graal.python.nodes.WriteUnraisableNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.runtime.PythonContext.ProfileEvent;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.instrumentation.SourceSectionFilter;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.tools.profiler.CPUSampler;
 
+/**
+ * The {@code _lsprof.Profiler}. By default, it is installed as the profile function of the thread
+ * that enables it, and the profiling instrumentation of the bytecode interpreter reports the
+ * function and builtin calls to {@link #profile} directly, without calling into Python or
+ * materializing frames. The bookkeeping follows CPython's {@code _lsprof.c}, so call counts are
+ * exact and recursive calls are only counted once in the total time.
+ * <p>
+ * When created with {@code sampling=True}, the profiler wraps a {@link CPUSampler} instead. This
+ * is cheaper, but the counts and times are approximations derived from the samples.
+ */
 public class Profiler extends PythonBuiltinObject {
     boolean subcalls;
     boolean builtins;
     double timeunit;
     Object externalTimer;
     double time;
-    final CPUSampler sampler;
+    CPUSampler sampler;
+
+    /**
+     * Keyed by the root node of Python code, the {@link PBuiltinMethod} of module functions or the
+     * {@link PBuiltinFunction} of other builtins.
+     */
+    final LinkedHashMap<Object, ProfilerEntry> entries = new LinkedHashMap<>();
+    private ProfilerContext currentContext;
+
+    static class ProfilerSubEntry {
+        long callCount;
+        long recursiveCallCount;
+        long totalTime;
+        long inlineTime;
+        int recursionLevel;
+    }
+
+    static final class ProfilerEntry extends ProfilerSubEntry {
+        final Object key;
+        LinkedHashMap<ProfilerEntry, ProfilerSubEntry> calls;
+
+        ProfilerEntry(Object key) {
+            this.key = key;
+        }
+    }
+
+    private static final class ProfilerContext {
+        final ProfilerEntry entry;
+        final ProfilerContext previous;
+        long t0;
+        long subt;
 
-    public Profiler(Object cls, Shape instanceShape, CPUSampler sampler) {
+        ProfilerContext(ProfilerEntry entry, ProfilerContext previous) {
+            this.entry = entry;
+            this.previous = previous;
+        }
+    }
+
+    public Profiler(Object cls, Shape instanceShape) {
         super(cls, instanceShape);
+    }
+
+    void setSampler(CPUSampler sampler) {
         this.sampler = sampler;
         this.sampler.setFilter(SourceSectionFilter.newBuilder().includeInternal(true).build());
         this.sampler.setPeriod(1);
     }
+
+    /**
+     * Multiplier that converts the times collected by {@link #timer} to seconds.
+     */
+    double getTimeFactor() {
+        if (externalTimer != null && timeunit > 0.0) {
+            return timeunit;
+        }
+        return 1e-9;
+    }
+
+    private long timer(PythonThreadState threadState) {
+        if (externalTimer == null) {
+            return System.nanoTime();
+        }
+        threadState.profilingStart();
+        try {
+            Object result = CallNode.executeUncached(externalTimer);
+            if (timeunit > 0.0) {
+                // an integer that is scaled by the time unit in getstats()
+                return PyLongAsLongNode.executeUncached(result);
+            }
+            // seconds
+            return (long) (PyFloatAsDoubleNode.executeUncached(result) * 1e9);
+        } catch (PException e) {
+            WriteUnraisableNode.getUncached().execute(e.getEscapedException(), null, externalTimer);
+            return 0;
+        } finally {
+            threadState.profilingStop();
+        }
+    }
+
+    /**
+     * Called by the profiling instrumentation instead of a Python profile function. The code is
+     * the root node of the Python function that caused the event; for the {@code C_*} events, the
+     * argument is the builtin function or method.
+     */
+    @TruffleBoundary
+    public void profile(PythonThreadState threadState, Object code, ProfileEvent event, Object arg) {
+        switch (event) {
+            case CALL -> enter(threadState, code);
+            case RETURN -> exit(threadState, code);
+            case C_CALL -> {
+                if (builtins) {
+                    enter(threadState, getBuiltinKey(arg));
+                }
+            }
+            case C_RETURN, C_EXCEPTION -> {
+                if (builtins) {
+                    exit(threadState, getBuiltinKey(arg));
+                }
+            }
+        }
+    }
+
+    private static Object getBuiltinKey(Object builtin) {
+        // module functions are always bound to the same module, other methods to their receiver
+        if (builtin instanceof PBuiltinMethod method && !(method.getSelf() instanceof PythonModule)) {
+            return method.getBuiltinFunction();
+        }
+        return builtin;
+    }
+
+    private void enter(PythonThreadState threadState, Object key) {
+        ProfilerEntry entry = entries.get(key);
+        if (entry == null) {
+            entry = new ProfilerEntry(key);
+            entries.put(key, entry);
+        }
+        ProfilerContext context = new ProfilerContext(entry, currentContext);
+        currentContext = context;
+        entry.recursionLevel++;
+        if (subcalls && context.previous != null) {
+            ProfilerEntry caller = context.previous.entry;
+            if (caller.calls == null) {
+                caller.calls = new LinkedHashMap<>();
+            }
+            ProfilerSubEntry subEntry = caller.calls.get(entry);
+            if (subEntry == null) {
+                subEntry = new ProfilerSubEntry();
+                caller.calls.put(entry, subEntry);
+            }
+            subEntry.recursionLevel++;
+        }
+        context.t0 = timer(threadState);
+    }
+
+    private void exit(PythonThreadState threadState, Object key) {
+        ProfilerContext context = currentContext;
+        if (context == null) {
+            return;
+        }
+        ProfilerEntry entry = entries.get(key);
+        if (entry != null) {
+            stop(threadState, context, entry);
+        } else {
+            currentContext = context.previous;
+        }
+    }
+
+    private void stop(PythonThreadState threadState, ProfilerContext context, ProfilerEntry entry) {
+        long tt = timer(threadState) - context.t0;
+        long it = tt - context.subt;
+        if (context.previous != null) {
+            context.previous.subt += tt;
+        }
+        currentContext = context.previous;
+        record(entry, tt, it);
+        if (subcalls && context.previous != null) {
+            ProfilerEntry caller = context.previous.entry;
+            ProfilerSubEntry subEntry = caller.calls != null ? caller.calls.get(entry) : null;
+            if (subEntry != null) {
+                record(subEntry, tt, it);
+            }
+        }
+    }
+
+    private static void record(ProfilerSubEntry entry, long tt, long it) {
+        if (--entry.recursionLevel == 0) {
+            entry.totalTime += tt;
+        } else {
+            entry.recursiveCallCount++;
+        }
+        entry.inlineTime += it;
+        entry.callCount++;
+    }
+
+    /**
+     * Stops the calls that are still running, as if they returned now.
+     */
+    @TruffleBoundary
+    void flushUnmatched(PythonThreadState threadState) {
+        while (currentContext != null) {
+            ProfilerContext context = currentContext;
+            stop(threadState, context, context.entry);
+        }
+    }
+
+    @TruffleBoundary
+    void clearEntries() {
+        entries.clear();
+        currentContext = null;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,11 +40,13 @@
  */
 package com.oracle.graal.python.builtins.modules.lsprof;
 
+import static com.oracle.graal.python.nodes.SpecialAttributeNames.T___NAME__;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -57,24 +59,37 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.lsprof.Profiler.ProfilerEntry;
+import com.oracle.graal.python.builtins.modules.lsprof.Profiler.ProfilerSubEntry;
 import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyFloatAsDoubleNode;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.InstrumentInfo;
 import com.oracle.truffle.api.TruffleLanguage;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.tools.profiler.CPUSampler;
 import com.oracle.truffle.tools.profiler.CPUSamplerData;
@@ -96,45 +111,46 @@ public class ProfilerBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class LsprofNew extends PythonBuiltinNode {
         @Specialization
-        @TruffleBoundary
-        Profiler doit(Object cls, @SuppressWarnings("unused") Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs) {
-            if (Python3Core.HAS_PROFILER_TOOL) {
-                // Avoid ClassNotFoundException
-                PythonContext context = getContext();
-                TruffleLanguage.Env env = context.getEnv();
-                Map<String, InstrumentInfo> instruments = env.getInstruments();
-                InstrumentInfo instrumentInfo = instruments.get(CPUSamplerInstrument.ID);
-                if (instrumentInfo != null) {
-                    CPUSampler sampler = env.lookup(instrumentInfo, CPUSampler.class);
-                    if (sampler != null) {
-                        return PFactory.createProfiler(cls, TypeNodes.GetInstanceShape.executeUncached(cls), sampler);
-                    }
+        static Profiler doit(Object cls, @SuppressWarnings("unused") Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs,
+                        @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+            return PFactory.createProfiler(cls, getInstanceShape.execute(cls));
+        }
+    }
+
+    @TruffleBoundary
+    private static CPUSampler lookupSampler(Node location) {
+        if (Python3Core.HAS_PROFILER_TOOL) {
+            // Avoid ClassNotFoundException
+            PythonContext context = PythonContext.get(location);
+            TruffleLanguage.Env env = context.getEnv();
+            Map<String, InstrumentInfo> instruments = env.getInstruments();
+            InstrumentInfo instrumentInfo = instruments.get(CPUSamplerInstrument.ID);
+            if (instrumentInfo != null) {
+                CPUSampler sampler = env.lookup(instrumentInfo, CPUSampler.class);
+                if (sampler != null) {
+                    return sampler;
                 }
             }
-            throw PRaiseNode.raiseStatic(this, PythonBuiltinClassType.NotImplementedError, ErrorMessages.COVERAGE_TRACKER_NOT_AVAILABLE);
         }
+        throw PRaiseNode.raiseStatic(location, PythonBuiltinClassType.NotImplementedError, ErrorMessages.COVERAGE_TRACKER_NOT_AVAILABLE);
     }
 
     @Slot(value = SlotKind.tp_init, isComplex = true)
-    @SlotSignature(name = "Profiler", minNumOfPositionalArgs = 1, parameterNames = {"$self", "timer", "timeunit", "subcalls", "builtins"})
+    @SlotSignature(name = "Profiler", minNumOfPositionalArgs = 1, parameterNames = {"$self", "timer", "timeunit", "subcalls", "builtins", "sampling"})
     @GenerateNodeFactory
     abstract static class Init extends PythonBuiltinNode {
         @Specialization
-        PNone doit(Profiler self, Object timer, double timeunit, long subcalls, long builtins) {
-            self.subcalls = subcalls > 0;
-            self.builtins = builtins > 0;
-            self.timeunit = timeunit;
-            self.externalTimer = timer;
-            return PNone.NONE;
-        }
-
-        @Specialization
-        @SuppressWarnings("unused")
-        PNone doit(Profiler self, Object timer, PNone timeunit, PNone subcalls, PNone builtins) {
-            self.subcalls = true;
-            self.builtins = true;
-            self.timeunit = -1;
-            self.externalTimer = timer;
+        static PNone doit(VirtualFrame frame, Profiler self, Object timer, Object timeunit, Object subcalls, Object builtins, Object sampling,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached PyFloatAsDoubleNode asDoubleNode) {
+            self.externalTimer = timer instanceof PNone ? null : timer;
+            self.timeunit = timeunit instanceof PNone ? 0.0 : asDoubleNode.execute(frame, inliningTarget, timeunit);
+            self.subcalls = subcalls instanceof PNone || isTrueNode.execute(frame, subcalls);
+            self.builtins = builtins instanceof PNone || isTrueNode.execute(frame, builtins);
+            if (!(sampling instanceof PNone) && isTrueNode.execute(frame, sampling)) {
+                self.setSampler(lookupSampler(inliningTarget));
+            }
             return PNone.NONE;
         }
     }
@@ -143,29 +159,28 @@ public class ProfilerBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class Enable extends PythonBuiltinNode {
         @Specialization
-        @TruffleBoundary
-        PNone doit(Profiler self, long subcalls, long builtins) {
-            self.subcalls = subcalls > 0;
-            self.builtins = builtins > 0;
-            // TODO: deal with any arguments
-            self.time = System.currentTimeMillis();
-            self.sampler.setCollecting(true);
+        static PNone doit(VirtualFrame frame, Profiler self, Object subcalls, Object builtins,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            if (!(subcalls instanceof PNone)) {
+                self.subcalls = isTrueNode.execute(frame, subcalls);
+            }
+            if (!(builtins instanceof PNone)) {
+                self.builtins = isTrueNode.execute(frame, builtins);
+            }
+            if (self.sampler != null) {
+                startSampling(self);
+            } else {
+                PythonContext.get(inliningTarget).getThreadState(language).setProfileFun(inliningTarget, self, language);
+            }
             return PNone.NONE;
         }
 
-        @Specialization
-        PNone doit(Profiler self, long subcalls, @SuppressWarnings("unused") PNone builtins) {
-            return doit(self, subcalls, self.builtins ? 1 : 0);
-        }
-
-        @Specialization
-        PNone doit(Profiler self, @SuppressWarnings("unused") PNone subcalls, long builtins) {
-            return doit(self, self.subcalls ? 1 : 0, builtins);
-        }
-
-        @Specialization
-        PNone doit(Profiler self, @SuppressWarnings("unused") PNone subcalls, @SuppressWarnings("unused") PNone builtins) {
-            return doit(self, self.subcalls ? 1 : 0, self.builtins ? 1 : 0);
+        @TruffleBoundary
+        private static void startSampling(Profiler self) {
+            self.time = System.currentTimeMillis();
+            self.sampler.setCollecting(true);
         }
     }
 
@@ -173,11 +188,25 @@ public class ProfilerBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class Disable extends PythonBuiltinNode {
         @Specialization
+        static PNone doit(Profiler self,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            if (self.sampler != null) {
+                stopSampling(self);
+            } else {
+                PythonThreadState threadState = PythonContext.get(inliningTarget).getThreadState(language);
+                self.flushUnmatched(threadState);
+                if (threadState.getProfileFun() == self) {
+                    threadState.setProfileFun(inliningTarget, null, language);
+                }
+            }
+            return PNone.NONE;
+        }
+
         @TruffleBoundary
-        PNone doit(Profiler self) {
+        private static void stopSampling(Profiler self) {
             self.sampler.setCollecting(false);
             self.time = (System.currentTimeMillis() - self.time) / 1000D;
-            return PNone.NONE;
         }
     }
 
@@ -187,7 +216,11 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         PNone doit(Profiler self) {
-            self.sampler.clearData();
+            if (self.sampler != null) {
+                self.sampler.clearData();
+            } else {
+                self.clearEntries();
+            }
             return PNone.NONE;
         }
     }
@@ -219,6 +252,9 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         static PList doit(Profiler self) {
+            if (self.sampler == null) {
+                return getInstrumentedStats(self);
+            }
             double avgSampleSeconds = self.sampler.getPeriod() / 1000D;
             List<PTuple> entries = new ArrayList<>();
             for (CPUSamplerData data : self.sampler.getDataList()) {
@@ -234,6 +270,63 @@ public class ProfilerBuiltins extends PythonBuiltins {
             return PFactory.createList(PythonLanguage.get(null), entries.toArray());
         }
 
+        private static PList getInstrumentedStats(Profiler self) {
+            PythonLanguage language = PythonLanguage.get(null);
+            double factor = self.getTimeFactor();
+            Map<ProfilerEntry, Object> codes = new HashMap<>();
+            List<PTuple> entries = new ArrayList<>();
+            for (ProfilerEntry entry : self.entries.values()) {
+                if (entry.callCount == 0) {
+                    continue;
+                }
+                Object calls = PNone.NONE;
+                if (entry.calls != null) {
+                    List<PTuple> subEntries = new ArrayList<>();
+                    for (Map.Entry<ProfilerEntry, ProfilerSubEntry> call : entry.calls.entrySet()) {
+                        ProfilerSubEntry subEntry = call.getValue();
+                        if (subEntry.callCount != 0) {
+                            Object[] values = getStatsValues(getCode(language, codes, call.getKey()), subEntry, factor);
+                            subEntries.add(PFactory.createStructSeq(language, LsprofModuleBuiltins.PROFILER_SUBENTRY_DESC, values));
+                        }
+                    }
+                    calls = PFactory.createList(language, subEntries.toArray());
+                }
+                Object[] values = Arrays.copyOf(getStatsValues(getCode(language, codes, entry), entry, factor), 6);
+                values[5] = calls;
+                entries.add(PFactory.createStructSeq(language, LsprofModuleBuiltins.PROFILER_ENTRY_DESC, values));
+            }
+            return PFactory.createList(language, entries.toArray());
+        }
+
+        private static Object[] getStatsValues(Object code, ProfilerSubEntry entry, double factor) {
+            return new Object[]{code, entry.callCount, entry.recursiveCallCount, entry.totalTime * factor, entry.inlineTime * factor};
+        }
+
+        /**
+         * Python code is reported as a code object and builtins as a string, like CPython does.
+         */
+        private static Object getCode(PythonLanguage language, Map<ProfilerEntry, Object> codes, ProfilerEntry entry) {
+            Object code = codes.get(entry);
+            if (code == null) {
+                if (entry.key instanceof RootNode rootNode) {
+                    code = PFactory.createCode(language, rootNode.getCallTarget());
+                } else if (entry.key instanceof PBuiltinFunction function) {
+                    Object enclosingType = function.getEnclosingType();
+                    if (enclosingType != null) {
+                        code = toTruffleStringUncached("<method '" + function.getName() + "' of '" + TypeNodes.GetNameNode.executeUncached(enclosingType) + "' objects>");
+                    } else {
+                        code = toTruffleStringUncached("<built-in method " + function.getName() + ">");
+                    }
+                } else if (entry.key instanceof PBuiltinMethod method && method.getSelf() instanceof PythonModule module) {
+                    code = toTruffleStringUncached("<built-in method " + module.getAttribute(T___NAME__) + "." + method.getBuiltinFunction().getName() + ">");
+                } else {
+                    code = toTruffleStringUncached("<" + entry.key + ">");
+                }
+                codes.put(entry, code);
+            }
+            return code;
+        }
+
         private static void countNode(List<PTuple> entries, ProfilerNode<CPUSampler.Payload> node, double avgSampleTime) {
             PythonLanguage language = PythonLanguage.get(null);
             Collection<ProfilerNode<CPUSampler.Payload>> children = node.getChildren();
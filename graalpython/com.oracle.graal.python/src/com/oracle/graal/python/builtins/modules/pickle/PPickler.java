@@ -1343,8 +1343,10 @@ public class PPickler extends PythonBuiltinObject {
                     // save_reduce() will memoize the object automatically.
                     saveReduce(frame, ctx, pickler, reduceValue, obj);
                 } else {
-                    byte[] bytes = getBufferLibrary().getCopiedByteArray(buffer);
-                    saveBytesData(frame, pickler, obj, bytes, bytes.length);
+                    // the data is either copied into the output buffer or the object itself is
+                    // passed on to the file, so there is no need to copy the internal array
+                    PythonBufferAccessLibrary bufferLib = getBufferLibrary();
+                    saveBytesData(frame, pickler, obj, bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer));
                 }
             } finally {
                 getBufferLibrary().release(buffer, frame, interopCallData);
@@ -1778,7 +1780,8 @@ public class PPickler extends PythonBuiltinObject {
                     // save_reduce() will memoize the object automatically.
                     saveReduce(frame, ctx, pickler, reduceValue, obj);
                 } else {
-                    saveBytearrayData(frame, pickler, obj, getBufferLibrary().getCopiedByteArray(buffer), length(frame, obj));
+                    PythonBufferAccessLibrary bufferLib = getBufferLibrary();
+                    saveBytearrayData(frame, pickler, obj, bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer));
                 }
             } finally {
                 getBufferLibrary().release(buffer, frame, interopCallData);
@@ -1792,8 +1795,6 @@ public class PPickler extends PythonBuiltinObject {
 
             Object buffer = obj.getView();
             PythonBufferAccessLibrary bufferLib = getBufferLibrary();
-            int bytesLen = bufferLib.getBufferLength(buffer);
-            byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
             boolean inBand = true;
 
             if (pickler.bufferCallback != null) {
@@ -1804,13 +1805,16 @@ public class PPickler extends PythonBuiltinObject {
             boolean readOnly = bufferLib.isReadonly(buffer);
             if (inBand) {
                 // Write data in-band
+                int bytesLen = bufferLib.getBufferLength(buffer);
+                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
                 if (readOnly) {
                     saveBytesData(frame, pickler, obj, bytes, bytesLen);
                 } else {
                     saveBytearrayData(frame, pickler, obj, bytes, bytesLen);
                 }
             } else {
-                // Write data out-of-band
+                // Write data out-of-band. The callback got the pickle buffer, which references the
+                // original storage, so the data is never touched here.
                 write(pickler, PickleUtils.OPCODE_NEXT_BUFFER);
                 if (readOnly) {
                     write(pickler, PickleUtils.OPCODE_READONLY_BUFFER);
@@ -51,6 +51,7 @@ import java.util.Objects;
 
 import org.graalvm.collections.EconomicMap;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.nodes.ErrorMessages;
@@ -58,6 +59,7 @@ import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Idempotent;
@@ -300,14 +302,21 @@ public final class TRegexCache {
     public Object compile(Node node, PythonContext context, PythonMethod method, boolean mustAdvance, TruffleString locale) {
         String encoding = isBinary() ? ENCODING_LATIN_1 : ENCODING_UTF_32;
         String options = getTRegexOptions(encoding, method, mustAdvance, locale);
-        InteropLibrary lib = InteropLibrary.getUncached();
-        Object compiledRegex;
-        try {
-            Source regexSource = Source.newBuilder("regex", options + '/' + pattern + '/' + flags, "re").mimeType("application/tregex").internal(true).build();
-            compiledRegex = callCallTarget(context.getEnv().parseInternal(regexSource), node);
-            assert !lib.isNull(compiledRegex) : "This shouldn't happen";
-        } catch (RuntimeException e) {
-            throw handleCompilationError(node, e, lib);
+        String source = options + '/' + pattern + '/' + flags;
+        PythonLanguage language = context.getLanguage();
+        TRegexEngineCache engineCache = language.getTRegexEngineCache();
+        Object compiledRegex = engineCache.get(source);
+        if (compiledRegex == null) {
+            InteropLibrary lib = InteropLibrary.getUncached();
+            long start = System.nanoTime();
+            try {
+                Source regexSource = Source.newBuilder("regex", source, "re").mimeType("application/tregex").internal(true).build();
+                compiledRegex = callCallTarget(context.getEnv().parseInternal(regexSource), node);
+                assert !lib.isNull(compiledRegex) : "This shouldn't happen";
+            } catch (RuntimeException e) {
+                throw handleCompilationError(node, e, lib);
+            }
+            compiledRegex = engineCache.put(source, compiledRegex, System.nanoTime() - start, language.getEngineOption(PythonOptions.RegexCacheSize));
         }
         if (isLocaleSensitive()) {
             setLocaleSensitiveRegexp(method, mustAdvance, locale, compiledRegex);
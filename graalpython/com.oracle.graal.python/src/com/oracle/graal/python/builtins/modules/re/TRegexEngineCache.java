@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.re;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A bounded cache of compiled TRegex objects that is shared by all contexts of an engine. Compiled
+ * regexes do not depend on the context, so contexts running the same code can reuse each other's
+ * regexes instead of compiling them again. The entries are keyed by the TRegex source, which
+ * contains the pattern, the flags, the encoding, the match method, the {@code MustAdvance} option
+ * and the locale.
+ */
+public final class TRegexEngineCache {
+
+    private final LinkedHashMap<String, Object> regexps = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long compileNanos;
+
+    @TruffleBoundary
+    synchronized Object get(String source) {
+        Object regexp = regexps.get(source);
+        if (regexp != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return regexp;
+    }
+
+    /**
+     * Adds a regex that was compiled after a miss and returns the regex to use. If another context
+     * compiled the same regex in the meantime, that one is kept and returned.
+     */
+    @TruffleBoundary
+    synchronized Object put(String source, Object regexp, long nanos, int capacity) {
+        compileNanos += nanos;
+        if (capacity <= 0) {
+            return regexp;
+        }
+        Object existing = regexps.putIfAbsent(source, regexp);
+        if (existing != null) {
+            return existing;
+        }
+        Iterator<Map.Entry<String, Object>> it = regexps.entrySet().iterator();
+        while (regexps.size() > capacity && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+        return regexp;
+    }
+
+    @TruffleBoundary
+    public synchronized void clear() {
+        regexps.clear();
+    }
+
+    @TruffleBoundary
+    public synchronized LinkedHashMap<String, Object> getStatistics() {
+        LinkedHashMap<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", regexps.size());
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("evictions", evictions);
+        stats.put("compile_ns", compileNanos);
+        return stats;
+    }
+}
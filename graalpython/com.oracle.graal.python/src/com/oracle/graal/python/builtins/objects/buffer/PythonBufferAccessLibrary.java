@@ -47,6 +47,7 @@ import java.nio.ByteOrder;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
 import com.oracle.graal.python.runtime.ExecutionContext.InteropCallContext;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -651,6 +652,22 @@ public abstract class PythonBufferAccessLibrary extends Library {
         return NULLPTR;
     }
 
+    /**
+     * Return the address of the first byte of the buffer if it is already backed by native memory,
+     * or {@code NULLPTR} otherwise. Unlike {@link #getNativePointer}, this never converts the buffer
+     * to native and it accounts for the offset of memoryview slices.
+     */
+    public final long getNativeAddress(Object receiver) {
+        if (!isNative(receiver)) {
+            return NULLPTR;
+        }
+        long ptr = getNativePointer(receiver);
+        if (ptr != NULLPTR && receiver instanceof PMemoryView memoryView) {
+            ptr += memoryView.getOffset();
+        }
+        return ptr;
+    }
+
     static final LibraryFactory<PythonBufferAccessLibrary> FACTORY = LibraryFactory.resolve(PythonBufferAccessLibrary.class);
 
     public static LibraryFactory<PythonBufferAccessLibrary> getFactory() {
@@ -831,7 +831,14 @@ public abstract class SequenceStorageNodes {
         @Specialization
         protected static SequenceStorage doForeign(ForeignSequenceStorage storage, int start, @SuppressWarnings("unused") int stop, int step, int length,
                         @Bind Node inliningTarget,
+                        @Cached InlinedConditionProfile hostArrayProfile,
                         @Cached ForeignSequenceStorage.ReadNode readNode) {
+            if (step == 1) {
+                SequenceStorage copy = storage.copyHostArray(inliningTarget, start, length);
+                if (hostArrayProfile.profile(inliningTarget, copy != null)) {
+                    return copy;
+                }
+            }
             Object[] newArray = new Object[length];
             for (int i = start, j = 0; j < length; i += step, j++) {
                 newArray[j] = readNode.execute(inliningTarget, storage, i);
@@ -3339,7 +3346,12 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         static SequenceStorage doForeign(Node inliningTarget, ForeignSequenceStorage s,
+                        @Cached InlinedConditionProfile hostArrayProfile,
                         @Cached ForeignSequenceStorage.ReadNode readNode) {
+            SequenceStorage copy = s.copyHostArray(inliningTarget, 0, s.length());
+            if (hostArrayProfile.profile(inliningTarget, copy != null)) {
+                return copy;
+            }
             Object[] objects = new Object[s.length()];
             for (int i = 0; i < objects.length; i++) {
                 objects[i] = readNode.execute(inliningTarget, s, i);
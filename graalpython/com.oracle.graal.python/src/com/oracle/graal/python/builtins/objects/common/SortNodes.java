@@ -40,26 +40,16 @@
  */
 package com.oracle.graal.python.builtins.objects.common;
 
-import static com.oracle.graal.python.util.PythonUtils.tsArray;
-
 import java.util.Arrays;
 import java.util.Comparator;
 
-import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.PNone;
-import com.oracle.graal.python.builtins.objects.function.PArguments;
-import com.oracle.graal.python.builtins.objects.function.Signature;
 import com.oracle.graal.python.builtins.objects.str.StringUtils;
-import com.oracle.graal.python.lib.PyObjectRichCompareBool.CachedPyObjectRichCompareBool;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.lib.PyObjectRichCompareBool;
 import com.oracle.graal.python.lib.RichCmpOp;
 import com.oracle.graal.python.nodes.PNodeWithContext;
-import com.oracle.graal.python.nodes.PRootNode;
 import com.oracle.graal.python.nodes.call.CallNode;
-import com.oracle.graal.python.runtime.ExecutionContext;
-import com.oracle.graal.python.runtime.ExecutionContext.CallContext;
-import com.oracle.graal.python.runtime.ExecutionContext.IndirectCalleeContext;
-import com.oracle.graal.python.runtime.PythonContext;
-import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
 import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
@@ -67,19 +57,16 @@ import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
-import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
-import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
-import com.oracle.truffle.api.RootCallTarget;
-import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Exclusive;
 import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
-import com.oracle.truffle.api.nodes.EncapsulatingNodeReference;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.LoopNode;
 import com.oracle.truffle.api.nodes.Node;
@@ -90,89 +77,84 @@ import com.oracle.truffle.api.profiles.ValueProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 public abstract class SortNodes {
-    private static class SortingPair {
-        final Object key;
-        final Object value;
-
-        public SortingPair(Object key, Object value) {
-            this.key = key;
-            this.value = value;
-        }
-    }
 
-    private static class ObjectComparatorRootNode extends PRootNode {
-        private static final Signature SIGNATURE = new Signature(-1, false, -1, tsArray("a", "b"), PythonUtils.EMPTY_TRUFFLESTRING_ARRAY);
+    /**
+     * The {@code <} comparison used for sorting. Common builtin key types and builtin tuples of
+     * them are compared without going through the generic rich comparison, so that the comparison
+     * is partially evaluated into the {@link TimSort} loops.
+     */
+    @GenerateInline(false)
+    public abstract static class SortLessThanNode extends PNodeWithContext {
 
-        @Child private ExecutionContext.CalleeContext calleeContext = ExecutionContext.CalleeContext.create();
-        @Child private CachedPyObjectRichCompareBool ltNodeA = CachedPyObjectRichCompareBool.create();
-        @Child private CachedPyObjectRichCompareBool ltNodeB = CachedPyObjectRichCompareBool.create();
+        public abstract boolean execute(VirtualFrame frame, Object a, Object b);
 
-        enum Result {
-            LT(-1),
-            EQ(0),
-            GT(1);
-
-            final int value;
-
-            Result(int i) {
-                value = i;
-            }
-
-        }
-
-        ObjectComparatorRootNode(TruffleLanguage<?> language) {
-            super(language);
+        @Specialization
+        static boolean doInt(int a, int b) {
+            return a < b;
         }
 
-        @Override
-        public Object execute(VirtualFrame frame) {
-            calleeContext.enter(frame, this);
-            try {
-                Object[] arguments = frame.getArguments();
-                Object a = arguments[PArguments.USER_ARGUMENTS_OFFSET];
-                Object b = arguments[PArguments.USER_ARGUMENTS_OFFSET + 1];
-                if (ltNodeA.execute(frame, a, b, RichCmpOp.Py_LT)) {
-                    return Result.LT;
-                } else if (ltNodeB.execute(frame, b, a, RichCmpOp.Py_LT)) {
-                    return Result.GT;
-                } else {
-                    return Result.EQ;
-                }
-            } finally {
-                calleeContext.exit(frame, this);
-            }
+        @Specialization
+        static boolean doLong(long a, long b) {
+            return a < b;
         }
 
-        @Override
-        public Signature getSignature() {
-            return SIGNATURE;
+        @Specialization
+        static boolean doDouble(double a, double b) {
+            return a < b;
         }
 
-        @Override
-        public boolean isPythonInternal() {
-            return true;
+        @Specialization
+        static boolean doString(TruffleString a, TruffleString b,
+                        @Cached TruffleString.CompareIntsUTF32Node compareNode) {
+            return StringUtils.compareStrings(a, b, compareNode) < 0;
         }
 
-        @Override
-        public boolean isInternal() {
-            return true;
+        @Specialization(guards = {"isBuiltinTuple(a)", "isBuiltinTuple(b)"})
+        static boolean doTuple(VirtualFrame frame, PTuple a, PTuple b,
+                        @Bind Node inliningTarget,
+                        @Cached SequenceStorageNodes.GetItemScalarNode getItemNode,
+                        @Cached SortLessThanNode itemLessThanNode,
+                        @Exclusive @Cached PyObjectRichCompareBool richCompareNode) {
+            SequenceStorage storageA = a.getSequenceStorage();
+            SequenceStorage storageB = b.getSequenceStorage();
+            int lenA = storageA.length();
+            int lenB = storageB.length();
+            int len = Math.min(lenA, lenB);
+            for (int i = 0; i < len; i++) {
+                Object itemA = getItemNode.execute(inliningTarget, storageA, i);
+                Object itemB = getItemNode.execute(inliningTarget, storageB, i);
+                if (!isTotallyOrdered(itemA) || !isTotallyOrdered(itemB)) {
+                    /*
+                     * Tuple comparison looks for the first items that are not equal using ==,
+                     * which only agrees with comparing using < in both directions if the items
+                     * are totally ordered.
+                     */
+                    return richCompareNode.execute(frame, inliningTarget, a, b, RichCmpOp.Py_LT);
+                }
+                if (itemLessThanNode.execute(frame, itemA, itemB)) {
+                    return true;
+                }
+                if (itemLessThanNode.execute(frame, itemB, itemA)) {
+                    return false;
+                }
+            }
+            return lenA < lenB;
         }
 
-        @Override
-        public String getName() {
-            return "sort_comparator";
+        @Fallback
+        static boolean doGeneric(VirtualFrame frame, Object a, Object b,
+                        @Bind Node inliningTarget,
+                        @Exclusive @Cached PyObjectRichCompareBool richCompareNode) {
+            return richCompareNode.execute(frame, inliningTarget, a, b, RichCmpOp.Py_LT);
         }
 
-        @Override
-        public boolean setsUpCalleeContext() {
-            return true;
+        private static boolean isTotallyOrdered(Object item) {
+            return item instanceof Integer || item instanceof Long || item instanceof Boolean || item instanceof TruffleString || item instanceof Double d && !Double.isNaN(d);
         }
     }
 
     public abstract static class SortSequenceStorageNode extends PNodeWithContext {
 
-        @CompilationFinal private RootCallTarget comparatorCallTarget;
-
         private final ValueProfile keyClassProfile = ValueProfile.createIdentityProfile();
 
         public abstract void execute(VirtualFrame frame, SequenceStorage storage, Object keyfunc, boolean reverse);
@@ -269,30 +251,30 @@ public abstract class SortNodes {
                         @Cached InlinedConditionProfile isStringOnlyProfile,
                         @Cached InlinedLoopConditionProfile isStringOnlyLoopProfile,
                         @Cached InlinedCountingConditionProfile isStringOnlyBreakProfile,
-                        @Shared @Cached CallContext callContext) {
+                        @Shared @Cached SortLessThanNode lessThanNode) {
             if (isStringOnlyProfile.profile(inliningTarget, isStringOnly(inliningTarget, storage, isStringOnlyLoopProfile, isStringOnlyBreakProfile))) {
                 // Sorting of strings seems to be so much faster (especially on SVM) that it is
                 // worth always checking for string only sequences and not replacing the strings
                 // specialized code with generic object storage code
                 sortStrings(storage, reverse);
             } else {
-                sortWithoutKey(frame, storage.getInternalObjectArray(), storage.length(), reverse, callContext);
+                sortWithoutKey(frame, storage.getInternalObjectArray(), storage.length(), reverse, lessThanNode);
             }
         }
 
         @Specialization(guards = "!isPNone(keyfunc)")
         void sort(VirtualFrame frame, ObjectSequenceStorage storage, Object keyfunc, boolean reverse,
                         @Shared @Cached CallNode callNode,
-                        @Shared @Cached CallContext callContext) {
-            sortWithKey(frame, storage.getInternalObjectArray(), storage.length(), keyfunc, reverse, callNode, callContext);
+                        @Shared @Cached SortLessThanNode lessThanNode) {
+            sortWithKey(frame, storage.getInternalObjectArray(), storage.length(), keyfunc, reverse, callNode, lessThanNode);
         }
 
         @Fallback
         @SuppressWarnings("truffle-static-method")
         void sort(VirtualFrame frame, SequenceStorage storage, Object keyfunc, boolean reverse,
                         @Bind Node inliningTarget,
-                        @Shared @Cached CallContext callContext,
                         @Shared @Cached CallNode callNode,
+                        @Shared @Cached SortLessThanNode lessThanNode,
                         @Cached SequenceStorageNodes.GetItemScalarNode getItemScalarNode,
                         @Cached SequenceStorageNodes.SetItemScalarNode setItemScalarNode) {
             int len = storage.length();
@@ -301,80 +283,68 @@ public abstract class SortNodes {
                 array[i] = getItemScalarNode.execute(inliningTarget, storage, i);
             }
             if (keyfunc instanceof PNone) {
-                sortWithoutKey(frame, array, len, reverse, callContext);
+                sortWithoutKey(frame, array, len, reverse, lessThanNode);
             } else {
-                sortWithKey(frame, array, len, keyfunc, reverse, callNode, callContext);
+                sortWithKey(frame, array, len, keyfunc, reverse, callNode, lessThanNode);
             }
             for (int i = 0; i < len; i++) {
                 setItemScalarNode.execute(inliningTarget, storage, i, array[i]);
             }
         }
 
-        private void sortWithoutKey(VirtualFrame frame, Object[] array, int len, boolean reverse, CallContext callContext) {
+        private static void sortWithoutKey(VirtualFrame frame, Object[] array, int len, boolean reverse, SortLessThanNode lessThanNode) {
             if (len <= 1) {
                 return;
             }
+            // reversing before and after the sort keeps equal elements in their original order
             if (reverse) {
                 reverseArray(array, len);
             }
-            PythonLanguage language = PythonLanguage.get(this);
-            final Object[] arguments = PArguments.create(2);
-            final RootCallTarget callTarget = getComparatorCallTarget(language);
-            if (frame == null) {
-                PythonThreadState threadState = PythonContext.get(this).getThreadState(language);
-                Object state = IndirectCalleeContext.enter(threadState, arguments);
-                try {
-                    callSortWithoutKey(array, len, callTarget, arguments);
-                } finally {
-                    IndirectCalleeContext.exit(threadState, state);
-                }
-            } else {
-                callContext.prepareCall(frame, arguments, callTarget);
-                EncapsulatingNodeReference nodeRef = EncapsulatingNodeReference.getCurrent();
-                Node prev = nodeRef.set(this);
-                try {
-                    callSortWithoutKey(array, len, callTarget, arguments);
-                } finally {
-                    nodeRef.set(prev);
-                }
-            }
+            TimSort.sort(frame, lessThanNode, array, null, len);
             if (reverse) {
                 reverseArray(array, len);
             }
         }
 
-        @TruffleBoundary
-        private static void callSortWithoutKey(Object[] array, int len, RootCallTarget callTarget, Object[] arguments) {
-            try {
-                Arrays.sort(array, 0, len, (a, b) -> {
-                    PArguments.setArgument(arguments, 0, a);
-                    PArguments.setArgument(arguments, 1, b);
-                    ObjectComparatorRootNode.Result result = (ObjectComparatorRootNode.Result) callTarget.call(arguments);
-                    return result.value;
-                });
-            } catch (IllegalArgumentException e) {
-                /*
-                 * This happens when the __lt__ implementation violates its contract. CPython
-                 * doesn't detect it and just outputs a list that's not really sorted. We can just
-                 * stop at this point, it should enough that the list stays a permutation of the
-                 * original
-                 */
-            }
-        }
-
+        /**
+         * Homogeneous keys of these types do not need the generic comparison. The numeric ones are
+         * decorated into a {@code long[]} with the same order as the keys, so that they can be
+         * sorted without boxing or dispatching any comparisons.
+         */
         private enum KeySortComparator {
-            INT(Integer.class, Comparator.comparing(a -> ((Integer) a.key))),
-            LONG(Long.class, Comparator.comparing(a -> ((Long) a.key))),
-            DOUBLE(Double.class, Comparator.comparing(a -> ((Double) a.key))),
-            BOOLEAN(Boolean.class, Comparator.comparing(a -> ((Boolean) a.key))),
-            STRING(TruffleString.class, (a, b) -> StringUtils.compareStringsUncached((TruffleString) a.key, (TruffleString) b.key));
+            INT(Integer.class),
+            LONG(Long.class),
+            DOUBLE(Double.class),
+            BOOLEAN(Boolean.class),
+            STRING(TruffleString.class);
 
             final Class<?> clazz;
-            final Comparator<SortingPair> comparator;
 
-            KeySortComparator(Class<?> clazz, Comparator<SortingPair> comparator) {
+            KeySortComparator(Class<?> clazz) {
                 this.clazz = clazz;
-                this.comparator = comparator;
+            }
+
+            boolean canDecorate() {
+                return this != STRING;
+            }
+
+            long decorate(Object key) {
+                switch (this) {
+                    case INT:
+                        return (Integer) key;
+                    case LONG:
+                        return (Long) key;
+                    case BOOLEAN:
+                        return (Boolean) key ? 1 : 0;
+                    case DOUBLE:
+                        // -0.0 and 0.0 are equal keys, NaNs are unordered in Python anyway
+                        double value = (Double) key;
+                        long bits = Double.doubleToLongBits(value == 0.0 ? 0.0 : value);
+                        // flip the magnitude of negative numbers to get the order of signed longs
+                        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+                    default:
+                        throw CompilerDirectives.shouldNotReachHere();
+                }
             }
 
             @ExplodeLoop
@@ -388,7 +358,7 @@ public abstract class SortNodes {
             }
         }
 
-        private void sortWithKey(VirtualFrame frame, Object[] array, int len, Object keyfunc, boolean reverse, CallNode callNode, CallContext callContext) {
+        private void sortWithKey(VirtualFrame frame, Object[] array, int len, Object keyfunc, boolean reverse, CallNode callNode, SortLessThanNode lessThanNode) {
             if (len == 0) {
                 return;
             }
@@ -398,18 +368,19 @@ public abstract class SortNodes {
                 return;
             }
             /*
-             * Box the values into (key, value) pairs so that the comparator can compare they keys.
-             * We want to avoid calling the key function from the comparator because CPython also
-             * computes the keys only once. There is an additional optimization opportunity where we
-             * could avoid boxing primitive numbers, but that would result in quite a lot of
-             * duplicate code.
+             * CPython computes the keys only once, so we keep them in an array parallel to the
+             * values, which the sort permutes together. For a descending sort, both are stored in
+             * reverse order and written back reversed, to keep equal elements in their original
+             * order.
              */
-            SortingPair[] pairArray = new SortingPair[len];
+            Object[] keys = new Object[len];
+            Object[] values = new Object[len];
+            keys[reverse ? len - 1 : 0] = key;
+            values[reverse ? len - 1 : 0] = array[0];
             /*
              * Look at the first key and determine which comparator we could use to compare if the
              * keys turn all to be the same primitive type
              */
-            pairArray[reverse ? len - 1 : 0] = new SortingPair(key, array[0]);
             Class<?> keyClass = keyClassProfile.profile(key.getClass());
             KeySortComparator keySortComparator = KeySortComparator.forClass(keyClass);
 
@@ -419,60 +390,26 @@ public abstract class SortNodes {
                 if (keySortComparator != null && key.getClass() != keySortComparator.clazz) {
                     keySortComparator = null;
                 }
-                pairArray[reverse ? len - i - 1 : i] = new SortingPair(key, array[i]);
+                keys[reverse ? len - i - 1 : i] = key;
+                values[reverse ? len - i - 1 : i] = array[i];
             }
-            if (keySortComparator != null) {
-                callSortWithKey(pairArray, len, keySortComparator);
+            if (keySortComparator != null && keySortComparator.canDecorate()) {
+                sortDecorated(keys, values, len, keySortComparator);
             } else {
-                PythonLanguage language = PythonLanguage.get(this);
-                final Object[] arguments = PArguments.create(2);
-                final RootCallTarget callTarget = getComparatorCallTarget(language);
-                if (frame == null) {
-                    PythonThreadState threadState = PythonContext.get(this).getThreadState(language);
-                    Object state = IndirectCalleeContext.enter(threadState, arguments);
-                    try {
-                        callSortWithKey(pairArray, len, callTarget, arguments);
-                    } finally {
-                        IndirectCalleeContext.exit(threadState, state);
-                    }
-                } else {
-                    callContext.prepareCall(frame, arguments, callTarget);
-                    EncapsulatingNodeReference nodeRef = EncapsulatingNodeReference.getCurrent();
-                    Node prev = nodeRef.set(this);
-                    try {
-                        callSortWithKey(pairArray, len, callTarget, arguments);
-                    } finally {
-                        nodeRef.set(prev);
-                    }
-                }
+                TimSort.sort(frame, lessThanNode, keys, values, len);
             }
             for (int i = 0; i < len; i++) {
-                array[reverse ? len - i - 1 : i] = pairArray[i].value;
+                array[reverse ? len - i - 1 : i] = values[i];
             }
         }
 
         @TruffleBoundary
-        private static void callSortWithKey(SortingPair[] array, int len, KeySortComparator comparator) {
-            Arrays.sort(array, 0, len, comparator.comparator);
-        }
-
-        @TruffleBoundary
-        private static void callSortWithKey(SortingPair[] array, int len, RootCallTarget callTarget, Object[] arguments) {
-            try {
-                Arrays.sort(array, 0, len, (a, b) -> {
-                    PArguments.setArgument(arguments, 0, a.key);
-                    PArguments.setArgument(arguments, 1, b.key);
-                    ObjectComparatorRootNode.Result result = (ObjectComparatorRootNode.Result) callTarget.call(arguments);
-                    return result.value;
-                });
-            } catch (IllegalArgumentException e) {
-                /*
-                 * This happens when the __lt__ implementation violates its contract. CPython
-                 * doesn't detect it and just outputs a list that's not really sorted. We can just
-                 * stop at this point, it should enough that the list stays a permutation of the
-                 * original
-                 */
+        private static void sortDecorated(Object[] keys, Object[] values, int len, KeySortComparator comparator) {
+            long[] decorated = new long[len];
+            for (int i = 0; i < len; i++) {
+                decorated[i] = comparator.decorate(keys[i]);
             }
+            TimSort.sort(decorated, values, len);
         }
 
         @TruffleBoundary
@@ -511,16 +448,5 @@ public abstract class SortNodes {
             }
         }
 
-        private RootCallTarget getComparatorCallTarget(PythonLanguage language) {
-            if (comparatorCallTarget == null) {
-                CompilerDirectives.transferToInterpreterAndInvalidate();
-                /*
-                 * Every sort node should get its own copy to be able to optimize sorts of different
-                 * types. Don't put the call targets to the language cache.
-                 */
-                comparatorCallTarget = new ObjectComparatorRootNode(language).getCallTarget();
-            }
-            return comparatorCallTarget;
-        }
     }
 }
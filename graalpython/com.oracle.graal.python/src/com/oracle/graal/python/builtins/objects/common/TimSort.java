@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.common;
+
+import com.oracle.graal.python.builtins.objects.common.SortNodes.SortLessThanNode;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.frame.VirtualFrame;
+
+/**
+ * A stable merge sort following the structure of CPython's {@code listsort}: natural runs are
+ * detected (and reversed if strictly descending), short runs are extended with a binary insertion
+ * sort and runs are merged following the TimSort stack invariants. Galloping is not implemented.
+ * <p>
+ * Unlike {@link java.util.Arrays#sort(Object[], java.util.Comparator)}, the generic variant
+ * compares using a {@link SortLessThanNode}, so the comparison is partially evaluated into the
+ * sort loop rather than called through a comparator. The variant for {@code long} keys is used
+ * for keys that were decorated into a primitive array. Both variants can carry a parallel array of
+ * values that is permuted along with the keys.
+ * <p>
+ * If a comparison throws, the arrays are left as a permutation of their original content, just
+ * like in CPython.
+ */
+final class TimSort {
+    private static final int MIN_MERGE = 32;
+    private static final int MAX_PENDING = 85;
+
+    private final Object[] keys;
+    private final long[] longKeys;
+    private final Object[] values;
+
+    private final int[] runBase = new int[MAX_PENDING];
+    private final int[] runLen = new int[MAX_PENDING];
+    private int stackSize;
+
+    private Object[] tmpKeys;
+    private long[] tmpLongKeys;
+    private Object[] tmpValues;
+
+    private TimSort(Object[] keys, long[] longKeys, Object[] values) {
+        this.keys = keys;
+        this.longKeys = longKeys;
+        this.values = values;
+    }
+
+    /**
+     * Sorts {@code keys[0:len]} using {@code lessThan}. {@code values} may be {@code null}.
+     */
+    static void sort(VirtualFrame frame, SortLessThanNode lessThan, Object[] keys, Object[] values, int len) {
+        if (len < 2) {
+            return;
+        }
+        new TimSort(keys, null, values).sort(frame, lessThan, len);
+    }
+
+    @TruffleBoundary
+    static void sort(long[] keys, Object[] values, int len) {
+        if (len < 2) {
+            return;
+        }
+        new TimSort(null, keys, values).sort(null, null, len);
+    }
+
+    private void sort(VirtualFrame frame, SortLessThanNode lessThan, int len) {
+        int minRun = minRunLength(len);
+        int lo = 0;
+        int remaining = len;
+        while (remaining > 0) {
+            int n = longKeys != null ? countRunAndMakeAscending(lo, len) : countRunAndMakeAscending(frame, lessThan, lo, len);
+            if (n < minRun) {
+                int force = Math.min(remaining, minRun);
+                if (longKeys != null) {
+                    binaryInsertionSort(lo, lo + force, lo + n);
+                } else {
+                    binaryInsertionSort(frame, lessThan, lo, lo + force, lo + n);
+                }
+                n = force;
+            }
+            runBase[stackSize] = lo;
+            runLen[stackSize] = n;
+            stackSize++;
+            mergeCollapse(frame, lessThan);
+            lo += n;
+            remaining -= n;
+        }
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+            mergeAt(frame, lessThan, n);
+        }
+    }
+
+    private static int minRunLength(int len) {
+        int n = len;
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= n & 1;
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    private void mergeCollapse(VirtualFrame frame, SortLessThanNode lessThan) {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1] || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+            mergeAt(frame, lessThan, n);
+        }
+    }
+
+    private void mergeAt(VirtualFrame frame, SortLessThanNode lessThan, int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+        if (longKeys != null) {
+            merge(base1, len1, base2, len2);
+        } else {
+            merge(frame, lessThan, base1, len1, base2, len2);
+        }
+    }
+
+    private void reverseRange(int lo, int hi) {
+        for (int i = lo, j = hi - 1; i < j; i++, j--) {
+            if (longKeys != null) {
+                long k = longKeys[i];
+                longKeys[i] = longKeys[j];
+                longKeys[j] = k;
+            } else {
+                Object k = keys[i];
+                keys[i] = keys[j];
+                keys[j] = k;
+            }
+            if (values != null) {
+                Object v = values[i];
+                values[i] = values[j];
+                values[j] = v;
+            }
+        }
+    }
+
+    private void ensureTmp(int len) {
+        if (longKeys != null) {
+            if (tmpLongKeys == null || tmpLongKeys.length < len) {
+                tmpLongKeys = new long[len];
+            }
+        } else if (tmpKeys == null || tmpKeys.length < len) {
+            tmpKeys = new Object[len];
+        }
+        if (values != null && (tmpValues == null || tmpValues.length < len)) {
+            tmpValues = new Object[len];
+        }
+    }
+
+    // Generic keys
+
+    private int countRunAndMakeAscending(VirtualFrame frame, SortLessThanNode lessThan, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+        if (lessThan.execute(frame, keys[runHi++], keys[lo])) {
+            // strictly descending, so that reversing keeps the sort stable
+            while (runHi < hi && lessThan.execute(frame, keys[runHi], keys[runHi - 1])) {
+                runHi++;
+            }
+            reverseRange(lo, runHi);
+        } else {
+            while (runHi < hi && !lessThan.execute(frame, keys[runHi], keys[runHi - 1])) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    private void binaryInsertionSort(VirtualFrame frame, SortLessThanNode lessThan, int lo, int hi, int sortedHi) {
+        for (int start = sortedHi; start < hi; start++) {
+            Object pivot = keys[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (lessThan.execute(frame, pivot, keys[mid])) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            PythonUtils.arraycopy(keys, left, keys, left + 1, start - left);
+            keys[left] = pivot;
+            if (values != null) {
+                Object pivotValue = values[start];
+                PythonUtils.arraycopy(values, left, values, left + 1, start - left);
+                values[left] = pivotValue;
+            }
+        }
+    }
+
+    private void merge(VirtualFrame frame, SortLessThanNode lessThan, int base1, int len1, int base2, int len2) {
+        // elements of run 1 that are not greater than the first element of run 2 are in place
+        Object first2 = keys[base2];
+        int left = base1;
+        int right = base1 + len1;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (lessThan.execute(frame, first2, keys[mid])) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        int newLen1 = len1 - (left - base1);
+        int newBase1 = left;
+        if (newLen1 == 0) {
+            return;
+        }
+        // elements of run 2 that are not less than the last element of run 1 are in place
+        Object last1 = keys[newBase1 + newLen1 - 1];
+        left = base2;
+        right = base2 + len2;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (lessThan.execute(frame, keys[mid], last1)) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        int newLen2 = left - base2;
+        if (newLen2 == 0) {
+            return;
+        }
+        if (newLen1 <= newLen2) {
+            mergeLo(frame, lessThan, newBase1, newLen1, base2, newLen2);
+        } else {
+            mergeHi(frame, lessThan, newBase1, newLen1, base2, newLen2);
+        }
+    }
+
+    private void mergeLo(VirtualFrame frame, SortLessThanNode lessThan, int base1, int len1, int base2, int len2) {
+        ensureTmp(len1);
+        PythonUtils.arraycopy(keys, base1, tmpKeys, 0, len1);
+        if (values != null) {
+            PythonUtils.arraycopy(values, base1, tmpValues, 0, len1);
+        }
+        int i = 0;
+        int j = base2;
+        int end2 = base2 + len2;
+        int dest = base1;
+        try {
+            while (i < len1 && j < end2) {
+                if (lessThan.execute(frame, keys[j], tmpKeys[i])) {
+                    keys[dest] = keys[j];
+                    if (values != null) {
+                        values[dest] = values[j];
+                    }
+                    j++;
+                } else {
+                    keys[dest] = tmpKeys[i];
+                    if (values != null) {
+                        values[dest] = tmpValues[i];
+                    }
+                    i++;
+                }
+                dest++;
+            }
+        } finally {
+            // the remaining elements of run 1 fill the gap before the remaining elements of run 2
+            PythonUtils.arraycopy(tmpKeys, i, keys, dest, len1 - i);
+            if (values != null) {
+                PythonUtils.arraycopy(tmpValues, i, values, dest, len1 - i);
+            }
+        }
+    }
+
+    private void mergeHi(VirtualFrame frame, SortLessThanNode lessThan, int base1, int len1, int base2, int len2) {
+        ensureTmp(len2);
+        PythonUtils.arraycopy(keys, base2, tmpKeys, 0, len2);
+        if (values != null) {
+            PythonUtils.arraycopy(values, base2, tmpValues, 0, len2);
+        }
+        int i = base1 + len1 - 1;
+        int j = len2 - 1;
+        int dest = base2 + len2 - 1;
+        try {
+            while (i >= base1 && j >= 0) {
+                if (lessThan.execute(frame, tmpKeys[j], keys[i])) {
+                    keys[dest] = keys[i];
+                    if (values != null) {
+                        values[dest] = values[i];
+                    }
+                    i--;
+                } else {
+                    keys[dest] = tmpKeys[j];
+                    if (values != null) {
+                        values[dest] = tmpValues[j];
+                    }
+                    j--;
+                }
+                dest--;
+            }
+        } finally {
+            // the remaining elements of run 2 fill the gap after the remaining elements of run 1
+            PythonUtils.arraycopy(tmpKeys, 0, keys, i + 1, j + 1);
+            if (values != null) {
+                PythonUtils.arraycopy(tmpValues, 0, values, i + 1, j + 1);
+            }
+        }
+    }
+
+    // Decorated long keys
+
+    private int countRunAndMakeAscending(int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+        if (longKeys[runHi++] < longKeys[lo]) {
+            while (runHi < hi && longKeys[runHi] < longKeys[runHi - 1]) {
+                runHi++;
+            }
+            reverseRange(lo, runHi);
+        } else {
+            while (runHi < hi && longKeys[runHi] >= longKeys[runHi - 1]) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    private void binaryInsertionSort(int lo, int hi, int sortedHi) {
+        for (int start = sortedHi; start < hi; start++) {
+            long pivot = longKeys[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (pivot < longKeys[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            PythonUtils.arraycopy(longKeys, left, longKeys, left + 1, start - left);
+            longKeys[left] = pivot;
+            if (values != null) {
+                Object pivotValue = values[start];
+                PythonUtils.arraycopy(values, left, values, left + 1, start - left);
+                values[left] = pivotValue;
+            }
+        }
+    }
+
+    private void merge(int base1, int len1, int base2, int len2) {
+        long first2 = longKeys[base2];
+        int left = base1;
+        int right = base1 + len1;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (first2 < longKeys[mid]) {
+                right = mid;
+            } else {
+                left = mid + 1;
+            }
+        }
+        int newLen1 = len1 - (left - base1);
+        int newBase1 = left;
+        if (newLen1 == 0) {
+            return;
+        }
+        long last1 = longKeys[newBase1 + newLen1 - 1];
+        left = base2;
+        right = base2 + len2;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (longKeys[mid] < last1) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        int newLen2 = left - base2;
+        if (newLen2 == 0) {
+            return;
+        }
+        if (newLen1 <= newLen2) {
+            mergeLo(newBase1, newLen1, base2, newLen2);
+        } else {
+            mergeHi(newBase1, newLen1, base2, newLen2);
+        }
+    }
+
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        ensureTmp(len1);
+        PythonUtils.arraycopy(longKeys, base1, tmpLongKeys, 0, len1);
+        if (values != null) {
+            PythonUtils.arraycopy(values, base1, tmpValues, 0, len1);
+        }
+        int i = 0;
+        int j = base2;
+        int end2 = base2 + len2;
+        int dest = base1;
+        while (i < len1 && j < end2) {
+            if (longKeys[j] < tmpLongKeys[i]) {
+                longKeys[dest] = longKeys[j];
+                if (values != null) {
+                    values[dest] = values[j];
+                }
+                j++;
+            } else {
+                longKeys[dest] = tmpLongKeys[i];
+                if (values != null) {
+                    values[dest] = tmpValues[i];
+                }
+                i++;
+            }
+            dest++;
+        }
+        PythonUtils.arraycopy(tmpLongKeys, i, longKeys, dest, len1 - i);
+        if (values != null) {
+            PythonUtils.arraycopy(tmpValues, i, values, dest, len1 - i);
+        }
+    }
+
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        ensureTmp(len2);
+        PythonUtils.arraycopy(longKeys, base2, tmpLongKeys, 0, len2);
+        if (values != null) {
+            PythonUtils.arraycopy(values, base2, tmpValues, 0, len2);
+        }
+        int i = base1 + len1 - 1;
+        int j = len2 - 1;
+        int dest = base2 + len2 - 1;
+        while (i >= base1 && j >= 0) {
+            if (tmpLongKeys[j] < longKeys[i]) {
+                longKeys[dest] = longKeys[i];
+                if (values != null) {
+                    values[dest] = values[i];
+                }
+                i--;
+            } else {
+                longKeys[dest] = tmpLongKeys[j];
+                if (values != null) {
+                    values[dest] = tmpValues[j];
+                }
+                j--;
+            }
+            dest--;
+        }
+        PythonUtils.arraycopy(tmpLongKeys, 0, longKeys, i + 1, j + 1);
+        if (values != null) {
+            PythonUtils.arraycopy(tmpValues, 0, values, i + 1, j + 1);
+        }
+    }
+}
@@ -131,7 +131,6 @@ import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
-import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
@@ -337,7 +336,7 @@ public final class DequeBuiltins extends PythonBuiltins {
         @Specialization(guards = "self == other")
         @TruffleBoundary
         PNone doSelf(PDeque self, @SuppressWarnings("unused") PDeque other) {
-            Object[] items = self.data.toArray();
+            Object[] items = self.toArray();
             for (Object item : items) {
                 appendOperation(self, item);
             }
@@ -421,20 +420,13 @@ public final class DequeBuiltins extends PythonBuiltins {
             if (normStart > normStop) {
                 normStart = normStop;
             }
-            Iterator<Object> iterator = self.iterator();
-            for (int idx = 0; idx < normStop; idx++) {
-                /*
-                 * Note: A 'ConcurrentModificationException' should not be possible because we
-                 * manually check for modifications during iteration.
-                 */
-                Object item = next(iterator);
-                if (normStart <= idx) {
-                    if (eqNode.execute(frame, inliningTarget, item, value, RichCmpOp.Py_EQ)) {
-                        return idx;
-                    }
-                    if (startState != self.getState()) {
-                        throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
-                    }
+            for (int idx = normStart; idx < normStop; idx++) {
+                // the size cannot change without changing the state, so idx stays in range
+                if (eqNode.execute(frame, inliningTarget, self.get(idx), value, RichCmpOp.Py_EQ)) {
+                    return idx;
+                }
+                if (startState != self.getState()) {
+                    throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.DEQUE_MUTATED_DURING_ITERATION);
                 }
             }
             throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.S_IS_NOT_DEQUE, value);
@@ -470,11 +462,6 @@ public final class DequeBuiltins extends PythonBuiltins {
             }
             return Math.max(res, 0);
         }
-
-        @TruffleBoundary
-        private static Object next(Iterator<?> it) {
-            return it.next();
-        }
     }
 
     // deque.insert()
@@ -502,13 +489,7 @@ public final class DequeBuiltins extends PythonBuiltins {
             } else if (index <= -n || index == 0) {
                 self.appendLeft(value);
             } else {
-                DequeRotateNode.rotate(self, -index);
-                if (index < 0) {
-                    self.append(value);
-                } else {
-                    self.appendLeft(value);
-                }
-                DequeRotateNode.rotate(self, index);
+                self.insert(index < 0 ? index + n : index, value);
             }
 
             return PNone.NONE;
@@ -557,34 +538,18 @@ public final class DequeBuiltins extends PythonBuiltins {
         @Specialization
         Object doGeneric(VirtualFrame frame, PDeque self, Object value,
                         @Bind Node inliningTarget,
-                        @Cached InlinedBranchProfile errorProfile,
                         @Cached PyObjectRichCompareBool richcmpNode,
                         @Cached PRaiseNode raiseNode) {
             // CPython captures the size before iteration
             int n = self.getSize();
             for (int i = 0; i < n; i++) {
-                try {
-                    boolean result = richcmpNode.execute(frame, inliningTarget, self.peekLeft(), value, RichCmpOp.Py_EQ);
-                    if (n != self.getSize()) {
-                        throw raiseNode.raise(inliningTarget, IndexError, DEQUE_MUTATED_DURING_REMOVE);
-                    }
-                    if (result) {
-                        Object removed = self.popLeft();
-                        assert removed != null;
-                        DequeRotateNode.doRight(self, i);
-                        return PNone.NONE;
-                    } else {
-                        // this is basically 'DequeRotateNode.doLeft(self, -1)'
-                        self.append(self.popLeft());
-                    }
-                } catch (PException e) {
-                    /*
-                     * In case of an error during comparison, we need to restore the original deque
-                     * by rotating.
-                     */
-                    errorProfile.enter(inliningTarget);
-                    DequeRotateNode.doRight(self, i);
-                    throw e;
+                boolean result = richcmpNode.execute(frame, inliningTarget, self.get(i), value, RichCmpOp.Py_EQ);
+                if (n != self.getSize()) {
+                    throw raiseNode.raise(inliningTarget, IndexError, DEQUE_MUTATED_DURING_REMOVE);
+                }
+                if (result) {
+                    self.setItem(i, null);
+                    return PNone.NONE;
                 }
             }
             throw raiseNode.raise(inliningTarget, ValueError, DEQUE_REMOVE_X_NOT_IN_DEQUE);
@@ -599,13 +564,7 @@ public final class DequeBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         PNone doGeneric(PDeque self) {
-            Object[] items = new Object[self.getSize()];
-            for (int i = 0; i < items.length; i++) {
-                items[i] = self.data.pollLast();
-            }
-            for (int i = 0; i < items.length; i++) {
-                self.data.addLast(items[i]);
-            }
+            self.reverse();
             return PNone.NONE;
         }
     }
@@ -621,44 +580,11 @@ public final class DequeBuiltins extends PythonBuiltins {
             return DequeRotateNodeClinicProviderGen.INSTANCE;
         }
 
-        @Specialization(guards = "self.getSize() <= 1")
-        @TruffleBoundary
-        @SuppressWarnings("unused")
-        static PNone doEmptyOrSingleElement(PDeque self, int n) {
-            return PNone.NONE;
-        }
-
-        @Specialization(guards = "n >= 0")
-        @TruffleBoundary
-        static PNone doRight(PDeque self, int n) {
-            if (self.getSize() > 1) {
-                int effectiveRot = n % self.getSize();
-                for (int i = 0; i < effectiveRot; i++) {
-                    self.appendLeft(self.pop());
-                }
-            }
-            return PNone.NONE;
-        }
-
-        @Specialization(guards = "n < 0")
-        @TruffleBoundary
-        static PNone doLeft(PDeque self, int n) {
-            if (self.getSize() > 1) {
-                int effectiveRot = -n % self.getSize();
-                for (int i = 0; i < effectiveRot; i++) {
-                    self.append(self.popLeft());
-                }
-            }
+        @Specialization
+        static PNone doGeneric(PDeque self, int n) {
+            self.rotate(n);
             return PNone.NONE;
         }
-
-        static void rotate(PDeque self, int n) {
-            if (n < 0) {
-                doLeft(self, n);
-            } else {
-                doRight(self, n);
-            }
-        }
     }
 
     // SEQUENCE METHODS
@@ -684,7 +610,7 @@ public final class DequeBuiltins extends PythonBuiltins {
         static PDeque doDeque(PDeque self, PDeque other) {
             if (self == other) {
                 // we need to create a snapshot of 'self'
-                self.addAll(self.data.toArray());
+                self.addAll(self.toArray());
             } else {
                 self.addAll(other);
             }
@@ -773,7 +699,7 @@ public final class DequeBuiltins extends PythonBuiltins {
                 repetitions = (self.getMaxLength() + size - 1) / size;
             }
 
-            Object[] items = self.data.toArray();
+            Object[] items = self.toArray();
             for (int i = 0; i < repetitions - 1; i++) {
                 self.addAll(items);
             }
@@ -822,23 +748,12 @@ public final class DequeBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class DequeGetItemNode extends SqItemBuiltinNode {
         @Specialization
-        @TruffleBoundary
-        Object doGeneric(PDeque self, int idx,
+        static Object doGeneric(PDeque self, int idx,
                         @Bind Node inliningTarget) {
             if (idx < 0 || idx >= self.getSize()) {
                 throw PRaiseNode.raiseStatic(inliningTarget, IndexError, ErrorMessages.DEQUE_INDEX_OUT_OF_RANGE);
             }
-            return doGetItem(self, idx);
-        }
-
-        @TruffleBoundary
-        Object doGetItem(PDeque self, int idx) {
-            assert 0 <= idx && idx < self.getSize();
-            Iterator<Object> it = self.data.iterator();
-            for (int i = 0; i < idx; i++) {
-                it.next();
-            }
-            return it.next();
+            return self.get(idx);
         }
     }
 
@@ -903,7 +818,7 @@ public final class DequeBuiltins extends PythonBuiltins {
 
         @TruffleBoundary
         private static TruffleString reprBoundary(PDeque self) {
-            Object[] items = self.data.toArray();
+            Object[] items = self.toArray();
             PList asList = PFactory.createList(PythonLanguage.get(null), items);
             int maxLength = self.getMaxLength();
             TruffleStringBuilderUTF32 sb = TruffleStringBuilder.createUTF32();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,27 +40,32 @@
  */
 package com.oracle.graal.python.builtins.objects.deque;
 
-import java.util.ArrayDeque;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.Shape;
 
 /**
- * A simple wrapper around Java's {@link ArrayDeque}.
+ * The deque is stored in a growable circular array whose capacity is a power of two. Indexed access
+ * is O(1), and rotation moves at most half of the elements, or just moves the head if the array is
+ * full. A deque with a {@code maxlen} never grows beyond that, so a sliding window overwrites its
+ * oldest element without any allocation.
  */
 public final class PDeque extends PythonBuiltinObject {
-    final ArrayDeque<Object> data = createArrayDeque();
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object[] items = new Object[INITIAL_CAPACITY];
+    private int head;
+    private int size;
     private int maxLength = -1;
 
     /**
      * This is a modification counter and used to produce exceptions if the deque is modified during
-     * iteration. We need it because {@link ArrayDeque}'s iterators have a slightly different
-     * behavior. E.g. if you iterate the deque to the end and the last element comparison would
-     * modify the deque, then {@link ArrayDeque} doesn't complain while CPython's implementation
-     * still complains. The main difference is that CPython will always check if the deque was
-     * modifed right after it called out for {@code __eq__}.
+     * iteration. CPython's implementation always checks if the deque was modified right after it
+     * called out for {@code __eq__}, which also catches modifications after the last element.
      */
     private int state;
 
@@ -68,13 +73,8 @@ public final class PDeque extends PythonBuiltinObject {
         super(cls, instanceShape);
     }
 
-    @TruffleBoundary
-    private static ArrayDeque<Object> createArrayDeque() {
-        return new ArrayDeque<>();
-    }
-
     int getSize() {
-        return data.size();
+        return size;
     }
 
     int getMaxLength() {
@@ -85,9 +85,52 @@ public final class PDeque extends PythonBuiltinObject {
         this.maxLength = maxLength;
     }
 
+    private int physicalIndex(int idx) {
+        return (head + idx) & (items.length - 1);
+    }
+
+    /**
+     * Returns the element at logical index {@code idx}, which must be in range.
+     */
+    Object get(int idx) {
+        assert 0 <= idx && idx < size;
+        return items[physicalIndex(idx)];
+    }
+
+    private void set(int idx, Object value) {
+        items[physicalIndex(idx)] = value;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > items.length) {
+            grow(capacity);
+        }
+    }
+
+    @TruffleBoundary
+    private void grow(int capacity) {
+        int newCapacity = items.length;
+        while (newCapacity < capacity) {
+            newCapacity <<= 1;
+            if (newCapacity <= 0) {
+                throw new OutOfMemoryError();
+            }
+        }
+        items = copyItems(newCapacity);
+        head = 0;
+    }
+
+    private Object[] copyItems(int length) {
+        Object[] result = new Object[length];
+        int firstPart = Math.min(size, items.length - head);
+        PythonUtils.arraycopy(items, head, result, 0, firstPart);
+        PythonUtils.arraycopy(items, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
     @TruffleBoundary
     public Iterator<Object> getIteratorBoundary() {
-        return data.iterator();
+        return iterator();
     }
 
     @TruffleBoundary
@@ -98,55 +141,76 @@ public final class PDeque extends PythonBuiltinObject {
         return null;
     }
 
-    @TruffleBoundary
     void append(Object value) {
-        assert maxLength == -1 || data.size() <= maxLength;
-        data.addLast(value);
-        if (maxLength != -1 && data.size() > maxLength) {
-            popLeft();
-        } else {
-            state++;
+        assert maxLength == -1 || size <= maxLength;
+        if (maxLength != -1 && size == maxLength) {
+            if (size == 0) {
+                return;
+            }
+            // overwrite the oldest element of a full sliding window
+            items[head] = null;
+            head = physicalIndex(1);
+            size--;
         }
-
-        assert maxLength == -1 || data.size() <= maxLength;
+        ensureCapacity(size + 1);
+        items[physicalIndex(size)] = value;
+        size++;
+        state++;
+        assert maxLength == -1 || size <= maxLength;
     }
 
-    @TruffleBoundary
     void appendLeft(Object value) {
-        assert maxLength == -1 || data.size() <= maxLength;
-        data.addFirst(value);
-        if (maxLength != -1 && data.size() > maxLength) {
-            pop();
-        } else {
-            state++;
+        assert maxLength == -1 || size <= maxLength;
+        if (maxLength != -1 && size == maxLength) {
+            if (size == 0) {
+                return;
+            }
+            size--;
+            items[physicalIndex(size)] = null;
         }
-        assert maxLength == -1 || data.size() <= maxLength;
+        ensureCapacity(size + 1);
+        head = (head - 1) & (items.length - 1);
+        items[head] = value;
+        size++;
+        state++;
+        assert maxLength == -1 || size <= maxLength;
     }
 
     /**
      * Returns {@code null} if empty.
      */
-    @TruffleBoundary
     Object pop() {
         state++;
-        return data.pollLast();
+        if (size == 0) {
+            return null;
+        }
+        size--;
+        int idx = physicalIndex(size);
+        Object value = items[idx];
+        items[idx] = null;
+        return value;
     }
 
     /**
      * Returns {@code null} if empty.
      */
-    @TruffleBoundary
     Object popLeft() {
         state++;
-        return data.pollFirst();
+        if (size == 0) {
+            return null;
+        }
+        Object value = items[head];
+        items[head] = null;
+        head = physicalIndex(1);
+        size--;
+        return value;
     }
 
     /**
      * Returns {@code null} if empty.
      */
-    @TruffleBoundary
     Object peekLeft() {
-        return data.peekFirst();
+        return size == 0 ? null : items[head];
     }
 
     @TruffleBoundary
@@ -158,54 +222,158 @@ public final class PDeque extends PythonBuiltinObject {
 
     @TruffleBoundary
     void addAll(PDeque other) {
-        for (Object e : other.data) {
-            append(e);
+        assert other != this;
+        for (int i = 0; i < other.size; i++) {
+            append(other.get(i));
         }
     }
 
+    @TruffleBoundary
+    Object[] toArray() {
+        return copyItems(size);
+    }
+
     @TruffleBoundary
     public Iterator<Object> iterator() {
-        return data.iterator();
+        return new DequeIterator(false);
     }
 
     @TruffleBoundary
     public Iterator<Object> reverseIterator() {
-        return data.descendingIterator();
+        return new DequeIterator(true);
     }
 
     @TruffleBoundary
     public void clear() {
-        data.clear();
+        items = new Object[INITIAL_CAPACITY];
+        head = 0;
+        size = 0;
         state++;
     }
 
+    /**
+     * Replaces the element at {@code idx}, or removes it if {@code value} is {@code null}. Removal
+     * shifts the elements on the shorter side of {@code idx}.
+     */
     @TruffleBoundary
     public void setItem(int idx, Object value) {
-        assert 0 <= idx && idx < data.size();
-        int n = data.size() - idx - 1;
-        Object[] savedItems = new Object[n];
-        for (int i = 0; i < savedItems.length; i++) {
-            savedItems[i] = data.pollLast();
-        }
-        // this removes the item we want to replace
-        data.pollLast();
-        assert data.size() == idx;
+        assert 0 <= idx && idx < size;
         if (value != null) {
-            data.addLast(value);
+            set(idx, value);
+            return;
+        }
+        // removal case: this alters the number of elements, so modify the state
+        if (idx < size / 2) {
+            for (int i = idx; i > 0; i--) {
+                set(i, get(i - 1));
+            }
+            items[head] = null;
+            head = physicalIndex(1);
         } else {
-            // removal case: this alters the number of elements, so modify the state
-            state++;
+            for (int i = idx; i < size - 1; i++) {
+                set(i, get(i + 1));
+            }
+            set(size - 1, null);
         }
+        size--;
+        state++;
+    }
 
-        // re-add saved items
-        for (int i = savedItems.length - 1; i >= 0; i--) {
-            data.addLast(savedItems[i]);
+    /**
+     * Inserts {@code value} before the element at {@code idx}, shifting the elements on the shorter
+     * side of {@code idx}.
+     */
+    @TruffleBoundary
+    void insert(int idx, Object value) {
+        assert 0 <= idx && idx <= size && (maxLength == -1 || size < maxLength);
+        ensureCapacity(size + 1);
+        if (idx < size / 2) {
+            head = (head - 1) & (items.length - 1);
+            size++;
+            for (int i = 0; i < idx; i++) {
+                set(i, get(i + 1));
+            }
+        } else {
+            size++;
+            for (int i = size - 1; i > idx; i--) {
+                set(i, get(i - 1));
+            }
+        }
+        set(idx, value);
+        state++;
+    }
+
+    /**
+     * Rotates {@code n} steps to the right, or to the left if {@code n} is negative.
+     */
+    @TruffleBoundary
+    void rotate(int n) {
+        if (size <= 1) {
+            return;
+        }
+        int k = n % size;
+        if (k < 0) {
+            k += size;
+        }
+        if (k == 0) {
+            return;
+        }
+        state++;
+        int mask = items.length - 1;
+        if (size == items.length) {
+            // all slots are in use, so moving the head is enough
+            head = (head - k) & mask;
+        } else if (k <= size - k) {
+            // move the last k elements to the front
+            for (int i = 0; i < k; i++) {
+                int last = physicalIndex(size - 1);
+                head = (head - 1) & mask;
+                items[head] = items[last];
+                items[last] = null;
+            }
+        } else {
+            // move the first size - k elements to the back
+            for (int i = 0; i < size - k; i++) {
+                items[physicalIndex(size)] = items[head];
+                items[head] = null;
+                head = (head + 1) & mask;
+            }
+        }
+    }
+
+    @TruffleBoundary
+    void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            Object tmp = get(i);
+            set(i, get(j));
+            set(j, tmp);
         }
-        assert maxLength == -1 || data.size() <= maxLength;
-        assert value != null && data.size() == n + idx + 1 || value == null && data.size() == n + idx;
     }
 
     public int getState() {
         return state;
     }
+
+    private final class DequeIterator implements Iterator<Object> {
+        private final boolean reverse;
+        private int remaining = size;
+
+        DequeIterator(boolean reverse) {
+            this.reverse = reverse;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && remaining <= size;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            return get(reverse ? remaining : size - remaining - 1);
+        }
+    }
 }
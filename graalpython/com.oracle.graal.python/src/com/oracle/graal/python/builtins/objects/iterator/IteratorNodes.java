@@ -81,8 +81,11 @@ import com.oracle.graal.python.nodes.call.special.LookupSpecialMethodNode;
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.object.GetClassNode.GetPythonObjectClassNode;
+import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
 import com.oracle.graal.python.nodes.util.CastBuiltinStringToTruffleStringNode;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.sequence.storage.ForeignSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -274,6 +277,13 @@ public abstract class IteratorNodes {
             return ((PTuple) it.sequence).getSequenceStorage();
         }
 
+        @Specialization(guards = {"!it.isPSequence()", "isForeignObjectNode.execute(inliningTarget, it.getObject())"}, limit = "1")
+        static SequenceStorage doForeignHostArray(Node inliningTarget, PSequenceIterator it,
+                        @SuppressWarnings("unused") @Cached IsForeignObjectNode isForeignObjectNode) {
+            // Java arrays of the host can be copied in one step, see ForeignSequenceStorage
+            return ForeignSequenceStorage.forHostArray(PythonContext.get(inliningTarget).getEnv(), it.getObject());
+        }
+
         @Fallback
         static SequenceStorage doOthers(@SuppressWarnings("unused") PBuiltinIterator it) {
             return null;
@@ -53,6 +53,7 @@ import com.oracle.graal.python.builtins.objects.cext.capi.NativeCAPISymbol;
 import com.oracle.graal.python.builtins.objects.common.BufferStorageNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.memoryview.NativeBufferLifecycleManager.NativeBufferLifecycleManagerFromArrow;
 import com.oracle.graal.python.builtins.objects.memoryview.NativeBufferLifecycleManager.NativeBufferLifecycleManagerFromSlot;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.PyIndexCheckNode;
@@ -62,6 +63,7 @@ import com.oracle.graal.python.runtime.nativeaccess.NativeMemory;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.arrow.ArrowCDataImport;
 import com.oracle.graal.python.nodes.builtins.TupleNodes.GetTupleStorage;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
@@ -635,6 +637,11 @@ public class MemoryViewNodes {
             callNode.executeWithoutFrame(buffer.releaseFunction, buffer.self, buffer.buffer);
         }
 
+        @Specialization
+        static void doArrow(NativeBufferLifecycleManagerFromArrow buffer) {
+            ArrowCDataImport.releaseArray(buffer.arrowArrayPointer);
+        }
+
         @Fallback
         static void doManaged(@SuppressWarnings("unused") BufferLifecycleManager buffer) {
             // nothing to do
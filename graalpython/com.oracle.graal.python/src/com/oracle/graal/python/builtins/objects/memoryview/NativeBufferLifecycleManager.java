@@ -89,4 +89,19 @@ public abstract class NativeBufferLifecycleManager extends BufferLifecycleManage
             this.releaseFunction = releaseFunction;
         }
     }
+
+    /**
+     * Object used for tracking the lifetime of the data buffer of an imported Arrow array that is
+     * exposed as a memoryview without copying. The {@link #arrowArrayPointer} points to the
+     * {@code ArrowArray} structure the importer moved out of the producer's capsule; its release
+     * callback is called and the structure is freed once the memoryview is released.
+     */
+    public static final class NativeBufferLifecycleManagerFromArrow extends NativeBufferLifecycleManager {
+        final long arrowArrayPointer;
+
+        public NativeBufferLifecycleManagerFromArrow(long arrowArrayPointer) {
+            assert arrowArrayPointer != NULLPTR;
+            this.arrowArrayPointer = arrowArrayPointer;
+        }
+    }
 }
@@ -40,6 +40,7 @@
  */
 package com.oracle.graal.python.builtins.objects.mmap;
 
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.BufferError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.OverflowError;
 import static com.oracle.graal.python.builtins.objects.common.IndexNodes.checkBounds;
 import static com.oracle.graal.python.builtins.objects.mmap.PMMap.ACCESS_COPY;
@@ -623,8 +624,12 @@ public final class MMapBuiltins extends PythonBuiltins {
 
         @Specialization
         static PNone close(PMMap self,
+                        @Bind Node inliningTarget,
                         @Bind PythonContext context,
                         @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixSupportLib) {
+            if (self.getExports() != 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, BufferError, ErrorMessages.MMAP_CANNOT_CLOSE_EXPORTED_POINTERS_EXIST);
+            }
             self.close(posixSupportLib, context.getPosixSupport());
             return PNone.NONE;
         }
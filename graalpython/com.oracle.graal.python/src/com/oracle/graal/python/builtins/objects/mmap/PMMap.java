@@ -44,6 +44,8 @@ import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
 
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
+import com.oracle.graal.python.builtins.objects.memoryview.BufferLifecycleManager;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
 import com.oracle.graal.python.nodes.util.CastToJavaIntExactNode;
@@ -52,6 +54,7 @@ import com.oracle.graal.python.runtime.NativePosixSupport;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.nativeaccess.NativeMemory;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
@@ -73,6 +76,18 @@ public final class PMMap extends PythonObject {
     private final MMapRef ref;
     private long pos;
     private final int access;
+    /**
+     * The address of the mapped memory or {@code NULLPTR} if the POSIX backend cannot provide it.
+     * The mapping does not move, so the address is resolved only once.
+     */
+    private long pointer;
+    private boolean pointerResolved;
+    /**
+     * Counts the memoryviews of this map and the native calls that use its memory without holding
+     * the GIL. The map cannot be closed while there are any, because that would unmap the memory
+     * they refer to.
+     */
+    private final BufferLifecycleManager exports = new BufferLifecycleManager();
 
     public PMMap(Object pythonClass, Shape instanceShape, PythonContext context, Object handle, int fd, long length, int access, boolean trackFd) {
         super(pythonClass, instanceShape);
@@ -89,10 +104,48 @@ public final class PMMap extends PythonObject {
         ref.close(lib, posix);
     }
 
-    boolean isClosed() {
+    public boolean isClosed() {
         return ref.isReleased();
     }
 
+    public BufferLifecycleManager getLifecycleManager() {
+        return exports;
+    }
+
+    public int getExports() {
+        return exports.getExports().get();
+    }
+
+    /**
+     * Prevents the map from being closed while its memory is used outside of the GIL. Must be
+     * paired with {@link #unpin()}.
+     */
+    public void pin() {
+        exports.incrementExports();
+    }
+
+    public void unpin() {
+        int remaining = exports.decrementExports();
+        assert remaining >= 0;
+    }
+
+    /**
+     * Pins the map that backs {@code buffer}, directly or through memoryviews, before its address
+     * is passed to a native call that runs without the GIL. Returns the pinned map, which must be
+     * unpinned after the call, or {@code null} if the buffer is not backed by a map.
+     */
+    public static PMMap pinBackingMap(Object buffer) {
+        Object backing = buffer;
+        while (backing instanceof PMemoryView memoryView) {
+            backing = memoryView.getBuffer();
+        }
+        if (backing instanceof PMMap mmap) {
+            mmap.pin();
+            return mmap;
+        }
+        return null;
+    }
+
     @ExportMessage
     boolean isReadonly() {
         return !isWriteable();
@@ -148,6 +201,10 @@ public final class PMMap extends PythonObject {
                     @Bind Node inliningTarget,
                     @Shared @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
                     @Shared("raiseNode") @Cached PConstructAndRaiseNode.Lazy raiseNode) {
+        long ptr = getPointer(posixLib, PythonContext.get(inliningTarget).getPosixSupport());
+        if (ptr != NULLPTR && !isClosed()) {
+            return NativeMemory.readByte(ptr + byteOffset);
+        }
         try {
             return posixLib.mmapReadByte(PythonContext.get(raiseNode).getPosixSupport(), getPosixSupportHandle(), byteOffset);
         } catch (PosixException e) {
@@ -160,6 +217,11 @@ public final class PMMap extends PythonObject {
                     @Bind Node inliningTarget,
                     @Shared @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
                     @Shared("raiseNode") @Cached PConstructAndRaiseNode.Lazy raiseNode) {
+        long ptr = getPointer(posixLib, PythonContext.get(inliningTarget).getPosixSupport());
+        if (ptr != NULLPTR && !isClosed()) {
+            NativeMemory.writeByte(ptr + byteOffset, value);
+            return;
+        }
         try {
             posixLib.mmapWriteByte(PythonContext.get(raiseNode).getPosixSupport(), getPosixSupportHandle(), byteOffset, value);
         } catch (PosixException e) {
@@ -217,20 +279,34 @@ public final class PMMap extends PythonObject {
         }
     }
 
+    /**
+     * The emulated backend can also provide the address of anonymous maps, so that their buffer can
+     * be accessed without copying regardless of the backend.
+     */
     @ExportMessage
     boolean isNative(
-                    @Bind Node inliningTarget) {
-        return PythonContext.get(inliningTarget).getPosixSupport() instanceof NativePosixSupport;
+                    @Bind Node inliningTarget,
+                    @Shared @CachedLibrary(limit = "1") PosixSupportLibrary posixLib) {
+        Object posixSupport = PythonContext.get(inliningTarget).getPosixSupport();
+        return posixSupport instanceof NativePosixSupport || getPointer(posixLib, posixSupport) != NULLPTR;
     }
 
     @ExportMessage
     long getNativePointer(
                     @Bind Node inliningTarget,
                     @Shared @CachedLibrary(limit = "1") PosixSupportLibrary posixLib) {
-        try {
-            return posixLib.mmapGetPointer(PythonContext.get(inliningTarget).getPosixSupport(), getPosixSupportHandle());
-        } catch (PosixSupportLibrary.UnsupportedPosixFeatureException e) {
-            return NULLPTR;
+        return getPointer(posixLib, PythonContext.get(inliningTarget).getPosixSupport());
+    }
+
+    private long getPointer(PosixSupportLibrary posixLib, Object posixSupport) {
+        if (!pointerResolved) {
+            try {
+                pointer = posixLib.mmapGetPointer(posixSupport, getPosixSupportHandle());
+            } catch (PosixSupportLibrary.UnsupportedPosixFeatureException e) {
+                pointer = NULLPTR;
+            }
+            pointerResolved = true;
         }
+        return pointer;
     }
 }
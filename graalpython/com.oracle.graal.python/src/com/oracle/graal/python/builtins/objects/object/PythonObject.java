@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.modules.TracemallocModuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
 import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTransitions;
@@ -101,6 +102,9 @@ public class PythonObject extends PythonAbstractObject {
         assert pythonClass != null;
         assert !PGuards.isPythonClass(getShape().getDynamicType()) || IsSameTypeNode.executeUncached(getShape().getDynamicType(), pythonClass) : getShape().getDynamicType() + " vs " + pythonClass;
         this.pythonClass = pythonClass;
+        if (TracemallocModuleBuiltins.isTracingInAnyContext()) {
+            TracemallocModuleBuiltins.onAllocation(this);
+        }
     }
 
     public void setDict(Node inliningTarget, HiddenAttr.WriteNode writeNode, PDict dict) {
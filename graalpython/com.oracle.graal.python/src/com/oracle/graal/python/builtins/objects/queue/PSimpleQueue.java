@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,31 +40,44 @@
  */
 package com.oracle.graal.python.builtins.objects.queue;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayList;
+import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.TimeUnit;
 
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.Shape;
 
+/**
+ * The queue is a {@link LinkedTransferQueue}, which is lock-free. A thread waiting in {@link #get()}
+ * is parked and a {@link #put} hands the item directly to the longest waiting thread.
+ */
 public final class PSimpleQueue extends PythonBuiltinObject {
 
-    private final LinkedBlockingQueue<Object> data = createQueue();
+    private final LinkedTransferQueue<Object> data = createQueue();
 
     public PSimpleQueue(Object cls, Shape instanceShape) {
         super(cls, instanceShape);
     }
 
     @TruffleBoundary
-    private static LinkedBlockingQueue<Object> createQueue() {
-        return new LinkedBlockingQueue<>();
+    private static LinkedTransferQueue<Object> createQueue() {
+        return new LinkedTransferQueue<>();
     }
 
+    /**
+     * Note that this traverses the queue.
+     */
     @TruffleBoundary
     int getQueueSize() {
         return data.size();
     }
 
+    @TruffleBoundary
+    boolean isEmpty() {
+        return data.isEmpty();
+    }
+
     @TruffleBoundary
     Object get() throws InterruptedException {
         return data.take();
@@ -85,4 +98,16 @@ public final class PSimpleQueue extends PythonBuiltinObject {
         return data.offer(value);
     }
 
+    /**
+     * Removes up to {@code maxItems} items that are immediately available and appends them to
+     * {@code first}, which already holds the first item.
+     */
+    @TruffleBoundary
+    Object[] drain(Object first, int maxItems) {
+        ArrayList<Object> items = new ArrayList<>(Math.min(maxItems, 16));
+        items.add(first);
+        data.drainTo(items, maxItems - 1);
+        return items.toArray();
+    }
+
 }
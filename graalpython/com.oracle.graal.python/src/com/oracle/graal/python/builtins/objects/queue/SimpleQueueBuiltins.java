@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -59,15 +59,20 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.queue.SimpleQueueBuiltinsClinicProviders.SimpleQueueGetManyNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.objects.queue.SimpleQueueBuiltinsClinicProviders.SimpleQueueGetNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.IteratorExhausted;
+import com.oracle.graal.python.lib.PyIterNextNode;
 import com.oracle.graal.python.lib.PyLongAsLongAndOverflowNode;
+import com.oracle.graal.python.lib.PyObjectGetIter;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
@@ -117,7 +122,7 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
 
         @Specialization
         static boolean doGeneric(PSimpleQueue self) {
-            return self.getQueueSize() == 0;
+            return self.isEmpty();
         }
     }
 
@@ -186,6 +191,22 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Shared @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode raiseNode) {
+            return get(inliningTarget, self, block, gil, raiseNode);
+        }
+
+        @Specialization(guards = "withTimeout(block, timeout)")
+        static Object doTimeout(VirtualFrame frame, PSimpleQueue self, boolean block, Object timeout,
+                        @Bind Node inliningTarget,
+                        @Cached PyLongAsLongAndOverflowNode asLongNode,
+                        @Cached CastToJavaDoubleNode castToDouble,
+                        @Shared @Cached GilNode gil,
+                        @Exclusive @Cached PRaiseNode raiseNode) {
+            assert block;
+            long ltimeout = timeoutToMicros(frame, inliningTarget, timeout, asLongNode, castToDouble, raiseNode);
+            return get(inliningTarget, self, ltimeout, gil, raiseNode);
+        }
+
+        static Object get(Node inliningTarget, PSimpleQueue self, boolean block, GilNode gil, PRaiseNode raiseNode) {
             // CPython first tries a non-blocking get without releasing the GIL
             Object result = self.poll();
             if (result != null) {
@@ -206,31 +227,7 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
             throw raiseNode.raise(inliningTarget, Empty);
         }
 
-        @Specialization(guards = "withTimeout(block, timeout)")
-        static Object doTimeout(VirtualFrame frame, PSimpleQueue self, boolean block, Object timeout,
-                        @Bind Node inliningTarget,
-                        @Cached PyLongAsLongAndOverflowNode asLongNode,
-                        @Cached CastToJavaDoubleNode castToDouble,
-                        @Shared @Cached GilNode gil,
-                        @Exclusive @Cached PRaiseNode raiseNode) {
-            assert block;
-
-            // convert timeout object (given in seconds) to a Java long in microseconds
-            long ltimeout;
-            try {
-                ltimeout = (long) (castToDouble.execute(inliningTarget, timeout) * 1000000.0);
-            } catch (CannotCastException e) {
-                try {
-                    ltimeout = PythonUtils.multiplyExact(asLongNode.execute(frame, inliningTarget, timeout), 1000000);
-                } catch (OverflowException oe) {
-                    throw raiseNode.raise(inliningTarget, OverflowError, ErrorMessages.TIMEOUT_VALUE_TOO_LARGE);
-                }
-            }
-
-            if (ltimeout < 0) {
-                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.TIMEOUT_MUST_BE_NON_NEG_NUM);
-            }
-
+        static Object get(Node inliningTarget, PSimpleQueue self, long ltimeout, GilNode gil, PRaiseNode raiseNode) {
             // CPython first tries a non-blocking get without releasing the GIL
             Object result = self.poll();
             if (result != null) {
@@ -252,6 +249,25 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
             throw raiseNode.raise(inliningTarget, Empty);
         }
 
+        static long timeoutToMicros(VirtualFrame frame, Node inliningTarget, Object timeout, PyLongAsLongAndOverflowNode asLongNode, CastToJavaDoubleNode castToDouble, PRaiseNode raiseNode) {
+            // convert timeout object (given in seconds) to a Java long in microseconds
+            long ltimeout;
+            try {
+                ltimeout = (long) (castToDouble.execute(inliningTarget, timeout) * 1000000.0);
+            } catch (CannotCastException e) {
+                try {
+                    ltimeout = PythonUtils.multiplyExact(asLongNode.execute(frame, inliningTarget, timeout), 1000000);
+                } catch (OverflowException oe) {
+                    throw raiseNode.raise(inliningTarget, OverflowError, ErrorMessages.TIMEOUT_VALUE_TOO_LARGE);
+                }
+            }
+
+            if (ltimeout < 0) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.TIMEOUT_MUST_BE_NON_NEG_NUM);
+            }
+            return ltimeout;
+        }
+
         static boolean withTimeout(boolean block, Object timeout) {
             return block && !(timeout instanceof PNone);
         }
@@ -310,6 +326,89 @@ public final class SimpleQueueBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "get_many", minNumOfPositionalArgs = 2, parameterNames = {"$self", "max_items", "block", "timeout"}, //
+                    doc = "get_many($self, /, max_items, block=True, timeout=None)\n" +
+                                    "--\n\n" +
+                                    "Remove and return a list of at most 'max_items' items from the queue.\n" +
+                                    "\n" +
+                                    "The first item is waited for like in get(). The remaining items are\n" +
+                                    "only taken if they are immediately available.")
+    @GenerateNodeFactory
+    @ArgumentClinic(name = "max_items", conversion = ClinicConversion.Index)
+    @ArgumentClinic(name = "block", conversion = ClinicConversion.Boolean, defaultValue = "true")
+    public abstract static class SimpleQueueGetManyNode extends PythonQuaternaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SimpleQueueGetManyNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(guards = "!withTimeout(block, timeout)")
+        static Object doNoTimeout(PSimpleQueue self, int maxItems, boolean block, @SuppressWarnings("unused") Object timeout,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached GilNode gil,
+                        @Exclusive @Cached PRaiseNode raiseNode) {
+            checkMaxItems(inliningTarget, maxItems, raiseNode);
+            Object first = SimpleQueueGetNode.get(inliningTarget, self, block, gil, raiseNode);
+            return PFactory.createList(language, self.drain(first, maxItems));
+        }
+
+        @Specialization(guards = "withTimeout(block, timeout)")
+        static Object doTimeout(VirtualFrame frame, PSimpleQueue self, int maxItems, @SuppressWarnings("unused") boolean block, Object timeout,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached PyLongAsLongAndOverflowNode asLongNode,
+                        @Cached CastToJavaDoubleNode castToDouble,
+                        @Shared @Cached GilNode gil,
+                        @Exclusive @Cached PRaiseNode raiseNode) {
+            checkMaxItems(inliningTarget, maxItems, raiseNode);
+            long ltimeout = SimpleQueueGetNode.timeoutToMicros(frame, inliningTarget, timeout, asLongNode, castToDouble, raiseNode);
+            Object first = SimpleQueueGetNode.get(inliningTarget, self, ltimeout, gil, raiseNode);
+            return PFactory.createList(language, self.drain(first, maxItems));
+        }
+
+        private static void checkMaxItems(Node inliningTarget, int maxItems, PRaiseNode raiseNode) {
+            if (maxItems <= 0) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.MAX_ITEMS_MUST_BE_POSITIVE);
+            }
+        }
+
+        static boolean withTimeout(boolean block, Object timeout) {
+            return SimpleQueueGetNode.withTimeout(block, timeout);
+        }
+    }
+
+    @Builtin(name = "put_many", minNumOfPositionalArgs = 2, parameterNames = {"$self", "items"}, //
+                    doc = "put_many($self, /, items)\n" +
+                                    "--\n\n" +
+                                    "Put all items of an iterable on the queue, in order.\n" +
+                                    "\n" +
+                                    "Like put(), this never blocks.")
+    @GenerateNodeFactory
+    public abstract static class SimpleQueuePutManyNode extends PythonBinaryBuiltinNode {
+
+        @Specialization
+        static PNone doGeneric(VirtualFrame frame, PSimpleQueue self, Object items,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectGetIter getIter,
+                        @Cached PyIterNextNode nextNode,
+                        @Cached PRaiseNode raiseNode) {
+            Object it = getIter.execute(frame, inliningTarget, items);
+            while (true) {
+                Object item;
+                try {
+                    item = nextNode.execute(frame, inliningTarget, it);
+                } catch (IteratorExhausted e) {
+                    return PNone.NONE;
+                }
+                if (!self.put(item)) {
+                    throw raiseNode.raise(inliningTarget, OverflowError);
+                }
+            }
+        }
+    }
+
     @Builtin(name = J___CLASS_GETITEM__, minNumOfPositionalArgs = 2, isClassmethod = true)
     @GenerateNodeFactory
     public abstract static class ClassGetItemNode extends PythonBinaryBuiltinNode {
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.select;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___ENTER__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___EXIT__;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLERR;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLHUP;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLMSG;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLPRI;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLRDBAND;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLRDHUP;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLRDNORM;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLWRBAND;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLWRNORM;
+import static com.oracle.graal.python.util.TimeUtils.SEC_TO_NS;
+
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.Builtin;
+import com.oracle.graal.python.annotations.PythonOS;
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.annotations.Slot.SlotSignature;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyLongAsIntNode;
+import com.oracle.graal.python.lib.PyObjectAsFileDescriptor;
+import com.oracle.graal.python.lib.PyTimeFromObjectNode;
+import com.oracle.graal.python.lib.PyTimeFromObjectNode.RoundType;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PosixConstants.IntConstant;
+import com.oracle.graal.python.runtime.PosixSupport;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.Timeval;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.util.TimeUtils;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.Node;
+
+/**
+ * The {@code select.epoll} object. It is emulated on top of the poll sets of
+ * {@link PosixSupportLibrary}, so it is available with both backends, but like in CPython it is
+ * only exposed on Linux. The {@code EPOLL*} flags are translated to the {@code POLL*} flags of the
+ * platform, flags without a {@code POLL*} counterpart are dropped. Only level-triggered
+ * notification is supported, {@code EPOLLET} is accepted but ignored; {@code EPOLLONESHOT} disables
+ * the file descriptor after the first event is reported for it.
+ */
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PEpoll, os = PythonOS.PLATFORM_LINUX)
+public final class EpollBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = EpollBuiltinsSlotsGen.SLOTS;
+
+    public static final int EPOLLIN = 0x001;
+    public static final int EPOLLPRI = 0x002;
+    public static final int EPOLLOUT = 0x004;
+    public static final int EPOLLERR = 0x008;
+    public static final int EPOLLHUP = 0x010;
+    public static final int EPOLLRDNORM = 0x040;
+    public static final int EPOLLRDBAND = 0x080;
+    public static final int EPOLLWRNORM = 0x100;
+    public static final int EPOLLWRBAND = 0x200;
+    public static final int EPOLLMSG = 0x400;
+    public static final int EPOLLRDHUP = 0x2000;
+    public static final int EPOLLEXCLUSIVE = 1 << 28;
+    public static final int EPOLLONESHOT = 1 << 30;
+    public static final int EPOLLET = 1 << 31;
+
+    private static final int[] EPOLL_FLAGS = {EPOLLIN, EPOLLPRI, EPOLLOUT, EPOLLERR, EPOLLHUP, EPOLLRDNORM, EPOLLRDBAND, EPOLLWRNORM, EPOLLWRBAND, EPOLLMSG, EPOLLRDHUP};
+    private static final int[] POLL_FLAGS = {valueOrZero(POLLIN), valueOrZero(POLLPRI), valueOrZero(POLLOUT), valueOrZero(POLLERR), valueOrZero(POLLHUP), valueOrZero(POLLRDNORM),
+                    valueOrZero(POLLRDBAND), valueOrZero(POLLWRNORM), valueOrZero(POLLWRBAND), valueOrZero(POLLMSG), valueOrZero(POLLRDHUP)};
+
+    private static int valueOrZero(IntConstant constant) {
+        return constant.defined ? constant.getValueIfDefined() : 0;
+    }
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return EpollBuiltinsFactory.getFactories();
+    }
+
+    @ExplodeLoop
+    static int epollToPollEvents(int events) {
+        int result = 0;
+        for (int i = 0; i < EPOLL_FLAGS.length; i++) {
+            if ((events & EPOLL_FLAGS[i]) != 0) {
+                result |= POLL_FLAGS[i];
+            }
+        }
+        return result;
+    }
+
+    @ExplodeLoop
+    static int pollToEpollEvents(int revents) {
+        int result = 0;
+        for (int i = 0; i < POLL_FLAGS.length; i++) {
+            if ((revents & POLL_FLAGS[i]) != 0) {
+                result |= EPOLL_FLAGS[i];
+            }
+        }
+        return result;
+    }
+
+    @Slot(value = SlotKind.tp_new, isComplex = true)
+    @SlotSignature(name = "epoll", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "sizehint", "flags"})
+    @GenerateNodeFactory
+    abstract static class EpollNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        static PPoll doGeneric(VirtualFrame frame, Object cls, Object sizehintObj, @SuppressWarnings("unused") Object flags,
+                        @Bind Node inliningTarget,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @Cached TypeNodes.GetInstanceShape getInstanceShape,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (!PGuards.isNoValue(sizehintObj)) {
+                int sizehint = asIntNode.execute(frame, inliningTarget, sizehintObj);
+                if (sizehint == 0 || sizehint < -1) {
+                    throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.NEGATIVE_SIZE_HINT);
+                }
+            }
+            Object pollSet;
+            try {
+                pollSet = posixLib.pollCreate(PosixSupport.get(inliningTarget));
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+            return PFactory.createEpoll(cls, getInstanceShape.execute(cls), PythonContext.get(inliningTarget), pollSet);
+        }
+    }
+
+    @Builtin(name = "close", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CloseNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        PNone close(PPoll self,
+                        @CachedLibrary("getPosixSupport()") PosixSupportLibrary posixLib) {
+            self.ref.close(posixLib, getPosixSupport());
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "closed", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class ClosedNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean closed(PPoll self) {
+            return self.isClosed();
+        }
+    }
+
+    @Builtin(name = "fileno", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class FilenoNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int fileno(PPoll self,
+                        @Bind Node inliningTarget,
+                        @Cached PRaiseNode raiseNode) {
+            checkNotClosed(inliningTarget, self, raiseNode);
+            // the emulated epoll object is not backed by a file descriptor
+            return -1;
+        }
+    }
+
+    @Builtin(name = "register", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fd", "eventmask"})
+    @GenerateNodeFactory
+    abstract static class RegisterNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone register(VirtualFrame frame, PPoll self, Object fdObj, Object eventmaskObj,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode raiseNode) {
+            checkNotClosed(inliningTarget, self, raiseNode);
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            int events = PGuards.isNoValue(eventmaskObj) ? EPOLLIN | EPOLLPRI | EPOLLOUT : asIntNode.execute(frame, inliningTarget, eventmaskObj);
+            if (self.isRegistered(fd)) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.EEXIST);
+            }
+            setEvents(frame, inliningTarget, self, fd, events, posixLib, constructAndRaiseNode);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "modify", minNumOfPositionalArgs = 3, parameterNames = {"$self", "fd", "eventmask"})
+    @GenerateNodeFactory
+    abstract static class ModifyNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone modify(VirtualFrame frame, PPoll self, Object fdObj, Object eventmaskObj,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode raiseNode) {
+            checkNotClosed(inliningTarget, self, raiseNode);
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            int events = asIntNode.execute(frame, inliningTarget, eventmaskObj);
+            if (!self.isRegistered(fd)) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.ENOENT);
+            }
+            setEvents(frame, inliningTarget, self, fd, events, posixLib, constructAndRaiseNode);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "unregister", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fd"})
+    @GenerateNodeFactory
+    abstract static class UnregisterNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PNone unregister(VirtualFrame frame, PPoll self, Object fdObj,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode raiseNode) {
+            checkNotClosed(inliningTarget, self, raiseNode);
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            if (!self.removeRegistration(fd)) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.ENOENT);
+            }
+            try {
+                posixLib.pollUnregister(PosixSupport.get(inliningTarget), self.getPollSet(), fd);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "poll", minNumOfPositionalArgs = 1, parameterNames = {"$self", "timeout", "maxevents"})
+    @GenerateNodeFactory
+    abstract static class PollNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        static PList poll(VirtualFrame frame, PPoll self, Object timeoutObj, Object maxeventsObj,
+                        @Bind Node inliningTarget,
+                        @Cached PyTimeFromObjectNode pyTimeFromObjectNode,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Bind PythonLanguage language,
+                        @Cached PRaiseNode raiseNode) {
+            Timeval timeout = null;
+            if (!PGuards.isPNone(timeoutObj)) {
+                long ns = pyTimeFromObjectNode.execute(frame, inliningTarget, timeoutObj, RoundType.TIMEOUT, SEC_TO_NS);
+                // a negative timeout means to wait indefinitely
+                if (ns >= 0) {
+                    timeout = TimeUtils.pyTimeAsTimeval(ns);
+                }
+            }
+            int maxEvents = PGuards.isNoValue(maxeventsObj) ? -1 : asIntNode.execute(frame, inliningTarget, maxeventsObj);
+            if (maxEvents == 0 || maxEvents < -1) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.MAXEVENTS_MUST_BE_GREATER_THAN_ZERO, maxEvents);
+            }
+            int[] ready = PollBuiltins.waitForEvents(frame, inliningTarget, self, timeout, maxEvents, posixLib, gil, constructAndRaiseNode, raiseNode);
+            Object[] result = new Object[ready.length / 2];
+            for (int i = 0; i < result.length; i++) {
+                int fd = ready[2 * i];
+                if (self.disarmOneShot(fd)) {
+                    try {
+                        posixLib.pollRegister(PosixSupport.get(inliningTarget), self.getPollSet(), fd, 0);
+                    } catch (PosixException e) {
+                        throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+                    }
+                }
+                result[i] = PFactory.createTuple(language, new Object[]{fd, pollToEpollEvents(ready[2 * i + 1])});
+            }
+            return PFactory.createList(language, result);
+        }
+    }
+
+    @Builtin(name = J___ENTER__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class EnterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static PPoll enter(PPoll self,
+                        @Bind Node inliningTarget,
+                        @Cached PRaiseNode raiseNode) {
+            checkNotClosed(inliningTarget, self, raiseNode);
+            return self;
+        }
+    }
+
+    @Builtin(name = J___EXIT__, minNumOfPositionalArgs = 4)
+    @GenerateNodeFactory
+    abstract static class ExitNode extends PythonBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        PNone exit(PPoll self, Object type, Object value, Object traceback,
+                        @CachedLibrary("getPosixSupport()") PosixSupportLibrary posixLib) {
+            self.ref.close(posixLib, getPosixSupport());
+            return PNone.NONE;
+        }
+    }
+
+    private static void checkNotClosed(Node inliningTarget, PPoll self, PRaiseNode raiseNode) {
+        if (self.isClosed()) {
+            throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.IO_OPERATION_ON_CLOSED_POLL_OBJECT);
+        }
+    }
+
+    private static void setEvents(VirtualFrame frame, Node inliningTarget, PPoll self, int fd, int events, PosixSupportLibrary posixLib, PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+        // POLLERR and POLLHUP are always reported, as epoll does
+        int pollEvents = epollToPollEvents(events) | POLLERR.getValueIfDefined() | POLLHUP.getValueIfDefined();
+        try {
+            posixLib.pollRegister(PosixSupport.get(inliningTarget), self.getPollSet(), fd, pollEvents);
+        } catch (PosixException e) {
+            throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+        }
+        self.putRegistration(fd, events, (events & EPOLLONESHOT) != 0);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.select;
+
+import java.util.HashMap;
+import java.util.HashSet;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.AsyncHandler.AsyncAction;
+import com.oracle.graal.python.runtime.AsyncHandler.SharedFinalizer;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * The common representation of {@code select.poll} and {@code select.epoll} objects. Both keep
+ * their registrations in a poll set of the {@link PosixSupportLibrary}, which lives as long as the
+ * object, so that waiting on it does not need to register all file descriptors again.
+ */
+public final class PPoll extends PythonBuiltinObject {
+
+    final PollSetRef ref;
+    /** Registered file descriptors and their event masks as given by the user. */
+    private final HashMap<Integer, Integer> registrations = new HashMap<>();
+    /** File descriptors registered with {@code EPOLLONESHOT}, only used by {@code epoll}. */
+    private final HashSet<Integer> oneShot = new HashSet<>();
+    private boolean running;
+
+    public PPoll(Object cls, Shape instanceShape, PythonContext context, Object pollSet) {
+        super(cls, instanceShape);
+        this.ref = new PollSetRef(this, pollSet, context.getSharedFinalizer());
+    }
+
+    boolean isClosed() {
+        return ref.isReleased();
+    }
+
+    Object getPollSet() {
+        return ref.getReference();
+    }
+
+    @TruffleBoundary
+    boolean isRegistered(int fd) {
+        return registrations.containsKey(fd);
+    }
+
+    @TruffleBoundary
+    void putRegistration(int fd, int events, boolean isOneShot) {
+        registrations.put(fd, events);
+        if (isOneShot) {
+            oneShot.add(fd);
+        } else {
+            oneShot.remove(fd);
+        }
+    }
+
+    @TruffleBoundary
+    boolean removeRegistration(int fd) {
+        oneShot.remove(fd);
+        return registrations.remove(fd) != null;
+    }
+
+    /**
+     * Returns {@code true} if the file descriptor was registered with {@code EPOLLONESHOT} and has
+     * not been disarmed yet by a previous call to this method.
+     */
+    @TruffleBoundary
+    boolean disarmOneShot(int fd) {
+        return oneShot.remove(fd);
+    }
+
+    /**
+     * Marks the object as being polled. Returns {@code false} if another thread is already polling
+     * it.
+     */
+    synchronized boolean enterPoll() {
+        if (running) {
+            return false;
+        }
+        running = true;
+        return true;
+    }
+
+    synchronized void exitPoll() {
+        running = false;
+    }
+
+    static final class PollSetRef extends SharedFinalizer.FinalizableReference {
+
+        PollSetRef(PPoll referent, Object pollSet, SharedFinalizer finalizer) {
+            super(referent, pollSet, finalizer);
+        }
+
+        @Override
+        public AsyncAction release() {
+            return (context, access) -> close(PosixSupportLibrary.getUncached(), context.getPosixSupport());
+        }
+
+        void close(PosixSupportLibrary posixLib, Object posixSupport) {
+            if (!markReleased()) {
+                return;
+            }
+            posixLib.pollClose(posixSupport, getReference());
+        }
+    }
+}
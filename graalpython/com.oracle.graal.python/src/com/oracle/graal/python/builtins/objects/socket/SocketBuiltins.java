@@ -55,6 +55,7 @@ import static com.oracle.graal.python.runtime.PosixConstants.SOL_SOCKET;
 import static com.oracle.graal.python.runtime.PosixConstants.SO_ERROR;
 import static com.oracle.graal.python.runtime.PosixConstants.SO_PROTOCOL;
 import static com.oracle.graal.python.runtime.PosixConstants.SO_TYPE;
+import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
 import java.util.List;
@@ -74,15 +75,23 @@ import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.builtins.objects.common.SequenceNodes.GetObjectArrayNode;
 import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.mmap.PMMap;
 import com.oracle.graal.python.builtins.objects.socket.SocketUtils.TimeoutHelper;
 import com.oracle.graal.python.builtins.objects.str.StringUtils.SimpleTruffleStringFormatNode;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes;
 import com.oracle.graal.python.lib.PyLongAsIntNode;
+import com.oracle.graal.python.lib.PyTupleCheckNode;
+import com.oracle.graal.python.lib.PyTupleGetItem;
+import com.oracle.graal.python.lib.PyTupleSizeNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.builtins.ListNodes.FastConstructListNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
@@ -98,9 +107,12 @@ import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.PosixConstants;
 import com.oracle.graal.python.runtime.PosixSupport;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.Buffer;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.ControlMessage;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixErrnoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvfromResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvmsgResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.UniversalSockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.UniversalSockAddrLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -131,6 +143,8 @@ public final class SocketBuiltins extends PythonBuiltins {
     private static final TruffleString T_SOCKET_BIND = tsLiteral("socket.bind");
     private static final TruffleString T_SOCKET_CONNECT = tsLiteral("socket.connect");
     private static final TruffleString T_SOCKET_SENDTO = tsLiteral("socket.sendto");
+    private static final TruffleString T_SOCKET_SENDMSG = tsLiteral("socket.sendmsg");
+    private static final ControlMessage[] EMPTY_CONTROL_MESSAGES = new ControlMessage[0];
 
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
@@ -743,6 +757,23 @@ public final class SocketBuiltins extends PythonBuiltins {
 
                 checkSelectable(inliningTarget, raiseNode, socket);
 
+                final int len = recvlen;
+                PMMap mapped = PMMap.pinBackingMap(buffer);
+                try {
+                    long address = bufferLib.getNativeAddress(buffer);
+                    if (address != NULLPTR) {
+                        return SocketUtils.callSocketFunctionWithRetry(frame, inliningTarget, constructAndRaiseNode, posixLib, context.getPosixSupport(), gil, socket,
+                                        (p, s) -> p.recvIntoAddress(s, socket.getFd(), address, len, flags),
+                                        false, false);
+                    }
+                } catch (PosixException e) {
+                    throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+                } finally {
+                    if (mapped != null) {
+                        mapped.unpin();
+                    }
+                }
+
                 boolean directWrite = bufferLib.hasInternalByteArray(buffer);
                 byte[] bytes;
                 if (directWrite) {
@@ -755,7 +786,6 @@ public final class SocketBuiltins extends PythonBuiltins {
                     }
                 }
 
-                final int len = recvlen;
                 try {
                     int outlen = SocketUtils.callSocketFunctionWithRetry(frame, inliningTarget, constructAndRaiseNode, posixLib, context.getPosixSupport(), gil, socket,
                                     (p, s) -> p.recv(s, socket.getFd(), bytes, 0, len, flags),
@@ -867,6 +897,21 @@ public final class SocketBuiltins extends PythonBuiltins {
                 checkSelectable(inliningTarget, raiseNode, socket);
 
                 int len = bufferLib.getBufferLength(buffer);
+                PMMap mapped = PMMap.pinBackingMap(buffer);
+                try {
+                    long address = bufferLib.getNativeAddress(buffer);
+                    if (address != NULLPTR) {
+                        return SocketUtils.callSocketFunctionWithRetry(frame, inliningTarget, constructAndRaiseNode, posixLib, context.getPosixSupport(), gil, socket,
+                                        (p, s) -> p.sendFromAddress(s, socket.getFd(), address, len, flags),
+                                        true, false);
+                    }
+                } catch (PosixException e) {
+                    throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+                } finally {
+                    if (mapped != null) {
+                        mapped.unpin();
+                    }
+                }
                 byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
 
                 try {
@@ -904,12 +949,16 @@ public final class SocketBuiltins extends PythonBuiltins {
                         @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
                         @Cached PRaiseNode raiseNode) {
             Object buffer = bufferAcquireLib.acquireReadonly(bufferObj, frame, callData);
+            PMMap mapped = null;
             try {
                 checkSelectable(inliningTarget, raiseNode, socket);
 
                 int offset = 0;
                 int len = bufferLib.getBufferLength(buffer);
-                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
+                // the GIL is released between the chunks, so the map stays pinned for the whole loop
+                mapped = PMMap.pinBackingMap(buffer);
+                long address = bufferLib.getNativeAddress(buffer);
+                byte[] bytes = address == NULLPTR ? bufferLib.getInternalOrCopiedByteArray(buffer) : null;
 
                 long timeout = socket.getTimeoutNs();
                 TimeoutHelper timeoutHelper = null;
@@ -922,7 +971,7 @@ public final class SocketBuiltins extends PythonBuiltins {
                         final int offset1 = offset;
                         final int len1 = len;
                         int outlen = SocketUtils.callSocketFunctionWithRetry(frame, inliningTarget, constructAndRaiseNode, posixLib, context.getPosixSupport(), gil, socket,
-                                        (p, s) -> p.send(s, socket.getFd(), bytes, offset1, len1, flags),
+                                        (p, s) -> address != NULLPTR ? p.sendFromAddress(s, socket.getFd(), address + offset1, len1, flags) : p.send(s, socket.getFd(), bytes, offset1, len1, flags),
                                         true, false, timeoutHelper);
                         offset += outlen;
                         len -= outlen;
@@ -936,6 +985,9 @@ public final class SocketBuiltins extends PythonBuiltins {
                     }
                 }
             } finally {
+                if (mapped != null) {
+                    mapped.unpin();
+                }
                 bufferLib.release(buffer, frame, callData);
             }
         }
@@ -946,6 +998,211 @@ public final class SocketBuiltins extends PythonBuiltins {
         }
     }
 
+    // sendmsg(buffers[, ancdata[, flags[, address]]])
+    @Builtin(name = "sendmsg", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 5, parameterNames = {"$self", "buffers", "ancdata", "flags", "address"})
+    @ArgumentClinic(name = "flags", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "0")
+    @GenerateNodeFactory
+    abstract static class SendMsgNode extends PythonClinicBuiltinNode {
+        @Specialization
+        static Object sendMsg(VirtualFrame frame, PSocket socket, Object buffersObj, Object ancdataObj, int flags, Object address,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary bufferAcquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached FastConstructListNode constructListNode,
+                        @Cached GetObjectArrayNode getObjectArrayNode,
+                        @Cached PyTupleCheckNode tupleCheckNode,
+                        @Cached PyTupleSizeNode tupleSizeNode,
+                        @Cached PyTupleGetItem tupleGetItemNode,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @Cached SocketNodes.GetSockAddrArgNode getSockAddrArgNode,
+                        @Cached SysModuleBuiltins.AuditNode auditNode,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode raiseNode) {
+            checkSelectable(inliningTarget, raiseNode, socket);
+
+            UniversalSockAddr addr = null;
+            if (!PGuards.isPNone(address)) {
+                addr = getSockAddrArgNode.execute(frame, socket, address, "sendmsg");
+            }
+            auditNode.audit(frame, inliningTarget, T_SOCKET_SENDMSG, socket, address == PNone.NO_VALUE ? PNone.NONE : address);
+
+            ControlMessage[] ancillaryData = EMPTY_CONTROL_MESSAGES;
+            if (ancdataObj != PNone.NO_VALUE) {
+                Object[] items = getObjectArrayNode.execute(inliningTarget, constructListNode.execute(frame, inliningTarget, ancdataObj));
+                ancillaryData = new ControlMessage[items.length];
+                for (int i = 0; i < items.length; i++) {
+                    Object item = items[i];
+                    if (!tupleCheckNode.execute(inliningTarget, item) || tupleSizeNode.execute(inliningTarget, item) != 3) {
+                        throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.ANCDATA_ITEMS_MUST_BE_TUPLES);
+                    }
+                    int level = asIntNode.execute(frame, inliningTarget, tupleGetItemNode.execute(inliningTarget, item, 0));
+                    int type = asIntNode.execute(frame, inliningTarget, tupleGetItemNode.execute(inliningTarget, item, 1));
+                    Object data = bufferAcquireLib.acquireReadonly(tupleGetItemNode.execute(inliningTarget, item, 2), frame, callData);
+                    try {
+                        ancillaryData[i] = new ControlMessage(level, type, bufferLib.getCopiedByteArray(data));
+                    } finally {
+                        bufferLib.release(data, frame, callData);
+                    }
+                }
+            }
+
+            Object[] bufferObjs = getObjectArrayNode.execute(inliningTarget, constructListNode.execute(frame, inliningTarget, buffersObj));
+            Buffer[] buffers = new Buffer[bufferObjs.length];
+            Object[] acquired = new Object[bufferObjs.length];
+            try {
+                for (int i = 0; i < bufferObjs.length; i++) {
+                    acquired[i] = bufferAcquireLib.acquireReadonly(bufferObjs[i], frame, callData);
+                    buffers[i] = new Buffer(bufferLib.getInternalOrCopiedByteArray(acquired[i]), bufferLib.getBufferLength(acquired[i]));
+                }
+                final UniversalSockAddr destAddr = addr;
+                final ControlMessage[] ancdata = ancillaryData;
+                return SocketUtils.callSocketFunctionWithRetry(frame, inliningTarget, constructAndRaiseNode, posixLib, context.getPosixSupport(), gil, socket,
+                                (p, s) -> p.sendmsg(s, socket.getFd(), buffers, ancdata, flags, destAddr),
+                                true, false);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } finally {
+                for (Object buffer : acquired) {
+                    if (buffer != null) {
+                        bufferLib.release(buffer, frame, callData);
+                    }
+                }
+            }
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SocketBuiltinsClinicProviders.SendMsgNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    // recvmsg(bufsize[, ancbufsize[, flags]])
+    @Builtin(name = "recvmsg", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 4, parameterNames = {"$self", "bufsize", "ancbufsize", "flags"})
+    @ArgumentClinic(name = "bufsize", conversion = ArgumentClinic.ClinicConversion.Index)
+    @ArgumentClinic(name = "ancbufsize", conversion = ArgumentClinic.ClinicConversion.Index, defaultValue = "0")
+    @ArgumentClinic(name = "flags", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "0")
+    @GenerateNodeFactory
+    abstract static class RecvMsgNode extends PythonQuaternaryClinicBuiltinNode {
+        @Specialization
+        static Object recvMsg(VirtualFrame frame, PSocket socket, int bufsize, int ancbufsize, int flags,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached GilNode gil,
+                        @Cached SocketNodes.MakeSockAddrNode makeSockAddrNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (bufsize < 0) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.NEG_BUFF_SIZE_IN_S, "recvmsg");
+            }
+            if (ancbufsize < 0) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.NEG_ANC_BUFF_SIZE_IN_S, "recvmsg");
+            }
+            checkSelectable(inliningTarget, raiseNode, socket);
+
+            byte[] bytes;
+            try {
+                bytes = new byte[bufsize];
+            } catch (OutOfMemoryError error) {
+                throw raiseNode.raise(inliningTarget, MemoryError);
+            }
+            Buffer[] buffers = new Buffer[]{Buffer.wrap(bytes)};
+            try {
+                RecvmsgResult result = SocketUtils.callSocketFunctionWithRetry(frame, inliningTarget, constructAndRaiseNode, posixLib, context.getPosixSupport(), gil, socket,
+                                (p, s) -> p.recvmsg(s, socket.getFd(), buffers, ancbufsize, flags),
+                                false, false);
+                PythonLanguage language = context.getLanguage(inliningTarget);
+                PBytes data = result.readBytes == 0 ? PFactory.createEmptyBytes(language) : PFactory.createBytes(language, bytes, (int) result.readBytes);
+                return PFactory.createTuple(language, new Object[]{data, createAncillaryData(language, result.ancillaryData), result.flags,
+                                makeSockAddrNode.execute(frame, inliningTarget, result.sockAddr)});
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SocketBuiltinsClinicProviders.RecvMsgNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    // recvmsg_into(buffers[, ancbufsize[, flags]])
+    @Builtin(name = "recvmsg_into", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 4, parameterNames = {"$self", "buffers", "ancbufsize", "flags"})
+    @ArgumentClinic(name = "ancbufsize", conversion = ArgumentClinic.ClinicConversion.Index, defaultValue = "0")
+    @ArgumentClinic(name = "flags", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "0")
+    @GenerateNodeFactory
+    abstract static class RecvMsgIntoNode extends PythonQuaternaryClinicBuiltinNode {
+        @Specialization
+        static Object recvMsgInto(VirtualFrame frame, PSocket socket, Object buffersObj, int ancbufsize, int flags,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary bufferAcquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached FastConstructListNode constructListNode,
+                        @Cached GetObjectArrayNode getObjectArrayNode,
+                        @Cached GilNode gil,
+                        @Cached SocketNodes.MakeSockAddrNode makeSockAddrNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (ancbufsize < 0) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.NEG_ANC_BUFF_SIZE_IN_S, "recvmsg_into");
+            }
+            checkSelectable(inliningTarget, raiseNode, socket);
+
+            Object[] bufferObjs = getObjectArrayNode.execute(inliningTarget, constructListNode.execute(frame, inliningTarget, buffersObj));
+            Buffer[] buffers = new Buffer[bufferObjs.length];
+            Object[] acquired = new Object[bufferObjs.length];
+            try {
+                for (int i = 0; i < bufferObjs.length; i++) {
+                    acquired[i] = bufferAcquireLib.acquireWritable(bufferObjs[i], frame, callData);
+                    int len = bufferLib.getBufferLength(acquired[i]);
+                    buffers[i] = new Buffer(bufferLib.hasInternalByteArray(acquired[i]) ? bufferLib.getInternalByteArray(acquired[i]) : new byte[len], len);
+                }
+                RecvmsgResult result = SocketUtils.callSocketFunctionWithRetry(frame, inliningTarget, constructAndRaiseNode, posixLib, context.getPosixSupport(), gil, socket,
+                                (p, s) -> p.recvmsg(s, socket.getFd(), buffers, ancbufsize, flags),
+                                false, false);
+                long remaining = result.readBytes;
+                for (int i = 0; i < buffers.length && remaining > 0; i++) {
+                    int n = (int) Math.min(remaining, buffers[i].length);
+                    if (!bufferLib.hasInternalByteArray(acquired[i])) {
+                        bufferLib.writeFromByteArray(acquired[i], 0, buffers[i].data, 0, n);
+                    }
+                    remaining -= n;
+                }
+                PythonLanguage language = context.getLanguage(inliningTarget);
+                return PFactory.createTuple(language, new Object[]{(int) result.readBytes, createAncillaryData(language, result.ancillaryData), result.flags,
+                                makeSockAddrNode.execute(frame, inliningTarget, result.sockAddr)});
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } finally {
+                for (Object buffer : acquired) {
+                    if (buffer != null) {
+                        bufferLib.release(buffer, frame, callData);
+                    }
+                }
+            }
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SocketBuiltinsClinicProviders.RecvMsgIntoNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    private static PList createAncillaryData(PythonLanguage language, ControlMessage[] messages) {
+        Object[] items = new Object[messages.length];
+        for (int i = 0; i < messages.length; i++) {
+            items[i] = PFactory.createTuple(language, new Object[]{messages[i].level, messages[i].type, PFactory.createBytes(language, messages[i].data)});
+        }
+        return PFactory.createList(language, items);
+    }
+
     // sendto(bytes, address)
     // sendto(bytes, flags, address)
     @Builtin(name = "sendto", minNumOfPositionalArgs = 3, maxNumOfPositionalArgs = 4)
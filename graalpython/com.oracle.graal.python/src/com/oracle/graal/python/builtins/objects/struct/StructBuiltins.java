@@ -102,6 +102,13 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.IndirectCallData.InteropCallData;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.NumericSupport;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
@@ -147,6 +154,71 @@ public class StructBuiltins extends PythonBuiltins {
         return values;
     }
 
+    /**
+     * Unpacks {@code count} consecutive records into one list per value of the record. Integer,
+     * floating point and boolean values are stored unboxed in the lists.
+     */
+    @TruffleBoundary
+    static Object[] unpackColumns(PythonLanguage language, PStruct self, StructNodes.UnpackValueNode unpackValueNode, byte[] bytes, int count) {
+        Object[] columns = new Object[self.getLen()];
+        NumericSupport numericSupport = StructNodes.StructBaseNode.getNumericSupport(self.formatAlignment);
+        int pos = 0;
+        for (FormatCode code : self.getCodes()) {
+            for (int j = 0; j < code.repeat; j++, pos++) {
+                SequenceStorage column = unpackColumn(self, code, numericSupport, unpackValueNode, bytes, code.offset + j * code.size, count);
+                columns[pos] = PFactory.createList(language, column);
+            }
+        }
+        return columns;
+    }
+
+    private static SequenceStorage unpackColumn(PStruct self, FormatCode code, NumericSupport numericSupport, StructNodes.UnpackValueNode unpackValueNode, byte[] bytes, int offset, int count) {
+        int size = self.getSize();
+        int numBytes = code.numBytes();
+        if (StructNodes.StructBaseNode.isFmtInteger(code)) {
+            boolean unsigned = code.isUnsigned();
+            if (numBytes < Integer.BYTES || numBytes == Integer.BYTES && !unsigned) {
+                int[] values = new int[count];
+                for (int i = 0, p = offset; i < count; i++, p += size) {
+                    long num = unsigned ? numericSupport.getLongUnsigned(bytes, p, numBytes) : StructNodes.StructBaseNode.handleSign(code, numericSupport.getLong(bytes, p, numBytes));
+                    values[i] = (int) num;
+                }
+                return new IntSequenceStorage(values);
+            }
+            long[] values = new long[count];
+            for (int i = 0, p = offset; i < count; i++, p += size) {
+                long num = unsigned ? numericSupport.getLongUnsigned(bytes, p, numBytes) : StructNodes.StructBaseNode.handleSign(code, numericSupport.getLong(bytes, p, numBytes));
+                if (num < 0 && unsigned) {
+                    // does not fit into a long, box all values of the column
+                    return unpackObjectColumn(self, code, unpackValueNode, bytes, offset, count);
+                }
+                values[i] = num;
+            }
+            return new LongSequenceStorage(values);
+        } else if (StructNodes.StructBaseNode.isFmtFloat(code)) {
+            double[] values = new double[count];
+            for (int i = 0, p = offset; i < count; i++, p += size) {
+                values[i] = numericSupport.getDouble(bytes, p, numBytes);
+            }
+            return new DoubleSequenceStorage(values);
+        } else if (StructNodes.StructBaseNode.isFmtBoolean(code)) {
+            boolean[] values = new boolean[count];
+            for (int i = 0, p = offset; i < count; i++, p += size) {
+                values[i] = bytes[p] != 0;
+            }
+            return new BoolSequenceStorage(values);
+        }
+        return unpackObjectColumn(self, code, unpackValueNode, bytes, offset, count);
+    }
+
+    private static SequenceStorage unpackObjectColumn(PStruct self, FormatCode code, StructNodes.UnpackValueNode unpackValueNode, byte[] bytes, int offset, int count) {
+        Object[] values = new Object[count];
+        for (int i = 0, p = offset; i < count; i++, p += self.getSize()) {
+            values[i] = unpackValueNode.execute(code, self.formatAlignment, bytes, p);
+        }
+        return new ObjectSequenceStorage(values);
+    }
+
     public static final TpSlots SLOTS = StructBuiltinsSlotsGen.SLOTS;
 
     @Override
@@ -574,7 +646,7 @@ public class StructBuiltins extends PythonBuiltins {
                         @Bind PythonLanguage language,
                         @Cached("createFor($node)") InteropCallData callData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
-                        @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Cached StructNodes.UnpackRecordNode unpackRecordNode,
                         @Cached PRaiseNode raiseNode) {
             try {
                 int bytesLen = bufferLib.getBufferLength(buffer);
@@ -582,7 +654,7 @@ public class StructBuiltins extends PythonBuiltins {
                 if (bytesLen != self.getSize()) {
                     throw raiseNode.raise(inliningTarget, StructError, UNPACK_REQ_A_BUFFER_OF_N_BYTES, self.getSize());
                 }
-                return PFactory.createTuple(language, unpackInternal(self, unpackValueNode, bytes, 0));
+                return PFactory.createTuple(language, unpackRecordNode.execute(self, bytes, 0));
             } finally {
                 bufferLib.release(buffer, frame, callData);
             }
@@ -627,6 +699,41 @@ public class StructBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "unpack_into_columns", minNumOfPositionalArgs = 2, parameterNames = {"$self", "buffer"}, doc = "S.unpack_into_columns(buffer) -> tuple of lists\n\n" +
+                    "Unpack all records of the buffer at once and return a list of the values of each field, in the order of the format. " +
+                    "The buffer's size in bytes must be a multiple of S.size.")
+    @ArgumentClinic(name = "buffer", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
+    @GenerateNodeFactory
+    public abstract static class StructUnpackIntoColumnsNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return StructBuiltinsClinicProviders.StructUnpackIntoColumnsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        static Object unpackIntoColumns(VirtualFrame frame, PStruct self, Object buffer,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached("createFor($node)") InteropCallData callData,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Cached PRaiseNode raiseNode) {
+            try {
+                if (self.getSize() == 0) {
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_ITER_CANNOT_UNPACK_FROM_STRUCT_OF_SIZE_0);
+                }
+                int bufferLen = bufferLib.getBufferLength(buffer);
+                if (bufferLen % self.getSize() != 0) {
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_ITER_UNPACK_REQ_A_BUFFER_OF_A_MUL_OF_BYTES, self.getSize());
+                }
+                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
+                return PFactory.createTuple(language, unpackColumns(language, self, unpackValueNode, bytes, bufferLen / self.getSize()));
+            } finally {
+                bufferLib.release(buffer, frame, callData);
+            }
+        }
+    }
+
     @Builtin(name = "unpack_from", minNumOfPositionalArgs = 2, parameterNames = {"$self", "buffer", "offset"}, forceSplitDirectCalls = true)
     @ArgumentClinic(name = "buffer", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
     @ArgumentClinic(name = "offset", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "0")
@@ -645,7 +752,7 @@ public class StructBuiltins extends PythonBuiltins {
                         @Bind PythonLanguage language,
                         @Cached("createFor($node)") InteropCallData callData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
-                        @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Cached StructNodes.UnpackRecordNode unpackRecordNode,
                         @Cached PRaiseNode raiseNode) {
             try {
                 int bufferOffset = offset;
@@ -668,7 +775,7 @@ public class StructBuiltins extends PythonBuiltins {
                     throw raiseNode.raise(inliningTarget, StructError, STRUCT_UNPACK_FROM_REQ_AT_LEAST_N_BYTES, size + bufferOffset, size, bufferOffset, bytesLen);
                 }
 
-                return PFactory.createTuple(language, unpackInternal(self, unpackValueNode, bytes, bufferOffset));
+                return PFactory.createTuple(language, unpackRecordNode.execute(self, bytes, bufferOffset));
             } finally {
                 bufferLib.release(buffer, frame, callData);
             }
@@ -25,6 +25,8 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.NotImple
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.StructError;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
@@ -58,6 +60,7 @@ import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.profiles.PrimitiveValueProfile;
@@ -518,4 +521,66 @@ public final class StructNodes {
         }
     }
 
+    /**
+     * Unpacks all values of a record. For structs with few values, each value is unpacked by its
+     * own {@link UnpackValueNode}, so that the nodes stay monomorphic and the per-value loop can be
+     * unrolled.
+     */
+    @GenerateInline(false)
+    public abstract static class UnpackRecordNode extends PNodeWithContext {
+        protected static final int MAX_UNROLLED_VALUES = 16;
+
+        public abstract Object[] execute(PStruct struct, byte[] buffer, int offset);
+
+        @Specialization(guards = {"struct.getCodes() == cachedCodes", "valueNodes.length <= MAX_UNROLLED_VALUES"}, limit = "1")
+        @ExplodeLoop
+        static Object[] unpackCached(PStruct struct, byte[] buffer, int offset,
+                        @Cached(value = "struct.getCodes()", dimensions = 0) FormatCode[] cachedCodes,
+                        @Cached(value = "getValueCodes(cachedCodes)", dimensions = 1) FormatCode[] valueCodes,
+                        @Cached(value = "getValueOffsets(cachedCodes)", dimensions = 1) int[] valueOffsets,
+                        @Cached("createValueNodes(valueCodes)") UnpackValueNode[] valueNodes) {
+            Object[] values = new Object[valueNodes.length];
+            FormatAlignment formatAlignment = struct.formatAlignment;
+            for (int i = 0; i < valueNodes.length; i++) {
+                values[i] = valueNodes[i].execute(valueCodes[i], formatAlignment, buffer, offset + valueOffsets[i]);
+            }
+            return values;
+        }
+
+        @Specialization(replaces = "unpackCached")
+        static Object[] unpackGeneric(PStruct struct, byte[] buffer, int offset,
+                        @Cached UnpackValueNode unpackValueNode) {
+            return StructBuiltins.unpackInternal(struct, unpackValueNode, buffer, offset);
+        }
+
+        static FormatCode[] getValueCodes(FormatCode[] codes) {
+            List<FormatCode> valueCodes = new ArrayList<>();
+            for (FormatCode code : codes) {
+                for (int j = 0; j < code.repeat; j++) {
+                    valueCodes.add(code);
+                }
+            }
+            return valueCodes.toArray(new FormatCode[0]);
+        }
+
+        static int[] getValueOffsets(FormatCode[] codes) {
+            FormatCode[] valueCodes = getValueCodes(codes);
+            int[] offsets = new int[valueCodes.length];
+            int pos = 0;
+            for (FormatCode code : codes) {
+                for (int j = 0; j < code.repeat; j++, pos++) {
+                    offsets[pos] = code.offset + j * code.size;
+                }
+            }
+            return offsets;
+        }
+
+        static UnpackValueNode[] createValueNodes(FormatCode[] valueCodes) {
+            UnpackValueNode[] nodes = new UnpackValueNode[valueCodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = StructNodesFactory.UnpackValueNodeGen.create();
+            }
+            return nodes;
+        }
+    }
 }
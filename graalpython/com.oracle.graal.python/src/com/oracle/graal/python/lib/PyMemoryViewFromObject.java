@@ -42,6 +42,7 @@ package com.oracle.graal.python.lib;
 
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
 
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.pickle.PPickleBuffer;
@@ -56,6 +57,7 @@ import com.oracle.graal.python.builtins.objects.memoryview.CExtPyBuffer;
 import com.oracle.graal.python.builtins.objects.memoryview.MemoryViewNodes;
 import com.oracle.graal.python.builtins.objects.memoryview.NativeBufferLifecycleManager.NativeBufferLifecycleManagerFromSlot;
 import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
+import com.oracle.graal.python.builtins.objects.mmap.PMMap;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.HiddenAttr;
 import com.oracle.graal.python.nodes.PNodeWithContext;
@@ -127,6 +129,24 @@ public abstract class PyMemoryViewFromObject extends PNodeWithContext {
         return recursive.execute(frame, owner);
     }
 
+    /**
+     * Memoryviews of a mmap are registered as its exports, so that the map cannot be closed while
+     * they can access its memory.
+     */
+    @Specialization
+    static PMemoryView fromMMap(PMMap object,
+                    @Bind Node inliningTarget,
+                    @Shared @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached PRaiseNode raiseNode) {
+        if (object.isClosed()) {
+            throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.MMAP_CLOSED_OR_INVALID);
+        }
+        PythonContext context = PythonContext.get(inliningTarget);
+        int length = bufferLib.getBufferLength(object);
+        return PFactory.createMemoryView(context.getLanguage(inliningTarget), context, object.getLifecycleManager(), object, object, length, bufferLib.isReadonly(object), 1,
+                        BufferFormat.UINT_8, BufferFormat.T_UINT_8_TYPE_CODE, 1, NULLPTR, 0, new int[]{length}, new int[]{1}, null, PMemoryView.FLAG_C | PMemoryView.FLAG_FORTRAN);
+    }
+
     @Fallback
     static PMemoryView fromManaged(VirtualFrame frame, Object object,
                     @Bind Node inliningTarget,
@@ -58,6 +58,17 @@ public abstract class ErrorMessages {
     public static final TruffleString P_ACCEPTS_D_POS_SUBARG_S_D_GIVEN = tsLiteral("%p() accepts %d positional sub-pattern%s (%d given)");
     public static final TruffleString AF_UNIX_NOT_SUPPORTED = tsLiteral("%s(): AF_UNIX is not supported");
     public static final TruffleString AF_UNIX_PATH_TOO_LONG = tsLiteral("%s(): AF_UNIX path too long");
+    public static final TruffleString ARROW_CANNOT_EXPORT_P = tsLiteral("'%p' object cannot be exported to Arrow");
+    public static final TruffleString ARROW_CANNOT_EXPORT_LIST = tsLiteral("only lists of int, float or bool can be exported to Arrow");
+    public static final TruffleString ARROW_CANNOT_EXPORT_FORMAT_S = tsLiteral("buffer format '%s' cannot be exported to Arrow");
+    public static final TruffleString ARROW_CANNOT_EXPORT_NON_CONTIGUOUS = tsLiteral("only one-dimensional C-contiguous buffers can be exported to Arrow");
+    public static final TruffleString ARROW_UNSUPPORTED_FORMAT_S = tsLiteral("unsupported Arrow format '%s'");
+    public static final TruffleString ARROW_UNSUPPORTED_NESTED = tsLiteral("nested and dictionary-encoded Arrow arrays are not supported");
+    public static final TruffleString ARROW_STRUCT_RELEASED = tsLiteral("Arrow structure was already released");
+    public static final TruffleString ARROW_ARRAY_TOO_LONG = tsLiteral("Arrow array is too long");
+    public static final TruffleString ARROW_INVALID_LENGTH_OR_OFFSET = tsLiteral("Arrow array has a negative length or offset");
+    public static final TruffleString ARROW_CANNOT_VIEW_FORMAT_S = tsLiteral("Arrow format '%s' cannot be viewed as a memoryview");
+    public static final TruffleString ARROW_CANNOT_VIEW_NULLS = tsLiteral("Arrow array with nulls cannot be viewed as a memoryview");
     public static final TruffleString ARRAY_ITEM_MUST_BE_UNICODE = tsLiteral("array item must be unicode character");
     public static final TruffleString S_EXPECTED_SD_ARGS_GOT_D = tsLiteral("%s expected %s%d argument%s, got %d");
     public static final TruffleString UNPACKED_TUPLE_SHOULD_HAVE_D_ELEMS = tsLiteral("unpacked tuple should have %s%d element%s, but has %d");
@@ -504,6 +515,7 @@ public abstract class ErrorMessages {
     public static final TruffleString MATH_DOMAIN_ERROR = tsLiteral("math domain error");
     public static final TruffleString MATH_RANGE_ERROR = tsLiteral("math range error");
     public static final TruffleString NUMERICAL_RESULT_OUT_OF_RANGE = tsLiteral("Numerical result out of range");
+    public static final TruffleString MAX_ITEMS_MUST_BE_POSITIVE = tsLiteral("max_items must be positive");
     public static final TruffleString MAX_MARSHAL_STACK_DEPTH = tsLiteral("Maximum marshal stack depth");
     public static final TruffleString M = tsLiteral("%m");
     public static final TruffleString MEMORYVIEW_INVALID_SLICE_KEY = tsLiteral("memoryview: invalid slice key");
@@ -1067,6 +1079,9 @@ public abstract class ErrorMessages {
     public static final TruffleString NEG_BUFF_SIZE_IN_RECV_INTO = tsLiteral("negative buffersize in recv_into");
     public static final TruffleString NEG_BUFF_SIZE_IN_RECVFROM = tsLiteral("negative buffersize in recvfrom");
     public static final TruffleString NEG_BUFF_SIZE_IN_RECV = tsLiteral("negative buffersize in recv");
+    public static final TruffleString NEG_BUFF_SIZE_IN_S = tsLiteral("negative buffer size in %s()");
+    public static final TruffleString NEG_ANC_BUFF_SIZE_IN_S = tsLiteral("negative ancillary buffer size in %s()");
+    public static final TruffleString ANCDATA_ITEMS_MUST_BE_TUPLES = tsLiteral("ancillary data items must be (level, type, data) tuples");
     public static final TruffleString NEG_FILE_DESC = tsLiteral("negative file descriptor");
     public static final TruffleString UNABLE_TO_SELECT_ON_SOCKET = tsLiteral("unable to select on socket");
     public static final TruffleString N_OBJECT_DOES_NOT_SUPPORT_CONTEXT_MANAGER_PROTOCOL = tsLiteral("'%N' object does not support the context manager protocol");
@@ -1090,6 +1105,7 @@ public abstract class ErrorMessages {
     public static final TruffleString MMAP_CANNOT_RESIZE_WITH_TRACKFD_FALSE = tsLiteral("mmap can't resize with trackfd=False.");
     public static final TruffleString DATA_OUT_OF_RANGE = tsLiteral("data out of range");
     public static final TruffleString MMAP_CLOSED_OR_INVALID = tsLiteral("mmap closed or invalid");
+    public static final TruffleString MMAP_CANNOT_CLOSE_EXPORTED_POINTERS_EXIST = tsLiteral("cannot close exported pointers exist");
     public static final TruffleString MMAP_OBJECT_DOESNT_SUPPORT_ITEM_DELETION = tsLiteral("mmap object doesn't support item deletion");
     public static final TruffleString MMAP_OBJECT_DOESNT_SUPPORT_SLICE_DELETION = tsLiteral("mmap object doesn't support slice deletion");
     public static final TruffleString MMAP_ASSIGNMENT_MUST_BE_LENGTH_1_BYTES = tsLiteral("mmap assignment must be length-1 bytes()");
@@ -1148,6 +1164,10 @@ public abstract class ErrorMessages {
     public static final TruffleString DETACHED_BUFFER = tsLiteral("underlying buffer has been detached");
     public static final TruffleString UNSUPPORTED_WHENCE = tsLiteral("whence value %d unsupported");
     public static final TruffleString IO_CLOSED = tsLiteral("I/O operation on closed file.");
+    public static final TruffleString IO_OPERATION_ON_CLOSED_POLL_OBJECT = tsLiteral("I/O operation on closed epoll object");
+    public static final TruffleString CONCURRENT_POLL_INVOCATION = tsLiteral("concurrent poll() invocation");
+    public static final TruffleString MAXEVENTS_MUST_BE_GREATER_THAN_ZERO = tsLiteral("maxevents must be greater than 0, got %d");
+    public static final TruffleString NEGATIVE_SIZE_HINT = tsLiteral("negative sizehint");
     public static final TruffleString MUST_BE_NON_NEG_OR_NEG_1 = tsLiteral("read length must be non-negative or -1");
     public static final TruffleString BUF_SIZE_POS = tsLiteral("buffer size must be strictly positive");
     public static final TruffleString S_SHOULD_RETURN_BYTES = tsLiteral("%s should return bytes");
@@ -1206,6 +1226,17 @@ public abstract class ErrorMessages {
     public static final TruffleString SECOND_ITEM_OF_STATE_MUST_BE_AN_INTEGER_NOT_P = tsLiteral("second item of state must be an integer, not %p");
     public static final TruffleString WRITE_COULD_NOT_COMPLETE_WITHOUT_BLOCKING = tsLiteral("write could not complete without blocking");
     public static final TruffleString THE_S_OBJECT_IS_BEING_GARBAGE_COLLECTED = tsLiteral("the %s object is being garbage-collected");
+    public static final TruffleString NUMBER_OF_FRAMES_MUST_BE_IN_RANGE = tsLiteral("the number of frames must be in range [1; %d]");
+    public static final TruffleString INVALID_TOOL_D = tsLiteral("invalid tool %d (must be between 0 and 5)");
+    public static final TruffleString TOOL_D_IS_ALREADY_IN_USE = tsLiteral("tool %d is already in use");
+    public static final TruffleString TOOL_D_IS_NOT_IN_USE = tsLiteral("tool %d is not in use");
+    public static final TruffleString TOOL_NAME_MUST_BE_A_STR = tsLiteral("tool name must be a str");
+    public static final TruffleString INVALID_EVENT_SET_X = tsLiteral("invalid event set 0x%x");
+    public static final TruffleString INVALID_LOCAL_EVENT_SET_X = tsLiteral("invalid local event set 0x%x");
+    public static final TruffleString CANNOT_SET_C_RETURN_OR_C_RAISE_INDEPENDENTLY = tsLiteral("cannot set C_RETURN or C_RAISE events independently");
+    public static final TruffleString CALLBACK_ONLY_FOR_ONE_EVENT = tsLiteral("The callback can only be set for one event at a time");
+    public static final TruffleString INVALID_EVENT_D = tsLiteral("invalid event %d");
+    public static final TruffleString CANNOT_DISABLE_S_EVENTS = tsLiteral("Cannot disable %s events");
     public static final TruffleString SHUTDOWN_POSSIBLY_DUE_TO_DAEMON_THREADS = tsLiteral("could not acquire lock for %s at interpreter shutdown, possibly due to daemon threads");
     public static final TruffleString OPTIONAL_THIRD_ARG_MUST_BE_DICT = tsLiteral("optional 3rd arg must be a dictionary");
     public static final TruffleString REENTRANT_CALL_INSIDE_P = tsLiteral("reentrant call inside %p");
@@ -121,10 +121,64 @@ public class ArrowArray {
         return memoryAddr;
     }
 
+    public long length() {
+        return unsafe.getLong(memoryAddr + LENGTH_INDEX);
+    }
+
+    public long nullCount() {
+        return unsafe.getLong(memoryAddr + NULL_COUNT_INDEX);
+    }
+
+    public long offset() {
+        return unsafe.getLong(memoryAddr + OFFSET_INDEX);
+    }
+
+    public long nBuffers() {
+        return unsafe.getLong(memoryAddr + N_BUFFERS_INDEX);
+    }
+
+    public long nChildren() {
+        return unsafe.getLong(memoryAddr + N_CHILDREN_INDEX);
+    }
+
+    public long buffers() {
+        return unsafe.getLong(memoryAddr + BUFFERS_INDEX);
+    }
+
+    public long buffer(int idx) {
+        assert 0 <= idx && idx < nBuffers();
+        return unsafe.getLong(buffers() + idx * POINTER_SIZE);
+    }
+
+    public long dictionary() {
+        return unsafe.getLong(memoryAddr + DICTIONARY_INDEX);
+    }
+
     public long releaseCallback() {
         return unsafe.getLong(memoryAddr + RELEASE_CALLBACK_INDEX);
     }
 
+    public long privateData() {
+        return unsafe.getLong(memoryAddr + PRIVATE_DATA_INDEX);
+    }
+
+    public void markReleased() {
+        unsafe.putLong(memoryAddr + RELEASE_CALLBACK_INDEX, NULL);
+    }
+
+    /**
+     * Moves this structure to newly allocated memory and marks this one as released, as required
+     * from a consumer that keeps the data beyond the lifetime of the producer's capsule. The caller
+     * owns the returned structure and must eventually call its release callback and free it.
+     */
+    public ArrowArray move() {
+        assert !isReleased();
+        long newAddr = unsafe.allocateMemory(SIZE_OF);
+        unsafe.copyMemory(memoryAddr, newAddr, SIZE_OF);
+        markReleased();
+        return new ArrowArray(newAddr);
+    }
+
     public static ArrowArray wrap(long arrowArrayPointer) {
         return new ArrowArray(arrowArrayPointer);
     }
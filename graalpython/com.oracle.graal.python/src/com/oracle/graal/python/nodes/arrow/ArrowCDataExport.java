@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.arrow;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import com.oracle.graal.python.builtins.objects.array.PArray;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.arrow.release.ArrowArrayRelease;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.nativeaccess.NativeMemory;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.NativeIntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.BufferFormat;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+
+import sun.misc.Unsafe;
+
+/**
+ * Exports lists with a primitive storage, {@code array.array} objects and one-dimensional
+ * memoryviews through the Arrow C Data Interface.
+ * <p>
+ * A memoryview backed by native memory, such as one returned by
+ * {@link ArrowCDataImport#importBuffer} or one of an {@code mmap}, is exported without copying:
+ * the exported {@link ArrowArray} points into its memory and holds an export of the memoryview
+ * until the consumer calls the release callback, so the memoryview cannot be released before.
+ * Boolean buffers are still converted, since Arrow packs booleans into bits.
+ * </p>
+ * <p>
+ * In all other cases the exported array owns a copy of the data in native memory. Managed storages
+ * live on the Java heap, where the garbage collector may move them. Lists, including those with a
+ * native storage, can be modified and resized at any time, and resizing a native storage frees its
+ * old memory, while the producer must guarantee that the data stays valid and unchanged until the
+ * consumer calls the release callback. So the data is copied with one bulk copy instead of being
+ * handed out directly.
+ * </p>
+ */
+public final class ArrowCDataExport {
+    private static final Unsafe unsafe = PythonUtils.initUnsafe();
+
+    /** {@code ARROW_FLAG_NULLABLE} from the C Data Interface. */
+    private static final long FLAG_NULLABLE = 2;
+
+    private ArrowCDataExport() {
+    }
+
+    @TruffleBoundary
+    public static ArrowSchema exportSchema(Node node, PythonContext ctx, Object obj) {
+        return createSchema(ctx, getFormat(node, obj));
+    }
+
+    /**
+     * Exports the data of {@code obj}. The result matches the schema returned by
+     * {@link #exportSchema} as long as {@code obj} is not modified in between.
+     */
+    @TruffleBoundary
+    public static ArrowArray exportArray(Node node, PythonContext ctx, Object obj) {
+        if (obj instanceof PList list) {
+            return exportStorage(node, ctx, list.getSequenceStorage());
+        }
+        BufferFormat format = getBufferFormat(node, obj);
+        getArrowFormat(node, obj, format);
+        return exportBuffer(ctx, obj, format);
+    }
+
+    /**
+     * Releases and frees a schema returned by {@link #exportSchema} that was not handed out to a
+     * consumer.
+     */
+    @TruffleBoundary
+    public static void releaseSchema(ArrowSchema schema) {
+        ArrowReleaseCallback.execute(schema.releaseCallback(), schema.memoryAddress());
+        NativeMemory.free(schema.memoryAddress());
+    }
+
+    private static String getFormat(Node node, Object obj) {
+        if (obj instanceof PList list) {
+            return getStorageFormat(node, list.getSequenceStorage());
+        }
+        return getArrowFormat(node, obj, getBufferFormat(node, obj));
+    }
+
+    private static String getStorageFormat(Node node, SequenceStorage storage) {
+        if (storage instanceof IntSequenceStorage || storage instanceof NativeIntSequenceStorage) {
+            return "i";
+        } else if (storage instanceof LongSequenceStorage) {
+            return "l";
+        } else if (storage instanceof DoubleSequenceStorage) {
+            return "g";
+        } else if (storage instanceof BoolSequenceStorage) {
+            return "b";
+        } else if (storage instanceof EmptySequenceStorage) {
+            return "n";
+        }
+        throw PRaiseNode.raiseStatic(node, TypeError, ErrorMessages.ARROW_CANNOT_EXPORT_LIST);
+    }
+
+    private static BufferFormat getBufferFormat(Node node, Object obj) {
+        if (obj instanceof PArray array) {
+            return array.getFormat();
+        } else if (obj instanceof PMemoryView memoryView) {
+            if (memoryView.getDimensions() > 1 || !memoryView.isCContiguous()) {
+                throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_CANNOT_EXPORT_NON_CONTIGUOUS);
+            }
+            return memoryView.getFormat();
+        }
+        throw PRaiseNode.raiseStatic(node, TypeError, ErrorMessages.ARROW_CANNOT_EXPORT_P, obj);
+    }
+
+    private static String getArrowFormat(Node node, Object obj, BufferFormat format) {
+        return switch (format) {
+            case INT_8 -> "c";
+            case UINT_8 -> "C";
+            case INT_16 -> "s";
+            case UINT_16 -> "S";
+            case INT_32 -> "i";
+            case UINT_32 -> "I";
+            case INT_64 -> "l";
+            case UINT_64 -> "L";
+            case HALF_FLOAT -> "e";
+            case FLOAT -> "f";
+            case DOUBLE -> "g";
+            case BOOLEAN -> "b";
+            default -> throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_CANNOT_EXPORT_FORMAT_S,
+                            obj instanceof PArray array ? array.getFormatString() : ((PMemoryView) obj).getFormatString());
+        };
+    }
+
+    private static ArrowSchema createSchema(PythonContext ctx, String format) {
+        long formatPtr = ctx.stringToNativeUtf8Bytes(toTruffleStringUncached(format), false);
+        return ArrowSchema.allocate(formatPtr, NULLPTR, NULLPTR, FLAG_NULLABLE, 0, NULLPTR, NULLPTR, ctx.arrowSupport.getArrowSchemaRelease(), NULLPTR);
+    }
+
+    private static ArrowArray exportStorage(Node node, PythonContext ctx, SequenceStorage storage) {
+        int length = storage.length();
+        if (storage instanceof IntSequenceStorage intStorage) {
+            long data = allocateData((long) length * Integer.BYTES);
+            unsafe.copyMemory(intStorage.getInternalIntArray(), Unsafe.ARRAY_INT_BASE_OFFSET, null, data, (long) length * Integer.BYTES);
+            return createArray(ctx, length, data);
+        } else if (storage instanceof NativeIntSequenceStorage nativeStorage) {
+            long data = allocateData((long) length * Integer.BYTES);
+            NativeMemory.memcpy(data, nativeStorage.getValueBufferAddr(), (long) length * Integer.BYTES);
+            return createArray(ctx, length, data);
+        } else if (storage instanceof LongSequenceStorage longStorage) {
+            long data = allocateData((long) length * Long.BYTES);
+            unsafe.copyMemory(longStorage.getInternalLongArray(), Unsafe.ARRAY_LONG_BASE_OFFSET, null, data, (long) length * Long.BYTES);
+            return createArray(ctx, length, data);
+        } else if (storage instanceof DoubleSequenceStorage doubleStorage) {
+            long data = allocateData((long) length * Double.BYTES);
+            unsafe.copyMemory(doubleStorage.getInternalDoubleArray(), Unsafe.ARRAY_DOUBLE_BASE_OFFSET, null, data, (long) length * Double.BYTES);
+            return createArray(ctx, length, data);
+        } else if (storage instanceof BoolSequenceStorage boolStorage) {
+            boolean[] values = boolStorage.getInternalBoolArray();
+            long bitmap = allocateBitmap(length);
+            for (int i = 0; i < length; i++) {
+                if (values[i]) {
+                    setBit(bitmap, i);
+                }
+            }
+            return createArray(ctx, length, bitmap);
+        } else if (storage instanceof EmptySequenceStorage) {
+            // the null layout has no buffers at all
+            return ArrowArray.allocate(0, 0, 0, 0, 0, NULLPTR, NULLPTR, NULLPTR, ctx.arrowSupport.getArrowArrayRelease(), NULLPTR);
+        }
+        throw PRaiseNode.raiseStatic(node, TypeError, ErrorMessages.ARROW_CANNOT_EXPORT_LIST);
+    }
+
+    private static ArrowArray exportBuffer(PythonContext ctx, Object obj, BufferFormat format) {
+        Object buffer = PythonBufferAcquireLibrary.getUncached().acquireReadonly(obj);
+        PythonBufferAccessLibrary bufferLib = PythonBufferAccessLibrary.getUncached();
+        boolean borrowed = false;
+        try {
+            int byteLength = bufferLib.getBufferLength(buffer);
+            long address = bufferLib.getNativeAddress(buffer);
+            if (address != NULLPTR && format != BufferFormat.BOOLEAN && buffer instanceof PMemoryView view) {
+                long release = ctx.arrowSupport.getArrowArrayRelease();
+                long buffers = NativeMemory.copyToNativeLongArray(new long[]{NULLPTR, address});
+                borrowed = true;
+                return ArrowArray.allocate(byteLength >> format.shift, 0, 0, 2, 0, buffers, NULLPTR, NULLPTR, release, ArrowArrayRelease.borrow(view));
+            }
+            byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
+            if (format == BufferFormat.BOOLEAN) {
+                long bitmap = allocateBitmap(byteLength);
+                for (int i = 0; i < byteLength; i++) {
+                    if (bytes[i] != 0) {
+                        setBit(bitmap, i);
+                    }
+                }
+                return createArray(ctx, byteLength, bitmap);
+            }
+            long data = allocateData(byteLength);
+            unsafe.copyMemory(bytes, Unsafe.ARRAY_BYTE_BASE_OFFSET, null, data, byteLength);
+            return createArray(ctx, byteLength >> format.shift, data);
+        } finally {
+            if (!borrowed) {
+                bufferLib.release(buffer);
+            }
+        }
+    }
+
+    /**
+     * Creates an array with the primitive layout: no validity bitmap, since our values are never
+     * null, followed by the data buffer.
+     */
+    private static ArrowArray createArray(PythonContext ctx, long length, long data) {
+        long buffers = NativeMemory.copyToNativeLongArray(new long[]{NULLPTR, data});
+        return ArrowArray.allocate(length, 0, 0, 2, 0, buffers, NULLPTR, NULLPTR, ctx.arrowSupport.getArrowArrayRelease(), NULLPTR);
+    }
+
+    private static long allocateData(long sizeInBytes) {
+        return sizeInBytes == 0 ? NULLPTR : NativeMemory.malloc(sizeInBytes);
+    }
+
+    private static long allocateBitmap(long length) {
+        long sizeInBytes = (length + 7) >> 3;
+        return sizeInBytes == 0 ? NULLPTR : NativeMemory.calloc(sizeInBytes);
+    }
+
+    private static void setBit(long bitmap, long idx) {
+        long addr = bitmap + (idx >> 3);
+        NativeMemory.writeByte(addr, (byte) (NativeMemory.readByte(addr) | (1 << (idx & 7))));
+    }
+}
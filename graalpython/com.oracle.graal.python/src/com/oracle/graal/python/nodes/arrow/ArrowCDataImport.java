@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.arrow;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.OverflowError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.modules.cext.PythonCextCapsuleBuiltins.PyCapsuleGetPointerNode;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.memoryview.BufferLifecycleManager;
+import com.oracle.graal.python.builtins.objects.memoryview.NativeBufferLifecycleManager.NativeBufferLifecycleManagerFromArrow;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.nativeaccess.NativeMemory;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.NativeByteSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.BufferFormat;
+import com.oracle.graal.python.util.NumericSupport;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+import sun.misc.Unsafe;
+
+/**
+ * Imports a primitive Arrow array passed as a pair of PyCapsules, either into a list or as a
+ * read-only memoryview.
+ * <p>
+ * {@link #importArray} copies the data into the storage of the list, with a bulk copy where the
+ * Arrow and the storage representation match, and releases the Arrow array right away. Arrow
+ * buffers are immutable and may be shared with other consumers, so a list, which can be modified
+ * and resized, must not be backed by them.
+ * </p>
+ * <p>
+ * {@link #importBuffer} wraps the data buffer of a fixed-width array without nulls in a read-only
+ * memoryview without copying. The memoryview keeps the moved Arrow array and calls its release
+ * callback when the memoryview is released or collected.
+ * </p>
+ */
+public final class ArrowCDataImport {
+    private static final Unsafe unsafe = PythonUtils.initUnsafe();
+
+    private static final int MAX_FORMAT_LENGTH = 64;
+
+    private ArrowCDataImport() {
+    }
+
+    @TruffleBoundary
+    public static PList importArray(Node node, PythonContext ctx, Object schemaCapsule, Object arrayCapsule) {
+        ArrowArray array = ArrowArray.wrap(getCapsulePointer(ctx, arrayCapsule, ArrowArray.CAPSULE_NAME));
+        char kind = checkPrimitiveArray(node, ctx, schemaCapsule, array);
+        int length = (int) array.length();
+        PythonLanguage language = ctx.getLanguage();
+
+        ArrowArray moved = array.move();
+        try {
+            SequenceStorage storage;
+            if (kind == 'n') {
+                Object[] values = new Object[length];
+                Arrays.fill(values, PNone.NONE);
+                storage = new ObjectSequenceStorage(values);
+            } else {
+                long validity = moved.buffer(0);
+                long data = moved.buffer(1);
+                long offset = moved.offset();
+                if (validity != NULLPTR && moved.nullCount() != 0) {
+                    storage = importWithNulls(language, kind, validity, data, offset, length);
+                } else {
+                    storage = importCopy(language, kind, data, offset, length);
+                }
+            }
+            return PFactory.createList(language, storage);
+        } finally {
+            releaseArray(moved.memoryAddress());
+        }
+    }
+
+    @TruffleBoundary
+    public static PMemoryView importBuffer(Node node, PythonContext ctx, Object schemaCapsule, Object arrayCapsule) {
+        ArrowArray array = ArrowArray.wrap(getCapsulePointer(ctx, arrayCapsule, ArrowArray.CAPSULE_NAME));
+        char kind = checkPrimitiveArray(node, ctx, schemaCapsule, array);
+        String format = switch (kind) {
+            case 'c' -> "b";
+            case 'C' -> "B";
+            case 's' -> "h";
+            case 'S' -> "H";
+            case 'i' -> "i";
+            case 'I' -> "I";
+            case 'l' -> "q";
+            case 'L' -> "Q";
+            case 'e' -> "e";
+            case 'f' -> "f";
+            case 'g' -> "d";
+            // the null layout has no data and booleans are packed into bits
+            default -> throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_CANNOT_VIEW_FORMAT_S, String.valueOf(kind));
+        };
+        if (array.buffer(0) != NULLPTR && array.nullCount() != 0) {
+            throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_CANNOT_VIEW_NULLS);
+        }
+        int itemSize = switch (kind) {
+            case 'c', 'C' -> Byte.BYTES;
+            case 's', 'S', 'e' -> Short.BYTES;
+            case 'i', 'I', 'f' -> Integer.BYTES;
+            default -> Long.BYTES;
+        };
+        int length = (int) array.length();
+        if ((long) length * itemSize > Integer.MAX_VALUE) {
+            throw PRaiseNode.raiseStatic(node, OverflowError, ErrorMessages.ARROW_ARRAY_TOO_LONG);
+        }
+        int byteLength = length * itemSize;
+        PythonLanguage language = ctx.getLanguage();
+        TruffleString formatString = toTruffleStringUncached(format);
+        BufferFormat bufferFormat = BufferFormat.forMemoryView(formatString, TruffleString.CodePointLengthNode.getUncached(), TruffleString.CodePointAtIndexUTF32Node.getUncached());
+        int flags = PMemoryView.FLAG_C | PMemoryView.FLAG_FORTRAN;
+
+        ArrowArray moved = array.move();
+        long data = moved.buffer(1);
+        if (data == NULLPTR) {
+            // only allowed for empty arrays, there is nothing to keep alive
+            releaseArray(moved.memoryAddress());
+            return PFactory.createMemoryView(language, ctx, null, PFactory.createEmptyBytes(language), null, 0, true, itemSize, bufferFormat, formatString, 1, NULLPTR, 0,
+                            new int[]{0}, new int[]{itemSize}, null, flags);
+        }
+        long address = data + moved.offset() * itemSize;
+        Object buffer = NativeByteSequenceStorage.create(address, byteLength, byteLength, false);
+        BufferLifecycleManager lifecycleManager = new NativeBufferLifecycleManagerFromArrow(moved.memoryAddress());
+        return PFactory.createMemoryView(language, ctx, lifecycleManager, buffer, null, byteLength, true, itemSize, bufferFormat, formatString, 1, address, 0,
+                        new int[]{length}, new int[]{itemSize}, null, flags);
+    }
+
+    /**
+     * Calls the release callback of an Arrow array moved out of a capsule by this class and frees
+     * the moved structure.
+     */
+    @TruffleBoundary
+    public static void releaseArray(long arrowArrayPointer) {
+        ArrowArray array = ArrowArray.wrap(arrowArrayPointer);
+        if (!array.isReleased()) {
+            ArrowReleaseCallback.execute(array.releaseCallback(), arrowArrayPointer);
+        }
+        NativeMemory.free(arrowArrayPointer);
+    }
+
+    /**
+     * Checks that the capsules hold a primitive array we can import and returns the single
+     * character of its format.
+     */
+    private static char checkPrimitiveArray(Node node, PythonContext ctx, Object schemaCapsule, ArrowArray array) {
+        ArrowSchema schema = ArrowSchema.wrap(getCapsulePointer(ctx, schemaCapsule, ArrowSchema.CAPSULE_NAME));
+        if (schema.isReleased() || array.isReleased()) {
+            throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_STRUCT_RELEASED);
+        }
+        if (schema.nChildren() != 0 || schema.dictionary() != NULLPTR || array.nChildren() != 0 || array.dictionary() != NULLPTR) {
+            throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_UNSUPPORTED_NESTED);
+        }
+        String format = readFormat(schema.format());
+        char kind = format.length() == 1 ? format.charAt(0) : '\0';
+        int expectedBuffers = switch (kind) {
+            case 'n' -> 0;
+            case 'b', 'c', 'C', 's', 'S', 'i', 'I', 'l', 'L', 'e', 'f', 'g' -> 2;
+            default -> throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_UNSUPPORTED_FORMAT_S, format);
+        };
+        if (array.nBuffers() != expectedBuffers) {
+            throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_UNSUPPORTED_FORMAT_S, format);
+        }
+        if (array.length() < 0 || array.offset() < 0) {
+            throw PRaiseNode.raiseStatic(node, ValueError, ErrorMessages.ARROW_INVALID_LENGTH_OR_OFFSET);
+        }
+        if (array.length() > Integer.MAX_VALUE - 1) {
+            throw PRaiseNode.raiseStatic(node, OverflowError, ErrorMessages.ARROW_ARRAY_TOO_LONG);
+        }
+        return kind;
+    }
+
+    private static long getCapsulePointer(PythonContext ctx, Object capsule, TruffleString name) {
+        long namePointer = ctx.stringToNativeUtf8Bytes(name, false);
+        try {
+            return PyCapsuleGetPointerNode.executeUncached(capsule, namePointer);
+        } finally {
+            NativeMemory.free(namePointer);
+        }
+    }
+
+    private static String readFormat(long formatPointer) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < MAX_FORMAT_LENGTH; i++) {
+            byte b = NativeMemory.readByte(formatPointer + i);
+            if (b == 0) {
+                break;
+            }
+            sb.append((char) (b & 0xFF));
+        }
+        return sb.toString();
+    }
+
+    private static SequenceStorage importCopy(PythonLanguage language, char kind, long data, long offset, int length) {
+        switch (kind) {
+            case 'b': {
+                boolean[] values = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = getBit(data, offset + i);
+                }
+                return new BoolSequenceStorage(values);
+            }
+            case 'c':
+            case 'C':
+            case 's':
+            case 'S': {
+                int[] values = new int[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = (int) readInteger(kind, data, offset + i);
+                }
+                return new IntSequenceStorage(values);
+            }
+            case 'i': {
+                int[] values = new int[length];
+                unsafe.copyMemory(null, data + offset * Integer.BYTES, values, Unsafe.ARRAY_INT_BASE_OFFSET, (long) length * Integer.BYTES);
+                return new IntSequenceStorage(values);
+            }
+            case 'I': {
+                long[] values = new long[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = readInteger(kind, data, offset + i);
+                }
+                return new LongSequenceStorage(values);
+            }
+            case 'l':
+            case 'L': {
+                long[] values = new long[length];
+                unsafe.copyMemory(null, data + offset * Long.BYTES, values, Unsafe.ARRAY_LONG_BASE_OFFSET, (long) length * Long.BYTES);
+                if (kind == 'L') {
+                    for (int i = 0; i < length; i++) {
+                        if (values[i] < 0) {
+                            return importWithNulls(language, kind, NULLPTR, data, offset, length);
+                        }
+                    }
+                }
+                return new LongSequenceStorage(values);
+            }
+            case 'g': {
+                double[] values = new double[length];
+                unsafe.copyMemory(null, data + offset * Double.BYTES, values, Unsafe.ARRAY_DOUBLE_BASE_OFFSET, (long) length * Double.BYTES);
+                return new DoubleSequenceStorage(values);
+            }
+            default: {
+                assert kind == 'e' || kind == 'f';
+                double[] values = new double[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = readFloat(kind, data, offset + i);
+                }
+                return new DoubleSequenceStorage(values);
+            }
+        }
+    }
+
+    /**
+     * Boxes every element, using {@code None} for the elements that are null according to the
+     * validity bitmap. A {@code NULLPTR} bitmap means that all elements are valid.
+     */
+    private static SequenceStorage importWithNulls(PythonLanguage language, char kind, long validity, long data, long offset, int length) {
+        Object[] values = new Object[length];
+        for (int i = 0; i < length; i++) {
+            long idx = offset + i;
+            if (validity != NULLPTR && !getBit(validity, idx)) {
+                values[i] = PNone.NONE;
+            } else if (kind == 'b') {
+                values[i] = getBit(data, idx);
+            } else if (kind == 'e' || kind == 'f' || kind == 'g') {
+                values[i] = readFloat(kind, data, idx);
+            } else if (kind == 'L') {
+                long value = readInteger(kind, data, idx);
+                values[i] = value >= 0 ? value : PFactory.createInt(language, new BigInteger(Long.toUnsignedString(value)));
+            } else {
+                values[i] = readInteger(kind, data, idx);
+            }
+        }
+        return new ObjectSequenceStorage(values);
+    }
+
+    private static long readInteger(char kind, long data, long idx) {
+        return switch (kind) {
+            case 'c' -> NativeMemory.readByte(data + idx);
+            case 'C' -> NativeMemory.readByte(data + idx) & 0xFFL;
+            case 's' -> NativeMemory.readShort(data + idx * Short.BYTES);
+            case 'S' -> NativeMemory.readShort(data + idx * Short.BYTES) & 0xFFFFL;
+            case 'i' -> NativeMemory.readInt(data + idx * Integer.BYTES);
+            case 'I' -> NativeMemory.readInt(data + idx * Integer.BYTES) & 0xFFFFFFFFL;
+            default -> NativeMemory.readLong(data + idx * Long.BYTES);
+        };
+    }
+
+    private static double readFloat(char kind, long data, long idx) {
+        return switch (kind) {
+            case 'e' -> NumericSupport.shortBitsToFloat(NativeMemory.readShort(data + idx * Short.BYTES));
+            case 'f' -> NativeMemory.readFloat(data + idx * Float.BYTES);
+            default -> NativeMemory.readDouble(data + idx * Double.BYTES);
+        };
+    }
+
+    private static boolean getBit(long bitmap, long idx) {
+        return (NativeMemory.readByte(bitmap + (idx >> 3)) & (1 << (idx & 7))) != 0;
+    }
+}
@@ -120,10 +120,26 @@ public class ArrowSchema {
         return memoryAddr;
     }
 
+    public long format() {
+        return unsafe.getLong(memoryAddr + FORMAT_INDEX);
+    }
+
+    public long nChildren() {
+        return unsafe.getLong(memoryAddr + N_CHILDREN_INDEX);
+    }
+
+    public long dictionary() {
+        return unsafe.getLong(memoryAddr + DICTIONARY_INDEX);
+    }
+
     public long releaseCallback() {
         return unsafe.getLong(memoryAddr + RELEASE_CALLBACK_INDEX);
     }
 
+    public void markReleased() {
+        unsafe.putLong(memoryAddr + RELEASE_CALLBACK_INDEX, NULL);
+    }
+
     public boolean isReleased() {
         return releaseCallback() == NULL;
     }
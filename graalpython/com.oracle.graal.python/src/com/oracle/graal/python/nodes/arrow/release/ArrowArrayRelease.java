@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.arrow.release;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oracle.graal.python.annotations.CApiUpcallTarget;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
+import com.oracle.graal.python.nodes.arrow.ArrowArray;
+import com.oracle.graal.python.runtime.nativeaccess.NativeMemory;
+
+/**
+ * Release callback of the {@link ArrowArray} structures we export. The buffers of an exported array
+ * are usually owned by the array, so releasing it frees them together with the buffer pointer
+ * array. An array whose {@code private_data} is set borrows its data buffer from a memoryview
+ * backed by native memory instead; the memoryview is kept in {@link #BORROWED_VIEWS} under that id
+ * and only gives up its export on release. The structure itself is freed by whoever allocated it.
+ */
+public final class ArrowArrayRelease {
+    private static final MethodHandle HANDLE_EXECUTE;
+
+    private static final ConcurrentHashMap<Long, PMemoryView> BORROWED_VIEWS = new ConcurrentHashMap<>();
+    private static final AtomicLong nextBorrowId = new AtomicLong();
+
+    static {
+        try {
+            HANDLE_EXECUTE = MethodHandles.lookup().findStatic(ArrowArrayRelease.class, "execute",
+                            MethodType.methodType(void.class, long.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ArrowArrayRelease() {
+    }
+
+    public static MethodHandle getMethodHandle() {
+        return HANDLE_EXECUTE;
+    }
+
+    /**
+     * Keeps a memoryview, whose buffer the caller already acquired, alive until the array borrowing
+     * its memory is released. Returns the id to store as the {@code private_data} of the array.
+     */
+    public static long borrow(PMemoryView view) {
+        long id = nextBorrowId.incrementAndGet();
+        BORROWED_VIEWS.put(id, view);
+        return id;
+    }
+
+    @CApiUpcallTarget
+    private static void execute(long arrowArrayPointer) {
+        var arrowArray = ArrowArray.wrap(arrowArrayPointer);
+        if (arrowArray.isReleased()) {
+            return;
+        }
+        long borrowId = arrowArray.privateData();
+        long buffers = arrowArray.buffers();
+        if (borrowId != NativeMemory.NULLPTR) {
+            // the counterpart of the acquire in ArrowCDataExport, it only drops the export count
+            BORROWED_VIEWS.remove(borrowId).getExports().decrementAndGet();
+        } else if (buffers != NativeMemory.NULLPTR) {
+            for (int i = 0; i < arrowArray.nBuffers(); i++) {
+                long buffer = arrowArray.buffer(i);
+                if (buffer != NativeMemory.NULLPTR) {
+                    NativeMemory.free(buffer);
+                }
+            }
+        }
+        if (buffers != NativeMemory.NULLPTR) {
+            NativeMemory.free(buffers);
+        }
+        arrowArray.markReleased();
+    }
+}
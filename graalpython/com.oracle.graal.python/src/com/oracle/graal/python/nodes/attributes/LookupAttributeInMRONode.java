@@ -119,12 +119,12 @@ public abstract class LookupAttributeInMRONode extends PNodeWithContext {
                         @Bind Node inliningTarget,
                         @Cached InlinedConditionProfile pbctProfile,
                         @Cached(inline = false) ReadAttributeFromPythonObjectNode readPBCTAttrNode,
-                        @Cached GetMroStorageNode getMroNode,
-                        @Cached ReadAttributeFromObjectNode readAttrNode) {
+                        @Cached GetMroStorageNode getMroNode) {
+            PythonContext context = PythonContext.get(inliningTarget);
             if (pbctProfile.profile(inliningTarget, klass instanceof PythonBuiltinClassType)) {
-                return findAttr(PythonContext.get(inliningTarget), (PythonBuiltinClassType) klass, key, readPBCTAttrNode);
+                return findAttr(context, (PythonBuiltinClassType) klass, key, readPBCTAttrNode);
             } else {
-                return lookup(key, getMroNode.execute(inliningTarget, klass), readAttrNode, false);
+                return context.getTypeAttributeCache().lookup(getMroNode.execute(inliningTarget, klass), key);
             }
         }
 
@@ -450,7 +450,12 @@ public abstract class LookupAttributeInMRONode extends PNodeWithContext {
         @InliningCutoff
         Object lookupGeneric(Object klass, TruffleString key, boolean skipNonStaticBases,
                         @Cached ReadAttributeFromObjectNode readAttrNode) {
-            return lookup(key, getMro(klass), readAttrNode, skipNonStaticBases);
+            MroSequenceStorage mro = getMro(klass);
+            if (!skipNonStaticBases) {
+                // the cached results do not depend on the call site, so share them
+                return PythonContext.get(this).getTypeAttributeCache().lookup(mro, key);
+            }
+            return lookup(key, mro, readAttrNode, true);
         }
 
         public MroShapeLookupResult lookupInMroShape(MroShape shape, Object klass, TruffleString key) {
@@ -478,7 +483,7 @@ public abstract class LookupAttributeInMRONode extends PNodeWithContext {
 
     @TruffleBoundary
     public static Object lookupSlowPath(Object klass, TruffleString key) {
-        return lookup(key, GetMroStorageNode.executeUncached(klass), ReadAttributeFromObjectNode.getUncached(), false);
+        return PythonContext.get(null).getTypeAttributeCache().lookup(GetMroStorageNode.executeUncached(klass), key);
     }
 
     public static Object lookup(TruffleString key, MroSequenceStorage mro, ReadAttributeFromObjectNode readTypeAttrNode, boolean skipNonStaticBases) {
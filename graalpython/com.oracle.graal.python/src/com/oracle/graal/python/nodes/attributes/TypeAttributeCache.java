@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.attributes;
+
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.runtime.sequence.storage.MroSequenceStorage;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.Assumption;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * A fixed-size, direct-mapped cache of MRO lookup results used by the megamorphic paths of
+ * {@link LookupAttributeInMRONode}, similar to CPython's type attribute cache. CPython keys its
+ * entries by the type version tag and the name. We do not have version tags; instead, the entries
+ * are keyed by the {@link MroSequenceStorage} of the type and the name, and remember the lookup
+ * stable assumption and the attributes version of that MRO at the time of the lookup. The former
+ * is invalidated when the MRO changes, the latter is incremented whenever an attribute is written
+ * in any class of the MRO, so an entry is valid as long as both are unchanged. Unlike the
+ * {@link MroSequenceStorage.FinalAttributeAssumptionPair final attribute assumptions}, this does
+ * not create any per-name state in the MRO, and names are cached again right after a write.
+ * <p>
+ * Lookups in MROs that contain classes whose dict was materialized are not cached, because reading
+ * from a generic dict may have side effects and the dict may be modified without notifying the
+ * class.
+ */
+public final class TypeAttributeCache {
+
+    private static final class Entry {
+        // the cache must not keep dead classes alive
+        final WeakReference<MroSequenceStorage> mro;
+        final TruffleString key;
+        final Assumption lookupStable;
+        final int attributesVersion;
+        final WeakReference<Object> value;
+        /*
+         * Classes store primitives unboxed, so we must protect the boxed value from GC ourselves.
+         */
+        final Object primitiveValue;
+
+        Entry(MroSequenceStorage mro, TruffleString key, Assumption lookupStable, int attributesVersion, Object value) {
+            this.mro = new WeakReference<>(mro);
+            this.key = key;
+            this.lookupStable = lookupStable;
+            this.attributesVersion = attributesVersion;
+            this.value = new WeakReference<>(value);
+            this.primitiveValue = PythonUtils.isPrimitive(value) ? value : null;
+        }
+    }
+
+    private final Entry[] entries;
+    private final int mask;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long uncacheable;
+
+    public TypeAttributeCache(int size) {
+        int capacity = size <= 0 ? 0 : Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public boolean isEnabled() {
+        return entries.length > 0;
+    }
+
+    /**
+     * Looks up {@code key} in {@code mro}. Equivalent to {@link LookupAttributeInMRONode#lookup}
+     * without skipping non-static bases.
+     */
+    @TruffleBoundary
+    public Object lookup(MroSequenceStorage mro, TruffleString key) {
+        if (!isEnabled()) {
+            return LookupAttributeInMRONode.lookup(key, mro, ReadAttributeFromObjectNode.getUncached(), false);
+        }
+        int index = (System.identityHashCode(mro) * 31 + key.hashCode()) & mask;
+        Entry entry = entries[index];
+        if (entry != null && entry.mro.get() == mro && (entry.key == key || entry.key.equalsUncached(key, TS_ENCODING)) && entry.lookupStable.isValid() &&
+                        entry.attributesVersion == mro.getAttributesVersion()) {
+            Object value = entry.value.get();
+            if (value != null) {
+                hits++;
+                return value;
+            }
+        }
+        misses++;
+        // read both before the lookup, so that changes during the lookup make the entry stale
+        Assumption lookupStable = mro.getLookupStableAssumption();
+        int attributesVersion = mro.getAttributesVersion();
+        Object value = PNone.NO_VALUE;
+        for (int i = 0; i < mro.length(); i++) {
+            PythonAbstractClass cls = mro.getPythonClassItemNormalized(i);
+            if (!(cls instanceof PythonObject clsObj) || PGuards.hasMaterializedDict(clsObj.getShape())) {
+                uncacheable++;
+                return LookupAttributeInMRONode.lookup(key, mro, ReadAttributeFromObjectNode.getUncached(), false);
+            }
+            value = DynamicObject.GetNode.getUncached().execute(clsObj, key, PNone.NO_VALUE);
+            if (value != PNone.NO_VALUE) {
+                break;
+            }
+        }
+        if (entry != null) {
+            evictions++;
+        }
+        entries[index] = new Entry(mro, key, lookupStable, attributesVersion, value);
+        return value;
+    }
+
+    @TruffleBoundary
+    public void clear() {
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = null;
+        }
+    }
+
+    @TruffleBoundary
+    public LinkedHashMap<String, Object> getStatistics() {
+        LinkedHashMap<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.length);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("evictions", evictions);
+        stats.put("uncacheable", uncacheable);
+        return stats;
+    }
+}
@@ -67,6 +67,7 @@ import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.TypingModuleBuiltins.CallTypingFuncObjectNode;
 import com.oracle.graal.python.builtins.modules.TypingModuleBuiltins.UnpackTypeVarTuplesNode;
+import com.oracle.graal.python.builtins.modules.lsprof.Profiler;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
 import com.oracle.graal.python.builtins.objects.asyncio.GetAwaitableNode;
@@ -244,6 +245,7 @@ import com.oracle.graal.python.nodes.util.ExceptionStateNodes;
 import com.oracle.graal.python.nodes.util.LazyInteropLibrary;
 import com.oracle.graal.python.runtime.ExecutionContext.CalleeContext;
 import com.oracle.graal.python.runtime.IndirectCallData.BoundaryCallData;
+import com.oracle.graal.python.runtime.MonitoringState;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonContext.ProfileEvent;
 import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
@@ -419,6 +421,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         @Child MaterializeFrameNode materializeFrameNode = MaterializeFrameNode.create();
         @Child CallNode tracingCallNode = CallNode.create();
         @Child CallNode profilingCallNode = CallNode.create();
+        @Child CallNode monitoringCallNode = CallNode.create();
     }
 
     // Not a child of this root, adopted by the BytecodeNode
@@ -434,6 +437,14 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
     @CompilationFinal protected transient int maxProfileCEventStackSize;
     @CompilationFinal(dimensions = 1) protected transient Assumption[] cellEffectivelyFinalAssumptions;
 
+    /*
+     * The sys.monitoring snapshot of this code for the context that last asked. The snapshot is
+     * immutable, so that threads can replace it without further synchronization. When the root is
+     * used by more than one context, we ask the MonitoringState each time instead.
+     */
+    @CompilationFinal private transient volatile MonitoringState.CodeMonitoring monitoring;
+    @CompilationFinal private transient volatile boolean monitoringShared;
+
     /*
      * We don't want to store the assumption in MakeFunction node to be able to have an uncached
      * version of it. So we put it into the root of the function that MakeFunction is creating.
@@ -466,6 +477,45 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         PBytecodeDSLRootNodeGen.BYTECODE.update(language, TRACE_AND_PROFILE_CONFIG);
     }
 
+    /**
+     * Adds the instrumentation operations that report the given {@code sys.monitoring} events.
+     * {@code PY_RETURN}, {@code PY_UNWIND} and {@code RAISE} are reported by the epilogs and the
+     * exception interception, which only need the instrumentation data. The Bytecode DSL cannot
+     * remove instrumentation, so the operations stay in the bytecode when the events are cleared.
+     */
+    @TruffleBoundary
+    public static void updateAllToMonitoringConfig(PythonLanguage language, int events) {
+        BytecodeConfig.Builder builder = PBytecodeDSLRootNodeGen.newConfigBuilder().addInstrumentation(EnterInstrumentedRoot.class);
+        boolean line = (events & MonitoringState.bit(MonitoringState.LINE)) != 0;
+        boolean call = (events & MonitoringState.bit(MonitoringState.CALL)) != 0;
+        if (line) {
+            builder.addInstrumentation(TraceLine.class).//
+                            addInstrumentation(TraceLineAtLoopHeader.class).//
+                            addInstrumentation(ClearTraceLine.class).//
+                            addInstrumentation(TraceLineWithArgument.class);
+        }
+        if (call) {
+            builder.addInstrumentation(InstrumentCallable.class).//
+                            addInstrumentation(InstrumentCall.class).//
+                            addInstrumentation(InstrumentCallReturn.class);
+        }
+        if ((events & MonitoringState.bit(MonitoringState.PY_START)) != 0) {
+            builder.addInstrumentation(TraceOrProfileCall.class);
+        }
+        // resuming also resets the line and call state of the instrumentation data
+        if (line || call || (events & MonitoringState.bit(MonitoringState.PY_START)) != 0) {
+            builder.addInstrumentation(ResumeYieldGenerator.class);
+        }
+        if (line || call || (events & MonitoringState.bit(MonitoringState.PY_RESUME)) != 0) {
+            builder.addInstrumentation(ResumeInstrumentedYield.class);
+        }
+        if ((events & MonitoringState.bit(MonitoringState.PY_YIELD)) != 0) {
+            builder.addInstrumentation(TraceYieldValue.class);
+        }
+        PBytecodeDSLRootNodeGen.BYTECODE.update(language, BytecodeConfig.WITH_SOURCE);
+        PBytecodeDSLRootNodeGen.BYTECODE.update(language, builder.build());
+    }
+
     @Override
     @TruffleBoundary
     protected void prepareForInstrumentation(Set<Class<?>> materializedTags) {
@@ -586,6 +636,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                         @Bind BytecodeNode location) {
             if (root.needsTraceAndProfileInstrumentation()) {
                 root.traceOrProfileReturn(frame, location, returnValue);
+                root.monitor(frame, location, MonitoringState.PY_RETURN, -1, returnValue);
             }
             root.calleeContext.exit(frame, root, location);
             return returnValue;
@@ -604,6 +655,9 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
             // We cannot use instrumentation for exceptional exit
             if (root.needsTraceAndProfileInstrumentation()) {
                 root.traceOrProfileReturn(frame, location, null);
+                if (ate instanceof PException pe && root.isMonitored(MonitoringState.PY_UNWIND)) {
+                    root.monitor(frame, location, MonitoringState.PY_UNWIND, -1, pe.getEscapedException());
+                }
             }
             root.calleeContext.exit(frame, root, location);
         }
@@ -645,9 +699,16 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         private final Object[] profileCEventCallables;
         private int profileCEventStackTop;
         private boolean profileCEventCallStarted;
+        // the same for sys.monitoring CALL, C_RETURN and C_RAISE events, offsets are -1 until the
+        // call was reported
+        private final Object[] monitoredCallables;
+        private final int[] monitoredCallOffsets;
+        private int monitoredStackTop;
 
         public InstrumentationData(int maxProfileCEventStackSize) {
             this.profileCEventCallables = new Object[maxProfileCEventStackSize];
+            this.monitoredCallables = new Object[maxProfileCEventStackSize];
+            this.monitoredCallOffsets = new int[maxProfileCEventStackSize];
             reset();
         }
 
@@ -675,6 +736,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
             this.pastLine = -1;
             this.nonClearingPastLine = -1;
             clearProfileCEventCallableStack();
+            clearMonitoredCallStack();
         }
 
         boolean hasProfileCEventCallables() {
@@ -740,6 +802,50 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                 profileCEventCallStarted = false;
             }
         }
+
+        boolean hasMonitoredCalls() {
+            return monitoredStackTop > 0;
+        }
+
+        void pushMonitoredCall(Object callable) {
+            assert monitoredStackTop < monitoredCallables.length;
+            monitoredCallables[monitoredStackTop] = callable;
+            monitoredCallOffsets[monitoredStackTop] = -1;
+            monitoredStackTop++;
+        }
+
+        /**
+         * Records that the innermost call is about to happen and returns its callable, or
+         * {@code null} if it was pushed while no tool wanted {@code CALL} events.
+         */
+        Object startMonitoredCall(int offset) {
+            if (monitoredStackTop == 0) {
+                return null;
+            }
+            monitoredCallOffsets[monitoredStackTop - 1] = offset;
+            return monitoredCallables[monitoredStackTop - 1];
+        }
+
+        int getMonitoredCallOffset() {
+            return monitoredStackTop > 0 ? monitoredCallOffsets[monitoredStackTop - 1] : -1;
+        }
+
+        Object popMonitoredCall() {
+            if (monitoredStackTop == 0) {
+                return null;
+            }
+            monitoredStackTop--;
+            Object result = monitoredCallables[monitoredStackTop];
+            monitoredCallables[monitoredStackTop] = null;
+            return result;
+        }
+
+        void clearMonitoredCallStack() {
+            if (monitoredCallables != null) {
+                PythonUtils.fill(monitoredCallables, 0, monitoredStackTop, null);
+            }
+            monitoredStackTop = 0;
+        }
     }
 
     @NonIdempotent
@@ -775,6 +881,11 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         if (threadState.isProfiling()) {
             return;
         }
+        if (profileFun instanceof Profiler profiler) {
+            // _lsprof does its bookkeeping in Java, it needs neither a call nor the frame
+            profiler.profile(threadState, this, event, arg);
+            return;
+        }
         threadState.profilingStart();
         PFrame pyFrame = ensurePyFrame(virtualFrame, location);
         try {
@@ -825,7 +936,9 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
     }
 
     private void clearPendingCExceptions(VirtualFrame frame, BytecodeNode location) {
-        getInstrumentationData(frame, location).clearProfileCEventCallableStack();
+        InstrumentationData instrumentationData = getInstrumentationData(frame, location);
+        instrumentationData.clearProfileCEventCallableStack();
+        instrumentationData.clearMonitoredCallStack();
     }
 
     @InliningCutoff
@@ -894,6 +1007,149 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         }
     }
 
+    private MonitoringState getMonitoringState() {
+        return PythonContext.get(this).getMonitoringState();
+    }
+
+    /**
+     * Returns the {@code sys.monitoring} snapshot of this code.
+     */
+    private MonitoringState.CodeMonitoring getCodeMonitoring(MonitoringState state) {
+        if (monitoringShared) {
+            return state.getCodeMonitoring(co);
+        }
+        MonitoringState.CodeMonitoring cached = monitoring;
+        if (cached == null || !cached.isCurrent(state)) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            return updateMonitoringCache(state);
+        }
+        return cached;
+    }
+
+    private MonitoringState.CodeMonitoring updateMonitoringCache(MonitoringState state) {
+        CompilerAsserts.neverPartOfCompilation();
+        MonitoringState.CodeMonitoring cached = monitoring;
+        MonitoringState.CodeMonitoring updated = state.getCodeMonitoring(co);
+        if (monitoringShared || cached != null && cached.getOwner() != state) {
+            monitoringShared = true;
+            monitoring = null;
+        } else {
+            monitoring = updated;
+        }
+        return updated;
+    }
+
+    /**
+     * Returns the {@code sys.monitoring} events that any tool wants from this code.
+     */
+    private int getMonitoringEvents(MonitoringState state) {
+        if (state.getActiveEvents() == 0) {
+            return 0;
+        }
+        return getCodeMonitoring(state).getEvents();
+    }
+
+    private static boolean isPythonCallable(Object callable) {
+        return callable instanceof PFunction || callable instanceof PMethod method && method.getFunction() instanceof PFunction;
+    }
+
+    /**
+     * Reports a {@code sys.monitoring} event if any tool wants it from this code. The offset is the
+     * bytecode index of the event, or -1 for the current bytecode index. A {@code null} argument is
+     * not passed to the callbacks.
+     */
+    private void monitor(VirtualFrame frame, BytecodeNode location, int event, int offset, Object arg) {
+        if (isMonitored(event)) {
+            invokeMonitoringCallbacks(frame, location, getMonitoringState(), event, offset != -1 ? offset : location.getBytecodeIndex(frame), arg);
+        }
+    }
+
+    private boolean isMonitored(int event) {
+        return (getMonitoringEvents(getMonitoringState()) & MonitoringState.bit(MonitoringState.getWantedEvent(event))) != 0;
+    }
+
+    private void monitorLine(VirtualFrame frame, BytecodeNode location, int line) {
+        if (isMonitored(MonitoringState.LINE) && getCodeMonitoring(getMonitoringState()).isLineEnabled(line)) {
+            invokeMonitoringCallbacks(frame, location, getMonitoringState(), MonitoringState.LINE, line, null);
+        }
+    }
+
+    /**
+     * Calls the callbacks of the tools that want the event. For {@code LINE} events, the offset is
+     * the line number. The {@code CALL}, {@code C_RETURN} and {@code C_RAISE} callbacks receive the
+     * callable and {@code MISSING} as the first argument.
+     */
+    @InliningCutoff
+    private void invokeMonitoringCallbacks(VirtualFrame frame, BytecodeNode location, MonitoringState state, int event, int offset, Object arg) {
+        PythonThreadState threadState = getThreadState();
+        if (threadState.isTracing() || threadState.isProfiling() || threadState.isMonitoring()) {
+            return;
+        }
+        MonitoringState.CodeMonitoring codeMonitoring = getCodeMonitoring(state);
+        Object[] args = null;
+        for (int tool = 0; tool < MonitoringState.TOOL_COUNT; tool++) {
+            Object callback = codeMonitoring.getCallback(event, tool, offset);
+            if (callback == null) {
+                continue;
+            }
+            if (args == null) {
+                args = createMonitoringArguments(frame, state, event, offset, arg);
+            }
+            Object result;
+            threadState.monitoringStart();
+            try {
+                result = getTracingNodes(location).monitoringCallNode.execute(frame, callback, args);
+            } finally {
+                threadState.monitoringStop();
+            }
+            if (result == state.getDisable()) {
+                if (!state.disable(tool, event, co, offset)) {
+                    throw PRaiseNode.raiseStatic(location, ValueError, ErrorMessages.CANNOT_DISABLE_S_EVENTS, MonitoringState.EVENT_NAMES[event]);
+                }
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                codeMonitoring = updateMonitoringCache(state);
+            }
+        }
+    }
+
+    private Object[] createMonitoringArguments(VirtualFrame frame, MonitoringState state, int event, int offset, Object arg) {
+        PCode code = PArguments.getCodeObject(frame);
+        if (code == null) {
+            code = PFactory.createCode(getLanguage(), getCallTarget());
+        }
+        if (arg == null) {
+            return new Object[]{code, offset};
+        } else if (event == MonitoringState.CALL || event == MonitoringState.C_RETURN || event == MonitoringState.C_RAISE) {
+            return new Object[]{code, offset, arg, state.getMissing()};
+        } else {
+            return new Object[]{code, offset, arg};
+        }
+    }
+
+    /**
+     * Reports the {@code C_RAISE} event for a call that was underway and the {@code RAISE} event.
+     * If a callback raises, its exception replaces the original one.
+     */
+    @InliningCutoff
+    private PException monitorException(VirtualFrame frame, BytecodeNode bytecode, int bci, PException pe) {
+        InstrumentationData instrumentationData = getInstrumentationData(frame, bytecode);
+        int callOffset = instrumentationData.getMonitoredCallOffset();
+        Object callable = instrumentationData.popMonitoredCall();
+        instrumentationData.clearMonitoredCallStack();
+        try {
+            if (callOffset != -1 && callable != null && !isPythonCallable(callable)) {
+                monitor(frame, bytecode, MonitoringState.C_RAISE, callOffset, callable);
+            }
+            if (isMonitored(MonitoringState.RAISE)) {
+                monitor(frame, bytecode, MonitoringState.RAISE, bci, pe.getEscapedException());
+            }
+        } catch (PException newPe) {
+            newPe.setCatchLocation(bci, bytecode);
+            return newPe;
+        }
+        return pe;
+    }
+
     @InliningCutoff
     private void traceLine(VirtualFrame frame, BytecodeNode location, int line) {
         PythonThreadState threadState = getThreadState();
@@ -907,13 +1163,12 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         instrumentationData.setPastLine(line);
         instrumentationData.setNonClearingPastLine(line);
 
-        PFrame pyFrame = ensurePyFrame(frame, location);
-        if (pyFrame.getTraceLine()) {
-            Object traceFun = threadState.getTraceFun();
-            if (traceFun != null) {
-                invokeTraceFunction(frame, location, traceFun, threadState, TraceEvent.LINE, null, line);
-            }
+        // only materialize the frame for the trace function, sys.monitoring does not need it
+        Object traceFun = threadState.getTraceFun();
+        if (traceFun != null && ensurePyFrame(frame, location).getTraceLine()) {
+            invokeTraceFunction(frame, location, traceFun, threadState, TraceEvent.LINE, null, line);
         }
+        monitorLine(frame, location, line);
     }
 
     @InliningCutoff
@@ -925,8 +1180,8 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         instrumentationData.setPastLine(line);
         instrumentationData.setNonClearingPastLine(line);
 
-        PFrame pyFrame = ensurePyFrame(frame, location);
-        if (pyFrame.getTraceLine()) {
+        Object traceFun = threadState.getTraceFun();
+        if (traceFun == null || ensurePyFrame(frame, location).getTraceLine()) {
             /**
              * A loop should always be traced once, even if it is not entered. We also need to trace
              * the loop header on each iteration. To accomplish this, we emit a TraceLine at the top
@@ -935,10 +1190,10 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
              * our line against pastLine.
              */
             if (line != pastLine) {
-                Object traceFun = threadState.getTraceFun();
                 if (traceFun != null) {
                     invokeTraceFunction(frame, location, traceFun, threadState, TraceEvent.LINE, null, line);
                 }
+                monitorLine(frame, location, line);
             }
             /**
              * If the loop is all on one line, we need to trace on each iteration (even though the
@@ -1012,6 +1267,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                         @Bind BytecodeNode bytecode,
                         @Bind("$bytecodeIndex") int bci) {
             root.traceOrProfileCall(frame, bytecode, bci);
+            root.monitor(frame, bytecode, MonitoringState.PY_START, bci, null);
         }
     }
 
@@ -1060,6 +1316,11 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                 return callable;
             }
             InstrumentationData instrumentationData = root.getInstrumentationData(frame, location);
+            if (root.isMonitored(MonitoringState.CALL)) {
+                instrumentationData.pushMonitoredCall(unwrapBoundDescriptor(callable));
+            } else if (instrumentationData.hasMonitoredCalls()) {
+                instrumentationData.pushMonitoredCall(null);
+            }
             if (threadState.getProfileFun() == null) {
                 if (instrumentationData.hasProfileCEventCallables()) {
                     instrumentationData.pushProfileCEventCallable(null);
@@ -1081,10 +1342,18 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         @Specialization
         public static Object perform(VirtualFrame frame, Object value,
                         @Bind BytecodeNode location,
-                        @Bind PBytecodeDSLRootNode root) {
+                        @Bind PBytecodeDSLRootNode root,
+                        @Bind("$bytecodeIndex") int bci) {
             PythonThreadState threadState = root.getThreadState();
             if (!threadState.isProfiling()) {
-                root.getInstrumentationData(frame, location).startProfileCEventCall(root, frame, location);
+                InstrumentationData instrumentationData = root.getInstrumentationData(frame, location);
+                instrumentationData.startProfileCEventCall(root, frame, location);
+                if (instrumentationData.hasMonitoredCalls()) {
+                    Object callable = instrumentationData.startMonitoredCall(bci);
+                    if (callable != null) {
+                        root.monitor(frame, location, MonitoringState.CALL, bci, callable);
+                    }
+                }
             }
             return value;
         }
@@ -1101,6 +1370,13 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                 return value;
             }
             InstrumentationData instrumentationData = root.getInstrumentationData(frame, location);
+            if (instrumentationData.hasMonitoredCalls()) {
+                int callOffset = instrumentationData.getMonitoredCallOffset();
+                Object callable = instrumentationData.popMonitoredCall();
+                if (callOffset != -1 && callable != null && !isPythonCallable(callable)) {
+                    root.monitor(frame, location, MonitoringState.C_RETURN, callOffset, callable);
+                }
+            }
             if (threadState.getProfileFun() == null) {
                 instrumentationData.exitProfileCall();
                 return value;
@@ -1156,8 +1432,11 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         if (ex instanceof PException pe) {
             pe.setCatchLocation(bci, bytecodeNode);
 
-            if (needsTraceAndProfileInstrumentation() && !getThreadState().isTracing()) {
-                pe = traceException(frame, bytecodeNode, bci, pe);
+            if (needsTraceAndProfileInstrumentation()) {
+                if (!getThreadState().isTracing()) {
+                    pe = traceException(frame, bytecodeNode, bci, pe);
+                }
+                pe = monitorException(frame, bytecodeNode, bci, pe);
             }
 
             // Fill in the __context__, if available.
@@ -1455,6 +1734,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                         @Bind("$bytecodeIndex") int bci) {
             root.resetInstrumentationDataForResume(frame, bytecode, bci);
             root.traceOrProfileCall(frame, bytecode, bci);
+            root.monitor(frame, bytecode, MonitoringState.PY_START, bci, null);
             return generator;
         }
     }
@@ -1465,8 +1745,10 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         public static Object doObject(Object value,
                         @Bind MaterializedFrame frame,
                         @Bind PBytecodeDSLRootNode root,
-                        @Bind BytecodeNode bytecode) {
+                        @Bind BytecodeNode bytecode,
+                        @Bind("$bytecodeIndex") int bci) {
             root.traceOrProfileReturn(frame, bytecode, value);
+            root.monitor(frame, bytecode, MonitoringState.PY_YIELD, bci, value);
             return value;
         }
     }
@@ -4087,6 +4369,7 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
                         @Bind("$bytecodeIndex") int bci) {
             root.resetInstrumentationDataForResume(frame, bytecode, bci);
             root.traceOrProfileCall(frame, bytecode, bci);
+            root.monitor(frame, bytecode, MonitoringState.PY_RESUME, bci, null);
             return sendValue;
         }
     }
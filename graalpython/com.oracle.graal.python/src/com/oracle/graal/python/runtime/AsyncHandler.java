@@ -52,6 +52,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -229,7 +230,11 @@ public class AsyncHandler {
     private final WeakReference<PythonContext> context;
     private final Queue<AsyncAction> rescheduled = new ConcurrentLinkedDeque<>();
     private static final int ASYNC_ACTION_DELAY = 25;
-    private static final int GIL_RELEASE_DELAY = 50;
+    /**
+     * Lower bound for the GIL switch interval in microseconds, to keep the scheduler thread from
+     * spinning when {@code sys.setswitchinterval} is given a tiny value.
+     */
+    private static final long MIN_GIL_SWITCH_INTERVAL = 500;
 
     private class AsyncRunnable implements Runnable {
         private final Supplier<AsyncAction> actionSupplier;
@@ -392,6 +397,12 @@ public class AsyncHandler {
         }
     }
 
+    /**
+     * Asks the GIL owner to hand the GIL over to the queued threads once it held it for longer than
+     * the switch interval (see {@code sys.setswitchinterval}). The GIL is a fair lock, so the
+     * handoff goes to the longest waiting thread and the previous owner queues up behind all
+     * threads that were already waiting.
+     */
     private static class GilReleaseScheduler implements Runnable {
         private final PythonContext ctx;
         private volatile boolean gilReleaseRequested;
@@ -401,6 +412,10 @@ public class AsyncHandler {
             this.ctx = ctx;
         }
 
+        long getSwitchIntervalMicros() {
+            return Math.max(MIN_GIL_SWITCH_INTERVAL, (long) ctx.getSysModuleState().getSwitchInterval());
+        }
+
         @Override
         public void run() {
             if (!ctx.gilHasQueuedThreads()) {
@@ -409,6 +424,10 @@ public class AsyncHandler {
             }
             Thread gilOwner = ctx.getGilOwner();
             if (gilOwner != null) {
+                if (System.nanoTime() - ctx.getGilOwnerSince() < TimeUnit.MICROSECONDS.toNanos(getSwitchIntervalMicros())) {
+                    // the owner did not use up its switch interval yet
+                    return;
+                }
                 synchronized (this) {
                     if (!gilReleaseRequested) {
                         gilReleaseRequested = true;
@@ -437,8 +456,10 @@ public class AsyncHandler {
                                     }
                                     // we only release the gil in ordinary Python code nodes
                                     GilNode gil = GilNode.getUncached();
-                                    if (gil.tryRelease()) {
-                                        gil.acquire(PythonContext.get(gil), access.getLocation());
+                                    PythonContext context = PythonContext.get(gil);
+                                    if (context.ownsGil()) {
+                                        context.handOffGil();
+                                        gil.acquire(context, access.getLocation());
                                     }
                                 }
                             }
@@ -471,9 +492,9 @@ public class AsyncHandler {
         if (ctx == null) {
             return;
         }
-        final Runnable gilReleaseRunnable = new GilReleaseScheduler(ctx);
+        final GilReleaseScheduler gilReleaseRunnable = new GilReleaseScheduler(ctx);
         if (PythonOptions.AUTOMATIC_ASYNC_ACTIONS) {
-            executorService.scheduleWithFixedDelay(gilReleaseRunnable, GIL_RELEASE_DELAY, GIL_RELEASE_DELAY, TimeUnit.MILLISECONDS);
+            scheduleGilRelease(gilReleaseRunnable);
         } else {
             // we will release the gil when polled to do so
             registeredActions.add(new AsyncRunnable(() -> {
@@ -483,6 +504,24 @@ public class AsyncHandler {
         }
     }
 
+    /**
+     * The switch interval may change at any time, so instead of ticking at a fixed rate, every tick
+     * schedules the next one with the current interval.
+     */
+    private void scheduleGilRelease(GilReleaseScheduler scheduler) {
+        try {
+            executorService.schedule(() -> {
+                try {
+                    scheduler.run();
+                } finally {
+                    scheduleGilRelease(scheduler);
+                }
+            }, scheduler.getSwitchIntervalMicros(), TimeUnit.MICROSECONDS);
+        } catch (RejectedExecutionException e) {
+            // the handler was shut down
+        }
+    }
+
     public void shutdown() {
         if (executorService != null) {
             executorService.shutdownNow();
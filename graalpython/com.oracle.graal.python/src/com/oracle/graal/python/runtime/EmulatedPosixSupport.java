@@ -78,6 +78,7 @@ import static com.oracle.graal.python.runtime.PosixConstants.LOCK_NB;
 import static com.oracle.graal.python.runtime.PosixConstants.LOCK_SH;
 import static com.oracle.graal.python.runtime.PosixConstants.LOCK_UN;
 import static com.oracle.graal.python.runtime.PosixConstants.MAP_ANONYMOUS;
+import static com.oracle.graal.python.runtime.PosixConstants.MAP_PRIVATE;
 import static com.oracle.graal.python.runtime.PosixConstants.NI_DGRAM;
 import static com.oracle.graal.python.runtime.PosixConstants.NI_NAMEREQD;
 import static com.oracle.graal.python.runtime.PosixConstants.NI_NUMERICHOST;
@@ -93,6 +94,14 @@ import static com.oracle.graal.python.runtime.PosixConstants.O_SYNC;
 import static com.oracle.graal.python.runtime.PosixConstants.O_TMPFILE;
 import static com.oracle.graal.python.runtime.PosixConstants.O_TRUNC;
 import static com.oracle.graal.python.runtime.PosixConstants.O_WRONLY;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLNVAL;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLPRI;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLRDBAND;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLRDNORM;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLWRBAND;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLWRNORM;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_EXEC;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_NONE;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_READ;
@@ -127,6 +136,7 @@ import static com.oracle.graal.python.runtime.PosixConstants.S_IFSOCK;
 import static com.oracle.graal.python.runtime.PosixConstants.TCP_NODELAY;
 import static com.oracle.graal.python.runtime.PosixConstants.W_OK;
 import static com.oracle.graal.python.runtime.PosixConstants.X_OK;
+import static com.oracle.graal.python.runtime.nativeaccess.NativeMemory.NULLPTR;
 import static com.oracle.graal.python.util.PythonUtils.EMPTY_INT_ARRAY;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
@@ -169,6 +179,7 @@ import java.net.StandardSocketOptions;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.AlreadyConnectedException;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.Channel;
@@ -204,6 +215,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -213,6 +225,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 
 import org.graalvm.nativeimage.ImageInfo;
@@ -232,6 +245,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.AddrInfoCursor;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.AddrInfoCursorLibrary;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Buffer;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.ChannelNotSelectableException;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.ControlMessage;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.GetAddrInfoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet4SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet6SockAddr;
@@ -241,6 +255,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixErrnoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PwdResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvfromResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvmsgResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RusageResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.SelectResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Timeval;
@@ -249,8 +264,10 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.UniversalSockAddrLibr
 import com.oracle.graal.python.runtime.PosixSupportLibrary.UnixSockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.UnsupportedPosixFeatureException;
 import com.oracle.graal.python.runtime.exception.PythonExitException;
+import com.oracle.graal.python.runtime.nativeaccess.NativeMemory;
 import com.oracle.graal.python.util.FileDeleteShutdownHook;
 import com.oracle.graal.python.util.IPAddressUtil;
+import com.oracle.graal.python.util.IntArrayBuilder;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -314,6 +331,7 @@ import com.sun.security.auth.module.UnixSystem;
 public final class EmulatedPosixSupport extends PosixResources {
 
     private static final int MAX_READ = Integer.MAX_VALUE / 2;
+    private static final int SENDFILE_CHUNK_SIZE = 1024 * 1024;
 
     private static final PosixFilePermission[][] otherBitsToPermission = new PosixFilePermission[][]{
                     new PosixFilePermission[]{},
@@ -358,6 +376,10 @@ public final class EmulatedPosixSupport extends PosixResources {
     private ScheduledFuture<?> itimerFuture;
     private long itimerInterval;
     private Alarm currentAlarm;
+    // Poll sets created by pollCreate and the one reused by select, closed at exit.
+    private final HashSet<EmulatedPollSet> pollSets = new HashSet<>();
+    private EmulatedPollSet selectPollSet;
+    private boolean pollSetsAtexitHookRegistered;
 
     public EmulatedPosixSupport(PythonContext context) {
         super(context);
@@ -556,6 +578,85 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
     }
 
+    @ExportMessage
+    public int readInto(int fd, byte[] dest, int offset, int length,
+                    @Bind Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Channel channel = getFileChannel(fd);
+        if (!(channel instanceof ReadableByteChannel)) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        try {
+            return readBytesFromChannel((ReadableByteChannel) channel, dest, offset, length);
+        } catch (Exception e) {
+            errorBranch.enter(inliningTarget);
+            throw posixException(OSErrorEnum.fromException(e, eqNode));
+        }
+    }
+
+    @TruffleBoundary
+    private static int readBytesFromChannel(ReadableByteChannel channel, byte[] dest, int offset, int length) throws IOException {
+        int readSize = channel.read(ByteBuffer.wrap(dest, offset, length));
+        return Math.max(readSize, 0);
+    }
+
+    // There is no way to view arbitrary native memory as a ByteBuffer, so the emulated backend
+    // stages the data in a heap buffer and does a single bulk copy to or from the address.
+    @ExportMessage
+    public long readIntoAddress(int fd, long address, long length,
+                    @Bind Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        Buffer result = read(fd, length, inliningTarget, errorBranch, eqNode);
+        NativeMemory.writeByteArrayElements(address, 0, result.data, 0, (int) result.length);
+        return result.length;
+    }
+
+    @ExportMessage
+    public long writeFromAddress(int fd, long address, long length,
+                    @Bind Node inliningTarget,
+                    @Shared("errorBranch") @Cached InlinedBranchProfile errorBranch,
+                    @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        int count = (int) Math.min(length, MAX_READ);
+        byte[] data = NativeMemory.readByteArrayElements(address, 0, count);
+        return write(fd, Buffer.wrap(data), inliningTarget, errorBranch, eqNode);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public long sendfile(int outFd, int inFd, long offset, long count) throws PosixException {
+        Channel in = getFileChannel(inFd);
+        Channel out = getFileChannel(outFd);
+        if (!(in instanceof ReadableByteChannel) || !(out instanceof WritableByteChannel outChannel)) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (!(in instanceof SeekableByteChannel inChannel)) {
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        try {
+            if (inChannel instanceof FileChannel fileChannel) {
+                return fileChannel.transferTo(offset, count, outChannel);
+            }
+            // Transfer one chunk through the heap without disturbing the file position
+            long savedPosition = inChannel.position();
+            try {
+                inChannel.position(offset);
+                ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(count, SENDFILE_CHUNK_SIZE));
+                if (inChannel.read(chunk) <= 0) {
+                    return 0;
+                }
+                chunk.flip();
+                return outChannel.write(chunk);
+            } finally {
+                inChannel.position(savedPosition);
+            }
+        } catch (Exception e) {
+            throw posixException(e, TruffleString.EqualNode.getUncached());
+        }
+    }
+
     @Override
     @ExportMessage
     public int dup(int fd) {
@@ -648,96 +749,600 @@ public final class EmulatedPosixSupport extends PosixResources {
             break;
         }
 
-        boolean[] wasBlocking = new boolean[readChannels.length + writeChannels.length];
-        int i = 0;
+        final int readEvents = POLLIN.getValueIfDefined();
+        final int writeEvents = POLLOUT.getValueIfDefined();
+
+        // The same poll set is reused by subsequent calls, so that non-blocking channels stay
+        // registered with its selector. Only concurrent calls from other threads need a
+        // temporary one.
+        EmulatedPollSet pollSet = null;
+        boolean temporary = false;
+        try {
+            pollSet = getSelectPollSet();
+            if (!pollSet.tryAcquireForSelect()) {
+                temporary = true;
+                pollSet = new EmulatedPollSet();
+                pollSet.tryAcquireForSelect();
+            }
+            HashMap<Integer, Integer> requested = new HashMap<>();
+            for (int fd : readfds) {
+                requested.merge(fd, readEvents, (a, b) -> a | b);
+            }
+            for (int fd : writefds) {
+                requested.merge(fd, writeEvents, (a, b) -> a | b);
+            }
+            pollSet.retainOnly(requested.keySet());
+            for (int i = 0; i < readfds.length; i++) {
+                pollSet.register(readfds[i], getFileChannel(readfds[i]), readChannels[i], requested.get(readfds[i]));
+            }
+            for (int i = 0; i < writefds.length; i++) {
+                pollSet.register(writefds[i], getFileChannel(writefds[i]), writeChannels[i], requested.get(writefds[i]));
+            }
+            int[] ready = pollSet.await(timeout, -1);
+            HashMap<Integer, Integer> readyEvents = new HashMap<>();
+            for (int i = 0; i < ready.length; i += 2) {
+                readyEvents.put(ready[i], ready[i + 1]);
+            }
+            return new SelectResult(createSelectedMap(readfds, readyEvents, readEvents), createSelectedMap(writefds, readyEvents, writeEvents), new boolean[errorfds.length]);
+        } catch (IOException e) {
+            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+        } finally {
+            if (temporary) {
+                pollSet.close();
+            } else if (pollSet != null) {
+                pollSet.releaseForSelect();
+            }
+        }
+    }
+
+    private EmulatedPollSet getSelectPollSet() throws IOException {
+        synchronized (pollSets) {
+            if (selectPollSet == null) {
+                selectPollSet = new EmulatedPollSet();
+                registerPollSetsAtexitHook();
+            }
+            return selectPollSet;
+        }
+    }
+
+    private void registerPollSetsAtexitHook() {
+        assert Thread.holdsLock(pollSets);
+        if (!pollSetsAtexitHookRegistered) {
+            pollSetsAtexitHookRegistered = true;
+            context.registerAtexitHook(ctx -> closePollSets());
+        }
+    }
+
+    private static boolean[] createSelectedMap(int[] fds, HashMap<Integer, Integer> readyEvents, int events) {
+        boolean[] result = new boolean[fds.length];
+        for (int i = 0; i < fds.length; i++) {
+            Integer revents = readyEvents.get(fds[i]);
+            result[i] = revents != null && (revents & events) != 0;
+        }
+        return result;
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public Object pollCreate() throws PosixException {
+        if (PythonImageBuildOptions.WITHOUT_JAVA_INET || withoutIOSocket) {
+            throw new UnsupportedPosixFeatureException("poll was excluded");
+        }
+        try {
+            EmulatedPollSet pollSet = new EmulatedPollSet();
+            synchronized (pollSets) {
+                registerPollSetsAtexitHook();
+                pollSets.add(pollSet);
+            }
+            return pollSet;
+        } catch (IOException e) {
+            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public void pollRegister(Object pollSet, int fd, int events) throws PosixException {
+        Channel channel = getFileChannel(fd);
+        if (channel == null) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        try {
+            ((EmulatedPollSet) pollSet).register(fd, channel, toSelectableChannel(channel), events);
+        } catch (IOException e) {
+            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    @SuppressWarnings("static-method")
+    public boolean pollUnregister(Object pollSet, int fd) throws PosixException {
+        return ((EmulatedPollSet) pollSet).unregister(fd);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    @SuppressWarnings("static-method")
+    public int[] pollWait(Object pollSet, Timeval timeout, int maxEvents) throws PosixException {
+        try {
+            return ((EmulatedPollSet) pollSet).await(timeout, maxEvents);
+        } catch (IOException e) {
+            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public void pollClose(Object pollSet) {
+        synchronized (pollSets) {
+            pollSets.remove(pollSet);
+        }
+        ((EmulatedPollSet) pollSet).close();
+    }
 
-        for (SelectableChannel channel : readChannels) {
-            wasBlocking[i++] = channel.isBlocking();
+    private void closePollSets() {
+        EmulatedPollSet[] toClose;
+        synchronized (pollSets) {
+            toClose = pollSets.toArray(new EmulatedPollSet[0]);
+            pollSets.clear();
+            if (selectPollSet != null) {
+                selectPollSet.close();
+                selectPollSet = null;
+            }
         }
-        for (SelectableChannel channel : writeChannels) {
-            wasBlocking[i++] = channel.isBlocking();
+        for (EmulatedPollSet pollSet : toClose) {
+            pollSet.close();
         }
+    }
 
-        final int readOps = SelectionKey.OP_READ | SelectionKey.OP_ACCEPT;
-        final int writeOps = SelectionKey.OP_WRITE;
+    /**
+     * Java does not allow changing a channel to blocking mode while it is registered with a
+     * selector, so it must be removed from all poll sets first. The poll sets will register it
+     * again, temporarily in non-blocking mode, for the duration of each wait.
+     */
+    @TruffleBoundary
+    @Ignore
+    private void prepareBlocking(SelectableChannel channel) throws IOException {
+        if (!channel.isRegistered()) {
+            return;
+        }
+        EmulatedPollSet[] sets;
+        synchronized (pollSets) {
+            sets = pollSets.toArray(new EmulatedPollSet[pollSets.size() + 1]);
+            sets[sets.length - 1] = selectPollSet;
+        }
+        for (EmulatedPollSet pollSet : sets) {
+            if (pollSet != null) {
+                pollSet.deregisterForBlocking(channel);
+            }
+        }
+    }
 
-        try (Selector selector = Selector.open()) {
-            for (SelectableChannel channel : readChannels) {
-                channel.configureBlocking(false);
-                channel.register(selector, readOps & channel.validOps());
+    /**
+     * The emulation of a {@code poll} set on top of a long-lived {@link Selector}. Non-blocking
+     * channels stay registered with the selector between the waits, so that the cost of a wait is
+     * proportional to the number of ready channels and not to the number of registered ones.
+     * Blocking channels cannot be registered with a selector, so they are switched to non-blocking
+     * mode only for the duration of each wait (the same thing {@code select} used to do for all
+     * channels). Channels that are not selectable at all, such as regular files, are always
+     * reported as ready for the requested events.
+     */
+    private static final class EmulatedPollSet {
+        private static final int READ_EVENTS = POLLIN.getValueIfDefined() | POLLPRI.getValueIfDefined() | POLLRDNORM.getValueIfDefined() | POLLRDBAND.getValueIfDefined();
+        private static final int WRITE_EVENTS = POLLOUT.getValueIfDefined() | POLLWRNORM.getValueIfDefined() | POLLWRBAND.getValueIfDefined();
+        private static final int ALWAYS_READY_EVENTS = POLLIN.getValueIfDefined() | POLLRDNORM.getValueIfDefined() | POLLOUT.getValueIfDefined() | POLLWRNORM.getValueIfDefined();
+
+        private final Selector selector;
+        /**
+         * Serializes the waits. The registrations are guarded by the monitor of this object and
+         * may be modified while another thread is waiting.
+         */
+        private final ReentrantLock waitLock = new ReentrantLock();
+        private final HashMap<Integer, PollEntry> entries = new HashMap<>();
+        /**
+         * Entries that need to be looked at in every wait: blocking channels, channels that are
+         * not selectable, and channels that could not be registered yet.
+         */
+        private final LinkedHashSet<PollEntry> slowEntries = new LinkedHashSet<>();
+        private boolean modified;
+        private boolean pendingDeregistration;
+        private boolean closed;
+
+        EmulatedPollSet() throws IOException {
+            selector = Selector.open();
+        }
+
+        private static final class PollEntry {
+            private final int fd;
+            /** The channel the file descriptor referred to when it was registered. */
+            private final Channel fileChannel;
+            private SelectableChannel channel;
+            private int events;
+            /** The key of {@link #channel} in the selector, if it is registered persistently. */
+            private SelectionKey key;
+
+            PollEntry(int fd, Channel fileChannel, SelectableChannel channel) {
+                this.fd = fd;
+                this.fileChannel = fileChannel;
+                this.channel = channel;
             }
+        }
 
-            for (SelectableChannel channel : writeChannels) {
-                channel.configureBlocking(false);
-                channel.register(selector, writeOps);
+        boolean tryAcquireForSelect() {
+            return waitLock.tryLock();
+        }
+
+        void releaseForSelect() {
+            waitLock.unlock();
+        }
+
+        void register(int fd, Channel fileChannel, SelectableChannel channel, int events) throws IOException, PosixException {
+            synchronized (this) {
+                checkNotClosed();
+                PollEntry entry = entries.get(fd);
+                if (entry != null && entry.fileChannel != fileChannel) {
+                    // the file descriptor was closed and reused for a different channel
+                    removeEntry(entry);
+                    entry = null;
+                }
+                if (entry == null) {
+                    entry = new PollEntry(fd, fileChannel, channel);
+                    entries.put(fd, entry);
+                } else if (entry.events == events && (entry.key != null || slowEntries.contains(entry))) {
+                    return;
+                }
+                entry.events = events;
+                if (entry.key != null) {
+                    updateInterestOps(entry.key);
+                } else if (channel == null || channel.isBlocking() || !attach(entry)) {
+                    slowEntries.add(entry);
+                }
+                modified = true;
+            }
+            if (waitLock.isLocked()) {
+                selector.wakeup();
+            }
+        }
+
+        synchronized boolean unregister(int fd) throws PosixException {
+            checkNotClosed();
+            PollEntry entry = entries.get(fd);
+            if (entry == null) {
+                return false;
             }
+            removeEntry(entry);
+            return true;
+        }
 
+        /**
+         * Retains only the given file descriptors, used by {@code select} which always passes the
+         * full set of file descriptors it is interested in.
+         */
+        synchronized void retainOnly(Set<Integer> fds) {
+            if (entries.size() == fds.size() && fds.containsAll(entries.keySet())) {
+                return;
+            }
+            for (PollEntry entry : entries.values().toArray(new PollEntry[0])) {
+                if (!fds.contains(entry.fd)) {
+                    removeEntry(entry);
+                }
+            }
+        }
+
+        private void removeEntry(PollEntry entry) {
+            entries.remove(entry.fd);
+            slowEntries.remove(entry);
+            if (entry.key != null) {
+                // keep the key registered, so that registering the channel again does not need
+                // to wait for the cancellation to be processed by the selector
+                SelectionKey key = entry.key;
+                entry.key = null;
+                attachedEntries(key).remove(entry);
+                updateInterestOps(key);
+            }
+        }
+
+        /**
+         * Registers a non-blocking channel persistently. Returns {@code false} if the channel
+         * still has a cancelled key in the selector, in which case the registration is postponed
+         * to the next wait.
+         */
+        private boolean attach(PollEntry entry) throws IOException {
+            SelectionKey key = entry.channel.keyFor(selector);
+            if (key == null) {
+                key = entry.channel.register(selector, 0, new ArrayList<PollEntry>(1));
+            } else if (!key.isValid()) {
+                return false;
+            }
+            attachedEntries(key).add(entry);
+            entry.key = key;
+            updateInterestOps(key);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static ArrayList<PollEntry> attachedEntries(SelectionKey key) {
+            return (ArrayList<PollEntry>) key.attachment();
+        }
+
+        private static void updateInterestOps(SelectionKey key) {
+            if (!key.isValid()) {
+                return;
+            }
+            int ops = 0;
+            for (PollEntry entry : attachedEntries(key)) {
+                ops |= eventsToOps(entry.events);
+            }
+            key.interestOps(ops & key.channel().validOps());
+        }
+
+        private static int eventsToOps(int events) {
+            int ops = 0;
+            if ((events & READ_EVENTS) != 0) {
+                ops |= SelectionKey.OP_READ | SelectionKey.OP_ACCEPT;
+            }
+            if ((events & WRITE_EVENTS) != 0) {
+                ops |= SelectionKey.OP_WRITE | SelectionKey.OP_CONNECT;
+            }
+            return ops;
+        }
+
+        private static int readyOpsToEvents(int readyOps, int events) {
+            int revents = 0;
+            if ((readyOps & (SelectionKey.OP_READ | SelectionKey.OP_ACCEPT)) != 0) {
+                revents |= events & (POLLIN.getValueIfDefined() | POLLRDNORM.getValueIfDefined());
+            }
+            if ((readyOps & (SelectionKey.OP_WRITE | SelectionKey.OP_CONNECT)) != 0) {
+                revents |= events & (POLLOUT.getValueIfDefined() | POLLWRNORM.getValueIfDefined());
+            }
+            return revents;
+        }
+
+        void deregisterForBlocking(SelectableChannel channel) throws IOException {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                SelectionKey key = channel.keyFor(selector);
+                if (key == null) {
+                    return;
+                }
+                if (key.isValid()) {
+                    for (PollEntry entry : attachedEntries(key)) {
+                        entry.key = null;
+                        slowEntries.add(entry);
+                    }
+                    key.cancel();
+                }
+                pendingDeregistration = true;
+            }
+            // the cancelled key is removed from the selector by the next selection operation
+            if (!waitLock.tryLock()) {
+                selector.wakeup();
+                waitLock.lock();
+            }
+            try {
+                synchronized (this) {
+                    if (closed) {
+                        return;
+                    }
+                    pendingDeregistration = false;
+                }
+                selector.selectNow();
+                selector.selectedKeys().clear();
+            } finally {
+                waitLock.unlock();
+            }
+        }
+
+        int[] await(Timeval timeout, int maxEvents) throws IOException, PosixException {
             // IMPORTANT: The meaning of the timeout value is slightly different: 'timeout == 0.0'
             // means we should not block and return immediately, for which we use selectNow().
             // 'timeout == None' means we should wait indefinitely, i.e., we need to pass 0 to the
             // Java API.
-            long timeoutMs;
-            boolean useSelectNow = false;
-            if (timeout == null) {
-                timeoutMs = 0;
-            } else {
+            long timeoutMs = -1;
+            if (timeout != null) {
                 try {
                     timeoutMs = addExact(multiplyExact(timeout.getSeconds(), 1000L), timeout.getMicroseconds() / 1000L);
                 } catch (ArithmeticException ex) {
                     throw posixException(OSErrorEnum.EINVAL);
                 }
-                if (timeoutMs == 0) {
-                    useSelectNow = true;
+            }
+            long deadline = timeoutMs > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs) : 0;
+            IntArrayBuilder result = new IntArrayBuilder();
+            ArrayList<SelectableChannel> temporarilyNonBlocking = new ArrayList<>();
+            boolean heldForSelect = waitLock.isHeldByCurrentThread();
+            if (!heldForSelect) {
+                waitLock.lock();
+            }
+            try {
+                synchronized (this) {
+                    checkNotClosed();
+                    modified = false;
+                    prepareSlowEntries(result, temporarilyNonBlocking);
+                }
+                if (result.size() > 0) {
+                    // some file descriptors are ready without waiting
+                    timeoutMs = 0;
+                }
+                selector.selectedKeys().clear();
+                while (true) {
+                    int selected;
+                    if (timeoutMs == 0) {
+                        selected = selector.selectNow();
+                    } else if (timeoutMs < 0) {
+                        selected = selector.select();
+                    } else {
+                        selected = selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+                    }
+                    synchronized (this) {
+                        checkNotClosed();
+                        // woken up because of a new registration, wait for the remaining time
+                        boolean retry = selected == 0 && modified && !pendingDeregistration && (timeoutMs < 0 || (timeoutMs > 0 && deadline - System.nanoTime() > 0));
+                        modified = false;
+                        if (!retry) {
+                            collectSelectedKeys(result);
+                            break;
+                        }
+                        prepareSlowEntries(result, temporarilyNonBlocking);
+                        if (result.size() > 0) {
+                            timeoutMs = 0;
+                        }
+                    }
                 }
+            } finally {
+                try {
+                    if (!temporarilyNonBlocking.isEmpty()) {
+                        restoreBlocking(temporarilyNonBlocking);
+                    }
+                } finally {
+                    if (!heldForSelect) {
+                        waitLock.unlock();
+                    }
+                }
+            }
+            int[] pairs = result.toArray();
+            if (maxEvents >= 0 && pairs.length > maxEvents * 2) {
+                return PythonUtils.arrayCopyOf(pairs, maxEvents * 2);
             }
-            int selected = useSelectNow ? selector.selectNow() : selector.select(timeoutMs);
+            return pairs;
+        }
 
-            // remove non-selected channels from given lists
-            boolean[] resReadfds = createSelectedMap(readfds, readChannels, selector, readOps);
-            boolean[] resWritefds = createSelectedMap(writefds, writeChannels, selector, writeOps);
-            boolean[] resErrfds = new boolean[errorfds.length];
+        private void prepareSlowEntries(IntArrayBuilder result, ArrayList<SelectableChannel> temporarilyNonBlocking) throws IOException {
+            Iterator<PollEntry> it = slowEntries.iterator();
+            while (it.hasNext()) {
+                PollEntry entry = it.next();
+                if (!entry.fileChannel.isOpen()) {
+                    result.add(entry.fd);
+                    result.add(POLLNVAL.getValueIfDefined());
+                    continue;
+                }
+                if (entry.channel == null) {
+                    // a stream socket gets its channel only once it is connected or listening
+                    entry.channel = toSelectableChannel(entry.fileChannel);
+                }
+                if (entry.channel == null) {
+                    int revents = entry.events & ALWAYS_READY_EVENTS;
+                    if (revents != 0) {
+                        result.add(entry.fd);
+                        result.add(revents);
+                    }
+                    continue;
+                }
+                if (entry.key != null) {
+                    // already prepared for this wait
+                    continue;
+                }
+                SelectionKey key = entry.channel.keyFor(selector);
+                if (key != null && !key.isValid()) {
+                    // process the cancelled key before registering the channel again
+                    selector.selectNow();
+                    selector.selectedKeys().clear();
+                }
+                boolean isTemporary = temporarilyNonBlocking.contains(entry.channel);
+                if (isTemporary || entry.channel.isBlocking()) {
+                    if (!isTemporary) {
+                        entry.channel.configureBlocking(false);
+                        temporarilyNonBlocking.add(entry.channel);
+                    }
+                    key = entry.channel.keyFor(selector);
+                    if (key == null) {
+                        key = entry.channel.register(selector, 0, new ArrayList<PollEntry>(1));
+                    }
+                    attachedEntries(key).add(entry);
+                    entry.key = key;
+                    updateInterestOps(key);
+                } else if (attach(entry)) {
+                    // the channel was switched to non-blocking mode, keep it registered
+                    it.remove();
+                }
+            }
+        }
 
-            assert selected == countSelected(resReadfds) + countSelected(resWritefds) + countSelected(resErrfds);
-            return new SelectResult(resReadfds, resWritefds, resErrfds);
-        } catch (IOException e) {
-            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
-        } finally {
-            i = 0;
-            try {
-                for (SelectableChannel channel : readChannels) {
-                    if (wasBlocking[i++]) {
-                        channel.configureBlocking(true);
+        private void collectSelectedKeys(IntArrayBuilder result) {
+            for (SelectionKey key : selector.selectedKeys()) {
+                if (!key.isValid()) {
+                    continue;
+                }
+                int readyOps = key.readyOps();
+                for (PollEntry entry : attachedEntries(key)) {
+                    int revents = readyOpsToEvents(readyOps, entry.events);
+                    if (revents != 0) {
+                        result.add(entry.fd);
+                        result.add(revents);
                     }
                 }
-                for (SelectableChannel channel : writeChannels) {
-                    if (wasBlocking[i++]) {
-                        channel.configureBlocking(true);
+            }
+            selector.selectedKeys().clear();
+        }
+
+        private void restoreBlocking(ArrayList<SelectableChannel> channels) throws IOException {
+            synchronized (this) {
+                for (SelectableChannel channel : channels) {
+                    SelectionKey key = channel.keyFor(selector);
+                    if (key != null) {
+                        for (PollEntry entry : attachedEntries(key)) {
+                            entry.key = null;
+                        }
+                        key.cancel();
                     }
                 }
-            } catch (IOException e) {
-                // We didn't manage to restore the blocking status, ignore
+            }
+            if (closed) {
+                return;
+            }
+            // process the cancelled keys so that the channels can be made blocking again
+            selector.selectNow();
+            selector.selectedKeys().clear();
+            for (SelectableChannel channel : channels) {
+                try {
+                    channel.configureBlocking(true);
+                } catch (IOException e) {
+                    // We didn't manage to restore the blocking status, ignore
+                }
             }
         }
-    }
 
-    private static boolean[] createSelectedMap(int[] fds, SelectableChannel[] channels, Selector selector, int op) {
-        boolean[] result = new boolean[fds.length];
-        for (int i = 0; i < channels.length; i++) {
-            SelectableChannel channel = channels[i];
-            SelectionKey selectionKey = channel.keyFor(selector);
-            result[i] = (selectionKey.readyOps() & op) != 0;
+        private void checkNotClosed() throws PosixException {
+            if (closed) {
+                throw posixException(OSErrorEnum.EBADF);
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                entries.clear();
+                slowEntries.clear();
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // ignore, there is nothing we can do about it
+            }
         }
-        return result;
     }
 
-    private static int countSelected(boolean[] selected) {
-        int res = 0;
-        for (boolean b : selected) {
-            if (b) {
-                res += 1;
+    private static SelectableChannel toSelectableChannel(Channel ch) {
+        if (ch instanceof SelectableChannel) {
+            return (SelectableChannel) ch;
+        } else if (ch instanceof EmulatedDatagramSocket) {
+            return ((EmulatedDatagramSocket) ch).channel;
+        } else if (ch instanceof EmulatedStreamSocket) {
+            EmulatedStreamSocket streamSocket = (EmulatedStreamSocket) ch;
+            synchronized (streamSocket) {
+                if (streamSocket.clientChannel != null) {
+                    return streamSocket.clientChannel;
+                } else if (streamSocket.serverChannel != null) {
+                    return streamSocket.serverChannel;
+                }
             }
         }
-        return res;
+        return null;
     }
 
     private SelectableChannel[] getSelectableChannels(int[] fds) throws PosixException {
@@ -747,22 +1352,8 @@ public final class EmulatedPosixSupport extends PosixResources {
             if (ch == null) {
                 throw posixException(OSErrorEnum.EBADF);
             }
-            if (ch instanceof SelectableChannel) {
-                channels[i] = (SelectableChannel) ch;
-            } else if (ch instanceof EmulatedDatagramSocket) {
-                channels[i] = ((EmulatedDatagramSocket) ch).channel;
-            } else if (ch instanceof EmulatedStreamSocket) {
-                EmulatedStreamSocket streamSocket = (EmulatedStreamSocket) ch;
-                synchronized (streamSocket) {
-                    if (streamSocket.clientChannel != null) {
-                        channels[i] = streamSocket.clientChannel;
-                    } else if (streamSocket.serverChannel != null) {
-                        channels[i] = streamSocket.serverChannel;
-                    } else {
-                        throw ChannelNotSelectableException.INSTANCE;
-                    }
-                }
-            } else {
+            channels[i] = toSelectableChannel(ch);
+            if (channels[i] == null) {
                 throw ChannelNotSelectableException.INSTANCE;
             }
         }
@@ -1019,11 +1610,18 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
         try {
             Channel channel = getChannel(fd);
+            Channel fileChannel = channel instanceof EmulatedSocket ? channel : getFileChannel(fd);
+            if (blocking) {
+                // sockets may still be registered by select/poll/epoll or by a socket timeout
+                SelectableChannel selectable = toSelectableChannel(fileChannel);
+                if (selectable != null) {
+                    prepareBlocking(selectable);
+                }
+            }
             if (channel instanceof EmulatedSocket) {
                 setBlocking((EmulatedSocket) channel, blocking);
                 return;
             }
-            Channel fileChannel = getFileChannel(fd);
             if (fileChannel instanceof SelectableChannel) {
                 setBlocking((SelectableChannel) fileChannel, blocking);
             } else if (fileChannel != null) {
@@ -1088,6 +1686,8 @@ public final class EmulatedPosixSupport extends PosixResources {
             return Runtime.getRuntime().availableProcessors();
         } else if (name == PosixConstants._SC_NPROCESSORS_ONLN.value) {
             return Runtime.getRuntime().availableProcessors();
+        } else if (name == PosixConstants._SC_IOV_MAX.value) {
+            return 1024;
         }
         throw posixException(OSErrorEnum.EINVAL);
     }
@@ -2792,82 +3392,169 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
     }
 
+    /**
+     * The emulated mmap. Anonymous maps are backed by off-heap memory, whose address is exposed
+     * through the buffer protocol. File maps are backed by {@link MappedByteBuffer}s if the file
+     * channel supports it, so that the mapped memory can be accessed directly without seeking and
+     * reading the channel. Java 17 has no supported API to obtain the address of a
+     * {@link MappedByteBuffer}, so file maps are not exposed as a pointer. Only if the channel of
+     * the file is not a {@link FileChannel}, we fall back to reading and writing the channel.
+     */
     public static final class MMapHandle {
-        private static final MMapHandle NONE = new MMapHandle(null, 0);
+        private static final MMapHandle NONE = new MMapHandle(null, 0, 0);
+        /**
+         * A single {@link MappedByteBuffer} can map at most {@link Integer#MAX_VALUE} bytes, larger
+         * file maps are split into chunks of this size.
+         */
+        private static final int CHUNK_SHIFT = 30;
+        private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
         private SeekableByteChannel channel;
         private final long offset;
+        private final long length;
+        /** Start of the memory of an anonymous map, {@code NULLPTR} otherwise. */
+        private long address;
+        private MappedByteBuffer[] chunks;
 
-        public MMapHandle(SeekableByteChannel channel, long offset) {
+        public MMapHandle(SeekableByteChannel channel, long offset, long length) {
             this.channel = channel;
             this.offset = offset;
+            this.length = length;
         }
 
-        @Override
-        public String toString() {
-            neverPartOfCompilation();
-            return String.format("Emulated mmap [channel=%s, offset=%d]", channel, offset);
+        @TruffleBoundary
+        static MMapHandle createAnonymous(long length) {
+            MMapHandle handle = new MMapHandle(null, 0, length);
+            handle.address = NativeMemory.callocByteArray(Math.max(length, 1));
+            return handle;
         }
-    }
 
-    private static final class AnonymousMap implements SeekableByteChannel {
-        private final byte[] data;
+        @TruffleBoundary
+        static MMapHandle createMapped(FileChannel fileChannel, FileChannel.MapMode mode, long offset, long length) throws IOException {
+            MMapHandle handle = new MMapHandle(fileChannel, offset, length);
+            int count = (int) ((length + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+            handle.chunks = new MappedByteBuffer[Math.max(count, 1)];
+            for (int i = 0; i < handle.chunks.length; i++) {
+                long chunkOffset = i * CHUNK_SIZE;
+                handle.chunks[i] = fileChannel.map(mode, offset + chunkOffset, Math.min(CHUNK_SIZE, length - chunkOffset));
+            }
+            return handle;
+        }
 
-        private boolean open = true;
-        private int cur;
+        boolean isMemoryBacked() {
+            return address != NULLPTR || chunks != null;
+        }
 
-        public AnonymousMap(int cap) {
-            this.data = new byte[cap];
+        private MappedByteBuffer chunkOf(long index) {
+            return chunks[(int) (index >>> CHUNK_SHIFT)];
         }
 
-        @Override
-        public boolean isOpen() {
-            return open;
+        private static int indexInChunk(long index) {
+            return (int) (index & (CHUNK_SIZE - 1));
         }
 
-        @Override
-        public void close() throws IOException {
-            open = false;
+        /**
+         * Returns the number of bytes from the given index to the end of the memory or of the chunk
+         * that contains it.
+         */
+        private long contiguousBytes(long index) {
+            if (address != NULLPTR) {
+                return length - index;
+            }
+            return CHUNK_SIZE - indexInChunk(index);
         }
 
-        @Override
-        public int read(ByteBuffer dst) throws IOException {
-            int nread = Math.min(dst.remaining(), data.length - cur);
-            dst.put(data, cur, nread);
-            return nread;
+        byte readByte(long index) {
+            if (address != NULLPTR) {
+                return NativeMemory.readByte(address + index);
+            }
+            return getChunkByte(chunkOf(index), indexInChunk(index));
         }
 
-        @Override
-        public int write(ByteBuffer src) throws IOException {
-            int nwrite = Math.min(src.remaining(), data.length - cur);
-            src.get(data, cur, nwrite);
-            return nwrite;
+        void writeByte(long index, byte value) {
+            if (address != NULLPTR) {
+                NativeMemory.writeByte(address + index, value);
+            } else {
+                putChunkByte(chunkOf(index), indexInChunk(index), value);
+            }
         }
 
-        @Override
-        public long position() throws IOException {
-            return cur;
+        int readBytes(long index, byte[] bytes, int count) {
+            int n = (int) Math.min(count, Math.max(length - index, 0));
+            int done = 0;
+            while (done < n) {
+                int step = (int) Math.min(n - done, contiguousBytes(index + done));
+                if (address != NULLPTR) {
+                    NativeMemory.readByteArrayElements(address + index + done, 0, bytes, done, step);
+                } else {
+                    getChunkBytes(chunkOf(index + done), indexInChunk(index + done), bytes, done, step);
+                }
+                done += step;
+            }
+            return n;
         }
 
-        @Override
-        public SeekableByteChannel position(long newPosition) throws IOException {
-            if (newPosition < 0 || newPosition >= data.length) {
-                throw new IllegalArgumentException();
+        int writeBytes(long index, byte[] bytes, int count) {
+            int n = (int) Math.min(count, Math.max(length - index, 0));
+            int done = 0;
+            while (done < n) {
+                int step = (int) Math.min(n - done, contiguousBytes(index + done));
+                if (address != NULLPTR) {
+                    NativeMemory.writeByteArrayElements(address + index + done, 0, bytes, done, step);
+                } else {
+                    putChunkBytes(chunkOf(index + done), indexInChunk(index + done), bytes, done, step);
+                }
+                done += step;
             }
-            cur = (int) newPosition;
-            return this;
+            return n;
         }
 
-        @Override
-        public long size() throws IOException {
-            return data.length;
+        @TruffleBoundary(allowInlining = true)
+        private static byte getChunkByte(MappedByteBuffer chunk, int index) {
+            return chunk.get(index);
         }
 
-        @Override
-        public SeekableByteChannel truncate(long size) throws IOException {
-            for (int i = 0; i < size; i++) {
-                data[i] = 0;
+        @TruffleBoundary(allowInlining = true)
+        private static void putChunkByte(MappedByteBuffer chunk, int index, byte value) {
+            chunk.put(index, value);
+        }
+
+        @TruffleBoundary
+        private static void getChunkBytes(MappedByteBuffer chunk, int index, byte[] bytes, int offset, int count) {
+            chunk.get(index, bytes, offset, count);
+        }
+
+        @TruffleBoundary
+        private static void putChunkBytes(MappedByteBuffer chunk, int index, byte[] bytes, int offset, int count) {
+            chunk.put(index, bytes, offset, count);
+        }
+
+        @TruffleBoundary
+        void force() {
+            if (chunks != null) {
+                for (MappedByteBuffer chunk : chunks) {
+                    chunk.force();
+                }
+            }
+        }
+
+        @TruffleBoundary
+        void release() {
+            if (address != NULLPTR) {
+                NativeMemory.free(address);
+                address = NULLPTR;
+            } else if (chunks != null) {
+                for (MappedByteBuffer chunk : chunks) {
+                    NativeMemory.releaseDirectBuffer(chunk);
+                }
+                chunks = null;
             }
-            return this;
+        }
+
+        @Override
+        public String toString() {
+            neverPartOfCompilation();
+            return String.format("Emulated mmap [channel=%s, offset=%d, length=%d, address=0x%x]", channel, offset, length, address);
         }
     }
 
@@ -2884,11 +3571,7 @@ public final class EmulatedPosixSupport extends PosixResources {
 
         // Note: the profile is not really defaultDirProfile, but it's good to share...
         if (isAnonymousProfile.profile(inliningTarget, (flags & MAP_ANONYMOUS.value) != 0)) {
-            try {
-                return new MMapHandle(new AnonymousMap(PythonUtils.toIntExact(length)), 0);
-            } catch (OverflowException e) {
-                throw createUnsupportedFeature(PythonUtils.formatJString("Anonymous mapping in mmap for memory larger than %d", Integer.MAX_VALUE));
-            }
+            return MMapHandle.createAnonymous(length);
         }
 
         TruffleString path = getFilePath(fd, fromJavaStringNode);
@@ -2899,13 +3582,26 @@ public final class EmulatedPosixSupport extends PosixResources {
         SeekableByteChannel fileChannel;
         try {
             fileChannel = newByteChannel(file, options);
+            if (fileChannel instanceof FileChannel fc) {
+                return MMapHandle.createMapped(fc, mmapMode(prot, flags), offset, length);
+            }
             position(fileChannel, offset);
-            return new MMapHandle(fileChannel, offset);
+            return new MMapHandle(fileChannel, offset, length);
         } catch (IOException e) {
             throw posixException(OSErrorEnum.fromException(e, eqNode));
         }
     }
 
+    private static FileChannel.MapMode mmapMode(int prot, int flags) {
+        if ((prot & PROT_WRITE.value) == 0) {
+            return FileChannel.MapMode.READ_ONLY;
+        }
+        if (MAP_PRIVATE.defined && (flags & MAP_PRIVATE.getValueIfDefined()) != 0) {
+            return FileChannel.MapMode.PRIVATE;
+        }
+        return FileChannel.MapMode.READ_WRITE;
+    }
+
     @TruffleBoundary
     private static Set<StandardOpenOption> mmapProtToOptions(int prot) throws PosixException {
         HashSet<StandardOpenOption> options = new HashSet<>();
@@ -2937,6 +3633,13 @@ public final class EmulatedPosixSupport extends PosixResources {
             throw posixException(OSErrorEnum.EACCES);
         }
         MMapHandle handle = (MMapHandle) mmap;
+        if (handle.isMemoryBacked()) {
+            if (index < 0 || index >= handle.length) {
+                errBranch.enter(inliningTarget);
+                throw posixException(OSErrorEnum.ENODATA);
+            }
+            return handle.readByte(index);
+        }
         ByteBuffer readingBuffer = allocateByteBuffer(1);
         int readSize = readBytes(inliningTarget, handle, index, readingBuffer, errBranch, eqNode);
         if (readSize == 0) {
@@ -2951,6 +3654,14 @@ public final class EmulatedPosixSupport extends PosixResources {
                     @Bind Node inliningTarget,
                     @Shared("errorBranch") @Cached InlinedBranchProfile errBranch,
                     @Shared("eq") @Cached TruffleString.EqualNode eqNode) throws PosixException {
+        if (mmap instanceof MMapHandle handle && handle.isMemoryBacked()) {
+            if (index < 0 || index >= handle.length) {
+                errBranch.enter(inliningTarget);
+                throw posixException(OSErrorEnum.EIO);
+            }
+            handle.writeByte(index, value);
+            return;
+        }
         mmapWriteBytes(mmap, index, new byte[]{value}, 1, inliningTarget, errBranch, eqNode);
     }
 
@@ -2965,6 +3676,9 @@ public final class EmulatedPosixSupport extends PosixResources {
             throw posixException(OSErrorEnum.EACCES);
         }
         MMapHandle handle = (MMapHandle) mmap;
+        if (handle.isMemoryBacked()) {
+            return handle.readBytes(index, bytes, length);
+        }
         int sz;
         try {
             sz = PythonUtils.toIntExact(length);
@@ -3001,6 +3715,13 @@ public final class EmulatedPosixSupport extends PosixResources {
             throw posixException(OSErrorEnum.EACCES);
         }
         MMapHandle handle = (MMapHandle) mmap;
+        if (handle.isMemoryBacked()) {
+            if (handle.writeBytes(index, bytes, length) != length) {
+                errBranch.enter(inliningTarget);
+                throw posixException(OSErrorEnum.EIO);
+            }
+            return;
+        }
         try {
             SeekableByteChannel channel = handle.channel;
             position(channel, handle.offset + index);
@@ -3023,11 +3744,11 @@ public final class EmulatedPosixSupport extends PosixResources {
     @ExportMessage
     @SuppressWarnings({"static-method", "unused"})
     public void mmapFlush(Object mmap, long offset, long length) {
-        // Intentionally noop
-        // If we had access to the underlying NIO FileChannel, we could explicitly set force(true)
-        // when creating the channel. Another possibility would be exposing JDK's memory mapped
-        // files support via Truffle API, which would allow for more compatible (and completely
-        // different implementation of mmap in emulated posix)
+        // Mapped files are flushed as a whole, otherwise this is intentionally a noop: the writes
+        // to a non-mapped channel are not buffered by us
+        if (mmap instanceof MMapHandle handle) {
+            handle.force();
+        }
     }
 
     @ExportMessage
@@ -3038,6 +3759,7 @@ public final class EmulatedPosixSupport extends PosixResources {
             return;
         }
         MMapHandle handle = (MMapHandle) mmap;
+        handle.release();
         if (handle.channel != null) {
             try {
                 closeChannel(handle.channel);
@@ -3050,7 +3772,10 @@ public final class EmulatedPosixSupport extends PosixResources {
 
     @ExportMessage
     @SuppressWarnings("static-method")
-    public long mmapGetPointer(@SuppressWarnings("unused") Object mmap) throws UnsupportedPosixFeatureException {
+    public long mmapGetPointer(Object mmap) throws UnsupportedPosixFeatureException {
+        if (mmap instanceof MMapHandle handle && handle.address != NULLPTR) {
+            return handle.address;
+        }
         throw createUnsupportedFeature("obtaining mmap pointer");
     }
 
@@ -3405,6 +4130,21 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
     }
 
+    @ExportMessage
+    @TruffleBoundary
+    public int sendFromAddress(int sockfd, long address, int len, int flags) throws PosixException {
+        return send(sockfd, NativeMemory.readByteArrayElements(address, 0, len), 0, len, flags);
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public int recvIntoAddress(int sockfd, long address, int len, int flags) throws PosixException {
+        byte[] buf = new byte[len];
+        int n = recv(sockfd, buf, 0, len, flags);
+        NativeMemory.writeByteArrayElements(address, 0, buf, 0, n);
+        return n;
+    }
+
     @ExportMessage
     @TruffleBoundary
     public RecvfromResult recvfrom(int sockfd, byte[] buf, int offset, int len, int flags) throws PosixException {
@@ -3421,6 +4161,67 @@ public final class EmulatedPosixSupport extends PosixResources {
         }
     }
 
+    @ExportMessage
+    @TruffleBoundary
+    public long sendmsg(int sockfd, Buffer[] buffers, ControlMessage[] ancillaryData, int flags, UniversalSockAddr destAddr) throws PosixException {
+        if (PythonImageBuildOptions.WITHOUT_JAVA_INET || withoutIOSocket) {
+            throw new UnsupportedPosixFeatureException("sendmsg was excluded");
+        }
+        EmulatedSocket socket = getEmulatedSocket(sockfd);
+        if (ancillaryData.length > 0) {
+            // Java gives no access to the control messages of INET sockets
+            throw posixException(OSErrorEnum.EOPNOTSUPP);
+        }
+        EmulatedUniversalSockAddrImpl usa = (EmulatedUniversalSockAddrImpl) destAddr;
+        if (usa != null && socket.family == AF_INET.value && usa.getFamily() == AF_INET6.value) {
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        ByteBuffer[] bbs = wrapBuffers(buffers);
+        try {
+            if (usa == null) {
+                return socket.send(bbs, flags);
+            }
+            // Java cannot gather a datagram for an explicit destination, so join the buffers first
+            ByteBuffer bb = ByteBuffer.allocate((int) EmulatedSocket.remaining(bbs));
+            for (ByteBuffer part : bbs) {
+                bb.put(part);
+            }
+            bb.flip();
+            return socket.sendto(bb, flags, usa.socketAddress);
+        } catch (Exception e) {
+            throw posixException(e, TruffleString.EqualNode.getUncached());
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public RecvmsgResult recvmsg(int sockfd, Buffer[] buffers, int ancBufSize, int flags) throws PosixException {
+        if (PythonImageBuildOptions.WITHOUT_JAVA_INET || withoutIOSocket) {
+            throw new UnsupportedPosixFeatureException("recvmsg was excluded");
+        }
+        EmulatedSocket socket = getEmulatedSocket(sockfd);
+        ByteBuffer[] bbs = wrapBuffers(buffers);
+        try {
+            SocketAddress sa = socket.recvfrom(bbs, flags);
+            long readBytes = 0;
+            for (ByteBuffer bb : bbs) {
+                readBytes += bb.position();
+            }
+            // there is never any ancillary data, see sendmsg
+            return new RecvmsgResult(readBytes, new ControlMessage[0], 0, EmulatedUniversalSockAddrImpl.fromSocketAddress(socket.family, sa));
+        } catch (Exception e) {
+            throw posixException(e, TruffleString.EqualNode.getUncached());
+        }
+    }
+
+    private static ByteBuffer[] wrapBuffers(Buffer[] buffers) {
+        ByteBuffer[] bbs = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            bbs[i] = ByteBuffer.wrap(buffers[i].data, 0, (int) buffers[i].length);
+        }
+        return bbs;
+    }
+
     @ExportMessage
     @TruffleBoundary
     public void shutdown(int sockfd, int how) throws PosixException {
@@ -4024,6 +4825,10 @@ public final class EmulatedPosixSupport extends PosixResources {
 
         abstract int sendto(ByteBuffer bb, int flags, SocketAddress destAddr) throws IOException;
 
+        abstract long send(ByteBuffer[] bbs, int flags) throws IOException;
+
+        abstract SocketAddress recvfrom(ByteBuffer[] bbs, int flags) throws IOException;
+
         abstract void shutdown(int how) throws IOException;
 
         abstract void configureBlocking(boolean block) throws IOException;
@@ -4033,6 +4838,14 @@ public final class EmulatedPosixSupport extends PosixResources {
         abstract <T> T getsockopt(SocketOption<T> option) throws IOException;
 
         abstract <T> void setsockopt(SocketOption<T> option, T value) throws IOException;
+
+        static long remaining(ByteBuffer[] bbs) {
+            long remaining = 0;
+            for (ByteBuffer bb : bbs) {
+                remaining += bb.remaining();
+            }
+            return remaining;
+        }
     }
 
     private static final class EmulatedDatagramSocket extends EmulatedSocket {
@@ -4146,6 +4959,33 @@ public final class EmulatedPosixSupport extends PosixResources {
             return channel.send(bb, destAddr);
         }
 
+        @Override
+        long send(ByteBuffer[] bbs, int flags) throws IOException {
+            neverPartOfCompilation();
+            // TODO: do not ignore flags
+            return channel.write(bbs);
+        }
+
+        @Override
+        SocketAddress recvfrom(ByteBuffer[] bbs, int flags) throws IOException {
+            neverPartOfCompilation();
+            // TODO: do not ignore flags
+            // Java can only scatter datagrams from connected channels, so receive into a single
+            // buffer and distribute its contents
+            ByteBuffer whole = ByteBuffer.allocate((int) Math.min(remaining(bbs), MAX_READ));
+            SocketAddress addr = channel.receive(whole);
+            if (addr == null) {
+                throw new OperationWouldBlockException();
+            }
+            whole.flip();
+            for (ByteBuffer bb : bbs) {
+                int n = Math.min(whole.remaining(), bb.remaining());
+                bb.put(whole.slice(whole.position(), n));
+                whole.position(whole.position() + n);
+            }
+            return addr;
+        }
+
         @Override
         void shutdown(int how) throws IOException {
             // TODO what does native SOCK_DGRAM shutdown do?
@@ -4413,6 +5253,27 @@ public final class EmulatedPosixSupport extends PosixResources {
             throw new AlreadyConnectedException();
         }
 
+        @Override
+        long send(ByteBuffer[] bbs, int flags) throws IOException {
+            neverPartOfCompilation();
+            // TODO: do not ignore flags
+            long cnt = getClientChannel().write(bbs);
+            if (cnt == 0 && remaining(bbs) > 0) {
+                throw new OperationWouldBlockException();
+            }
+            return cnt;
+        }
+
+        @Override
+        SocketAddress recvfrom(ByteBuffer[] bbs, int flags) throws IOException {
+            neverPartOfCompilation();
+            long cnt = getClientChannel().read(bbs);
+            if (cnt == 0 && remaining(bbs) > 0) {
+                throw new OperationWouldBlockException();
+            }
+            return null;
+        }
+
         @Override
         void shutdown(int how) throws IOException {
             neverPartOfCompilation();
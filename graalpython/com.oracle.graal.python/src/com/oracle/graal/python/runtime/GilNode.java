@@ -219,14 +219,6 @@ public abstract class GilNode extends Node {
         }
     }
 
-    @TruffleBoundary
-    private final void yieldGil() {
-        PythonContext context = PythonContext.get(this);
-        release(context, true);
-        Thread.yield();
-        acquire(context, this);
-    }
-
     /**
      * @see #acquire(PythonContext, Node)
      */
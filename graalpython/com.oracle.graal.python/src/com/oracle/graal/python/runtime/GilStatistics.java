@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.oracle.graal.python.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Per-thread accounting of the Global Interpreter Lock of one context. Every thread that ever
+ * acquired the GIL gets a {@link ThreadStatistics} record which is only written by that thread
+ * (while it is acquiring, holding or releasing the GIL) and may be read by any thread. The
+ * records are exposed to Python code via {@code __graalpython__.get_gil_statistics()}, contended
+ * acquisitions and handoffs are additionally reported as JFR events.
+ */
+public final class GilStatistics {
+
+    public static final class ThreadStatistics {
+        private final long threadId;
+        private final String threadName;
+
+        private volatile long acquisitions;
+        private volatile long contendedAcquisitions;
+        private volatile long waitNanos;
+        private volatile long maxWaitNanos;
+        private volatile long holdNanos;
+        private volatile long handoffs;
+
+        /** {@link System#nanoTime()} of the last acquisition, {@code 0} if not held. */
+        private long acquiredAt;
+
+        ThreadStatistics(Thread thread) {
+            this.threadId = thread.threadId();
+            this.threadName = thread.getName();
+        }
+
+        public long getThreadId() {
+            return threadId;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getAcquisitions() {
+            return acquisitions;
+        }
+
+        public long getContendedAcquisitions() {
+            return contendedAcquisitions;
+        }
+
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+
+        public long getMaxWaitNanos() {
+            return maxWaitNanos;
+        }
+
+        public long getHoldNanos() {
+            return holdNanos;
+        }
+
+        public long getHandoffs() {
+            return handoffs;
+        }
+    }
+
+    @Name("org.graalvm.python.GilWait")
+    @Label("GIL Wait")
+    @Category({"GraalPy", "Threads"})
+    @Description("A thread blocked waiting for the Global Interpreter Lock")
+    static final class GilWaitEvent extends Event {
+        @Label("Queue Length") int queueLength;
+    }
+
+    @Name("org.graalvm.python.GilHandoff")
+    @Label("GIL Handoff")
+    @Category({"GraalPy", "Threads"})
+    @Description("The GIL owner yielded the Global Interpreter Lock to a waiting thread after its switch interval elapsed")
+    static final class GilHandoffEvent extends Event {
+        @Label("Hold Time") @Timespan long holdTime;
+        @Label("Queue Length") int queueLength;
+    }
+
+    private final ThreadLocal<ThreadStatistics> current = new ThreadLocal<>();
+    private final Map<Thread, ThreadStatistics> all = new WeakHashMap<>();
+
+    @TruffleBoundary
+    ThreadStatistics forCurrentThread() {
+        ThreadStatistics stats = current.get();
+        if (stats == null) {
+            Thread thread = Thread.currentThread();
+            stats = new ThreadStatistics(thread);
+            current.set(stats);
+            synchronized (all) {
+                all.put(thread, stats);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Records an acquisition of the GIL by the current thread. {@code waitStart} is the
+     * {@link System#nanoTime()} at which the thread started to block, or {@code 0} if the GIL was
+     * acquired without blocking.
+     */
+    static void acquired(ThreadStatistics stats, long waitStart, long now) {
+        stats.acquisitions++;
+        if (waitStart != 0) {
+            long waited = now - waitStart;
+            stats.contendedAcquisitions++;
+            stats.waitNanos += waited;
+            if (waited > stats.maxWaitNanos) {
+                stats.maxWaitNanos = waited;
+            }
+        }
+        stats.acquiredAt = now;
+    }
+
+    /**
+     * Records that the current thread is about to release the GIL and returns the time it held it.
+     */
+    static long released(ThreadStatistics stats, long now) {
+        long held = 0;
+        if (stats.acquiredAt != 0) {
+            held = now - stats.acquiredAt;
+            stats.holdNanos += held;
+            stats.acquiredAt = 0;
+        }
+        return held;
+    }
+
+    static void handedOff(ThreadStatistics stats, long held, int queueLength) {
+        stats.handoffs++;
+        GilHandoffEvent event = new GilHandoffEvent();
+        if (event.shouldCommit()) {
+            event.holdTime = held;
+            event.queueLength = queueLength;
+            event.commit();
+        }
+    }
+
+    /**
+     * Forgets all threads seen so far. Used after pre-initialization, when the threads that ran
+     * the initialization must not be referenced anymore.
+     */
+    void reset() {
+        synchronized (all) {
+            all.clear();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of all threads that acquired the GIL and are still
+     * alive.
+     */
+    @TruffleBoundary
+    public List<ThreadStatistics> snapshot() {
+        synchronized (all) {
+            return new ArrayList<>(all.values());
+        }
+    }
+}
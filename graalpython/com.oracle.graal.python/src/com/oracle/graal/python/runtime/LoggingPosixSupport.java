@@ -49,6 +49,7 @@ import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.AcceptResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.AddrInfoCursor;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Buffer;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.ControlMessage;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.GetAddrInfoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet4SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet6SockAddr;
@@ -59,6 +60,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixErrnoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PwdResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvfromResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvmsgResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RusageResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.SelectResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Timeval;
@@ -197,6 +199,50 @@ public class LoggingPosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    final int readInto(int fd, byte[] dest, int offset, int length,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("readInto", "%d, %d, %d", fd, offset, length);
+        try {
+            return logExit("readInto", "%d", lib.readInto(delegate, fd, dest, offset, length));
+        } catch (PosixException e) {
+            throw logException("readInto", e);
+        }
+    }
+
+    @ExportMessage
+    final long readIntoAddress(int fd, long address, long length,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("readIntoAddress", "%d, %d", fd, length);
+        try {
+            return logExit("readIntoAddress", "%d", lib.readIntoAddress(delegate, fd, address, length));
+        } catch (PosixException e) {
+            throw logException("readIntoAddress", e);
+        }
+    }
+
+    @ExportMessage
+    final long writeFromAddress(int fd, long address, long length,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("writeFromAddress", "%d, %d", fd, length);
+        try {
+            return logExit("writeFromAddress", "%d", lib.writeFromAddress(delegate, fd, address, length));
+        } catch (PosixException e) {
+            throw logException("writeFromAddress", e);
+        }
+    }
+
+    @ExportMessage
+    final long sendfile(int outFd, int inFd, long offset, long count,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("sendfile", "%d, %d, %d, %d", outFd, inFd, offset, count);
+        try {
+            return logExit("sendfile", "%d", lib.sendfile(delegate, outFd, inFd, offset, count));
+        } catch (PosixException e) {
+            throw logException("sendfile", e);
+        }
+    }
+
     @ExportMessage
     final int dup(int fd,
                     @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
@@ -308,6 +354,56 @@ public class LoggingPosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    public Object pollCreate(@CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollCreate", "");
+        try {
+            return logExit("pollCreate", "%s", lib.pollCreate(delegate));
+        } catch (PosixException e) {
+            throw logException("pollCreate", e);
+        }
+    }
+
+    @ExportMessage
+    public void pollRegister(Object pollSet, int fd, int events,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollRegister", "%s, %d, 0x%x", pollSet, fd, events);
+        try {
+            lib.pollRegister(delegate, pollSet, fd, events);
+        } catch (PosixException e) {
+            throw logException("pollRegister", e);
+        }
+    }
+
+    @ExportMessage
+    public boolean pollUnregister(Object pollSet, int fd,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollUnregister", "%s, %d", pollSet, fd);
+        try {
+            return logExit("pollUnregister", "%b", lib.pollUnregister(delegate, pollSet, fd));
+        } catch (PosixException e) {
+            throw logException("pollUnregister", e);
+        }
+    }
+
+    @ExportMessage
+    public int[] pollWait(Object pollSet, Timeval timeout, int maxEvents,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("pollWait", "%s, %s, %d", pollSet, timeout, maxEvents);
+        try {
+            return logExit("pollWait", "%s", lib.pollWait(delegate, pollSet, timeout, maxEvents));
+        } catch (PosixException e) {
+            throw logException("pollWait", e);
+        }
+    }
+
+    @ExportMessage
+    public void pollClose(Object pollSet,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) {
+        logEnter("pollClose", "%s", pollSet);
+        lib.pollClose(delegate, pollSet);
+    }
+
     @ExportMessage
     final long lseek(int fd, long offset, int how,
                     @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
@@ -1393,6 +1489,28 @@ public class LoggingPosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    final int sendFromAddress(int sockfd, long address, int len, int flags,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("sendFromAddress", "%d, %d, %d", sockfd, len, flags);
+        try {
+            return logExit("sendFromAddress", "%d", lib.sendFromAddress(delegate, sockfd, address, len, flags));
+        } catch (PosixException e) {
+            throw logException("sendFromAddress", e);
+        }
+    }
+
+    @ExportMessage
+    final int recvIntoAddress(int sockfd, long address, int len, int flags,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("recvIntoAddress", "%d, %d, %d", sockfd, len, flags);
+        try {
+            return logExit("recvIntoAddress", "%d", lib.recvIntoAddress(delegate, sockfd, address, len, flags));
+        } catch (PosixException e) {
+            throw logException("recvIntoAddress", e);
+        }
+    }
+
     @ExportMessage
     final RecvfromResult recvfrom(int sockfd, byte[] buf, int offset, int len, int flags,
                     @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
@@ -1404,6 +1522,28 @@ public class LoggingPosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    final long sendmsg(int sockfd, Buffer[] buffers, ControlMessage[] ancillaryData, int flags, UniversalSockAddr destAddr,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("sendmsg", "%d, %d, %d, %d, %s", sockfd, buffers.length, ancillaryData.length, flags, destAddr);
+        try {
+            return logExit("sendmsg", "%d", lib.sendmsg(delegate, sockfd, buffers, ancillaryData, flags, destAddr));
+        } catch (PosixException e) {
+            throw logException("sendmsg", e);
+        }
+    }
+
+    @ExportMessage
+    final RecvmsgResult recvmsg(int sockfd, Buffer[] buffers, int ancBufSize, int flags,
+                    @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
+        logEnter("recvmsg", "%d, %d, %d, %d", sockfd, buffers.length, ancBufSize, flags);
+        try {
+            return logExit("recvmsg", "%s", lib.recvmsg(delegate, sockfd, buffers, ancBufSize, flags));
+        } catch (PosixException e) {
+            throw logException("recvmsg", e);
+        }
+    }
+
     @ExportMessage
     final void shutdown(int sockfd, int how,
                     @CachedLibrary("this.delegate") PosixSupportLibrary lib) throws PosixException {
@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.oracle.graal.python.nodes.bytecode_dsl.BytecodeDSLCodeUnit;
+import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
+import com.oracle.truffle.api.Assumption;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
+
+/**
+ * The {@code sys.monitoring} (PEP 669) state of a context.
+ * <p>
+ * Events are reported by the instrumentation operations of {@link PBytecodeDSLRootNode}. Setting
+ * events adds the operations that report them to all roots of the engine, see
+ * {@link PBytecodeDSLRootNode#updateAllToMonitoringConfig}. The Bytecode DSL cannot remove
+ * instrumentation, so the operations stay in the bytecode for the lifetime of the engine, also when
+ * the events are cleared or disabled at a location. Each of them then costs a call that checks
+ * whether the event is still wanted. The returns and exceptions of all code are checked as well once
+ * any event was set. The union of the events that any tool wants is compilation final, and
+ * {@link PBytecodeDSLRootNode} caches a {@link CodeMonitoring} snapshot of the events, callbacks and
+ * disabled locations of its code, so the checks themselves do not need to synchronize.
+ * <p>
+ * {@code C_RETURN} and {@code C_RAISE} events cannot be set on their own, they are reported to the
+ * tools that want {@code CALL} events.
+ */
+public final class MonitoringState {
+    public static final int TOOL_COUNT = 6;
+
+    public static final int PY_START = 0;
+    public static final int PY_RESUME = 1;
+    public static final int PY_RETURN = 2;
+    public static final int PY_YIELD = 3;
+    public static final int CALL = 4;
+    public static final int LINE = 5;
+    public static final int INSTRUCTION = 6;
+    public static final int JUMP = 7;
+    public static final int BRANCH = 8;
+    public static final int STOP_ITERATION = 9;
+    public static final int RAISE = 10;
+    public static final int EXCEPTION_HANDLED = 11;
+    public static final int PY_UNWIND = 12;
+    public static final int PY_THROW = 13;
+    public static final int RERAISE = 14;
+    public static final int C_RETURN = 15;
+    public static final int C_RAISE = 16;
+
+    public static final int EVENT_COUNT = 17;
+    /** Events below this number can be set per code object and disabled per location. */
+    public static final int LOCAL_EVENT_COUNT = 10;
+
+    public static final String[] EVENT_NAMES = {"PY_START", "PY_RESUME", "PY_RETURN", "PY_YIELD", "CALL", "LINE", "INSTRUCTION", "JUMP", "BRANCH", "STOP_ITERATION",
+                    "RAISE", "EXCEPTION_HANDLED", "PY_UNWIND", "PY_THROW", "RERAISE", "C_RETURN", "C_RAISE"};
+
+    public static final int C_RETURN_EVENTS = bit(C_RETURN) | bit(C_RAISE);
+
+    private static final long[] NO_DISABLED_LOCATIONS = new long[0];
+
+    private final Object[] toolNames = new Object[TOOL_COUNT];
+    private final int[] globalEvents = new int[TOOL_COUNT];
+    private final Object[][] callbacks = new Object[EVENT_COUNT][TOOL_COUNT];
+    private final HashMap<BytecodeDSLCodeUnit, int[]> localEvents = new HashMap<>();
+    /*
+     * The locations for which a tool returned DISABLE, per code, as sorted arrays of
+     * disabledLocationKey values. The arrays are replaced on every change, so that snapshots can
+     * share them.
+     */
+    private final HashMap<BytecodeDSLCodeUnit, long[]> disabledLocations = new HashMap<>();
+    /* A copy of the callbacks shared by all snapshots, null after the callbacks changed. */
+    private Object[][] callbacksSnapshot;
+
+    private Object disable;
+    private Object missing;
+
+    @CompilationFinal private volatile int activeEvents;
+    @CompilationFinal private volatile int version;
+    @CompilationFinal private volatile Assumption unchanged = createAssumption();
+
+    private static Assumption createAssumption() {
+        return Truffle.getRuntime().createAssumption("sys.monitoring events unchanged");
+    }
+
+    public static int bit(int event) {
+        return 1 << event;
+    }
+
+    private static long disabledLocationKey(int tool, int event, int location) {
+        return ((long) location << 32) | (event << 8) | tool;
+    }
+
+    /**
+     * C_RETURN and C_RAISE are reported to the tools that want CALL events.
+     */
+    public static int getWantedEvent(int event) {
+        return event == C_RETURN || event == C_RAISE ? CALL : event;
+    }
+
+    /**
+     * The events, callbacks and disabled locations of a code unit at one version of the state. A
+     * snapshot is immutable, so that a root can cache it in a single field and compiled code can
+     * fold it.
+     */
+    public static final class CodeMonitoring {
+        private final MonitoringState owner;
+        private final int version;
+        private final int events;
+        @CompilationFinal(dimensions = 1) private final int[] toolEvents;
+        @CompilationFinal(dimensions = 2) private final Object[][] callbacks;
+        @CompilationFinal(dimensions = 1) private final long[] disabledLocations;
+        @CompilationFinal(dimensions = 1) private final boolean[] disabledLines;
+        private final int startLine;
+
+        CodeMonitoring(MonitoringState owner, int version, int[] toolEvents, Object[][] callbacks, long[] disabledLocations, boolean[] disabledLines, int startLine) {
+            this.owner = owner;
+            this.version = version;
+            int union = 0;
+            for (int events : toolEvents) {
+                union |= events;
+            }
+            this.events = union;
+            this.toolEvents = toolEvents;
+            this.callbacks = callbacks;
+            this.disabledLocations = disabledLocations;
+            this.disabledLines = disabledLines;
+            this.startLine = startLine;
+        }
+
+        public MonitoringState getOwner() {
+            return owner;
+        }
+
+        public boolean isCurrent(MonitoringState state) {
+            return owner == state && version == state.getVersion();
+        }
+
+        /**
+         * The events that any tool wants from the code.
+         */
+        public int getEvents() {
+            return events;
+        }
+
+        /**
+         * Whether any tool that wants {@code LINE} events did not disable the line.
+         */
+        public boolean isLineEnabled(int line) {
+            if (disabledLines == null) {
+                return true;
+            }
+            int index = line - startLine;
+            return index < 0 || index >= disabledLines.length || !disabledLines[index];
+        }
+
+        /**
+         * Returns the callback of the tool if it should receive the event at the given location,
+         * or {@code null}. For {@code LINE} events, the location is the line number.
+         */
+        public Object getCallback(int event, int tool, int location) {
+            Object callback = callbacks[event][tool];
+            int wantedEvent = getWantedEvent(event);
+            if (callback == null || (toolEvents[tool] & bit(wantedEvent)) == 0) {
+                return null;
+            }
+            if (wantedEvent < LOCAL_EVENT_COUNT && disabledLocations.length > 0 && isDisabled(disabledLocations, disabledLocationKey(tool, wantedEvent, location))) {
+                return null;
+            }
+            return callback;
+        }
+
+        @TruffleBoundary
+        private static boolean isDisabled(long[] disabledLocations, long key) {
+            return Arrays.binarySearch(disabledLocations, key) >= 0;
+        }
+    }
+
+    public void setSentinels(Object disableSentinel, Object missingSentinel) {
+        this.disable = disableSentinel;
+        this.missing = missingSentinel;
+    }
+
+    public Object getDisable() {
+        return disable;
+    }
+
+    public Object getMissing() {
+        return missing;
+    }
+
+    /**
+     * The union of all global and local events of all tools. This is a constant in compiled code.
+     */
+    public int getActiveEvents() {
+        if (!unchanged.isValid()) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+        }
+        return activeEvents;
+    }
+
+    /**
+     * Incremented whenever the events or the callbacks change in a way that invalidates the
+     * {@link CodeMonitoring} snapshots. Disabling a location does not change the version, the
+     * snapshot of the affected code is replaced by the root that reported the event.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private void changed() {
+        int active = 0;
+        for (int tool = 0; tool < TOOL_COUNT; tool++) {
+            active |= globalEvents[tool];
+        }
+        for (int[] events : localEvents.values()) {
+            for (int tool = 0; tool < TOOL_COUNT; tool++) {
+                active |= events[tool];
+            }
+        }
+        activeEvents = active;
+        version++;
+        Assumption old = unchanged;
+        unchanged = createAssumption();
+        old.invalidate();
+    }
+
+    private void callbacksChanged() {
+        callbacksSnapshot = null;
+        changed();
+    }
+
+    @TruffleBoundary
+    public synchronized boolean isToolInUse(int tool) {
+        return toolNames[tool] != null;
+    }
+
+    @TruffleBoundary
+    public synchronized boolean useToolId(int tool, Object name) {
+        if (toolNames[tool] != null) {
+            return false;
+        }
+        toolNames[tool] = name;
+        return true;
+    }
+
+    /**
+     * Releases the tool id. Unlike CPython 3.13, this also clears the events, callbacks and
+     * disabled locations of the tool, so that nothing keeps calling into a tool that is gone or
+     * keeps its code objects alive.
+     */
+    @TruffleBoundary
+    public synchronized void freeToolId(int tool) {
+        toolNames[tool] = null;
+        globalEvents[tool] = 0;
+        for (Object[] eventCallbacks : callbacks) {
+            eventCallbacks[tool] = null;
+        }
+        Iterator<int[]> localIterator = localEvents.values().iterator();
+        while (localIterator.hasNext()) {
+            int[] events = localIterator.next();
+            events[tool] = 0;
+            if (isEmpty(events)) {
+                localIterator.remove();
+            }
+        }
+        Iterator<Map.Entry<BytecodeDSLCodeUnit, long[]>> disabledIterator = disabledLocations.entrySet().iterator();
+        while (disabledIterator.hasNext()) {
+            Map.Entry<BytecodeDSLCodeUnit, long[]> entry = disabledIterator.next();
+            long[] remaining = Arrays.stream(entry.getValue()).filter(key -> (key & 0xff) != tool).toArray();
+            if (remaining.length == 0) {
+                disabledIterator.remove();
+            } else {
+                entry.setValue(remaining);
+            }
+        }
+        callbacksChanged();
+    }
+
+    private static boolean isEmpty(int[] toolEvents) {
+        for (int events : toolEvents) {
+            if (events != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @TruffleBoundary
+    public synchronized Object getTool(int tool) {
+        return toolNames[tool];
+    }
+
+    @TruffleBoundary
+    public synchronized int getEvents(int tool) {
+        return globalEvents[tool];
+    }
+
+    @TruffleBoundary
+    public synchronized void setEvents(int tool, int events) {
+        if (globalEvents[tool] != events) {
+            globalEvents[tool] = events;
+            changed();
+        }
+    }
+
+    @TruffleBoundary
+    public synchronized int getLocalEvents(int tool, BytecodeDSLCodeUnit code) {
+        int[] events = localEvents.get(code);
+        return events != null ? events[tool] : 0;
+    }
+
+    @TruffleBoundary
+    public synchronized void setLocalEvents(int tool, BytecodeDSLCodeUnit code, int events) {
+        int[] toolEvents = localEvents.get(code);
+        if (toolEvents == null) {
+            if (events == 0) {
+                return;
+            }
+            toolEvents = new int[TOOL_COUNT];
+            localEvents.put(code, toolEvents);
+        }
+        if (toolEvents[tool] != events) {
+            toolEvents[tool] = events;
+            if (isEmpty(toolEvents)) {
+                localEvents.remove(code);
+            }
+            changed();
+        }
+    }
+
+    @TruffleBoundary
+    public synchronized Object registerCallback(int tool, int event, Object callback) {
+        Object previous = callbacks[event][tool];
+        callbacks[event][tool] = callback;
+        if (previous != callback) {
+            callbacksChanged();
+        }
+        return previous;
+    }
+
+    @TruffleBoundary
+    public synchronized void restartEvents() {
+        if (!disabledLocations.isEmpty()) {
+            disabledLocations.clear();
+            changed();
+        }
+    }
+
+    /**
+     * Returns the global events as a map from event name to the mask of tools that want it.
+     */
+    @TruffleBoundary
+    public synchronized LinkedHashMap<String, Object> getAllEvents() {
+        LinkedHashMap<String, Object> result = new LinkedHashMap<>();
+        for (int event = 0; event < EVENT_COUNT; event++) {
+            int tools = 0;
+            for (int tool = 0; tool < TOOL_COUNT; tool++) {
+                if ((globalEvents[tool] & bit(event)) != 0) {
+                    tools |= 1 << tool;
+                }
+            }
+            if (tools != 0) {
+                result.put(EVENT_NAMES[event], tools);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the events, callbacks and disabled locations of the given code.
+     */
+    @TruffleBoundary
+    public synchronized CodeMonitoring getCodeMonitoring(BytecodeDSLCodeUnit code) {
+        int[] codeEvents = localEvents.get(code);
+        int[] toolEvents = new int[TOOL_COUNT];
+        for (int tool = 0; tool < TOOL_COUNT; tool++) {
+            toolEvents[tool] = globalEvents[tool] | (codeEvents != null ? codeEvents[tool] : 0);
+        }
+        if (callbacksSnapshot == null) {
+            callbacksSnapshot = new Object[EVENT_COUNT][];
+            for (int event = 0; event < EVENT_COUNT; event++) {
+                callbacksSnapshot[event] = callbacks[event].clone();
+            }
+        }
+        long[] disabled = disabledLocations.getOrDefault(code, NO_DISABLED_LOCATIONS);
+        return new CodeMonitoring(this, version, toolEvents, callbacksSnapshot, disabled, getDisabledLines(code, toolEvents, disabled), code.startLine);
+    }
+
+    /**
+     * Records that the callback of the tool returned {@code DISABLE} for the event at the given
+     * location. Returns {@code false} if the event cannot be disabled.
+     */
+    @TruffleBoundary
+    public synchronized boolean disable(int tool, int event, BytecodeDSLCodeUnit code, int location) {
+        int wantedEvent = getWantedEvent(event);
+        if (wantedEvent >= LOCAL_EVENT_COUNT) {
+            return false;
+        }
+        long key = disabledLocationKey(tool, wantedEvent, location);
+        long[] disabled = disabledLocations.getOrDefault(code, NO_DISABLED_LOCATIONS);
+        int index = Arrays.binarySearch(disabled, key);
+        if (index < 0) {
+            int insertionPoint = -index - 1;
+            long[] updated = new long[disabled.length + 1];
+            System.arraycopy(disabled, 0, updated, 0, insertionPoint);
+            updated[insertionPoint] = key;
+            System.arraycopy(disabled, insertionPoint, updated, insertionPoint + 1, disabled.length - insertionPoint);
+            disabledLocations.put(code, updated);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the lines of the code for which every tool that wants {@code LINE} events returned
+     * {@code DISABLE}, indexed from the first line of the code, or {@code null} if there are none.
+     */
+    private boolean[] getDisabledLines(BytecodeDSLCodeUnit code, int[] toolEvents, long[] disabled) {
+        boolean[] result = null;
+        for (long key : disabled) {
+            int line = (int) (key >> 32);
+            if (((key >> 8) & 0xff) == LINE && isLineDisabled(toolEvents, disabled, line)) {
+                int index = line - code.startLine;
+                if (index >= 0 && index <= code.endLine - code.startLine) {
+                    if (result == null) {
+                        result = new boolean[code.endLine - code.startLine + 1];
+                    }
+                    result[index] = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isLineDisabled(int[] toolEvents, long[] disabled, int line) {
+        for (int tool = 0; tool < TOOL_COUNT; tool++) {
+            if ((toolEvents[tool] & bit(LINE)) != 0 && callbacks[LINE][tool] != null && Arrays.binarySearch(disabled, disabledLocationKey(tool, LINE, line)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
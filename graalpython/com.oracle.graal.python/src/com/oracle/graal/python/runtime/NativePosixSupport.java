@@ -86,6 +86,7 @@ import static com.oracle.truffle.api.strings.TruffleString.Encoding.UTF_16LE;
 import static com.oracle.truffle.api.strings.TruffleString.Encoding.UTF_8;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.logging.Level;
 
 import org.graalvm.nativeimage.ImageInfo;
@@ -103,6 +104,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.AcceptResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.AddrInfoCursor;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.AddrInfoCursorLibrary;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Buffer;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.ControlMessage;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.GetAddrInfoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet4SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet6SockAddr;
@@ -113,6 +115,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixErrnoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PwdResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvfromResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvmsgResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RusageResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.SelectResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Timeval;
@@ -166,6 +169,8 @@ public final class NativePosixSupport extends PosixSupport {
     private static final int PWD_OUTPUT_LEN = 5;
     private static final int PWD_BUFFER_MAX_SIZE = Integer.MAX_VALUE >> 2;
     private static final int STRERROR_BUF_LENGTH = 1024;
+    // Keep in sync with the flat ancillary data format in posix.c
+    private static final int FLAT_CMSG_HEADER_SIZE = 3 * Integer.BYTES;
     private static final int ERROR_SOURCE_ERRNO = 0;
     private static final int ERROR_SOURCE_WINAPI = 1;
     private static final int ERROR_SOURCE_WINSOCK = 2;
@@ -250,6 +255,9 @@ public final class NativePosixSupport extends PosixSupport {
         @DowncallSignature(returnType = SINT32, argumentTypes = {SINT32, SINT32, SINT64, SINT64})
         abstract int call_poll(int fd, int writing, long timeoutSec, long timeoutUsec);
 
+        @DowncallSignature(returnType = SINT32, argumentTypes = {POINTER, POINTER, POINTER, SINT32, SINT32})
+        abstract int call_poll_many(long fds, long events, long revents, int len, int timeoutMs);
+
         @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, SINT64, SINT32})
         abstract long call_lseek(int fd, long offset, int whence);
 
@@ -539,6 +547,15 @@ public final class NativePosixSupport extends PosixSupport {
         @DowncallSignature(returnType = SINT32, argumentTypes = {SINT32, POINTER, SINT32, SINT32, SINT32, POINTER, POINTER})
         abstract int call_recvfrom(int sockfd, long buf, int offset, int len, int flags, long srcAddr, long addrLen);
 
+        @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, POINTER, POINTER, SINT32, POINTER, SINT32, SINT32, POINTER, SINT32})
+        abstract long call_sendmsg(int sockfd, long data, long lens, int count, long anc, int ancLen, int flags, long addr, int addrLen);
+
+        @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, POINTER, POINTER, SINT32, SINT32, POINTER, POINTER, POINTER, POINTER, POINTER})
+        abstract long call_recvmsg(int sockfd, long data, long lens, int count, int flags, long anc, long ancLen, long msgFlags, long srcAddr, long addrLen);
+
+        @DowncallSignature(returnType = SINT64, argumentTypes = {SINT32, SINT32, SINT64, SINT64})
+        abstract long call_sendfile(int outFd, int inFd, long offset, long count);
+
         @DowncallSignature(returnType = SINT32, argumentTypes = {SINT32, SINT32})
         abstract int call_shutdown(int sockfd, int how);
 
@@ -784,6 +801,48 @@ public final class NativePosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    public int readInto(int fd, byte[] dest, int offset, int length) throws PosixException {
+        long nativeBuffer = NativeMemory.mallocByteArrayOrNull(length);
+        try {
+            long n = posixNativeFunctionInvoker.call_read(fd, nativeBuffer, length);
+            if (n < 0) {
+                throw getErrnoAndThrowPosixException();
+            }
+            NativeMemory.readByteArrayElements(nativeBuffer, 0, dest, offset, (int) n);
+            return (int) n;
+        } finally {
+            NativeMemory.free(nativeBuffer);
+        }
+    }
+
+    @ExportMessage
+    public long readIntoAddress(int fd, long address, long length) throws PosixException {
+        long n = posixNativeFunctionInvoker.call_read(fd, address, Math.min(length, MAX_READ));
+        if (n < 0) {
+            throw getErrnoAndThrowPosixException();
+        }
+        return n;
+    }
+
+    @ExportMessage
+    public long writeFromAddress(int fd, long address, long length) throws PosixException {
+        long n = posixNativeFunctionInvoker.call_write(fd, address, length);
+        if (n < 0) {
+            throw getErrnoAndThrowPosixException();
+        }
+        return n;
+    }
+
+    @ExportMessage
+    public long sendfile(int outFd, int inFd, long offset, long count) throws PosixException {
+        long n = posixNativeFunctionInvoker.call_sendfile(outFd, inFd, offset, count);
+        if (n < 0) {
+            throw getErrnoAndThrowPosixException();
+        }
+        return n;
+    }
+
     @ExportMessage
     public int dup(int fd) throws PosixException {
         int newFd = posixNativeFunctionInvoker.call_dup(fd);
@@ -947,6 +1006,148 @@ public final class NativePosixSupport extends PosixSupport {
         }
     }
 
+    /**
+     * The registrations of a poll set. The native {@code poll} call does not keep any state, so the
+     * file descriptors and their event masks are passed to it on every wait.
+     */
+    private static final class NativePollSet {
+        private final HashMap<Integer, Integer> indices = new HashMap<>();
+        private int[] fds = new int[8];
+        private int[] events = new int[8];
+        private int size;
+        private boolean closed;
+
+        void register(int fd, int eventMask) {
+            Integer idx = indices.get(fd);
+            if (idx != null) {
+                events[idx] = eventMask;
+                return;
+            }
+            if (size == fds.length) {
+                fds = PythonUtils.arrayCopyOf(fds, size * 2);
+                events = PythonUtils.arrayCopyOf(events, size * 2);
+            }
+            fds[size] = fd;
+            events[size] = eventMask;
+            indices.put(fd, size++);
+        }
+
+        boolean unregister(int fd) {
+            Integer idx = indices.remove(fd);
+            if (idx == null) {
+                return false;
+            }
+            // move the last registration into the freed slot
+            size--;
+            if (idx != size) {
+                fds[idx] = fds[size];
+                events[idx] = events[size];
+                indices.put(fds[idx], idx);
+            }
+            return true;
+        }
+    }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    public Object pollCreate() {
+        return new NativePollSet();
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public void pollRegister(Object pollSet, int fd, int events) throws PosixException {
+        NativePollSet set = (NativePollSet) pollSet;
+        synchronized (set) {
+            if (set.closed) {
+                throw newPosixException(OSErrorEnum.EBADF.getNumber(), null);
+            }
+            set.register(fd, events);
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public boolean pollUnregister(Object pollSet, int fd) throws PosixException {
+        NativePollSet set = (NativePollSet) pollSet;
+        synchronized (set) {
+            if (set.closed) {
+                throw newPosixException(OSErrorEnum.EBADF.getNumber(), null);
+            }
+            return set.unregister(fd);
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public int[] pollWait(Object pollSet, Timeval timeout, int maxEvents) throws PosixException {
+        NativePollSet set = (NativePollSet) pollSet;
+        int[] fds;
+        int[] events;
+        synchronized (set) {
+            if (set.closed) {
+                throw newPosixException(OSErrorEnum.EBADF.getNumber(), null);
+            }
+            // take a snapshot, other threads may modify the set while we are waiting
+            fds = PythonUtils.arrayCopyOf(set.fds, set.size);
+            events = PythonUtils.arrayCopyOf(set.events, set.size);
+        }
+        int[] revents = new int[fds.length];
+        long nativeFds = NULLPTR;
+        long nativeEvents = NULLPTR;
+        long nativeRevents = NULLPTR;
+        int ready;
+        try {
+            nativeFds = NativeMemory.copyToNativeIntArrayOrNull(fds);
+            nativeEvents = NativeMemory.copyToNativeIntArrayOrNull(events);
+            nativeRevents = fds.length > 0 ? NativeMemory.mallocIntArray(fds.length) : NULLPTR;
+            ready = posixNativeFunctionInvoker.call_poll_many(nativeFds, nativeEvents, nativeRevents, fds.length, timevalToPollTimeout(timeout));
+            if (ready < 0) {
+                throw getErrnoAndThrowPosixException();
+            }
+            if (ready > 0) {
+                NativeMemory.readIntArrayElements(nativeRevents, 0, revents, 0, revents.length);
+            }
+        } finally {
+            NativeMemory.free(nativeRevents);
+            NativeMemory.free(nativeEvents);
+            NativeMemory.free(nativeFds);
+        }
+        int count = maxEvents < 0 ? ready : Math.min(ready, maxEvents);
+        int[] result = new int[count * 2];
+        for (int i = 0, j = 0; i < fds.length && j < result.length; i++) {
+            if (revents[i] != 0) {
+                result[j++] = fds[i];
+                result[j++] = revents[i];
+            }
+        }
+        return result;
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    @SuppressWarnings("static-method")
+    public void pollClose(Object pollSet) {
+        NativePollSet set = (NativePollSet) pollSet;
+        synchronized (set) {
+            set.closed = true;
+            set.indices.clear();
+            set.size = 0;
+        }
+    }
+
+    /**
+     * Converts the timeout to milliseconds as expected by {@code poll}, rounding up so that we never
+     * wake up before the timeout expires.
+     */
+    private static int timevalToPollTimeout(Timeval timeout) {
+        if (timeout == null) {
+            return -1;
+        }
+        long ms = timeout.getSeconds() * 1000L + (timeout.getMicroseconds() + 999) / 1000;
+        return (int) Math.min(ms, Integer.MAX_VALUE);
+    }
+
     @ExportMessage
     public long lseek(int fd, long offset, int how) throws PosixException {
         long res = posixNativeFunctionInvoker.call_lseek(fd, offset, how);
@@ -2387,6 +2588,24 @@ public final class NativePosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    public int sendFromAddress(int sockfd, long address, int len, int flags) throws PosixException {
+        int result = posixNativeFunctionInvoker.call_send(sockfd, address, len, flags);
+        if (result == -1) {
+            throw getErrnoAndThrowPosixException();
+        }
+        return result;
+    }
+
+    @ExportMessage
+    public int recvIntoAddress(int sockfd, long address, int len, int flags) throws PosixException {
+        int result = posixNativeFunctionInvoker.call_recv(sockfd, address, len, flags);
+        if (result == -1) {
+            throw getErrnoAndThrowPosixException();
+        }
+        return result;
+    }
+
     @ExportMessage
     public RecvfromResult recvfrom(int sockfd, byte[] buf, int offset, int len, int flags) throws PosixException {
         checkBounds(buf, offset, len);
@@ -2412,6 +2631,127 @@ public final class NativePosixSupport extends PosixSupport {
         }
     }
 
+    @ExportMessage
+    public long sendmsg(int sockfd, Buffer[] buffers, ControlMessage[] ancillaryData, int flags, UniversalSockAddr usa) throws PosixException {
+        UniversalSockAddrImpl destAddr = (UniversalSockAddrImpl) usa;
+        int destAddrLen = destAddr == null ? 0 : destAddr.getLen();
+        int ancLen = 0;
+        for (ControlMessage cmsg : ancillaryData) {
+            ancLen += FLAT_CMSG_HEADER_SIZE + cmsg.data.length;
+        }
+        long nativeData = NULLPTR;
+        long nativeLens = NULLPTR;
+        long nativeAnc = NULLPTR;
+        long nativeDestAddr = NULLPTR;
+        try {
+            nativeData = NativeMemory.mallocByteArrayOrNull(totalLength(buffers));
+            nativeLens = NativeMemory.mallocLongArray(Math.max(buffers.length, 1));
+            long pos = 0;
+            for (int i = 0; i < buffers.length; i++) {
+                NativeMemory.writeByteArrayElements(nativeData, pos, buffers[i].data, 0, (int) buffers[i].length);
+                NativeMemory.writeLongArrayElement(nativeLens, i, buffers[i].length);
+                pos += buffers[i].length;
+            }
+            if (ancLen > 0) {
+                nativeAnc = NativeMemory.mallocByteArray(ancLen);
+                writeFlatControlMessages(nativeAnc, ancillaryData);
+            }
+            if (destAddrLen > 0) {
+                nativeDestAddr = NativeMemory.mallocByteArray(destAddrLen);
+                NativeMemory.writeByteArrayElements(nativeDestAddr, 0, destAddr.data, 0, destAddrLen);
+            }
+            long result = posixNativeFunctionInvoker.call_sendmsg(sockfd, nativeData, nativeLens, buffers.length, nativeAnc, ancLen, flags, nativeDestAddr, destAddrLen);
+            if (result == -1) {
+                throw getErrnoAndThrowPosixException();
+            }
+            return result;
+        } finally {
+            NativeMemory.free(nativeDestAddr);
+            NativeMemory.free(nativeAnc);
+            NativeMemory.free(nativeLens);
+            NativeMemory.free(nativeData);
+        }
+    }
+
+    @ExportMessage
+    public RecvmsgResult recvmsg(int sockfd, Buffer[] buffers, int ancBufSize, int flags) throws PosixException {
+        UniversalSockAddrImpl srcAddr = new UniversalSockAddrImpl(this);
+        long nativeData = NULLPTR;
+        long nativeLens = NULLPTR;
+        long nativeAnc = NULLPTR;
+        long nativeInts = NULLPTR;
+        long nativeSrcAddr = NULLPTR;
+        try {
+            nativeData = NativeMemory.mallocByteArrayOrNull(totalLength(buffers));
+            nativeLens = NativeMemory.mallocLongArray(Math.max(buffers.length, 1));
+            for (int i = 0; i < buffers.length; i++) {
+                NativeMemory.writeLongArrayElement(nativeLens, i, buffers[i].length);
+            }
+            nativeAnc = NativeMemory.mallocByteArrayOrNull(ancBufSize);
+            // ancillary data length, message flags and source address length
+            nativeInts = NativeMemory.mallocIntArray(3);
+            NativeMemory.writeIntArrayElement(nativeInts, 0, ancBufSize);
+            nativeSrcAddr = NativeMemory.mallocByteArray(srcAddr.data.length);
+            long result = posixNativeFunctionInvoker.call_recvmsg(sockfd, nativeData, nativeLens, buffers.length, flags, nativeAnc, nativeInts,
+                            NativeMemory.getFieldPtr(nativeInts, Integer.BYTES), nativeSrcAddr, NativeMemory.getFieldPtr(nativeInts, 2 * Integer.BYTES));
+            if (result == -1) {
+                throw getErrnoAndThrowPosixException();
+            }
+            long remaining = result;
+            long pos = 0;
+            for (int i = 0; i < buffers.length && remaining > 0; i++) {
+                int n = (int) Math.min(remaining, buffers[i].length);
+                NativeMemory.readByteArrayElements(nativeData, pos, buffers[i].data, 0, n);
+                pos += buffers[i].length;
+                remaining -= n;
+            }
+            ControlMessage[] ancillaryData = readFlatControlMessages(nativeAnc, NativeMemory.readIntArrayElement(nativeInts, 0));
+            readNativeSockAddr(nativeSrcAddr, NativeMemory.getFieldPtr(nativeInts, 2 * Integer.BYTES), srcAddr);
+            return new RecvmsgResult(result, ancillaryData, NativeMemory.readIntArrayElement(nativeInts, 1), srcAddr);
+        } finally {
+            NativeMemory.free(nativeSrcAddr);
+            NativeMemory.free(nativeInts);
+            NativeMemory.free(nativeAnc);
+            NativeMemory.free(nativeLens);
+            NativeMemory.free(nativeData);
+        }
+    }
+
+    private static long totalLength(Buffer[] buffers) {
+        long total = 0;
+        for (Buffer buffer : buffers) {
+            total += buffer.length;
+        }
+        return total;
+    }
+
+    private static void writeFlatControlMessages(long ptr, ControlMessage[] messages) {
+        long pos = 0;
+        for (ControlMessage cmsg : messages) {
+            NativeMemory.writeInt(ptr + pos, cmsg.level);
+            NativeMemory.writeInt(ptr + pos + Integer.BYTES, cmsg.type);
+            NativeMemory.writeInt(ptr + pos + 2 * Integer.BYTES, cmsg.data.length);
+            NativeMemory.writeByteArrayElements(ptr, pos + FLAT_CMSG_HEADER_SIZE, cmsg.data, 0, cmsg.data.length);
+            pos += FLAT_CMSG_HEADER_SIZE + cmsg.data.length;
+        }
+    }
+
+    private static ControlMessage[] readFlatControlMessages(long ptr, int len) {
+        int count = 0;
+        for (int pos = 0; pos < len; pos += FLAT_CMSG_HEADER_SIZE + NativeMemory.readInt(ptr + pos + 2 * Integer.BYTES)) {
+            count++;
+        }
+        ControlMessage[] messages = new ControlMessage[count];
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            int dataLen = NativeMemory.readInt(ptr + pos + 2 * Integer.BYTES);
+            messages[i] = new ControlMessage(NativeMemory.readInt(ptr + pos), NativeMemory.readInt(ptr + pos + Integer.BYTES),
+                            NativeMemory.readByteArrayElements(ptr, pos + FLAT_CMSG_HEADER_SIZE, dataLen));
+            pos += FLAT_CMSG_HEADER_SIZE + dataLen;
+        }
+        return messages;
+    }
+
     @ExportMessage
     public void shutdown(int sockfd, int how) throws PosixException {
         int res = posixNativeFunctionInvoker.call_shutdown(sockfd, how);
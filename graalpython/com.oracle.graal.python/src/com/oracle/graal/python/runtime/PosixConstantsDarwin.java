@@ -265,5 +265,16 @@ class PosixConstantsDarwin {
         constants.put("_SC_PHYS_PAGES", 200);
         constants.put("_SC_NPROCESSORS_CONF", 83);
         constants.put("_SC_NPROCESSORS_ONLN", 84);
+        constants.put("_SC_IOV_MAX", 56);
+        constants.put("POLLIN", 0x00000001);
+        constants.put("POLLPRI", 0x00000002);
+        constants.put("POLLOUT", 0x00000004);
+        constants.put("POLLERR", 0x00000008);
+        constants.put("POLLHUP", 0x00000010);
+        constants.put("POLLNVAL", 0x00000020);
+        constants.put("POLLRDNORM", 0x00000040);
+        constants.put("POLLRDBAND", 0x00000080);
+        constants.put("POLLWRNORM", 0x00000004);
+        constants.put("POLLWRBAND", 0x00000100);
     }
 }
@@ -96,6 +96,38 @@ public abstract class PosixSupportLibrary extends Library {
 
     public abstract long write(Object receiver, int fd, Buffer data) throws PosixException;
 
+    /**
+     * Like {@link #read} but stores the data directly into {@code dest} starting at
+     * {@code offset}, so that callers that already own a large enough array do not need to copy
+     * the result out of a freshly allocated {@link Buffer}.
+     *
+     * @return the number of bytes read
+     */
+    public abstract int readInto(Object receiver, int fd, byte[] dest, int offset, int length) throws PosixException;
+
+    /**
+     * Like {@link #read} but stores the data directly into native memory starting at
+     * {@code address}, which must be valid for {@code length} bytes.
+     *
+     * @return the number of bytes read
+     */
+    public abstract long readIntoAddress(Object receiver, int fd, long address, long length) throws PosixException;
+
+    /**
+     * Like {@link #write} but takes the data directly from native memory starting at
+     * {@code address}.
+     */
+    public abstract long writeFromAddress(Object receiver, int fd, long address, long length) throws PosixException;
+
+    /**
+     * Copies up to {@code count} bytes from {@code inFd}, starting at {@code offset}, to
+     * {@code outFd} without passing them through user space where the platform allows it. The file
+     * position of {@code inFd} is not changed.
+     *
+     * @return the number of bytes sent
+     */
+    public abstract long sendfile(Object receiver, int outFd, int inFd, long offset, long count) throws PosixException;
+
     public abstract int dup(Object receiver, int fd) throws PosixException;
 
     public abstract int dup2(Object receiver, int fd, int fd2, boolean inheritable) throws PosixException;
@@ -116,6 +148,46 @@ public abstract class PosixSupportLibrary extends Library {
 
     public abstract boolean poll(Object receiver, int fd, boolean forWriting, Timeval timeout) throws PosixException;
 
+    /**
+     * Creates a poll set, i.e., a set of file descriptors with their event masks that is kept
+     * between the calls to {@link #pollWait}. Unlike {@link #select}, the cost of a wait on a poll
+     * set in the emulated backend does not grow with the number of idle file descriptors in the
+     * set.
+     *
+     * @return an opaque poll set object to be used in calls to {@code pollRegister},
+     *         {@code pollUnregister}, {@code pollWait} and {@code pollClose}
+     */
+    public abstract Object pollCreate(Object receiver) throws PosixException;
+
+    /**
+     * Adds a file descriptor to the poll set or replaces its event mask if it is already present.
+     *
+     * @param events a combination of the {@link PosixConstants#pollEvents} flags
+     */
+    public abstract void pollRegister(Object receiver, Object pollSet, int fd, int events) throws PosixException;
+
+    /**
+     * @return {@code false} if the file descriptor was not registered in the poll set
+     */
+    public abstract boolean pollUnregister(Object receiver, Object pollSet, int fd) throws PosixException;
+
+    /**
+     * Waits until at least one of the file descriptors in the poll set is ready or until the
+     * timeout expires. A {@code null} timeout means to wait indefinitely.
+     *
+     * @param maxEvents the maximum number of reported file descriptors, or a negative number for no
+     *            limit
+     * @return pairs of file descriptors and their returned events, i.e., {@code result[2 * i]} is a
+     *         file descriptor and {@code result[2 * i + 1]} is the combination of
+     *         {@link PosixConstants#pollEvents} flags that are ready for it
+     */
+    public abstract int[] pollWait(Object receiver, Object pollSet, Timeval timeout, int maxEvents) throws PosixException;
+
+    /**
+     * Implementations must deal with this being called more than once.
+     */
+    public abstract void pollClose(Object receiver, Object pollSet);
+
     public abstract long lseek(Object receiver, int fd, long offset, int how) throws PosixException;
 
     public abstract void ftruncate(Object receiver, int fd, long length) throws PosixException;
@@ -699,6 +771,11 @@ public abstract class PosixSupportLibrary extends Library {
 
     public abstract int recv(Object receiver, int sockfd, byte[] buf, int offset, int len, int flags) throws PosixException;
 
+    // Variants of send and recv that work directly on native memory starting at address
+    public abstract int sendFromAddress(Object receiver, int sockfd, long address, int len, int flags) throws PosixException;
+
+    public abstract int recvIntoAddress(Object receiver, int sockfd, long address, int len, int flags) throws PosixException;
+
     // For STREAM sockets, the returned address will be AF_UNSPEC
     public abstract RecvfromResult recvfrom(Object receiver, int sockfd, byte[] buf, int offset, int len, int flags) throws PosixException;
 
@@ -734,6 +811,61 @@ public abstract class PosixSupportLibrary extends Library {
         }
     }
 
+    /**
+     * Sends the contents of {@code buffers}, each up to its {@code length}, as a single message.
+     *
+     * @param ancillaryData control messages to send along with the data, may be empty
+     * @param destAddr the destination address or {@code null} for connected sockets
+     * @return the number of bytes sent
+     */
+    public abstract long sendmsg(Object receiver, int sockfd, Buffer[] buffers, ControlMessage[] ancillaryData, int flags, UniversalSockAddr destAddr) throws PosixException;
+
+    /**
+     * Receives a single message, scattering the data into {@code buffers}. The {@code length} of
+     * each buffer is its capacity. At most {@code ancBufSize} bytes of ancillary data are received
+     * (measured in the native control message format, as in {@code socket.recvmsg}).
+     */
+    public abstract RecvmsgResult recvmsg(Object receiver, int sockfd, Buffer[] buffers, int ancBufSize, int flags) throws PosixException;
+
+    public static final class ControlMessage {
+        public final int level;
+        public final int type;
+        public final byte[] data;
+
+        public ControlMessage(int level, int type, byte[] data) {
+            this.level = level;
+            this.type = type;
+            this.data = data;
+        }
+
+        @Override
+        public String toString() {
+            CompilerAsserts.neverPartOfCompilation();
+            return "ControlMessage{" + "level=" + level + ", type=" + type + ", data=" + data.length + " bytes}";
+        }
+    }
+
+    public static final class RecvmsgResult {
+        public final long readBytes;
+        public final ControlMessage[] ancillaryData;
+        public final int flags;
+        // For connected sockets, the returned address will be AF_UNSPEC
+        public final UniversalSockAddr sockAddr;
+
+        public RecvmsgResult(long readBytes, ControlMessage[] ancillaryData, int flags, UniversalSockAddr sockAddr) {
+            this.readBytes = readBytes;
+            this.ancillaryData = ancillaryData;
+            this.flags = flags;
+            this.sockAddr = sockAddr;
+        }
+
+        @Override
+        public String toString() {
+            CompilerAsserts.neverPartOfCompilation();
+            return "RecvmsgResult{" + "readBytes=" + readBytes + ", ancillaryData=" + ancillaryData.length + ", flags=" + flags + ", sockAddr=" + sockAddr + '}';
+        }
+    }
+
     public abstract void shutdown(Object receiver, int sockfd, int how) throws PosixException;
 
     /**
@@ -48,6 +48,7 @@ import java.util.IdentityHashMap;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.AcceptResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.AddrInfoCursor;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Buffer;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.ControlMessage;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.GetAddrInfoException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet4SockAddr;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Inet6SockAddr;
@@ -57,6 +58,7 @@ import com.oracle.graal.python.runtime.PosixSupportLibrary.OpenPtyResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.PwdResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvfromResult;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.RecvmsgResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.RusageResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.SelectResult;
 import com.oracle.graal.python.runtime.PosixSupportLibrary.Timeval;
@@ -211,6 +213,34 @@ public class PreInitPosixSupport extends PosixSupport {
         return nativeLib.write(nativePosixSupport, fd, data);
     }
 
+    @ExportMessage
+    final int readInto(int fd, byte[] dest, int offset, int length,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.readInto(nativePosixSupport, fd, dest, offset, length);
+    }
+
+    @ExportMessage
+    final long readIntoAddress(int fd, long address, long length,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.readIntoAddress(nativePosixSupport, fd, address, length);
+    }
+
+    @ExportMessage
+    final long writeFromAddress(int fd, long address, long length,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.writeFromAddress(nativePosixSupport, fd, address, length);
+    }
+
+    @ExportMessage
+    final long sendfile(int outFd, int inFd, long offset, long count,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.sendfile(nativePosixSupport, outFd, inFd, offset, count);
+    }
+
     @ExportMessage
     final int dup(int fd,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -283,6 +313,40 @@ public class PreInitPosixSupport extends PosixSupport {
         return nativeLib.poll(nativePosixSupport, fd, forWriting, timeout);
     }
 
+    @ExportMessage
+    final Object pollCreate(@CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pollCreate(nativePosixSupport);
+    }
+
+    @ExportMessage
+    final void pollRegister(Object pollSet, int fd, int events,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        nativeLib.pollRegister(nativePosixSupport, pollSet, fd, events);
+    }
+
+    @ExportMessage
+    final boolean pollUnregister(Object pollSet, int fd,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pollUnregister(nativePosixSupport, pollSet, fd);
+    }
+
+    @ExportMessage
+    final int[] pollWait(Object pollSet, Timeval timeout, int maxEvents,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.pollWait(nativePosixSupport, pollSet, timeout, maxEvents);
+    }
+
+    @ExportMessage
+    final void pollClose(Object pollSet,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) {
+        checkNotInPreInitialization();
+        nativeLib.pollClose(nativePosixSupport, pollSet);
+    }
+
     @ExportMessage
     final long lseek(int fd, long offset, int how,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -1022,6 +1086,20 @@ public class PreInitPosixSupport extends PosixSupport {
         return nativeLib.recv(nativePosixSupport, sockfd, buf, offset, len, flags);
     }
 
+    @ExportMessage
+    final int sendFromAddress(int sockfd, long address, int len, int flags,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.sendFromAddress(nativePosixSupport, sockfd, address, len, flags);
+    }
+
+    @ExportMessage
+    final int recvIntoAddress(int sockfd, long address, int len, int flags,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.recvIntoAddress(nativePosixSupport, sockfd, address, len, flags);
+    }
+
     @ExportMessage
     final RecvfromResult recvfrom(int sockfd, byte[] buf, int offset, int len, int flags,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -1029,6 +1107,20 @@ public class PreInitPosixSupport extends PosixSupport {
         return nativeLib.recvfrom(nativePosixSupport, sockfd, buf, offset, len, flags);
     }
 
+    @ExportMessage
+    final long sendmsg(int sockfd, Buffer[] buffers, ControlMessage[] ancillaryData, int flags, UniversalSockAddr destAddr,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.sendmsg(nativePosixSupport, sockfd, buffers, ancillaryData, flags, destAddr);
+    }
+
+    @ExportMessage
+    final RecvmsgResult recvmsg(int sockfd, Buffer[] buffers, int ancBufSize, int flags,
+                    @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
+        checkNotInPreInitialization();
+        return nativeLib.recvmsg(nativePosixSupport, sockfd, buffers, ancBufSize, flags);
+    }
+
     @ExportMessage
     final void shutdown(int sockfd, int how,
                     @CachedLibrary("this.nativePosixSupport") PosixSupportLibrary nativeLib) throws PosixException {
@@ -96,8 +96,10 @@ import org.graalvm.options.OptionKey;
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.annotations.PythonOS;
 import com.oracle.graal.python.builtins.Python3Core;
+import com.oracle.graal.python.builtins.modules.ImportPrecompiler;
 import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.MathGuards;
+import com.oracle.graal.python.builtins.modules.TracemallocModuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.cext.PythonNativeClass;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiContext;
@@ -136,6 +138,7 @@ import com.oracle.graal.python.nodes.SpecialAttributeNames;
 import com.oracle.graal.python.nodes.SpecialMethodNames;
 import com.oracle.graal.python.nodes.WriteUnraisableNode;
 import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
+import com.oracle.graal.python.nodes.attributes.TypeAttributeCache;
 import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.object.SetDictNode;
@@ -213,6 +216,8 @@ public final class PythonContext extends Python3Core {
     public final HandleContext handleContext = new HandleContext(DEBUG_CAPI);
     public final NativeBufferContext nativeBufferContext = new NativeBufferContext();
     public final ArrowSupport arrowSupport = new ArrowSupport(this);
+    private ImportPrecompiler importPrecompiler;
+    private final MonitoringState monitoringState = new MonitoringState();
 
     /**
      * List of native memory that should be free'd if this context is finalized.
@@ -398,6 +403,9 @@ public final class PythonContext extends Python3Core {
         /* The global profiling function, set by sys.setprofile and returned by sys.getprofile. */
         Object profileFun;
 
+        /* Keep track of execution to avoid monitoring code inside sys.monitoring callbacks. */
+        boolean monitoring;
+
         /*
          * the current contextvars.Context for the thread.
          */
@@ -423,6 +431,11 @@ public final class PythonContext extends Python3Core {
          */
         public int recursionDepth;
 
+        /*
+         * The number of object allocations until the next tracemalloc sample on this thread.
+         */
+        public int tracemallocCountdown;
+
         /*
          * The constructor needs to have this particular signature such that we can use it for
          * ContextThreadLocal.
@@ -597,7 +610,7 @@ public final class PythonContext extends Python3Core {
             }
         }
 
-        private void enableTracingOrProfiling(Node location, PythonLanguage language) {
+        public static void enableTracingOrProfiling(Node location, PythonLanguage language) {
             if (language.noTracingOrProfilingAssumption.isValid()) {
                 language.noTracingOrProfilingAssumption.invalidate();
             }
@@ -609,6 +622,22 @@ public final class PythonContext extends Python3Core {
             }
         }
 
+        /**
+         * Like {@link #enableTracingOrProfiling}, but only instruments the bytecode for the given
+         * {@code sys.monitoring} events.
+         */
+        public static void enableMonitoring(Node location, PythonLanguage language, int events) {
+            if (language.noTracingOrProfilingAssumption.isValid()) {
+                language.noTracingOrProfilingAssumption.invalidate();
+            }
+            try {
+                PBytecodeDSLRootNode.updateAllToMonitoringConfig(language, events);
+            } catch (MarshalModuleBuiltins.ReparseError e) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                throw PRaiseNode.raiseStatic(location, SystemError, ErrorMessages.FAILED_TO_REPARSE_BYTECODE_FILE);
+            }
+        }
+
         public Object getProfileFun() {
             return profileFun;
         }
@@ -626,6 +655,19 @@ public final class PythonContext extends Python3Core {
             this.profiling = false;
         }
 
+        public boolean isMonitoring() {
+            return monitoring;
+        }
+
+        public void monitoringStart() {
+            assert !this.monitoring : "Attempt made to monitor an event inside a sys.monitoring callback.";
+            this.monitoring = true;
+        }
+
+        public void monitoringStop() {
+            this.monitoring = false;
+        }
+
         public Object getAsyncgenFirstIter() {
             return asyncgenFirstIter;
         }
@@ -793,6 +835,12 @@ public final class PythonContext extends Python3Core {
             super(true);
         }
 
+        /**
+         * {@link System#nanoTime()} at which the current owner acquired the lock. Used to decide
+         * whether the owner already ran for its switch interval.
+         */
+        private volatile long ownerSince;
+
         @Override
         public Thread getOwner() {
             return super.getOwner();
@@ -800,6 +848,8 @@ public final class PythonContext extends Python3Core {
     }
 
     private final GlobalInterpreterLock globalInterpreterLock = new GlobalInterpreterLock();
+    private final GilStatistics gilStatistics = new GilStatistics();
+    private TypeAttributeCache typeAttributeCache;
 
     /*
      * Used to avoid triggering more async handlers from an async handler. We run those only on the
@@ -1191,6 +1241,11 @@ public final class PythonContext extends Python3Core {
                 mainThread = null;
             }
             releaseGil();
+            if (env.isPreInitialization()) {
+                gilStatistics.reset();
+                // the size option may be different in the patched context
+                typeAttributeCache = null;
+            }
         }
 
     }
@@ -1769,6 +1824,7 @@ public final class PythonContext extends Python3Core {
             // shut down async actions threads
             handler.shutdown();
             finalizing = true;
+            TracemallocModuleBuiltins.finalizeContext(this);
             if (cApiContext != null) {
                 cApiContext.finalizeCApi(cancelling);
             }
@@ -2045,6 +2101,26 @@ public final class PythonContext extends Python3Core {
         return thread;
     }
 
+    /**
+     * Returns the background compiler of imported modules, starting its threads on first use, or
+     * {@code null} if it is disabled (see {@link PythonOptions#ImportCompilationThreads}).
+     */
+    @TruffleBoundary
+    public ImportPrecompiler getImportPrecompiler() {
+        if (importPrecompiler == null) {
+            int threads = getOption(PythonOptions.ImportCompilationThreads);
+            if (threads <= 0 || !env.isCreateThreadAllowed()) {
+                return null;
+            }
+            importPrecompiler = new ImportPrecompiler(this, threads);
+        }
+        return importPrecompiler;
+    }
+
+    public MonitoringState getMonitoringState() {
+        return monitoringState;
+    }
+
     public void killSystemThread(Thread thread) {
         env.submitThreadLocal(new Thread[]{thread}, new ThreadLocalAction(true, false) {
             @Override
@@ -2149,6 +2225,31 @@ public final class PythonContext extends Python3Core {
         return globalInterpreterLock.hasQueuedThreads();
     }
 
+    /**
+     * Should not be used outside of {@link AsyncHandler}
+     */
+    long getGilOwnerSince() {
+        return globalInterpreterLock.ownerSince;
+    }
+
+    public GilStatistics getGilStatistics() {
+        return gilStatistics;
+    }
+
+    public TypeAttributeCache getTypeAttributeCache() {
+        TypeAttributeCache cache = typeAttributeCache;
+        if (cache == null) {
+            cache = createTypeAttributeCache();
+        }
+        return cache;
+    }
+
+    @TruffleBoundary
+    private TypeAttributeCache createTypeAttributeCache() {
+        typeAttributeCache = new TypeAttributeCache(getOption(PythonOptions.TypeAttributeCacheSize));
+        return typeAttributeCache;
+    }
+
     /**
      * Should not be called directly.
      *
@@ -2158,7 +2259,11 @@ public final class PythonContext extends Python3Core {
     boolean tryAcquireGil() {
         try {
             // Using tryLock with empty timeout to ensure fairness
-            return globalInterpreterLock.tryLock(0, TimeUnit.SECONDS);
+            if (globalInterpreterLock.tryLock(0, TimeUnit.SECONDS)) {
+                gilAcquired(0);
+                return true;
+            }
+            return false;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return false;
@@ -2173,7 +2278,19 @@ public final class PythonContext extends Python3Core {
     @TruffleBoundary
     void acquireGil() throws InterruptedException {
         assert !ownsGil() : dumpStackOnAssertionHelper("trying to acquire the GIL more than once");
+        GilStatistics.GilWaitEvent event = new GilStatistics.GilWaitEvent();
+        event.queueLength = globalInterpreterLock.getQueueLength();
+        event.begin();
+        long waitStart = System.nanoTime();
         globalInterpreterLock.lockInterruptibly();
+        event.commit();
+        gilAcquired(waitStart);
+    }
+
+    private void gilAcquired(long waitStart) {
+        long now = System.nanoTime();
+        globalInterpreterLock.ownerSince = now;
+        GilStatistics.acquired(gilStatistics.forCurrentThread(), waitStart, now);
     }
 
     static String dumpStackOnAssertionHelper(String msg) {
@@ -2187,9 +2304,25 @@ public final class PythonContext extends Python3Core {
      * @see GilNode
      */
     @TruffleBoundary
+    public void releaseGil() {
+        releaseGil(false);
+    }
+
+    /**
+     * Releases the GIL because the switch interval of the current thread elapsed and other threads
+     * are waiting. Since the GIL is fair, the longest waiting thread gets it next and the current
+     * thread has to queue up behind it when re-acquiring.
+     *
+     * @see AsyncHandler
+     */
+    @TruffleBoundary
+    void handOffGil() {
+        releaseGil(true);
+    }
+
     // intentional catch of IllegalMonitorStateException, see inline comments
     @SuppressFBWarnings("IMSE_DONT_CATCH_IMSE")
-    public void releaseGil() {
+    private void releaseGil(boolean handoff) {
         // We allow hold count == 0 when cancelling, because a thread may have given up the GIL,
         // then a cancelling (subclass of ThreadDeath) exception is thrown inside the code running
         // without GIL through thread local action and in such case, we do not try to reacquire the
@@ -2198,6 +2331,11 @@ public final class PythonContext extends Python3Core {
         // reach this method
         assert globalInterpreterLock.getHoldCount() == 1 || (env.getContext().isCancelling() && globalInterpreterLock.getHoldCount() == 0) : dumpStackOnAssertionHelper(
                         "trying to release the GIL with invalid hold count " + globalInterpreterLock.getHoldCount());
+        GilStatistics.ThreadStatistics stats = gilStatistics.forCurrentThread();
+        long held = GilStatistics.released(stats, System.nanoTime());
+        if (handoff) {
+            GilStatistics.handedOff(stats, held, globalInterpreterLock.getQueueLength());
+        }
         try {
             globalInterpreterLock.unlock();
         } catch (IllegalMonitorStateException ex) {
@@ -188,6 +188,20 @@ public final class PythonOptions {
                     "Equivalent to setting the PYTHONPYCACHEPREFIX environment variable for the standard launcher.", usageSyntax = "<path>", stability = OptionStability.STABLE) //
     public static final OptionKey<TruffleString> PyCachePrefix = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
 
+    @Option(category = OptionCategory.USER, help = "If this is set, GraalPy keeps a persistent cache of compiled modules in this directory. " +
+                    "Entries are keyed by the hash of the module source and by the engine options, so the cache can be shared between processes, " +
+                    "engines and source trees, and it is used independently of the DontWriteBytecodeFlag option.", usageSyntax = "<path>", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<TruffleString> BytecodeCacheDir = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
+
+    @Option(category = OptionCategory.USER, help = "If this is set to a positive number, GraalPy uses that many background threads to speculatively compile the modules " +
+                    "imported at the top level of modules being imported from source, so that their code is ready by the time the import statement runs. " +
+                    "Modules that have valid .pyc files are not compiled in the background.", usageSyntax = "<threads>", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> ImportCompilationThreads = new OptionKey<>(0);
+
+    @Option(category = OptionCategory.USER, help = "Make bounded functools.lru_cache instances use a segmented cache with approximate LRU (CLOCK) eviction. " +
+                    "Cache hits then only mark the entry as referenced instead of reordering a list shared by all callers.", usageSyntax = "true|false", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> ConcurrentLruCache = new OptionKey<>(false);
+
     @Option(category = OptionCategory.USER, help = "Equivalent to setting the PYTHONWARNINGS environment variable for the standard launcher.", //
                     usageSyntax = "<action>[:<message>[:<category>[:<module>[:<line>]]]][,<action>[:<message>[:<category>[:<module>[:<line>]]]]]", stability = OptionStability.STABLE) //
     public static final OptionKey<TruffleString> WarnOptions = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
@@ -305,6 +319,14 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Use the CPython sre engine as a fallback to the TRegex engine.", deprecated = true, deprecationMessage = "TRegex is used for all regexes, this option is ignored") //
     public static final OptionKey<Boolean> TRegexUsesSREFallback = new OptionKey<>(true);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<size>", help = "Maximum number of compiled regular expressions kept in a least-recently-used cache shared by all contexts of the engine. " +
+                    "Set to 0 to disable the cache.") //
+    public static final OptionKey<Integer> RegexCacheSize = new OptionKey<>(512);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<size>", help = "Number of entries of the cache of attribute lookups in the MRO of types used when the inline caches are exhausted. " +
+                    "The size is rounded up to a power of two. Set to 0 to disable the cache.") //
+    public static final OptionKey<Integer> TypeAttributeCacheSize = new OptionKey<>(4096);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Switch on/off using lazy strings for performance reasons. Default true.") //
     public static final OptionKey<Boolean> LazyStrings = new OptionKey<>(true);
 
@@ -391,6 +413,10 @@ public final class PythonOptions {
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "If native memory tracing is enabled, also capture stack.") //
     public static final OptionKey<Boolean> TraceNativeMemoryCalls = new OptionKey<>(false);
 
+    @Option(category = OptionCategory.USER, help = "While tracemalloc is tracing, record the allocation site of about one in this many Python objects. " +
+                    "Each sample is accounted as that many objects of its size. Use 1 to trace every object.", usageSyntax = "<n>", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Integer> TracemallocSamplingInterval = new OptionKey<>(64);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "<bytes>", help = "Max native memory heap size (default: 8 GB).") //
     public static final OptionKey<Long> MaxNativeMemory = new OptionKey<>(1L << 33);
 
@@ -47,6 +47,8 @@ import java.lang.invoke.MethodHandle;
 
 import com.oracle.graal.python.nodes.arrow.capsule.ArrowArrayCapsuleDestructor;
 import com.oracle.graal.python.nodes.arrow.capsule.ArrowSchemaCapsuleDestructor;
+import com.oracle.graal.python.nodes.arrow.release.ArrowArrayRelease;
+import com.oracle.graal.python.nodes.arrow.release.ArrowSchemaRelease;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.nativeaccess.NativeSignature;
 import com.oracle.truffle.api.CompilerAsserts;
@@ -69,6 +71,10 @@ public class ArrowSupport {
     // ArrowSchema destructor
     @CompilationFinal private long arrowSchemaDestructor;
 
+    // release callbacks of exported structures
+    @CompilationFinal private long arrowArrayRelease;
+    @CompilationFinal private long arrowSchemaRelease;
+
     public long getArrowSchemaDestructor() {
         if (arrowSchemaDestructor == 0) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -85,6 +91,22 @@ public class ArrowSupport {
         return arrowArrayDestructor;
     }
 
+    public long getArrowArrayRelease() {
+        if (arrowArrayRelease == 0L) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            initArrowArrayRelease();
+        }
+        return arrowArrayRelease;
+    }
+
+    public long getArrowSchemaRelease() {
+        if (arrowSchemaRelease == 0L) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            initArrowSchemaRelease();
+        }
+        return arrowSchemaRelease;
+    }
+
     @TruffleBoundary
     private void initArrowArrayDestructor() {
         CompilerAsserts.neverPartOfCompilation();
@@ -99,6 +121,18 @@ public class ArrowSupport {
                         ArrowSchemaCapsuleDestructor.getMethodHandle());
     }
 
+    @TruffleBoundary
+    private void initArrowArrayRelease() {
+        CompilerAsserts.neverPartOfCompilation();
+        this.arrowArrayRelease = createDestructorClosure("arrow_array_release", ArrowArrayRelease.getMethodHandle());
+    }
+
+    @TruffleBoundary
+    private void initArrowSchemaRelease() {
+        CompilerAsserts.neverPartOfCompilation();
+        this.arrowSchemaRelease = createDestructorClosure("arrow_schema_release", ArrowSchemaRelease.getMethodHandle());
+    }
+
     private long createDestructorClosure(String name, MethodHandle methodHandle) {
         return ARROW_CAPSULE_DESTRUCTOR_SIGNATURE.createClosure(ctx.ensureNativeContext(), name, methodHandle);
     }
@@ -122,7 +122,7 @@ public final class ExceptionUtils {
         return stack;
     }
 
-    private static int getLineno(Frame frame, Node location, FrameInstance frameInstance) {
+    public static int getLineno(Frame frame, Node location, FrameInstance frameInstance) {
         if (frame != null && frame.getFrameDescriptor().getInfo() instanceof BytecodeDSLFrameInfo frameInfo) {
             BytecodeNode bytecodeNode;
             if (frameInstance != null) {
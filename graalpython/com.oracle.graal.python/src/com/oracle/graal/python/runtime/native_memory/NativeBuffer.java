@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -57,7 +57,7 @@ public class NativeBuffer {
     public void reallocate(long newCapacityInBytes) {
         assert newCapacityInBytes >= 0;
         long newMemoryAddr = unsafe.allocateMemory(newCapacityInBytes);
-        unsafe.copyMemory(memoryAddress, newMemoryAddr, newCapacityInBytes);
+        unsafe.copyMemory(memoryAddress, newMemoryAddr, Math.min(capacityInBytes, newCapacityInBytes));
         unsafe.freeMemory(memoryAddress);
         memoryAddress = newMemoryAddr;
         capacityInBytes = newCapacityInBytes;
@@ -43,6 +43,8 @@ package com.oracle.graal.python.runtime.nativeaccess;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import com.oracle.graal.python.runtime.nativeaccess.NativeMemoryFactory.ZeroTerminatedUtf8ToTruffleStringNodeGen;
@@ -429,6 +431,15 @@ public final class NativeMemory {
         UNSAFE.putDouble(pointer, value);
     }
 
+    /**
+     * Eagerly releases the memory of a direct buffer, which unmaps the region in case of a
+     * {@link MappedByteBuffer}. The buffer must not be used afterwards.
+     */
+    @TruffleBoundary
+    public static void releaseDirectBuffer(ByteBuffer buffer) {
+        UNSAFE.invokeCleaner(buffer);
+    }
+
     static long javaStringToNativeUtf8(String s) {
         byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
         long ptr = NativeMemory.malloc(utf8.length + 1);
@@ -194,6 +194,7 @@ import com.oracle.graal.python.builtins.objects.range.PIntRange;
 import com.oracle.graal.python.builtins.objects.referencetype.PReferenceType;
 import com.oracle.graal.python.builtins.objects.reversed.PSequenceReverseIterator;
 import com.oracle.graal.python.builtins.objects.reversed.PStringReverseIterator;
+import com.oracle.graal.python.builtins.objects.select.PPoll;
 import com.oracle.graal.python.builtins.objects.set.PBaseSet;
 import com.oracle.graal.python.builtins.objects.set.PFrozenSet;
 import com.oracle.graal.python.builtins.objects.set.PSet;
@@ -262,7 +263,6 @@ import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.strings.TruffleString;
-import com.oracle.truffle.tools.profiler.CPUSampler;
 
 public final class PFactory {
     private PFactory() {
@@ -1477,6 +1477,14 @@ public final class PFactory {
         return new PSimpleQueue(cls, shape);
     }
 
+    public static PPoll createPoll(PythonLanguage language, PythonContext context, Object pollSet) {
+        return new PPoll(PythonBuiltinClassType.PPoll, PythonBuiltinClassType.PPoll.getInstanceShape(language), context, pollSet);
+    }
+
+    public static PPoll createEpoll(Object cls, Shape shape, PythonContext context, Object pollSet) {
+        return new PPoll(cls, shape, context, pollSet);
+    }
+
     public static PContextVar createContextVar(PythonLanguage language, TruffleString name, Object def) {
         return new PContextVar(PythonBuiltinClassType.ContextVar, PythonBuiltinClassType.ContextVar.getInstanceShape(language), name, def);
     }
@@ -1700,7 +1708,7 @@ public final class PFactory {
         return new PTypeAliasType(cls, shape, name, typeParams, computeValue, value, module);
     }
 
-    public static Profiler createProfiler(Object cls, Shape shape, CPUSampler sampler) {
-        return new Profiler(cls, shape, sampler);
+    public static Profiler createProfiler(Object cls, Shape shape) {
+        return new Profiler(cls, shape);
     }
 }
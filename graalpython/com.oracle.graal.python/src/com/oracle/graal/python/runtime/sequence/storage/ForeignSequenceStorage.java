@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -43,6 +43,9 @@ package com.oracle.graal.python.runtime.sequence.storage;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.IndexError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PNodeWithContext;
@@ -53,7 +56,9 @@ import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
+import com.oracle.truffle.api.TruffleLanguage.Env;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
@@ -89,6 +94,75 @@ public final class ForeignSequenceStorage extends SequenceStorage {
         this.capacity = size;
     }
 
+    /**
+     * Returns a storage for the given foreign object if it is a Java array of primitive numbers or
+     * booleans of the host, or {@code null} otherwise. The elements of such arrays can be copied in
+     * one step with {@link #copyHostArray}.
+     */
+    @TruffleBoundary
+    public static ForeignSequenceStorage forHostArray(Env env, Object foreignObject) {
+        if (!env.isHostObject(foreignObject)) {
+            return null;
+        }
+        Object array = env.asHostObject(foreignObject);
+        if (array instanceof int[] || array instanceof long[] || array instanceof double[] || array instanceof boolean[] || array instanceof byte[] || array instanceof short[] ||
+                        array instanceof float[]) {
+            return new ForeignSequenceStorage(foreignObject, Array.getLength(array));
+        }
+        return null;
+    }
+
+    /**
+     * Copies the elements {@code [start, start + length)} into a new primitive storage if the
+     * foreign array is a Java array of primitive numbers or booleans of the host. This avoids
+     * reading and converting the elements one interop message at a time. The elements are converted
+     * like {@link PForeignToPTypeNode} would convert them. Returns {@code null} if the foreign array
+     * is not such an array, the caller must then read the elements via interop.
+     */
+    public SequenceStorage copyHostArray(Node inliningTarget, int start, int sliceLength) {
+        return copyHostArray(PythonContext.get(inliningTarget).getEnv(), foreignArray, start, sliceLength);
+    }
+
+    @TruffleBoundary
+    private static SequenceStorage copyHostArray(Env env, Object foreignArray, int start, int length) {
+        if (!env.isHostObject(foreignArray)) {
+            return null;
+        }
+        Object array = env.asHostObject(foreignArray);
+        if (array == null || !array.getClass().isArray() || start < 0 || length < 0 || start > Array.getLength(array) - length) {
+            return null;
+        }
+        int end = start + length;
+        if (array instanceof int[] ints) {
+            return new IntSequenceStorage(Arrays.copyOfRange(ints, start, end));
+        } else if (array instanceof long[] longs) {
+            return new LongSequenceStorage(Arrays.copyOfRange(longs, start, end));
+        } else if (array instanceof double[] doubles) {
+            return new DoubleSequenceStorage(Arrays.copyOfRange(doubles, start, end));
+        } else if (array instanceof boolean[] booleans) {
+            return new BoolSequenceStorage(Arrays.copyOfRange(booleans, start, end));
+        } else if (array instanceof byte[] bytes) {
+            int[] values = new int[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = bytes[start + i];
+            }
+            return new IntSequenceStorage(values);
+        } else if (array instanceof short[] shorts) {
+            int[] values = new int[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = shorts[start + i];
+            }
+            return new IntSequenceStorage(values);
+        } else if (array instanceof float[] floats) {
+            double[] values = new double[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = floats[start + i];
+            }
+            return new DoubleSequenceStorage(values);
+        }
+        return null;
+    }
+
     public int getArraySize(Node inliningTarget, InteropLibrary interop, InlinedBranchProfile errorProfile) {
         long size;
         try {
@@ -70,6 +70,11 @@ public final class MroSequenceStorage extends ArrayBasedSequenceStorage {
      */
     private Map<TruffleString, FinalAttributeAssumptionPair> attributesInMROFinalAssumptions;
 
+    /**
+     * Incremented whenever an attribute is written in any class of the MRO or the MRO changes.
+     */
+    private int attributesVersion;
+
     public static final class FinalAttributeAssumptionPair {
         @CompilationFinal private Assumption assumption;
         @CompilationFinal private TruffleWeakReference<Object> value;
@@ -206,8 +211,13 @@ public final class MroSequenceStorage extends ArrayBasedSequenceStorage {
         attributesInMROFinalAssumptions.put(name, assumptionPair);
     }
 
+    public int getAttributesVersion() {
+        return attributesVersion;
+    }
+
     public void invalidateFinalAttributeAssumption(TruffleString name) {
         CompilerAsserts.neverPartOfCompilation();
+        attributesVersion++;
         FinalAttributeAssumptionPair assumptionPair = getFinalAttributeAssumption(name);
         if (assumptionPair != null) {
             assumptionPair.invalidate();
@@ -216,6 +226,7 @@ public final class MroSequenceStorage extends ArrayBasedSequenceStorage {
 
     public void lookupChanged() {
         CompilerAsserts.neverPartOfCompilation();
+        attributesVersion++;
         if (attributesInMROFinalAssumptions != null) {
             for (FinalAttributeAssumptionPair assumptionPair : attributesInMROFinalAssumptions.values()) {
                 assumptionPair.invalidate();
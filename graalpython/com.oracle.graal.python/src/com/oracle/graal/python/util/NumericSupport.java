@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -173,7 +173,7 @@ public final class NumericSupport {
     }
 
     @TruffleBoundary
-    static float shortBitsToFloat(short bits) {
+    public static float shortBitsToFloat(short bits) {
         int sign;
         int e;
         int f;
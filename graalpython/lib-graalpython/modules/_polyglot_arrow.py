@@ -1,4 +1,4 @@
-# Copyright (c) 2024, 2025, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -42,14 +42,66 @@ import java
 import gc
 import atexit
 
-try:
-    java.type("org.apache.arrow.vector.BaseFixedWidthVector")
-except KeyError:
-    raise ImportError(
-        "It is not possible to import Apache Arrow Vector classes because arrow-vector package is not on the class path. Please add this library to your project.")
 
-if not __graalpython__.host_import_enabled:
-    raise NotImplementedError("Host lookup is not allowed. You can allow it while building python context.")
+class CDataExport:
+    """
+    Wraps a list of int, float or bool values, an array.array or a one-dimensional memoryview so
+    that it can be passed to any consumer of the Arrow PyCapsule interface, e.g. pyarrow.array().
+    A memoryview backed by native memory, such as one returned by view_from_arrow, is handed out
+    without copying and cannot be released until the consumer releases the Arrow array. Other
+    values are copied once into native memory when __arrow_c_array__ is called.
+    """
+
+    def __init__(self, obj):
+        self._obj = obj
+
+    def __arrow_c_schema__(self):
+        return __graalpython__.export_arrow_schema(self._obj)
+
+    def __arrow_c_array__(self, requested_schema=None):
+        # we only produce one representation, consumers may cast it
+        return __graalpython__.export_arrow_array(self._obj)
+
+
+def to_arrow(obj):
+    """
+    Returns an object implementing __arrow_c_array__ and __arrow_c_schema__ for the given list,
+    array.array or memoryview.
+    """
+    return CDataExport(obj)
+
+
+def from_arrow(obj):
+    """
+    Creates a list from an object implementing __arrow_c_array__, or from a tuple of
+    ('arrow_schema', 'arrow_array') capsules. The values are copied into the list.
+    """
+    return __graalpython__.import_arrow_array(*_get_capsules(obj))
+
+
+def view_from_arrow(obj):
+    """
+    Creates a read-only memoryview of the values of an integer or floating point Arrow array
+    without nulls, given like for from_arrow, without copying them. The Arrow array is released
+    when the memoryview is released or garbage collected.
+    """
+    return __graalpython__.import_arrow_buffer(*_get_capsules(obj))
+
+
+def _get_capsules(obj):
+    if isinstance(obj, tuple):
+        return obj
+    return obj.__arrow_c_array__()
+
+
+def _check_java_arrow():
+    if not __graalpython__.host_import_enabled:
+        raise NotImplementedError("Host lookup is not allowed. You can allow it while building python context.")
+    try:
+        java.type("org.apache.arrow.vector.BaseFixedWidthVector")
+    except KeyError:
+        raise ImportError(
+            "It is not possible to import Apache Arrow Vector classes because arrow-vector package is not on the class path. Please add this library to your project.")
 
 
 class TinyIntVector:
@@ -129,17 +181,15 @@ class Table:
         return Data.export_table(self)
 
 class ArrowArray:
-    _jarrow_array_class = java.type("org.apache.arrow.c.ArrowArray")
-    _graalpy_arrow_array_class = java.type("com.oracle.graal.python.nodes.arrow.ArrowArray")
 
     @staticmethod
     def allocate_new(allocator):
-        return ArrowArray._jarrow_array_class.allocateNew(allocator)
+        return java.type("org.apache.arrow.c.ArrowArray").allocateNew(allocator)
 
     @staticmethod
     def transfer_to_managed(arrow_array):
         snapshot = arrow_array.snapshot()
-        managed_arrow_array = ArrowArray._graalpy_arrow_array_class.allocate(
+        managed_arrow_array = java.type("com.oracle.graal.python.nodes.arrow.ArrowArray").allocate(
             snapshot.length,
             snapshot.null_count,
             snapshot.offset,
@@ -157,17 +207,15 @@ class ArrowArray:
 
 
 class ArrowSchema:
-    _jarrow_schema_class = java.type("org.apache.arrow.c.ArrowSchema")
-    _graalpy_arrow_schema_class = java.type("com.oracle.graal.python.nodes.arrow.ArrowSchema")
 
     @staticmethod
     def allocate_new(allocator):
-        return ArrowSchema._jarrow_schema_class.allocateNew(allocator)
+        return java.type("org.apache.arrow.c.ArrowSchema").allocateNew(allocator)
 
     @staticmethod
     def transfer_to_managed(arrow_schema):
         snapshot = arrow_schema.snapshot()
-        managed_arrow_schema = ArrowSchema._graalpy_arrow_schema_class.allocate(
+        managed_arrow_schema = java.type("com.oracle.graal.python.nodes.arrow.ArrowSchema").allocate(
             snapshot.format,
             snapshot.name,
             snapshot.metadata,
@@ -183,7 +231,6 @@ class ArrowSchema:
 
 
 class Data:
-    _jdata_class = java.type("org.apache.arrow.c.Data")
 
     @staticmethod
     def export_table(table: Table):
@@ -191,7 +238,7 @@ class Data:
         allocator = vector_schema_root.getFieldVectors().getFirst().getAllocator().getRoot()
         arrow_array = ArrowArray.allocate_new(allocator)
         arrow_schema = ArrowSchema.allocate_new(allocator)
-        Data._jdata_class.exportVectorSchemaRoot(allocator, vector_schema_root, None, arrow_array, arrow_schema)
+        java.type("org.apache.arrow.c.Data").exportVectorSchemaRoot(allocator, vector_schema_root, None, arrow_array, arrow_schema)
         vector_schema_root.close()
         managed_arrow_array = ArrowArray.transfer_to_managed(arrow_array)
         managed_arrow_schema = ArrowSchema.transfer_to_managed(arrow_schema)
@@ -204,7 +251,7 @@ class Data:
         arrow_array = ArrowArray.allocate_new(allocator)
         arrow_schema = ArrowSchema.allocate_new(allocator)
 
-        Data._jdata_class.exportVector(allocator, vector, None, arrow_array, arrow_schema)
+        java.type("org.apache.arrow.c.Data").exportVector(allocator, vector, None, arrow_array, arrow_schema)
         managed_arrow_array = ArrowArray.transfer_to_managed(arrow_array)
         managed_arrow_schema = ArrowSchema.transfer_to_managed(arrow_schema)
 
@@ -224,6 +271,7 @@ def enable_java_integration(allow_method_overwrites: bool = False):
     """
     global __enabled_java_integration
     if not __enabled_java_integration:
+        _check_java_arrow()
         __enabled_java_integration = True
         # Ints
         int8_vector_class = java.type("org.apache.arrow.vector.TinyIntVector")
@@ -1172,8 +1172,23 @@ class SourceLoader(_LoaderBasics):
                                                  source_path=source_path)
         if source_bytes is None:
             source_bytes = self.get_data(source_path)
-        code_object = self.source_to_code(source_bytes, source_path)
+        # GraalPy change: consult the persistent bytecode cache (see the BytecodeCacheDir option)
+        use_bytecode_cache = (type(self).get_data is FileLoader.get_data and
+                              type(self).source_to_code is SourceLoader.source_to_code)
+        if use_bytecode_cache:
+            if code := __graalpython__.load_cached_bytecode(source_path, source_bytes):
+                _bootstrap._verbose_message('code object from bytecode cache for {}', source_path)
+                _imp._fix_co_filename(code, source_path)
+                return code
+        # GraalPy change: reuse code compiled in the background (see the ImportCompilationThreads option)
+        code_object = None
+        if use_bytecode_cache:
+            code_object = __graalpython__.compile_import(source_path, source_bytes)
+        if code_object is None:
+            code_object = self.source_to_code(source_bytes, source_path)
         _bootstrap._verbose_message('code object from {}', source_path)
+        if use_bytecode_cache:
+            __graalpython__.cache_bytecode(source_bytes, code_object)
         if (not sys.dont_write_bytecode and bytecode_path is not None and
                 source_mtime is not None):
             if hash_based:
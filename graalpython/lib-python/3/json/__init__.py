@@ -302,6 +302,30 @@ def load(fp, *, cls=None, object_hook=None, parse_float=None,
         parse_constant=parse_constant, object_pairs_hook=object_pairs_hook, **kw)
 
 
+# graalpy change: streaming counterpart of load()
+def iterload(fp, *, cls=None, chunk_size=65536, **kw):
+    """Deserialize the whitespace-separated JSON documents (e.g. NDJSON lines)
+    read from ``fp`` (a ``.read()``-supporting binary or text file-like
+    object) and yield them one at a time, reading ``chunk_size`` units at a
+    time. Repeated object keys are shared across all yielded documents.
+
+    The remaining keyword arguments are passed to the ``JSONDecoder``
+    constructor, or to ``cls`` if given.
+    """
+    if cls is None and not kw:
+        decoder = _default_decoder
+    else:
+        if cls is None:
+            cls = JSONDecoder
+        decoder = cls(**kw)
+
+    def chunks():
+        while chunk := fp.read(chunk_size):
+            yield chunk
+
+    return decoder.iterdecode(chunks())
+
+
 def loads(s, *, cls=None, object_hook=None, parse_float=None,
         parse_int=None, parse_constant=None, object_pairs_hook=None, **kw):
     """Deserialize ``s`` (a ``str``, ``bytes`` or ``bytearray`` instance
@@ -1,5 +1,6 @@
 """Implementation of JSONDecoder
 """
+import codecs
 import re
 
 from json import scanner
@@ -247,6 +248,21 @@ def JSONArray(s_and_end, scan_once, _w=WHITESPACE.match, _ws=WHITESPACE_STR):
     return values, end
 
 
+# graalpy change: errors of JSONDecoder.iterdecode are relative to the stream
+def _stream_decode_error(msg, doc, pos, doc_pos, doc_line, doc_col):
+    """Create a JSONDecodeError for the position ``pos`` in ``doc``, which
+    starts at position ``doc_pos``, line ``doc_line`` (0-based) and column
+    ``doc_col`` (0-based) of a stream.
+    """
+    err = JSONDecodeError(msg, doc, pos)
+    if err.lineno == 1:
+        err.colno += doc_col
+    err.lineno += doc_line
+    err.pos += doc_pos
+    err.args = ('%s: line %d column %d (char %d)' % (msg, err.lineno, err.colno, err.pos),)
+    return err
+
+
 class JSONDecoder(object):
     """Simple JSON <https://json.org> decoder
 
@@ -353,3 +369,86 @@ class JSONDecoder(object):
         except StopIteration as err:
             raise JSONDecodeError("Expecting value", s, err.value) from None
         return obj, end
+
+    # graalpy change: incremental decoding of a stream of documents
+    def iterdecode(self, chunks):
+        """Decode a stream of whitespace-separated JSON documents (e.g. the
+        lines of an NDJSON file) and yield the Python representation of each
+        document as soon as it is complete.
+
+        ``chunks`` is an iterable of ``str`` or UTF-8 encoded bytes-like
+        objects, such as the blocks read from a binary file or a socket.
+        Documents may span chunk boundaries. A document that is cut off at
+        the last newline of the data read so far is retried once the buffered
+        data has doubled. Malformed documents are reported as soon as they are
+        read, with positions relative to the whole stream.
+
+        """
+        scan_all = getattr(self.scan_once, 'scan_all', None) or self._scan_all
+        utf8 = None
+        buf = ''
+        # position, line and column of the start of buf in the stream
+        buf_pos = 0
+        buf_line = 0
+        buf_col = 0
+        retry = 0
+        final = False
+        chunks = iter(chunks)
+        while not final:
+            chunk = next(chunks, None)
+            if chunk is None:
+                final = True
+                if utf8 is not None:
+                    buf += utf8.decode(b'', True)
+            elif isinstance(chunk, str):
+                if utf8 is not None:
+                    # text cannot complete a pending UTF-8 sequence
+                    buf += utf8.decode(b'', True)
+                    utf8 = None
+                buf += chunk
+            else:
+                if utf8 is None:
+                    utf8 = codecs.getincrementaldecoder('utf-8')()
+                buf += utf8.decode(chunk)
+            if final:
+                s = buf
+            else:
+                if len(buf) < retry:
+                    continue
+                s = buf[:buf.rfind('\n') + 1]
+                if not s:
+                    continue
+            values, end, err = scan_all(s)
+            yield from values
+            if err is not None:
+                if not isinstance(err, (JSONDecodeError, StopIteration)):
+                    raise err
+                if isinstance(err, StopIteration):
+                    msg, pos = "Expecting value", err.value
+                else:
+                    msg, pos = err.msg, err.pos
+                # s ends with a newline, which only a string can span
+                truncated = pos >= len(s) or msg.startswith("Unterminated string")
+                if final or not truncated:
+                    raise _stream_decode_error(msg, s, pos, buf_pos, buf_line, buf_col) from None
+            lines = s.count('\n', 0, end)
+            if lines:
+                buf_line += lines
+                buf_col = end - s.rfind('\n', 0, end) - 1
+            else:
+                buf_col += end
+            buf_pos += end
+            buf = buf[end:]
+            retry = 2 * len(buf) if err is not None else 0
+
+    def _scan_all(self, s, idx=0, _w=WHITESPACE.match):
+        values = []
+        end = _w(s, idx).end()
+        try:
+            while end < len(s):
+                obj, end = self.scan_once(s, end)
+                values.append(obj)
+                end = _w(s, end).end()
+        except Exception as err:
+            return values, end, err
+        return values, end, None
@@ -1158,6 +1158,38 @@ GP_EXPORT int32_t call_poll(int32_t fd, int32_t writing, int64_t timeoutSec, int
     return call_select(1, writing ? NULL : &fd, writing ? 0 : 1, writing ? &fd : NULL, writing ? 1 : 0, NULL, 0, timeoutSec, timeoutUsec, &selected);
 }
 
+GP_EXPORT int32_t call_poll_many(int32_t* fds, int32_t* events, int32_t* revents, int32_t len, int32_t timeoutMs) {
+    if (ensure_winsock() < 0) {
+        return -1;
+    }
+    if (len == 0) {
+        // WSAPoll does not accept an empty set
+        Sleep(timeoutMs < 0 ? INFINITE : (DWORD) timeoutMs);
+        return 0;
+    }
+    WSAPOLLFD *pollfds = (WSAPOLLFD *) malloc(len * sizeof(WSAPOLLFD));
+    if (pollfds == NULL) {
+        set_posix_errno(ENOMEM);
+        return -1;
+    }
+    for (int32_t i = 0; i < len; i++) {
+        pollfds[i].fd = win_socket_from_fd(fds[i]);
+        // WSAPoll fails with WSAEINVAL for flags it only reports in revents
+        pollfds[i].events = (SHORT) (events[i] & ~(POLLPRI | POLLERR | POLLHUP | POLLNVAL));
+        pollfds[i].revents = 0;
+    }
+    int result = WSAPoll(pollfds, (ULONG) len, timeoutMs);
+    if (result == SOCKET_ERROR) {
+        free(pollfds);
+        return set_wsa_errno();
+    }
+    for (int32_t i = 0; i < len; i++) {
+        revents[i] = pollfds[i].revents;
+    }
+    free(pollfds);
+    return result;
+}
+
 GP_EXPORT int64_t call_lseek(int32_t fd, int64_t offset, int32_t whence) {
     return lseek_noraise(fd, offset, whence);
 }
@@ -1782,6 +1814,9 @@ GP_EXPORT int32_t call_send(int32_t sockfd, void *buf, int32_t len, int32_t flag
 GP_EXPORT int32_t call_sendto(int32_t sockfd, void *buf, int32_t offset, int32_t len, int32_t flags, int8_t *addr, int32_t addr_len) { int r = sendto(win_socket_from_fd(sockfd), ((char *) buf) + offset, len, flags, (struct sockaddr *) addr, addr_len); return r == SOCKET_ERROR ? set_wsa_errno() : r; }
 GP_EXPORT int32_t call_recv(int32_t sockfd, void *buf, int32_t len, int32_t flags) { int r = recv(win_socket_from_fd(sockfd), buf, len, flags); return r == SOCKET_ERROR ? set_wsa_errno() : r; }
 GP_EXPORT int32_t call_recvfrom(int32_t sockfd, void *buf, int32_t offset, int32_t len, int32_t flags, int8_t *src_addr, int32_t *addr_len) { int l = sizeof(struct sockaddr_storage); int r = recvfrom(win_socket_from_fd(sockfd), ((char *) buf) + offset, len, flags, (struct sockaddr *) src_addr, &l); if (r == SOCKET_ERROR) return set_wsa_errno(); *addr_len = l; return r; }
+GP_EXPORT int64_t call_sendmsg(int32_t sockfd, void *data, int64_t *lens, int32_t count, int8_t *anc, int32_t anc_len, int32_t flags, int8_t *addr, int32_t addr_len) { set_posix_errno(ENOSYS); return -1; }
+GP_EXPORT int64_t call_recvmsg(int32_t sockfd, void *data, int64_t *lens, int32_t count, int32_t flags, int8_t *anc, int32_t *anc_len, int32_t *msg_flags, int8_t *src_addr, int32_t *addr_len) { set_posix_errno(ENOSYS); return -1; }
+GP_EXPORT int64_t call_sendfile(int32_t out_fd, int32_t in_fd, int64_t offset, int64_t count) { set_posix_errno(ENOSYS); return -1; }
 GP_EXPORT int32_t call_shutdown(int32_t sockfd, int32_t how) { int r = shutdown(win_socket_from_fd(sockfd), how); return r == SOCKET_ERROR ? set_wsa_errno() : r; }
 GP_EXPORT int32_t call_getsockopt(int32_t sockfd, int32_t level, int32_t optname, void *buf, int32_t *bufLen) { int len = *bufLen; int r = getsockopt(win_socket_from_fd(sockfd), level, optname, buf, &len); if (r == SOCKET_ERROR) return set_wsa_errno(); *bufLen = len; return r; }
 GP_EXPORT int32_t call_setsockopt(int32_t sockfd, int32_t level, int32_t optname, void *buf, int32_t bufLen) {
@@ -2071,6 +2106,7 @@ GP_EXPORT int32_t init_constants(int64_t* out, int32_t len) {
 #include <sys/wait.h>
 #include <sys/file.h>
 #include <sys/mman.h>
+#include <sys/uio.h>
 #include <unistd.h>
 #include <pwd.h>
 
@@ -2084,6 +2120,7 @@ int32_t signal_self_segv(void);
 #include <util.h>
 #else
 #include <pty.h>
+#include <sys/sendfile.h>
 #endif
 
 #ifndef _WIN32
@@ -2283,6 +2320,36 @@ int32_t call_poll(int32_t fd, int32_t writing, int64_t timeoutSec, int64_t timeo
 #endif
 }
 
+// revents is output parameter, the returned events of each file descriptor
+// are written to the same index as the file descriptor has in fds
+int32_t call_poll_many(int32_t* fds, int32_t* events, int32_t* revents, int32_t len, int32_t timeoutMs) {
+    struct pollfd *pollfds = NULL;
+    if (len > 0) {
+        pollfds = (struct pollfd *) malloc(len * sizeof(struct pollfd));
+        if (pollfds == NULL) {
+            errno = ENOMEM;
+            capture_errno();
+            return -1;
+        }
+    }
+    for (int32_t i = 0; i < len; i++) {
+        pollfds[i].fd = fds[i];
+        pollfds[i].events = (short) events[i];
+        pollfds[i].revents = 0;
+    }
+    int result = poll(pollfds, (nfds_t) len, timeoutMs);
+    if (result < 0) {
+        capture_errno();
+        free(pollfds);
+        return -1;
+    }
+    for (int32_t i = 0; i < len; i++) {
+        revents[i] = pollfds[i].revents;
+    }
+    free(pollfds);
+    return result;
+}
+
 int64_t call_lseek(int32_t fd, int64_t offset, int32_t whence) {
     CAPTURE_ERRNO_AND_RETURN(-1, lseek(fd, offset, whence));
 }
@@ -2971,6 +3038,144 @@ int32_t call_recvfrom(int32_t sockfd, void *buf, int32_t offset, int32_t len, in
     return (int32_t) res;
 }
 
+// Ancillary data is exchanged with Java in a flat, unaligned format: each control message is an
+// int32_t level, an int32_t type and an int32_t data length followed by the data bytes. Every
+// native cmsghdr is at least as large as this header, so the flat form of received ancillary data
+// always fits into a buffer of the size that was passed to recvmsg.
+#define FLAT_CMSG_HEADER_SIZE (3 * sizeof(int32_t))
+
+static struct iovec *make_iovec(void *data, int64_t *lens, int32_t count) {
+    struct iovec *iov = malloc((count > 0 ? count : 1) * sizeof(struct iovec));
+    if (iov != NULL) {
+        char *p = data;
+        for (int32_t i = 0; i < count; i++) {
+            iov[i].iov_base = p;
+            iov[i].iov_len = lens[i];
+            p += lens[i];
+        }
+    }
+    return iov;
+}
+
+int64_t call_sendmsg(int32_t sockfd, void *data, int64_t *lens, int32_t count, int8_t *anc, int32_t anc_len, int32_t flags, int8_t *addr, int32_t addr_len) {
+    struct msghdr msg;
+    struct sockaddr_storage sa;
+    memset(&msg, 0, sizeof(msg));
+    if (addr_len > 0) {
+        memcpy(&sa, addr, addr_len);
+        msg.msg_name = &sa;
+        msg.msg_namelen = addr_len;
+    }
+    size_t control_len = 0;
+    for (int32_t pos = 0; pos < anc_len;) {
+        int32_t hdr[3];
+        memcpy(hdr, anc + pos, sizeof(hdr));
+        control_len += CMSG_SPACE(hdr[2]);
+        pos += FLAT_CMSG_HEADER_SIZE + hdr[2];
+    }
+    struct iovec *iov = make_iovec(data, lens, count);
+    void *control = control_len > 0 ? calloc(1, control_len) : NULL;
+    if (iov == NULL || (control_len > 0 && control == NULL)) {
+        free(iov);
+        free(control);
+        errno = ENOMEM;
+        capture_errno();
+        return -1;
+    }
+    msg.msg_iov = iov;
+    msg.msg_iovlen = count;
+    msg.msg_control = control;
+    msg.msg_controllen = control_len;
+    struct cmsghdr *cmsg = control_len > 0 ? CMSG_FIRSTHDR(&msg) : NULL;
+    for (int32_t pos = 0; pos < anc_len; cmsg = CMSG_NXTHDR(&msg, cmsg)) {
+        int32_t hdr[3];
+        memcpy(hdr, anc + pos, sizeof(hdr));
+        cmsg->cmsg_level = hdr[0];
+        cmsg->cmsg_type = hdr[1];
+        cmsg->cmsg_len = CMSG_LEN(hdr[2]);
+        memcpy(CMSG_DATA(cmsg), anc + pos + FLAT_CMSG_HEADER_SIZE, hdr[2]);
+        pos += FLAT_CMSG_HEADER_SIZE + hdr[2];
+    }
+    ssize_t res = sendmsg(sockfd, &msg, flags);
+    if (res == -1) {
+        capture_errno();
+    }
+    free(control);
+    free(iov);
+    return res;
+}
+
+int64_t call_recvmsg(int32_t sockfd, void *data, int64_t *lens, int32_t count, int32_t flags, int8_t *anc, int32_t *anc_len, int32_t *msg_flags, int8_t *src_addr, int32_t *addr_len) {
+    struct msghdr msg;
+    struct sockaddr_storage sa;
+    memset(&msg, 0, sizeof(msg));
+    msg.msg_name = &sa;
+    msg.msg_namelen = sizeof(sa);
+    size_t control_len = *anc_len;
+    struct iovec *iov = make_iovec(data, lens, count);
+    void *control = control_len > 0 ? calloc(1, control_len) : NULL;
+    if (iov == NULL || (control_len > 0 && control == NULL)) {
+        free(iov);
+        free(control);
+        errno = ENOMEM;
+        capture_errno();
+        return -1;
+    }
+    msg.msg_iov = iov;
+    msg.msg_iovlen = count;
+    msg.msg_control = control;
+    msg.msg_controllen = control_len;
+    ssize_t res = recvmsg(sockfd, &msg, flags);
+    if (res == -1) {
+        capture_errno();
+    } else {
+        assert(msg.msg_namelen <= sizeof(sa));
+        *addr_len = (int32_t) msg.msg_namelen;
+        memcpy(src_addr, &sa, msg.msg_namelen);
+        *msg_flags = msg.msg_flags;
+        int32_t out = 0;
+        char *control_end = (char *) control + msg.msg_controllen;
+        for (struct cmsghdr *cmsg = msg.msg_controllen > 0 ? CMSG_FIRSTHDR(&msg) : NULL; cmsg != NULL; cmsg = CMSG_NXTHDR(&msg, cmsg)) {
+            if (cmsg->cmsg_len < CMSG_LEN(0)) {
+                break;
+            }
+            // the data of the last message may have been truncated (MSG_CTRUNC)
+            size_t data_len = cmsg->cmsg_len - CMSG_LEN(0);
+            char *cmsg_data = (char *) CMSG_DATA(cmsg);
+            if (cmsg_data + data_len > control_end) {
+                data_len = cmsg_data < control_end ? control_end - cmsg_data : 0;
+            }
+            int32_t hdr[3] = {cmsg->cmsg_level, cmsg->cmsg_type, (int32_t) data_len};
+            memcpy(anc + out, hdr, sizeof(hdr));
+            memcpy(anc + out + FLAT_CMSG_HEADER_SIZE, cmsg_data, data_len);
+            out += FLAT_CMSG_HEADER_SIZE + data_len;
+        }
+        *anc_len = out;
+    }
+    free(control);
+    free(iov);
+    return res;
+}
+
+int64_t call_sendfile(int32_t out_fd, int32_t in_fd, int64_t offset, int64_t count) {
+#ifdef __APPLE__
+    // On Darwin, the number of bytes sent is reported through len even if the call is interrupted
+    // or would block after a partial transfer
+    off_t len = count;
+    if (sendfile(in_fd, out_fd, offset, &len, NULL, 0) == -1) {
+        if ((errno == EAGAIN || errno == EINTR) && len > 0) {
+            return len;
+        }
+        capture_errno();
+        return -1;
+    }
+    return len;
+#else
+    off_t off = offset;
+    CAPTURE_ERRNO_AND_RETURN(-1, sendfile(out_fd, in_fd, &off, count));
+#endif
+}
+
 int32_t call_shutdown(int32_t sockfd, int32_t how) {
     CAPTURE_ERRNO_AND_RETURN(-1, shutdown(sockfd, how));
 }
@@ -103,6 +103,7 @@ MICRO_BENCHMARKS = {
     'call-classmethod-sized': ITER_10 + ['500_000_000'],
     'mmap-anonymous-sized': ITER_10 + ['20_000'],
     'mmap-file': ITER_10 + ['1000'],
+    'select-poll-idle': ITER_10 + ['5000'],
     'generate-functions-sized': ITER_15 + ['500_000_000'],
     'try-except-simple': ITER_10 + ['500_000_000'],
     'try-except-store-simple': ITER_10 + ['500_000_000'],
@@ -177,6 +178,7 @@ MICRO_BENCHMARKS_SMALL = {
     'call-classmethod-sized': ITER_10 + WARMUP_2 + ['1_000_000'],
     'mmap-anonymous-sized': ITER_6 + WARMUP_2 + ['1_000'],
     'mmap-file': ITER_15 + WARMUP_2 + ['100'],
+    'select-poll-idle': ITER_10 + WARMUP_2 + ['500'],
     'generate-functions-sized': ITER_10 + WARMUP_2 + ['1_000_000'],
     'try-except-simple': ITER_6 + WARMUP_2 + ['2_500_000'],
     'try-except-store-simple': ITER_6 + WARMUP_2 + ['2_000_000'],
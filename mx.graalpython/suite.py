@@ -405,6 +405,7 @@ suite = {
                 "jdk.management",
                 "jdk.unsupported",
                 "jdk.security.auth",
+                "jdk.jfr",
             ],
             "jacoco": "include",
             "checkstyle": "com.oracle.graal.python",
@@ -1173,6 +1174,7 @@ suite = {
                 "jdk.management",
                 "jdk.unsupported",
                 "jdk.security.auth",
+                "jdk.jfr",
             ],
             "description": "GraalPy, a high-performance embeddable Python 3 runtime. This artifact includes the core language runtime without standard libraries. It is not recommended to depend on the artifact directly. Instead, use \'org.graalvm.polyglot:python\' or \'org.graalvm.polyglot:python-community\' to ensure all dependencies are pulled in correctly.",
             "maven": {
@@ -74,6 +74,7 @@ includes = '''
 # include <netdb.h>
 # include <netinet/in.h>
 # include <netinet/tcp.h>
+# include <poll.h>
 # include <sys/mman.h>
 # include <sys/resource.h>
 # include <sys/select.h>
@@ -482,6 +483,21 @@ u x S_IFCHR
 * i _SC_AVPHYS_PAGES
 9 i _SC_NPROCESSORS_CONF
 9 i _SC_NPROCESSORS_ONLN
+10 i _SC_IOV_MAX
+
+[pollEvents]
+* x POLLIN
+* x POLLPRI
+* x POLLOUT
+* x POLLERR
+* x POLLHUP
+* x POLLNVAL
+* x POLLRDNORM
+* x POLLRDBAND
+* x POLLWRNORM
+* x POLLWRBAND
+* x POLLMSG
+* x POLLRDHUP
 '''
 
 layout_defs = '''